@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.ServiceRegistryBuilder;
+
+/**
+ * The session factory shared by the benchmarks, over an in-memory H2 database holding {@link #AUTHORS} authors
+ * of {@link #BOOKS_PER_AUTHOR} books each. The settings are read from the <tt>hibernate.properties</tt> of this
+ * module.
+ */
+@State(Scope.Benchmark)
+public class HibernateState {
+	public static final int AUTHORS = 100;
+	public static final int BOOKS_PER_AUTHOR = 10;
+
+	private ServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+	private Long[] authorIds;
+	private Long[] bookIds;
+
+	@Setup
+	public void setUp() {
+		Configuration cfg = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class );
+		serviceRegistry = new ServiceRegistryBuilder().applySettings( cfg.getProperties() ).buildServiceRegistry();
+		sessionFactory = (SessionFactoryImplementor) cfg.buildSessionFactory( serviceRegistry );
+
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 0; i < AUTHORS; i++ ) {
+			Author author = new Author();
+			author.setName( "author " + i );
+			session.persist( author );
+			for ( int j = 0; j < BOOKS_PER_AUTHOR; j++ ) {
+				Book book = new Book();
+				book.setTitle( "book " + j + " of author " + i );
+				book.setIsbn( "978-0-" + ( i * BOOKS_PER_AUTHOR + j ) );
+				book.setPrice( new BigDecimal( j ) );
+				book.setAuthor( author );
+				author.getBooks().add( book );
+				session.persist( book );
+			}
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		authorIds = toArray( session.createQuery( "select a.id from Author a order by a.id" ).list() );
+		bookIds = toArray( session.createQuery( "select b.id from Book b order by b.id" ).list() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+		ServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public Session openSession() {
+		return sessionFactory.openSession();
+	}
+
+	public Long getAuthorId(int i) {
+		return authorIds[i % authorIds.length];
+	}
+
+	public Long getBookId(int i) {
+		return bookIds[i % bookIds.length];
+	}
+
+	private static Long[] toArray(List ids) {
+		return (Long[]) ids.toArray( new Long[ids.size()] );
+	}
+}
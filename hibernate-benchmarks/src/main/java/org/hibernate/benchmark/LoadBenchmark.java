@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+
+/**
+ * Loading entities by id: from the database, from the second-level cache, and in batches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoadBenchmark {
+	private int next;
+
+	@Benchmark
+	public Object loadById(HibernateState state) {
+		Session session = state.openSession();
+		try {
+			session.setCacheMode( CacheMode.IGNORE );
+			session.beginTransaction();
+			Object book = session.get( Book.class, state.getBookId( next++ ) );
+			session.getTransaction().commit();
+			return book;
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Object secondLevelCacheHit(HibernateState state) {
+		Session session = state.openSession();
+		try {
+			session.beginTransaction();
+			Object book = session.get( Book.class, state.getBookId( next++ ) );
+			session.getTransaction().commit();
+			return book;
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Object batchFetch(HibernateState state) {
+		Session session = state.openSession();
+		try {
+			session.setCacheMode( CacheMode.IGNORE );
+			session.beginTransaction();
+			List<Object> authors = new ArrayList<Object>( HibernateState.AUTHORS );
+			for ( int i = 0; i < HibernateState.AUTHORS; i++ ) {
+				authors.add( session.load( Author.class, state.getAuthorId( i ) ) );
+			}
+			for ( Object author : authors ) {
+				Hibernate.initialize( author );
+			}
+			session.getTransaction().commit();
+			return authors;
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.hql.spi.QueryTranslator;
+
+/**
+ * Translating HQL to SQL, and running a query whose results are in the query cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QueryBenchmark {
+	private static final String HQL = "select b from Book b join b.author a "
+			+ "where a.name like :name and b.price between :min and :max order by b.title";
+
+	private int next;
+
+	@Benchmark
+	public Object translateHql(HibernateState state) {
+		QueryTranslator translator = state.getSessionFactory().getSettings().getQueryTranslatorFactory()
+				.createQueryTranslator( HQL, HQL, Collections.EMPTY_MAP, state.getSessionFactory() );
+		translator.compile( Collections.EMPTY_MAP, false );
+		return translator.getSQLString();
+	}
+
+	@Benchmark
+	public Object queryCacheHit(HibernateState state) {
+		Session session = state.openSession();
+		try {
+			session.beginTransaction();
+			Object books = session.createQuery( "from Book b where b.author.id = :author" )
+					.setParameter( "author", state.getAuthorId( next++ ) )
+					.setCacheable( true )
+					.list();
+			session.getTransaction().commit();
+			return books;
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -55,6 +55,20 @@ public enum ScrollMode {
 	 */
 	SCROLL_INSENSITIVE(
 			ResultSet.TYPE_SCROLL_INSENSITIVE
+	),
+	/**
+	 * A forward-only cursor fetching the rows a few at a time, as
+	 * given by {@link org.hibernate.dialect.Dialect#getStreamingFetchSize()}
+	 * unless the query specifies a fetch size. The entities of a row
+	 * are evicted from the session once the cursor moves past that
+	 * row, such that scrolling any number of rows takes a constant
+	 * amount of memory; changes made to them must be flushed before
+	 * moving on.
+	 *
+	 * @see java.sql.ResultSet#TYPE_FORWARD_ONLY
+	 */
+	STREAMING(
+			ResultSet.TYPE_FORWARD_ONLY
 	);
 	private final int resultSetType;
 
@@ -113,4 +113,19 @@ public interface SessionBuilder {
 	 * @return {@code this}, for method chaining
 	 */
 	public SessionBuilder tenantIdentifier(String tenantIdentifier);
+
+	/**
+	 * Should the session be opened in read-only mode?
+	 * <p/>
+	 * All the entities and proxies loaded by a read-only session are read-only, whatever the
+	 * {@link Session#setDefaultReadOnly default} or {@link Query#setReadOnly query} setting.  No snapshot of the
+	 * loaded state of entities and collections is kept, flushing the session does nothing, and operations scheduling
+	 * changes (save, persist, update, merge, delete, replicate, bulk updates, locks forcing a version increment) are
+	 * refused.
+	 *
+	 * @param readOnly Should the session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public SessionBuilder readOnly(boolean readOnly);
 }
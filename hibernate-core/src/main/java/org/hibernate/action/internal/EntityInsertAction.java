@@ -29,6 +29,7 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntry;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -40,6 +41,7 @@ import org.hibernate.event.spi.PostInsertEvent;
 import org.hibernate.event.spi.PostInsertEventListener;
 import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
 public final class EntityInsertAction extends AbstractEntityInsertAction {
@@ -109,16 +111,22 @@ public final class EntityInsertAction extends AbstractEntityInsertAction {
 
 		if ( isCachePutEnabled( persister, session ) ) {
 			
-			CacheEntry ce = new CacheEntry(
-					getState(),
-					persister, 
-					persister.hasUninitializedLazyProperties( instance ),
-					version,
-					session,
-					instance
-				);
-			
-			cacheEntry = persister.getCacheEntryStructure().structure(ce);
+			if ( persister instanceof AbstractEntityPersister
+					&& ( (AbstractEntityPersister) persister ).canUseReferenceCacheEntries() ) {
+				cacheEntry = new ReferenceCacheEntry( instance, persister.getEntityName() );
+			}
+			else {
+				CacheEntry ce = new CacheEntry(
+						getState(),
+						persister,
+						persister.hasUninitializedLazyProperties( instance ),
+						version,
+						session,
+						instance
+					);
+
+				cacheEntry = persister.getCacheEntryStructure().structure(ce);
+			}
 			final CacheKey ck = session.generateCacheKey( id, persister.getIdentifierType(), persister.getRootEntityName() );
 			boolean put = persister.getCacheAccessStrategy().insert( ck, cacheEntry, version );
 			
@@ -34,13 +34,13 @@ import org.hibernate.bytecode.buildtime.spi.AbstractInstrumenter;
 import org.hibernate.bytecode.buildtime.spi.BasicClassFilter;
 import org.hibernate.bytecode.buildtime.spi.ClassDescriptor;
 import org.hibernate.bytecode.buildtime.spi.Logger;
-import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
 import org.hibernate.bytecode.internal.javassist.FieldHandled;
+import org.hibernate.bytecode.internal.javassist.JavassistClassTransformer;
 import org.hibernate.bytecode.spi.ClassTransformer;
 
 /**
  * Strategy for performing build-time instrumentation of persistent classes in order to enable
- * field-level interception using Javassist.
+ * field-level interception (and optionally dirty tracking) using Javassist.
  *
  * @author Steve Ebersole
  * @author Muga Nishizawa
@@ -49,10 +49,23 @@ public class JavassistInstrumenter extends AbstractInstrumenter {
 
 	private static final BasicClassFilter CLASS_FILTER = new BasicClassFilter();
 
-	private final BytecodeProviderImpl provider = new BytecodeProviderImpl();
+	private final boolean dirtyTracking;
 
 	public JavassistInstrumenter(Logger logger, Options options) {
+		this( logger, options, false );
+	}
+
+	/**
+	 * @param logger The logger to use
+	 * @param options The instrumentation options
+	 * @param dirtyTracking Should the instrumented classes be flagged as tracking the modifications of their fields,
+	 * so that flushes only dirty check the attributes actually written?  This assumes the fields are named after the
+	 * persistent attributes, and that they are only written by instrumented code (the entity class itself, or any
+	 * class when performing {@link Options#performExtendedInstrumentation() extended} instrumentation).
+	 */
+	public JavassistInstrumenter(Logger logger, Options options, boolean dirtyTracking) {
 		super( logger, options );
+		this.dirtyTracking = dirtyTracking;
 	}
 
 	@Override
@@ -67,7 +80,11 @@ public class JavassistInstrumenter extends AbstractInstrumenter {
 			return null;
 		}
 		else {
-			return provider.getTransformer( CLASS_FILTER, new CustomFieldFilter( descriptor, classNames ) );
+			return new JavassistClassTransformer(
+					CLASS_FILTER,
+					new CustomFieldFilter( descriptor, classNames ),
+					dirtyTracking
+			);
 		}
 	}
 
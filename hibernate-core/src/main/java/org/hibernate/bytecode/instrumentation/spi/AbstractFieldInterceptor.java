@@ -23,6 +23,8 @@
  */
 package org.hibernate.bytecode.instrumentation.spi;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.hibernate.LazyInitializationException;
@@ -39,6 +41,8 @@ public abstract class AbstractFieldInterceptor implements FieldInterceptor, Seri
 
 	private transient boolean initializing;
 	private boolean dirty;
+	private boolean dirtyAttributesUnknown;
+	private Set<String> dirtyAttributes;
 
 	protected AbstractFieldInterceptor(SessionImplementor session, Set uninitializedFields, String entityName) {
 		this.session = session;
@@ -63,19 +67,46 @@ public abstract class AbstractFieldInterceptor implements FieldInterceptor, Seri
 
 	public final void dirty() {
 		dirty = true;
+		dirtyAttributesUnknown = true;
+		dirtyAttributes = null;
 	}
 
 	public final boolean isDirty() {
 		return dirty;
 	}
 
+	/**
+	 * The names of the fields written since the entity was last considered clean.
+	 *
+	 * @return The names of the written fields (empty if none), or {@code null} if they are unknown, the entity having
+	 * been {@link #dirty() forcefully marked} as dirty.
+	 */
+	public final Set<String> getDirtyAttributes() {
+		if ( dirtyAttributesUnknown ) {
+			return null;
+		}
+		return dirtyAttributes == null ? Collections.<String>emptySet() : dirtyAttributes;
+	}
+
 	public final void clearDirty() {
 		dirty = false;
+		dirtyAttributesUnknown = false;
+		dirtyAttributes = null;
 	}
 
 
 	// subclass accesses ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+	protected final void dirty(String fieldName) {
+		dirty = true;
+		if ( !dirtyAttributesUnknown ) {
+			if ( dirtyAttributes == null ) {
+				dirtyAttributes = new HashSet<String>();
+			}
+			dirtyAttributes.add( fieldName );
+		}
+	}
+
 	protected final Object intercept(Object target, String fieldName, Object value) {
 		if ( initializing ) {
 			return value;
@@ -23,7 +23,9 @@
  */
 package org.hibernate.bytecode.internal.javassist;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.jboss.logging.Logger;
@@ -34,6 +36,8 @@ import org.hibernate.bytecode.instrumentation.internal.javassist.JavassistHelper
 import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ClassTransformer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizerProvider;
 import org.hibernate.bytecode.spi.EntityInstrumentationMetadata;
 import org.hibernate.bytecode.spi.NotInstrumentedException;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
@@ -47,7 +51,7 @@ import org.hibernate.internal.util.StringHelper;
  *
  * @author Steve Ebersole
  */
-public class BytecodeProviderImpl implements BytecodeProvider {
+public class BytecodeProviderImpl implements BytecodeProvider, DirtyCheckOptimizerProvider {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, BytecodeProviderImpl.class.getName());
 
@@ -105,6 +109,20 @@ public class BytecodeProviderImpl implements BytecodeProvider {
         return null;
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, Class[] valueClasses) {
+		try {
+			return new DirtyCheckOptimizerFactory( clazz, valueClasses ).create();
+		}
+		catch ( Throwable t ) {
+			LOG.debugf( "Dirty check optimizer disabled for: %s [%s: %s]",
+					clazz.getName(),
+					StringHelper.unqualify( t.getClass().getName() ),
+					t.getMessage() );
+			return null;
+		}
+	}
+
 	@Override
 	public ClassTransformer getTransformer(ClassFilter classFilter, FieldFilter fieldFilter) {
 		return new JavassistClassTransformer( classFilter, fieldFilter );
@@ -118,10 +136,12 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private class EntityInstrumentationMetadataImpl implements EntityInstrumentationMetadata {
 		private final Class entityClass;
 		private final boolean isInstrumented;
+		private final boolean isDirtyTracked;
 
 		private EntityInstrumentationMetadataImpl(Class entityClass) {
 			this.entityClass = entityClass;
 			this.isInstrumented = FieldHandled.class.isAssignableFrom( entityClass );
+			this.isDirtyTracked = isInstrumented && DirtyTracked.class.isAssignableFrom( entityClass );
 		}
 
 		@Override
@@ -134,6 +154,36 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			return isInstrumented;
 		}
 
+		@Override
+		public boolean isDirtyTracked() {
+			return isDirtyTracked;
+		}
+
+		@Override
+		public boolean isDirtyTracked(String attributeName) {
+			if ( !isDirtyTracked ) {
+				return false;
+			}
+			// only writes to the intercepted fields of instrumented classes go through the interceptor
+			for ( Class clazz = entityClass; clazz != null; clazz = clazz.getSuperclass() ) {
+				for ( Field field : clazz.getDeclaredFields() ) {
+					if ( field.getName().equals( attributeName ) ) {
+						try {
+							clazz.getDeclaredMethod(
+									FieldTransformer.EACH_WRITE_METHOD_PREFIX + attributeName,
+									field.getType()
+							);
+						}
+						catch ( NoSuchMethodException e ) {
+							return false;
+						}
+						return Arrays.asList( clazz.getInterfaces() ).contains( DirtyTracked.class );
+					}
+				}
+			}
+			return false;
+		}
+
 		@Override
 		public FieldInterceptor extractInterceptor(Object entity) throws NotInstrumentedException {
 			if ( !entityClass.isInstance( entity ) ) {
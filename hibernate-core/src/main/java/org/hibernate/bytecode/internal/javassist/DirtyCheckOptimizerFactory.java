@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.bytecode.internal.javassist;
+
+import java.security.ProtectionDomain;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+import javassist.util.proxy.FactoryHelper;
+
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+
+/**
+ * A factory of {@link DirtyCheckOptimizer} implementations, generating for a given entity class a comparator which
+ * unwraps the values of each optimized property and compares them as primitives.
+ */
+class DirtyCheckOptimizerFactory {
+	private static final String PACKAGE_NAME_PREFIX = "org.javassist.tmp.";
+	private static final String OPTIMIZER_INTERFACE_NAME = DirtyCheckOptimizer.class.getName();
+	private static int counter = 0;
+
+	private final Class targetBean;
+	private final Class[] valueClasses;
+
+	DirtyCheckOptimizerFactory(Class targetBean, Class[] valueClasses) {
+		this.targetBean = targetBean;
+		this.valueClasses = valueClasses;
+	}
+
+	DirtyCheckOptimizer create() throws CannotCompileException, NotFoundException, InstantiationException, IllegalAccessException {
+		final ClassLoader loader = getClassLoader();
+		final ClassPool pool = new ClassPool( false );
+		pool.appendClassPath( new LoaderClassPath( loader ) );
+		pool.appendSystemPath();
+
+		final CtClass optimizerClass = pool.makeClass( generateClassName() );
+		optimizerClass.addInterface( pool.get( OPTIMIZER_INTERFACE_NAME ) );
+		optimizerClass.addConstructor( CtNewConstructor.defaultConstructor( optimizerClass ) );
+		optimizerClass.addMethod( CtNewMethod.make( generateFindDirtyMethod(), optimizerClass ) );
+
+		final Class generated = FactoryHelper.toClass( optimizerClass.getClassFile(), loader, getDomain() );
+		optimizerClass.detach();
+		return ( DirtyCheckOptimizer ) generated.newInstance();
+	}
+
+	private String generateClassName() {
+		String className = targetBean.getName() + "_$$_dirtycheck_" + nextCounter();
+		if ( className.startsWith( "java." ) ) {
+			className = PACKAGE_NAME_PREFIX + className;
+		}
+		return className;
+	}
+
+	private static synchronized int nextCounter() {
+		return counter++;
+	}
+
+	/**
+	 * Generates the body of {@link DirtyCheckOptimizer#findDirty}.  For each optimized property this looks like (for
+	 * an integer property at index 3):
+	 * <pre>
+	 * x = $1[3];
+	 * y = $2[3];
+	 * if ( x != y ) {
+	 *     if ( x == null || y == null ) $3[3] = true;
+	 *     else if ( x instanceof Integer &amp;&amp; y instanceof Integer ) {
+	 *         if ( ( (Integer) x ).intValue() != ( (Integer) y ).intValue() ) $3[3] = true;
+	 *     }
+	 *     else if ( !x.equals( y ) ) $3[3] = true;
+	 * }
+	 * </pre>
+	 * The trailing <tt>equals()</tt> only guards against unexpected values, the state of a property mapped to one of
+	 * the optimized types always holding values of the corresponding class.
+	 */
+	private String generateFindDirtyMethod() {
+		final StringBuilder body = new StringBuilder()
+				.append( "public void findDirty(Object[] currentState, Object[] previousState, boolean[] dirty) {" )
+				.append( "Object x; Object y;" );
+		for ( int i = 0; i < valueClasses.length; i++ ) {
+			final Class valueClass = valueClasses[i];
+			if ( valueClass == null ) {
+				continue;
+			}
+			final String className = valueClass.getName();
+			body.append( "x = $1[" ).append( i ).append( "]; y = $2[" ).append( i ).append( "];" )
+					.append( "if ( x != y ) {" )
+					.append( "if ( x == null || y == null ) $3[" ).append( i ).append( "] = true;" )
+					.append( "else if ( x instanceof " ).append( className )
+					.append( " && y instanceof " ).append( className ).append( " ) {" )
+					.append( "if ( " ).append( generateNotEqual( valueClass ) ).append( " ) $3[" ).append( i ).append( "] = true;" )
+					.append( "}" )
+					.append( "else if ( !x.equals( y ) ) $3[" ).append( i ).append( "] = true;" )
+					.append( "}" );
+		}
+		return body.append( "}" ).toString();
+	}
+
+	private static String generateNotEqual(Class valueClass) {
+		final String className = valueClass.getName();
+		if ( valueClass == Double.class ) {
+			// same semantic as Double.equals()
+			return "Double.doubleToLongBits( ( (Double) x ).doubleValue() ) != Double.doubleToLongBits( ( (Double) y ).doubleValue() )";
+		}
+		if ( valueClass == Float.class ) {
+			// same semantic as Float.equals()
+			return "Float.floatToIntBits( ( (Float) x ).floatValue() ) != Float.floatToIntBits( ( (Float) y ).floatValue() )";
+		}
+		final String unwrap = unwrapMethodName( valueClass );
+		if ( unwrap == null ) {
+			return "!( (" + className + ") x ).equals( y )";
+		}
+		return "( (" + className + ") x )." + unwrap + "() != ( (" + className + ") y )." + unwrap + "()";
+	}
+
+	private static String unwrapMethodName(Class valueClass) {
+		if ( valueClass == Integer.class ) {
+			return "intValue";
+		}
+		else if ( valueClass == Long.class ) {
+			return "longValue";
+		}
+		else if ( valueClass == Short.class ) {
+			return "shortValue";
+		}
+		else if ( valueClass == Byte.class ) {
+			return "byteValue";
+		}
+		else if ( valueClass == Character.class ) {
+			return "charValue";
+		}
+		else if ( valueClass == Boolean.class ) {
+			return "booleanValue";
+		}
+		return null;
+	}
+
+	private ProtectionDomain getDomain() {
+		return getClass().getProtectionDomain();
+	}
+
+	private ClassLoader getClassLoader() {
+		// the generated class only references the optimizer contract and java.lang classes
+		return getClass().getClassLoader();
+	}
+}
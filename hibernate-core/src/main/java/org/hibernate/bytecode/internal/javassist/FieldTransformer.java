@@ -55,11 +55,14 @@ public class FieldTransformer {
 
 	private static final String EACH_READ_METHOD_PREFIX = "$javassist_read_";
 
-	private static final String EACH_WRITE_METHOD_PREFIX = "$javassist_write_";
+	static final String EACH_WRITE_METHOD_PREFIX = "$javassist_write_";
 
 	private static final String FIELD_HANDLED_TYPE_NAME = FieldHandled.class
 			.getName();
 
+	private static final String DIRTY_TRACKED_TYPE_NAME = DirtyTracked.class
+			.getName();
+
 	private static final String HANDLER_FIELD_NAME = "$JAVASSIST_READ_WRITE_HANDLER";
 
 	private static final String FIELD_HANDLER_TYPE_NAME = FieldHandler.class
@@ -80,6 +83,8 @@ public class FieldTransformer {
 
 	private FieldFilter filter;
 
+	private boolean dirtyTracking;
+
 	public FieldTransformer() {
 		this(null);
 	}
@@ -88,10 +93,19 @@ public class FieldTransformer {
 		filter = f;
 	}
 
+	public FieldTransformer(FieldFilter f, boolean dirtyTracking) {
+		filter = f;
+		this.dirtyTracking = dirtyTracking;
+	}
+
 	public void setFieldFilter(FieldFilter f) {
 		filter = f;
 	}
 
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.dirtyTracking = dirtyTracking;
+	}
+
 	public void transform(File file) throws Exception {
 		DataInputStream in = new DataInputStream(new FileInputStream(file));
 		ClassFile classfile = new ClassFile(in);
@@ -113,6 +127,9 @@ public class FieldTransformer {
 			addGetFieldHandlerMethod(classfile);
 			addSetFieldHandlerMethod(classfile);
 			addFieldHandledInterface(classfile);
+			if (dirtyTracking) {
+				addDirtyTrackedInterface(classfile);
+			}
 			addReadWriteMethods(classfile);
 			transformInvokevirtualsIntoPutAndGetfields(classfile);
 		} catch (CannotCompileException e) {
@@ -184,6 +201,15 @@ public class FieldTransformer {
 		classfile.setInterfaces(newInterfaceNames);
 	}
 
+	private void addDirtyTrackedInterface(ClassFile classfile) {
+		String[] interfaceNames = classfile.getInterfaces();
+		String[] newInterfaceNames = new String[interfaceNames.length + 1];
+		System.arraycopy(interfaceNames, 0, newInterfaceNames, 0,
+		                 interfaceNames.length);
+		newInterfaceNames[newInterfaceNames.length - 1] = DIRTY_TRACKED_TYPE_NAME;
+		classfile.setInterfaces(newInterfaceNames);
+	}
+
 	private void addReadWriteMethods(ClassFile classfile)
 			throws CannotCompileException {
 		List fields = classfile.getFields();
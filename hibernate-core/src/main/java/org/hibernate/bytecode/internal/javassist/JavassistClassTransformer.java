@@ -50,8 +50,25 @@ public class JavassistClassTransformer extends AbstractClassTransformerImpl {
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class,
                                                                        JavassistClassTransformer.class.getName());
 
+	private final boolean dirtyTracking;
+
 	public JavassistClassTransformer(ClassFilter classFilter, org.hibernate.bytecode.buildtime.spi.FieldFilter fieldFilter) {
+		this( classFilter, fieldFilter, false );
+	}
+
+	/**
+	 * Constructs a transformer which, when asked to, also marks the transformed classes as {@link DirtyTracked}.
+	 *
+	 * @param classFilter Filter of the classes to transform
+	 * @param fieldFilter Filter of the fields to intercept
+	 * @param dirtyTracking Should the transformed classes be flagged as tracking the modifications of their fields?
+	 */
+	public JavassistClassTransformer(
+			ClassFilter classFilter,
+			org.hibernate.bytecode.buildtime.spi.FieldFilter fieldFilter,
+			boolean dirtyTracking) {
 		super( classFilter, fieldFilter );
+		this.dirtyTracking = dirtyTracking;
 	}
 
 	@Override
@@ -118,7 +135,8 @@ public class JavassistClassTransformer extends AbstractClassTransformerImpl {
 					public boolean handleWriteAccess(String fieldOwnerClassName, String fieldName) {
 						return fieldFilter.shouldTransformFieldAccess( classfile.getName(), fieldOwnerClassName, fieldName );
 					}
-				}
+				},
+				dirtyTracking
 		);
 	}
 
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Represents optimized dirty checking of the properties of an entity: a comparator generated for the value classes of
+ * its properties, comparing the current and loaded states of the properties without going through
+ * {@link org.hibernate.type.Type#isDirty}.
+ * <p/>
+ * Only properties mapped to simple basic types, whose dirtiness is determined by the equality of their values, are
+ * optimized.
+ */
+public interface DirtyCheckOptimizer {
+	/**
+	 * Compare the current and previous values of the optimized properties.
+	 *
+	 * @param currentState The current state of the entity, in property order.
+	 * @param previousState The previous (usually loaded) state of the entity, in property order.
+	 * @param dirty Set to {@code true} at the index of each optimized property found modified; the elements for the
+	 * other properties are left untouched.
+	 */
+	public void findDirty(Object[] currentState, Object[] previousState, boolean[] dirty);
+}
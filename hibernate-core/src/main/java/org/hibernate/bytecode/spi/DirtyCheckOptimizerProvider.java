@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Optional contract for a {@link BytecodeProvider} which is able to generate {@link DirtyCheckOptimizer}s.  Dirty
+ * checking falls back to the Hibernate types of the properties when the configured provider does not implement it.
+ */
+public interface DirtyCheckOptimizerProvider {
+	/**
+	 * Retrieve the DirtyCheckOptimizer delegate for this provider, capable of comparing the values of the properties
+	 * of an entity without going through their Hibernate types.
+	 *
+	 * @param clazz The entity class.
+	 * @param valueClasses The class of the values of each property (one of the primitive wrapper classes or
+	 * {@link String}), or {@code null} for the properties which should not be optimized.
+	 * @return The dirty check optimization delegate, or {@code null} if none could be generated.
+	 */
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, Class[] valueClasses);
+}
@@ -25,6 +25,7 @@ package org.hibernate.bytecode.spi;
 
 import java.util.Set;
 
+import org.hibernate.bytecode.instrumentation.spi.AbstractFieldInterceptor;
 import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
 import org.hibernate.engine.spi.SessionImplementor;
 
@@ -49,6 +50,26 @@ public interface EntityInstrumentationMetadata {
 	 */
     public boolean isInstrumented();
 
+	/**
+	 * Has the entity class been instrumented to track the modifications of its fields?  If so, the
+	 * {@link AbstractFieldInterceptor#getDirtyAttributes() attributes reported dirty} by its interceptor can be trusted.
+	 *
+	 * @return {@code true} indicates the entity class tracks the modifications of its fields; {@code false}
+	 * indicates it does not
+	 */
+	public boolean isDirtyTracked();
+
+	/**
+	 * Are the modifications of the given attribute tracked?  That is, is the attribute backed by a field of the same
+	 * name, declared by a class which has been instrumented to track the modifications of its fields?
+	 *
+	 * @param attributeName The name of the attribute
+	 *
+	 * @return {@code true} indicates the modifications of the attribute are tracked; {@code false} indicates they
+	 * are not
+	 */
+	public boolean isDirtyTracked(String attributeName);
+
     /**
      * Build and inject a field interceptor instance into the instrumented entity.
 	 *
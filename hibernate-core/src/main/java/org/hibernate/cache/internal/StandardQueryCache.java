@@ -25,7 +25,11 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import javax.persistence.EntityNotFoundException;
@@ -35,13 +39,22 @@ import org.jboss.logging.Logger;
 import org.hibernate.HibernateException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cfg.Settings;
+import org.hibernate.engine.internal.CacheEntryAssembler;
+import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -63,6 +76,7 @@ public class StandardQueryCache implements QueryCache {
 
 	private QueryResultsRegion cacheRegion;
 	private UpdateTimestampsCache updateTimestampsCache;
+	private boolean rowInvalidationEnabled;
 
 	public void clear() throws CacheException {
 		cacheRegion.evictAll();
@@ -84,6 +98,7 @@ public class StandardQueryCache implements QueryCache {
 
 		this.cacheRegion = settings.getRegionFactory().buildQueryResultsRegion( regionName, props );
 		this.updateTimestampsCache = updateTimestampsCache;
+		this.rowInvalidationEnabled = settings.isQueryCacheRowInvalidationEnabled();
 	}
 
 	@SuppressWarnings({ "UnnecessaryBoxing", "unchecked" })
@@ -136,7 +151,7 @@ public class StandardQueryCache implements QueryCache {
 		}
 
 		Long timestamp = (Long) cacheable.get( 0 );
-		if ( !isNaturalKeyLookup && !isUpToDate( spaces, timestamp ) ) {
+		if ( !isNaturalKeyLookup && !isUpToDate( spaces, timestamp, cacheable, returnTypes, session ) ) {
 			LOG.debug( "Cached query results were not up-to-date" );
 			return null;
 		}
@@ -151,6 +166,7 @@ public class StandardQueryCache implements QueryCache {
 				TypeHelper.beforeAssemble( (Serializable[]) cacheable.get( i ), returnTypes, session );
 			}
 		}
+		loadReturnedEntities( cacheable, returnTypes, session );
 		List result = new ArrayList( cacheable.size() - 1 );
 		for ( int i = 1; i < cacheable.size(); i++ ) {
 			try {
@@ -182,11 +198,185 @@ public class StandardQueryCache implements QueryCache {
 		return result;
 	}
 
+	/**
+	 * Load the entities returned by the cached query which are not associated with the session yet: those
+	 * in the second-level cache are assembled from a single multi-get, the others are loaded with one
+	 * statement per batch, instead of one cache lookup and one statement per entity as assembling the
+	 * results would.
+	 */
+	private void loadReturnedEntities(List cacheable, Type[] returnTypes, SessionImplementor session) {
+		if ( cacheable.size() < 3 ) {
+			return;
+		}
+		final boolean singleResult = returnTypes.length == 1;
+		for ( int j = 0; j < returnTypes.length; j++ ) {
+			if ( !returnTypes[j].isEntityType() || !( (EntityType) returnTypes[j] ).isReferenceToPrimaryKey() ) {
+				continue;
+			}
+			final EntityPersister persister = session.getFactory()
+					.getEntityPersister( ( (EntityType) returnTypes[j] ).getAssociatedEntityName() );
+			final Set<EntityKey> keys = new LinkedHashSet<EntityKey>();
+			for ( int i = 1; i < cacheable.size(); i++ ) {
+				final Serializable cached = singleResult
+						? (Serializable) cacheable.get( i )
+						: ( (Serializable[]) cacheable.get( i ) )[j];
+				if ( cached == null ) {
+					continue;
+				}
+				final Serializable id = (Serializable) persister.getIdentifierType().assemble( cached, session, null );
+				final EntityKey entityKey = session.generateEntityKey( id, persister );
+				if ( !session.getPersistenceContext().containsEntity( entityKey ) ) {
+					keys.add( entityKey );
+				}
+			}
+			final boolean cacheConsulted = assembleCachedEntities( keys, persister, session );
+			// once the cache has been consulted, loading even a single remaining entity here spares
+			// assembling the results a second lookup of it
+			if ( keys.size() > 1 || ( cacheConsulted && !keys.isEmpty() ) ) {
+				if ( persister instanceof AbstractEntityPersister ) {
+					final Serializable[] ids = new Serializable[ keys.size() ];
+					int i = 0;
+					for ( EntityKey entityKey : keys ) {
+						ids[i++] = entityKey.getIdentifier();
+					}
+					( (AbstractEntityPersister) persister ).loadEntities( ids, session );
+				}
+				else {
+					// other persisters cannot load several entities at once
+					for ( EntityKey entityKey : keys ) {
+						session.immediateLoad( persister.getEntityName(), entityKey.getIdentifier() );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Assemble the entities found in the second-level cache, removing their keys.
+	 *
+	 * @return whether the second-level cache was consulted
+	 */
+	private static boolean assembleCachedEntities(
+			Set<EntityKey> keys,
+			EntityPersister persister,
+			SessionImplementor session) {
+		if ( keys.isEmpty()
+				|| !persister.hasCache()
+				|| !session.getCacheMode().isGetEnabled()
+				|| !( session instanceof EventSource ) ) {
+			return false;
+		}
+		final Map<Object, EntityKey> keysByCacheKey = new HashMap<Object, EntityKey>( keys.size() );
+		for ( EntityKey entityKey : keys ) {
+			final CacheKey cacheKey = session.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister.getIdentifierType(),
+					persister.getRootEntityName()
+			);
+			keysByCacheKey.put( cacheKey, entityKey );
+		}
+		final SessionFactoryImplementor factory = session.getFactory();
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+		final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+		long startTime = 0;
+		if ( stats ) {
+			startTime = System.nanoTime();
+		}
+		final Map<Object, Object> entries = CacheHelper.getAll(
+				persister.getCacheAccessStrategy(),
+				keysByCacheKey.keySet(),
+				session.getTimestamp()
+		);
+		if ( stats ) {
+			factory.getStatisticsImplementor().secondLevelCacheGetTime( System.nanoTime() - startTime );
+		}
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			final EntityKey entityKey = keysByCacheKey.get( entry.getKey() );
+			if ( entry.getValue() == null ) {
+				continue;
+			}
+			if ( stats ) {
+				factory.getStatisticsImplementor().secondLevelCacheHit( regionName );
+			}
+			keys.remove( entityKey );
+			// assembling an earlier entry may have loaded this one already
+			if ( session.getPersistenceContext().getEntity( entityKey ) == null ) {
+				CacheEntryAssembler.assembleBatchEntry(
+						entry.getValue(),
+						entityKey,
+						persister,
+						(EventSource) session
+				);
+			}
+		}
+		if ( stats ) {
+			for ( int i = 0; i < keys.size(); i++ ) {
+				factory.getStatisticsImplementor().secondLevelCacheMiss( regionName );
+			}
+		}
+		return true;
+	}
+
 	protected boolean isUpToDate(Set spaces, Long timestamp) {
 		LOG.debugf( "Checking query spaces are up-to-date: %s", spaces );
 		return updateTimestampsCache.isUpToDate( spaces, timestamp );
 	}
 
+	private boolean isUpToDate(
+			Set spaces,
+			Long timestamp,
+			List cacheable,
+			Type[] returnTypes,
+			SessionImplementor session) {
+		if ( !rowInvalidationEnabled || !updateTimestampsCache.hasRowInvalidations( spaces, timestamp ) ) {
+			return isUpToDate( spaces, timestamp );
+		}
+		LOG.debugf( "Checking query spaces and returned rows are up-to-date: %s", spaces );
+		return updateTimestampsCache.isUpToDate( spaces, timestamp, getReturnedIds( cacheable, returnTypes, session ) );
+	}
+
+	/**
+	 * The identifiers of the entities returned by the cached query, keyed by the query spaces of their
+	 * persisters. Entities with composite identifiers are left out, since their identifiers do not necessarily
+	 * implement equality.
+	 */
+	private static Map<Serializable, Set<Serializable>> getReturnedIds(
+			List cacheable,
+			Type[] returnTypes,
+			SessionImplementor session) {
+		final Map<Serializable, Set<Serializable>> returnedIds = new HashMap<Serializable, Set<Serializable>>();
+		final boolean singleResult = returnTypes.length == 1;
+		for ( int j = 0; j < returnTypes.length; j++ ) {
+			if ( !returnTypes[j].isEntityType() || !( (EntityType) returnTypes[j] ).isReferenceToPrimaryKey() ) {
+				continue;
+			}
+			final EntityPersister persister = session.getFactory()
+					.getEntityPersister( ( (EntityType) returnTypes[j] ).getAssociatedEntityName() );
+			if ( persister.getIdentifierType().isComponentType() ) {
+				continue;
+			}
+			final Set<Serializable> ids = new HashSet<Serializable>();
+			for ( int i = 1; i < cacheable.size(); i++ ) {
+				final Serializable cached = singleResult
+						? (Serializable) cacheable.get( i )
+						: ( (Serializable[]) cacheable.get( i ) )[j];
+				if ( cached != null ) {
+					ids.add( (Serializable) persister.getIdentifierType().assemble( cached, session, null ) );
+				}
+			}
+			for ( Serializable space : persister.getQuerySpaces() ) {
+				final Set<Serializable> spaceIds = returnedIds.get( space );
+				if ( spaceIds == null ) {
+					returnedIds.put( space, new HashSet<Serializable>( ids ) );
+				}
+				else {
+					spaceIds.addAll( ids );
+				}
+			}
+		}
+		return returnedIds;
+	}
+
 	public void destroy() {
 		try {
 			cacheRegion.destroy();
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+
+/**
+ * Implements one of the access types over a {@link LocalTransactionalDataRegion}, on behalf of the
+ * entity, collection and natural-id access strategies; the latter two pass null versions.
+ */
+abstract class LocalAccessDelegate {
+
+	protected final LocalTransactionalDataRegion region;
+
+	LocalAccessDelegate(LocalTransactionalDataRegion region) {
+		this.region = region;
+	}
+
+	Object get(Object key, long txTimestamp) throws CacheException {
+		return region.getValue( key );
+	}
+
+	boolean putFromLoad(Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride)
+			throws CacheException {
+		if ( minimalPutOverride && region.contains( key ) ) {
+			return false;
+		}
+		region.putValue( key, value );
+		return true;
+	}
+
+	boolean isDefaultMinimalPutOverride() {
+		return region.isMinimalPutsEnabled();
+	}
+
+	abstract SoftLock lockItem(Object key, Object version) throws CacheException;
+
+	abstract void unlockItem(Object key, SoftLock lock) throws CacheException;
+
+	abstract boolean insert(Object key, Object value, Object version) throws CacheException;
+
+	abstract boolean afterInsert(Object key, Object value, Object version) throws CacheException;
+
+	abstract boolean update(Object key, Object value, Object currentVersion, Object previousVersion)
+			throws CacheException;
+
+	abstract boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock)
+			throws CacheException;
+
+	/**
+	 * A no-op, the entry is dealt with when the item gets unlocked.
+	 */
+	void remove(Object key) throws CacheException {
+	}
+
+	void removeAll() throws CacheException {
+		region.clear();
+	}
+
+	void evict(Object key) throws CacheException {
+		region.removeValue( key );
+	}
+
+	void evictAll() throws CacheException {
+		region.clear();
+	}
+
+	/**
+	 * Region locks are not supported.
+	 *
+	 * @return <code>null</code>
+	 */
+	SoftLock lockRegion() throws CacheException {
+		return null;
+	}
+
+	/**
+	 * Region locks are not supported, clear the region as a precaution.
+	 */
+	void unlockRegion(SoftLock lock) throws CacheException {
+		region.clear();
+	}
+}
@@ -1,7 +1,7 @@
 /*
  * Hibernate, Relational Persistence for Idiomatic Java
  *
- * Copyright (c) 2010, Red Hat Inc. or third-party contributors as
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
  * indicated by the @author tags or express copyright attribution
  * statements applied by the authors.  All third-party contributions are
  * distributed under license by Red Hat Inc.
@@ -21,35 +21,36 @@
  * 51 Franklin Street, Fifth Floor
  * Boston, MA  02110-1301  USA
  */
-package org.hibernate.engine.jdbc.internal.proxy;
-import java.lang.reflect.Method;
-import java.sql.Connection;
-import java.sql.Statement;
+package org.hibernate.cache.internal.local;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.TimestampsRegion;
 
 /**
- * Invocation handler for {@link Statement} proxies
- *
- * @author Steve Ebersole
+ * The query results and timestamps regions of the {@link LocalRegionFactory}.
  */
-public class BasicStatementProxyHandler extends AbstractStatementProxyHandler {
-	public BasicStatementProxyHandler(
-			Statement statement,
-			ConnectionProxyHandler connectionProxyHandler,
-			Connection connectionProxy) {
-		super( statement, connectionProxyHandler, connectionProxy );
+class LocalGeneralDataRegion extends LocalRegion implements QueryResultsRegion, TimestampsRegion {
+
+	LocalGeneralDataRegion(String name, ConcurrentMap<Object, Object> cache, long timeToLive) {
+		super( name, cache, timeToLive );
 	}
 
-	protected void beginningInvocationHandling(Method method, Object[] args) {
-		if ( isExecution( method ) ) {
-			getJdbcServices().getSqlStatementLogger().logStatement( ( String ) args[0] );
-		}
+	public Object get(Object key) throws CacheException {
+		return getValue( key );
 	}
 
-	private boolean isExecution(Method method) {
-		String methodName = method.getName();
-		return "execute".equals( methodName )
-				|| "executeQuery".equals( methodName )
-				|| "executeUpdate".equals( methodName );
+	public void put(Object key, Object value) throws CacheException {
+		putValue( key, value );
 	}
-}
 
+	public void evict(Object key) throws CacheException {
+		removeValue( key );
+	}
+
+	public void evictAll() throws CacheException {
+		clear();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.Timestamper;
+import org.hibernate.cache.spi.Region;
+
+/**
+ * Base of the regions built by the {@link LocalRegionFactory}, holding their entries in a
+ * concurrent map of the JVM heap.
+ */
+class LocalRegion implements Region {
+
+	private static final int TIMEOUT = Timestamper.ONE_MS * 60000; //60s
+
+	private final String name;
+	private final ConcurrentMap<Object, Object> cache;
+	private final long timeToLive;
+
+	/**
+	 * @param name The region name
+	 * @param cache The map holding the entries, bounding their number if need be
+	 * @param timeToLive The number of milliseconds entries live in the region, or 0 to keep them until evicted
+	 */
+	LocalRegion(String name, ConcurrentMap<Object, Object> cache, long timeToLive) {
+		this.name = name;
+		this.cache = cache;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Get the value mapped to the given key, if any and not expired.
+	 */
+	Object getValue(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final Object value = cache.get( key );
+		if ( value instanceof ExpiringValue ) {
+			final ExpiringValue expiringValue = (ExpiringValue) value;
+			if ( expiringValue.isExpired( System.currentTimeMillis() ) ) {
+				cache.remove( key, value );
+				return null;
+			}
+			return expiringValue.value;
+		}
+		return value;
+	}
+
+	void putValue(Object key, Object value) {
+		if ( key == null || value == null ) {
+			return;
+		}
+		cache.put(
+				key,
+				timeToLive > 0 ? new ExpiringValue( value, System.currentTimeMillis() + timeToLive ) : value
+		);
+	}
+
+	void removeValue(Object key) {
+		if ( key != null ) {
+			cache.remove( key );
+		}
+	}
+
+	void clear() {
+		cache.clear();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void destroy() throws CacheException {
+		cache.clear();
+	}
+
+	public boolean contains(Object key) {
+		return getValue( key ) != null;
+	}
+
+	public long getSizeInMemory() {
+		return -1;
+	}
+
+	public long getElementCountInMemory() {
+		return cache.size();
+	}
+
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	public Map toMap() {
+		final Map<Object, Object> result = new HashMap<Object, Object>();
+		for ( Object key : cache.keySet() ) {
+			final Object value = getValue( key );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	public int getTimeout() {
+		return TIMEOUT;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + '(' + name + ')';
+	}
+
+	private static final class ExpiringValue {
+		private final Object value;
+		private final long expirationTime;
+
+		private ExpiringValue(Object value, long expirationTime) {
+			this.value = value;
+			this.expirationTime = expirationTime;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expirationTime;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.Timestamper;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.Settings;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A {@link RegionFactory} keeping the cached data in the heap of the local JVM, without any dependency.
+ * The number of entries of each region is bounded, the entries accessed least recently being evicted
+ * first (following the LIRS algorithm) once the bound is reached, and entries may be given a time to live.
+ * <p/>
+ * The read-only, nonstrict read-write and read-write access types are supported.  The timestamps region
+ * is never bounded nor expired, since query results would be considered up-to-date if the timestamps of
+ * the tables they are based on were missing.
+ * <p/>
+ * The data is neither replicated nor distributed: in a cluster, each node has its own cache, which knows
+ * nothing about the modifications made by the other nodes.
+ */
+public class LocalRegionFactory implements RegionFactory {
+
+	/**
+	 * The maximum number of entries of each region, 10,000 by default.  Can be set for a single region by
+	 * appending its name to the property name, e.g. <tt>hibernate.cache.local.max_entries.com.acme.Country</tt>.
+	 */
+	public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The number of seconds entries live in a region once cached, forever (0) by default.  Can be set for a
+	 * single region the same way as {@link #MAX_ENTRIES}.
+	 */
+	public static final String TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+	private static final int DEFAULT_MAX_ENTRIES = 10000;
+	private static final int CONCURRENCY_LEVEL = 16;
+
+	private Settings settings;
+
+	public void start(Settings settings, Properties properties) throws CacheException {
+		this.settings = settings;
+	}
+
+	public void stop() {
+	}
+
+	public boolean isMinimalPutsEnabledByDefault() {
+		return false;
+	}
+
+	public AccessType getDefaultAccessType() {
+		return AccessType.READ_WRITE;
+	}
+
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	public EntityRegion buildEntityRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new LocalEntityRegion(
+				regionName,
+				buildCache( regionName, properties ),
+				getTimeToLive( regionName, properties ),
+				metadata,
+				settings
+		);
+	}
+
+	public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new LocalNaturalIdRegion(
+				regionName,
+				buildCache( regionName, properties ),
+				getTimeToLive( regionName, properties ),
+				metadata,
+				settings
+		);
+	}
+
+	public CollectionRegion buildCollectionRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new LocalCollectionRegion(
+				regionName,
+				buildCache( regionName, properties ),
+				getTimeToLive( regionName, properties ),
+				metadata,
+				settings
+		);
+	}
+
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, Properties properties) throws CacheException {
+		return new LocalGeneralDataRegion(
+				regionName,
+				buildCache( regionName, properties ),
+				getTimeToLive( regionName, properties )
+		);
+	}
+
+	public TimestampsRegion buildTimestampsRegion(String regionName, Properties properties) throws CacheException {
+		return new LocalGeneralDataRegion( regionName, new ConcurrentHashMap<Object, Object>(), 0 );
+	}
+
+	private static ConcurrentMap<Object, Object> buildCache(String regionName, Properties properties) {
+		final int maxEntries = ConfigurationHelper.getInt(
+				MAX_ENTRIES + '.' + regionName,
+				properties,
+				ConfigurationHelper.getInt( MAX_ENTRIES, properties, DEFAULT_MAX_ENTRIES )
+		);
+		if ( maxEntries <= 0 ) {
+			throw new CacheException( "Invalid maximum number of entries for region [" + regionName + "]: " + maxEntries );
+		}
+		return new BoundedConcurrentHashMap<Object, Object>(
+				maxEntries,
+				CONCURRENCY_LEVEL,
+				BoundedConcurrentHashMap.Eviction.LIRS
+		);
+	}
+
+	private static long getTimeToLive(String regionName, Properties properties) {
+		final int seconds = ConfigurationHelper.getInt(
+				TIME_TO_LIVE + '.' + regionName,
+				properties,
+				ConfigurationHelper.getInt( TIME_TO_LIVE, properties, 0 )
+		);
+		return seconds * 1000L;
+	}
+}
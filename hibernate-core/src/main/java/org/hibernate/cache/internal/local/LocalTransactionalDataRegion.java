@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.TransactionalDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.Settings;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Base of the entity, collection and natural-id regions of the {@link LocalRegionFactory}.
+ */
+abstract class LocalTransactionalDataRegion extends LocalRegion implements TransactionalDataRegion {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			LocalTransactionalDataRegion.class.getName()
+	);
+
+	private final CacheDataDescription metadata;
+	private final Settings settings;
+
+	LocalTransactionalDataRegion(
+			String name,
+			ConcurrentMap<Object, Object> cache,
+			long timeToLive,
+			CacheDataDescription metadata,
+			Settings settings) {
+		super( name, cache, timeToLive );
+		this.metadata = metadata;
+		this.settings = settings;
+	}
+
+	public boolean isTransactionAware() {
+		return false;
+	}
+
+	public CacheDataDescription getCacheDataDescription() {
+		return metadata;
+	}
+
+	boolean isMinimalPutsEnabled() {
+		return settings.isMinimalPutsEnabled();
+	}
+
+	/**
+	 * Build the delegate implementing the given access type over this region.
+	 */
+	LocalAccessDelegate buildAccessDelegate(AccessType accessType) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				if ( metadata.isMutable() ) {
+					LOG.warnf( "read-only cache configured for mutable data [%s]", getName() );
+				}
+				return new ReadOnlyAccessDelegate( this );
+			case NONSTRICT_READ_WRITE:
+				return new NonstrictReadWriteAccessDelegate( this );
+			case READ_WRITE:
+				return new ReadWriteAccessDelegate( this );
+			default:
+				throw new IllegalArgumentException( "unsupported access strategy type [" + accessType + "]" );
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+
+/**
+ * The nonstrict read-write access type: modified data is evicted from the region rather than locked,
+ * and reloaded on the next miss.
+ */
+class NonstrictReadWriteAccessDelegate extends LocalAccessDelegate {
+
+	NonstrictReadWriteAccessDelegate(LocalTransactionalDataRegion region) {
+		super( region );
+	}
+
+	/**
+	 * Item locking is not used.
+	 */
+	@Override
+	SoftLock lockItem(Object key, Object version) throws CacheException {
+		return null;
+	}
+
+	@Override
+	void unlockItem(Object key, SoftLock lock) throws CacheException {
+		evict( key );
+	}
+
+	@Override
+	boolean insert(Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterInsert(Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean update(Object key, Object value, Object currentVersion, Object previousVersion)
+			throws CacheException {
+		evict( key );
+		return false;
+	}
+
+	@Override
+	boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock)
+			throws CacheException {
+		unlockItem( key, lock );
+		return false;
+	}
+
+	@Override
+	void remove(Object key) throws CacheException {
+		evict( key );
+	}
+}
@@ -0,0 +1,453 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The read-write access type: the entries being modified are soft-locked, so that they are neither read
+ * nor overwritten by stale data until the modifying transaction completes.
+ * <p/>
+ * Reads do not block, the entries being immutable apart from their locks; writes to a given key are
+ * serialized by one of a fixed set of locks, picked by the hash code of the key.
+ * <p/>
+ * The soft locks are kept apart from the region, in a map which is neither bounded nor expired: were a lock
+ * evicted while its transaction is in progress, the stale state loaded by a concurrent transaction would be
+ * cached.  They are removed once they are replaced by the updated item, or once they have timed out.
+ */
+class ReadWriteAccessDelegate extends LocalAccessDelegate {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ReadWriteAccessDelegate.class.getName()
+	);
+
+	private static final int STRIPES = 32;
+	// the number of locks acquired between two purges of the timed out locks
+	private static final int PURGE_INTERVAL = 1024;
+
+	private final UUID uuid = UUID.randomUUID();
+	private final AtomicLong nextLockId = new AtomicLong();
+	private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+	private final ConcurrentMap<Object, Lock> locks = new ConcurrentHashMap<Object, Lock>();
+
+	ReadWriteAccessDelegate(LocalTransactionalDataRegion region) {
+		super( region );
+		for ( int i = 0; i < STRIPES; i++ ) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	private ReentrantLock stripeFor(Object key) {
+		final int hash = key.hashCode();
+		return stripes[( hash ^ ( hash >>> 16 ) ) & ( STRIPES - 1 )];
+	}
+
+	private Comparator getVersionComparator() {
+		return region.getCacheDataDescription().getVersionComparator();
+	}
+
+	/**
+	 * Returns <code>null</code> if the item is not readable.  Locked items are not readable, nor are items created
+	 * after the start of this transaction.
+	 */
+	@Override
+	Object get(Object key, long txTimestamp) throws CacheException {
+		final Lockable item = getItem( key );
+		return item != null && item.isReadable( txTimestamp ) ? item.getValue() : null;
+	}
+
+	/**
+	 * The lock of the given key if there is one, otherwise its item if it is cached.
+	 */
+	private Lockable getItem(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final Lock lock = locks.get( key );
+		return lock != null ? lock : (Lockable) region.getValue( key );
+	}
+
+	/**
+	 * Replace the lock or item of the given key with the given item.
+	 */
+	private void putItem(Object key, Item item) {
+		locks.remove( key );
+		region.putValue( key, item );
+	}
+
+	/**
+	 * Replace the lock or item of the given key with the given lock.
+	 */
+	private void putLock(Object key, Lock lock) {
+		locks.put( key, lock );
+		region.removeValue( key );
+	}
+
+	/**
+	 * Returns <code>false</code> and fails to put the value if there is an existing un-writeable item mapped to this
+	 * key.
+	 */
+	@Override
+	boolean putFromLoad(Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride)
+			throws CacheException {
+		final ReentrantLock stripe = stripeFor( key );
+		stripe.lock();
+		try {
+			final Lockable item = getItem( key );
+			if ( item == null || item.isWriteable( txTimestamp, version, getVersionComparator() ) ) {
+				putItem( key, new Item( value, version, region.nextTimestamp() ) );
+				return true;
+			}
+			return false;
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	@Override
+	SoftLock lockItem(Object key, Object version) throws CacheException {
+		final long lockId = nextLockId.getAndIncrement();
+		final ReentrantLock stripe = stripeFor( key );
+		final Lock lock;
+		stripe.lock();
+		try {
+			final Lockable item = getItem( key );
+			final long timeout = region.nextTimestamp() + region.getTimeout();
+			lock = item == null ?
+					new Lock( timeout, uuid, lockId, version ) :
+					item.lock( timeout, uuid, lockId );
+			putLock( key, lock );
+		}
+		finally {
+			stripe.unlock();
+		}
+		// outside of the stripe, which must not be held while acquiring the others
+		if ( lockId % PURGE_INTERVAL == PURGE_INTERVAL - 1 ) {
+			purgeTimedOutLocks();
+		}
+		return lock;
+	}
+
+	/**
+	 * Remove the locks which have timed out: they allow the writes of any transaction started since, as if
+	 * there were no lock.
+	 */
+	private void purgeTimedOutLocks() {
+		final long now = region.nextTimestamp();
+		for ( Map.Entry<Object, Lock> entry : locks.entrySet() ) {
+			final ReentrantLock stripe = stripeFor( entry.getKey() );
+			stripe.lock();
+			try {
+				if ( entry.getValue().isTimedOut( now ) ) {
+					locks.remove( entry.getKey(), entry.getValue() );
+				}
+			}
+			finally {
+				stripe.unlock();
+			}
+		}
+	}
+
+	@Override
+	void unlockItem(Object key, SoftLock lock) throws CacheException {
+		final ReentrantLock stripe = stripeFor( key );
+		stripe.lock();
+		try {
+			final Lockable item = getItem( key );
+			if ( item != null && item.isUnlockable( lock ) ) {
+				decrementLock( (Lock) item );
+			}
+			else {
+				handleLockExpiry( key );
+			}
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	/**
+	 * Wait until the transaction completes, see {@link #afterInsert}.
+	 */
+	@Override
+	boolean insert(Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterInsert(Object key, Object value, Object version) throws CacheException {
+		final ReentrantLock stripe = stripeFor( key );
+		stripe.lock();
+		try {
+			if ( getItem( key ) == null ) {
+				putItem( key, new Item( value, version, region.nextTimestamp() ) );
+				return true;
+			}
+			return false;
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	/**
+	 * Wait until the transaction completes, see {@link #afterUpdate}.
+	 */
+	@Override
+	boolean update(Object key, Object value, Object currentVersion, Object previousVersion)
+			throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock)
+			throws CacheException {
+		final ReentrantLock stripe = stripeFor( key );
+		stripe.lock();
+		try {
+			final Lockable item = getItem( key );
+			if ( item != null && item.isUnlockable( lock ) ) {
+				final Lock lockItem = (Lock) item;
+				if ( lockItem.wasLockedConcurrently() ) {
+					decrementLock( lockItem );
+					return false;
+				}
+				putItem( key, new Item( value, currentVersion, region.nextTimestamp() ) );
+				return true;
+			}
+			handleLockExpiry( key );
+			return false;
+		}
+		finally {
+			stripe.unlock();
+		}
+	}
+
+	/**
+	 * Unlock the given lock, which stays mapped to its key.
+	 */
+	private void decrementLock(Lock lock) {
+		lock.unlock( region.nextTimestamp() );
+	}
+
+	/**
+	 * Handle the timeout of a previous lock mapped to this key.
+	 */
+	private void handleLockExpiry(Object key) {
+		LOG.expired( key );
+		final long ts = region.nextTimestamp() + region.getTimeout();
+		// create new lock that times out immediately
+		final Lock newLock = new Lock( ts, uuid, nextLockId.getAndIncrement(), null );
+		newLock.unlock( ts );
+		putLock( key, newLock );
+	}
+
+	/**
+	 * Interface type implemented by all wrapper objects in the region.
+	 */
+	private static interface Lockable {
+
+		/**
+		 * Returns <code>true</code> if the enclosed value can be read by a transaction started at the given time.
+		 */
+		public boolean isReadable(long txTimestamp);
+
+		/**
+		 * Returns <code>true</code> if the enclosed value can be replaced with one of the given version by a
+		 * transaction started at the given time.
+		 */
+		public boolean isWriteable(long txTimestamp, Object version, Comparator versionComparator);
+
+		/**
+		 * Returns the enclosed value.
+		 */
+		public Object getValue();
+
+		/**
+		 * Returns <code>true</code> if the given lock can be unlocked using the given SoftLock instance as a handle.
+		 */
+		public boolean isUnlockable(SoftLock lock);
+
+		/**
+		 * Locks this entry, stamping it with the UUID and lockId given, with the lock timeout occuring at the specified
+		 * time.  The returned Lock object can be used to unlock the entry in the future.
+		 */
+		public Lock lock(long timeout, UUID uuid, long lockId);
+	}
+
+	/**
+	 * Wrapper type representing unlocked items.
+	 */
+	private static final class Item implements Serializable, Lockable {
+
+		private static final long serialVersionUID = 1L;
+		private final Object value;
+		private final Object version;
+		private final long timestamp;
+
+		Item(Object value, Object version, long timestamp) {
+			this.value = value;
+			this.version = version;
+			this.timestamp = timestamp;
+		}
+
+		public boolean isReadable(long txTimestamp) {
+			return txTimestamp > timestamp;
+		}
+
+		public boolean isWriteable(long txTimestamp, Object newVersion, Comparator versionComparator) {
+			return version != null && versionComparator.compare( version, newVersion ) < 0;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		public boolean isUnlockable(SoftLock lock) {
+			return false;
+		}
+
+		public Lock lock(long timeout, UUID uuid, long lockId) {
+			return new Lock( timeout, uuid, lockId, version );
+		}
+	}
+
+	/**
+	 * Wrapper type representing locked items; only ever modified while holding the lock of its key.
+	 */
+	private static final class Lock implements Serializable, Lockable, SoftLock {
+
+		private static final long serialVersionUID = 2L;
+
+		private final UUID sourceUuid;
+		private final long lockId;
+		private final Object version;
+
+		private long timeout;
+		private boolean concurrent;
+		private int multiplicity = 1;
+		private long unlockTimestamp;
+
+		Lock(long timeout, UUID sourceUuid, long lockId, Object version) {
+			this.timeout = timeout;
+			this.lockId = lockId;
+			this.version = version;
+			this.sourceUuid = sourceUuid;
+		}
+
+		public boolean isReadable(long txTimestamp) {
+			return false;
+		}
+
+		public boolean isWriteable(long txTimestamp, Object newVersion, Comparator versionComparator) {
+			if ( txTimestamp > timeout ) {
+				// if timedout then allow write
+				return true;
+			}
+			if ( multiplicity > 0 ) {
+				// if still locked then disallow write
+				return false;
+			}
+			return version == null ?
+					txTimestamp > unlockTimestamp :
+					versionComparator.compare( version, newVersion ) < 0;
+		}
+
+		public Object getValue() {
+			return null;
+		}
+
+		public boolean isUnlockable(SoftLock lock) {
+			return equals( lock );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( o == this ) {
+				return true;
+			}
+			else if ( o instanceof Lock ) {
+				return ( lockId == ( (Lock) o ).lockId ) && sourceUuid.equals( ( (Lock) o ).sourceUuid );
+			}
+			else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return sourceUuid.hashCode() + (int) ( lockId ^ ( lockId >>> 32 ) );
+		}
+
+		/**
+		 * Returns true if this Lock has been concurrently locked by more than one transaction.
+		 */
+		public boolean wasLockedConcurrently() {
+			return concurrent;
+		}
+
+		public Lock lock(long timeout, UUID uuid, long lockId) {
+			concurrent = true;
+			multiplicity++;
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Returns true if this Lock has timed out, so that it allows the writes of any transaction started from now on.
+		 */
+		public boolean isTimedOut(long now) {
+			return now > timeout;
+		}
+
+		/**
+		 * Unlocks this Lock, and timestamps the unlock event.
+		 */
+		public void unlock(long timestamp) {
+			if ( --multiplicity == 0 ) {
+				unlockTimestamp = timestamp;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Lock Source-UUID:" + sourceUuid + " Lock-ID:" + lockId;
+		}
+	}
+}
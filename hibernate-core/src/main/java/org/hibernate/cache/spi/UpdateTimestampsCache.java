@@ -24,9 +24,11 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logging.Logger;
 
@@ -42,6 +44,14 @@ import org.hibernate.internal.CoreMessageLogger;
  * to a higher value than the timeouts of any of the query caches. In fact, we
  * recommend that the the underlying cache not be configured for expiry at all.
  * Note, in particular, that an LRU cache expiry policy is never appropriate.
+ * <p/>
+ * No lock is taken: the last timestamp written by this node for each space is also kept in a local concurrent map,
+ * consulted along with the region, so that a local invalidation is seen by {@link #isUpToDate} even while the
+ * region is still being updated.
+ * <p/>
+ * Updates and deletions of single entity rows may instead be recorded per row, see
+ * {@link #preinvalidateRow}; those row timestamps only live in this node's memory, so row invalidation is only
+ * appropriate when the query cache is not shared with other nodes.
  *
  * @author Gavin King
  * @author Mikheil Kapanadze
@@ -51,12 +61,18 @@ public class UpdateTimestampsCache {
 	public static final String REGION_NAME = UpdateTimestampsCache.class.getName();
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, UpdateTimestampsCache.class.getName() );
 
-	private ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+	private final ConcurrentMap<Serializable, Long> localTimestamps = new ConcurrentHashMap<Serializable, Long>();
+	private final ConcurrentMap<Serializable, Long> localRowTimestamps = new ConcurrentHashMap<Serializable, Long>();
+	private final ConcurrentMap<RowKey, Long> rowTimestamps = new ConcurrentHashMap<RowKey, Long>();
+	// row timestamps up to this one may have been discarded
+	private volatile long rowTimestampsFloor = Long.MIN_VALUE;
+	private final int maxRowTimestamps;
 	private final TimestampsRegion region;
 	private final SessionFactoryImplementor factory;
 
 	public UpdateTimestampsCache(Settings settings, Properties props, final SessionFactoryImplementor factory) throws HibernateException {
 		this.factory = factory;
+		this.maxRowTimestamps = settings.getQueryCacheRowInvalidationMaxRows();
 		String prefix = settings.getCacheRegionPrefix();
 		String regionName = prefix == null ? REGION_NAME : prefix + '.' + REGION_NAME;
 		LOG.startingUpdateTimestampsCache( regionName );
@@ -70,84 +86,181 @@ public class UpdateTimestampsCache {
 
 	@SuppressWarnings({"UnnecessaryBoxing"})
 	public void preinvalidate(Serializable[] spaces) throws CacheException {
-		readWriteLock.writeLock().lock();
-
-		try {
-			Long ts = region.nextTimestamp() + region.getTimeout();
-			for ( Serializable space : spaces ) {
-				LOG.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				region.put( space, ts );
-				if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-					factory.getStatisticsImplementor().updateTimestampsCachePut();
-				}
+		final boolean stats = isStatisticsEnabled();
+		Long ts = region.nextTimestamp() + region.getTimeout();
+		for ( Serializable space : spaces ) {
+			LOG.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
+			localTimestamps.put( space, ts );
+			//put() has nowait semantics, is this really appropriate?
+			//note that it needs to be async replication, never local or sync
+			region.put( space, ts );
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCachePut();
 			}
 		}
-		finally {
-			readWriteLock.writeLock().unlock();
-		}
 	}
 
 	 @SuppressWarnings({"UnnecessaryBoxing"})
 	public void invalidate(Serializable[] spaces) throws CacheException {
-		readWriteLock.writeLock().lock();
+		final boolean stats = isStatisticsEnabled();
+		Long ts = region.nextTimestamp();
+		for (Serializable space : spaces) {
+			LOG.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+			//put() has nowait semantics, is this really appropriate?
+			//note that it needs to be async replication, never local or sync
+			region.put( space, ts );
+			localTimestamps.put( space, ts );
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCachePut();
+			}
+		}
+	}
 
-		try {
-			Long ts = region.nextTimestamp();
-			for (Serializable space : spaces) {
-				LOG.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				region.put( space, ts );
-				if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-					factory.getStatisticsImplementor().updateTimestampsCachePut();
+	/**
+	 * Pre-invalidate the given row of each of the given spaces, rather than the spaces as a whole.
+	 *
+	 * @param spaces The spaces holding the row
+	 * @param id The identifier of the updated or deleted entity
+	 */
+	public void preinvalidateRow(Serializable[] spaces, Serializable id) throws CacheException {
+		putRowTimestamp( spaces, id, region.nextTimestamp() + region.getTimeout() );
+	}
+
+	/**
+	 * Invalidate the given rows, rather than their spaces as a whole.
+	 *
+	 * @param ids The identifiers of the updated or deleted entities, keyed by space
+	 */
+	public void invalidateRows(Map<Serializable, Set<Serializable>> ids) throws CacheException {
+		final long ts = region.nextTimestamp();
+		for ( Map.Entry<Serializable, Set<Serializable>> entry : ids.entrySet() ) {
+			for ( Serializable id : entry.getValue() ) {
+				putRowTimestamp( new Serializable[] { entry.getKey() }, id, ts );
+			}
+		}
+	}
+
+	private void putRowTimestamp(Serializable[] spaces, Serializable id, Long ts) {
+		for ( Serializable space : spaces ) {
+			LOG.tracef( "Invalidating row [%s#%s], timestamp: %s", space, id, ts );
+			localRowTimestamps.put( space, ts );
+			rowTimestamps.put( new RowKey( space, id ), ts );
+		}
+		if ( rowTimestamps.size() > maxRowTimestamps ) {
+			discardRowTimestamps();
+		}
+	}
+
+	private synchronized void discardRowTimestamps() {
+		if ( rowTimestamps.size() > maxRowTimestamps ) {
+			// no timestamp handed out so far can be later than this; the floor is published before any row timestamp
+			// is discarded, and row timestamps put concurrently with a later timestamp are kept
+			final long floor = region.nextTimestamp() + region.getTimeout();
+			rowTimestampsFloor = floor;
+			for ( Map.Entry<RowKey, Long> entry : rowTimestamps.entrySet() ) {
+				if ( entry.getValue() <= floor ) {
+					rowTimestamps.remove( entry.getKey(), entry.getValue() );
 				}
 			}
+			LOG.debugf( "Discarded row timestamps, floor: %s", floor );
 		}
-		finally {
-			readWriteLock.writeLock().unlock();
+	}
+
+	/**
+	 * Were any rows of the given spaces invalidated since the given timestamp?
+	 */
+	@SuppressWarnings({"unchecked"})
+	public boolean hasRowInvalidations(Set spaces, Long timestamp) {
+		for ( Serializable space : (Set<Serializable>) spaces ) {
+			final Long rowUpdate = localRowTimestamps.get( space );
+			if ( rowUpdate != null && rowUpdate >= timestamp ) {
+				return true;
+			}
 		}
+		return false;
 	}
 
-	@SuppressWarnings({"unchecked", "UnnecessaryUnboxing"})
 	public boolean isUpToDate(Set spaces, Long timestamp) throws HibernateException {
-		readWriteLock.readLock().lock();
+		return isUpToDate( spaces, timestamp, null );
+	}
 
-		try {
-			for ( Serializable space : (Set<Serializable>) spaces ) {
-				Long lastUpdate = (Long) region.get( space );
-				if ( lastUpdate == null ) {
-					if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-						factory.getStatisticsImplementor().updateTimestampsCacheMiss();
-					}
-					//the last update timestamp was lost from the cache
-					//(or there were no updates since startup!)
-					//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
-					//result = false; // safer
+	/**
+	 * Were none of the given spaces updated since the given timestamp? An invalidated row of a space only counts
+	 * as an update of that space when it is one of the given rows, or when no rows are given for that space.
+	 *
+	 * @param spaces The spaces to check
+	 * @param timestamp The timestamp of the cached data
+	 * @param ids The identifiers of the rows the cached data depends on, keyed by space; may be null
+	 */
+	@SuppressWarnings({"unchecked", "UnnecessaryUnboxing"})
+	public boolean isUpToDate(Set spaces, Long timestamp, Map<Serializable, Set<Serializable>> ids)
+			throws HibernateException {
+		final boolean stats = isStatisticsEnabled();
+		for ( Serializable space : (Set<Serializable>) spaces ) {
+			if ( !isRowsUpToDate( space, timestamp, ids == null ? null : ids.get( space ) ) ) {
+				LOG.debugf( "Rows of [%s] were updated since %s", space, timestamp );
+				return false;
+			}
+			final Long localUpdate = localTimestamps.get( space );
+			if ( localUpdate != null && localUpdate >= timestamp ) {
+				// updated by this node since the result set was cached, no need to look any further
+				if ( stats ) {
+					factory.getStatisticsImplementor().updateTimestampsCacheHit();
 				}
-				else {
-                    if ( LOG.isDebugEnabled() ) {
-                        LOG.debugf(
-                                "[%s] last update timestamp: %s",
-                                space,
-                                lastUpdate + ", result set timestamp: " + timestamp
-                        );
-                    }
-					if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
-						factory.getStatisticsImplementor().updateTimestampsCacheHit();
-					}
-					if ( lastUpdate >= timestamp ) return false;
+				return false;
+			}
+			Long lastUpdate = (Long) region.get( space );
+			if ( lastUpdate == null ) {
+				if ( stats ) {
+					factory.getStatisticsImplementor().updateTimestampsCacheMiss();
+				}
+				//the last update timestamp was lost from the cache
+				//(or there were no updates since startup!)
+				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
+				//result = false; // safer
+			}
+			else {
+                if ( LOG.isDebugEnabled() ) {
+                    LOG.debugf(
+                            "[%s] last update timestamp: %s",
+                            space,
+                            lastUpdate + ", result set timestamp: " + timestamp
+                    );
+                }
+				if ( stats ) {
+					factory.getStatisticsImplementor().updateTimestampsCacheHit();
 				}
+				if ( lastUpdate >= timestamp ) return false;
 			}
+		}
+		return true;
+	}
+
+	private boolean isRowsUpToDate(Serializable space, Long timestamp, Set<Serializable> ids) {
+		final Long rowUpdate = localRowTimestamps.get( space );
+		if ( rowUpdate == null || rowUpdate < timestamp ) {
 			return true;
 		}
-		finally {
-			readWriteLock.readLock().unlock();
+		if ( ids == null || rowTimestampsFloor >= timestamp ) {
+			return false;
 		}
+		for ( Serializable id : ids ) {
+			final Long ts = rowTimestamps.get( new RowKey( space, id ) );
+			if ( ts != null && ts >= timestamp ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isStatisticsEnabled() {
+		return factory != null && factory.getStatistics().isStatisticsEnabled();
 	}
 
 	public void clear() throws CacheException {
+		localTimestamps.clear();
+		localRowTimestamps.clear();
+		rowTimestamps.clear();
 		region.evictAll();
 	}
 
@@ -169,4 +282,31 @@ public class UpdateTimestampsCache {
 		return "UpdateTimestampsCache";
 	}
 
+	private static final class RowKey {
+		private final Serializable space;
+		private final Serializable id;
+
+		private RowKey(Serializable space, Serializable id) {
+			this.space = space;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof RowKey ) ) {
+				return false;
+			}
+			final RowKey that = (RowKey) o;
+			return space.equals( that.space ) && id.equals( that.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * space.hashCode() + id.hashCode();
+		}
+	}
+
 }
@@ -23,6 +23,7 @@
  */
 package org.hibernate.cache.spi.access;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
 
 /**
@@ -46,5 +47,4 @@ public interface CollectionRegionAccessStrategy extends RegionAccessStrategy {
 	 * @return The underlying region
 	 */
 	public CollectionRegion getRegion();
-
 }
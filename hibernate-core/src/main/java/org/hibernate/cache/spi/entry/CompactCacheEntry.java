@@ -0,0 +1,333 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+/**
+ * Structures cached entity state into a compact form: the values of the properties
+ * mapped to primitive wrapper types are packed into a single byte array, along with
+ * the bitmaps flagging null values, and only the remaining non-null values are kept
+ * as objects.  Compared to the unstructured form this saves a boxed object per
+ * primitive value and an array slot per null value, and serializes to fewer bytes.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+
+	private final EntityPersister persister;
+	// determined on first use, the property types are not known yet when the persister builds us
+	private volatile Packing[] packings;
+	// the packings of the subclass entries read through us, keyed by subclass entity name
+	private final ConcurrentMap<String, Packing[]> subclassPackings = new ConcurrentHashMap<String, Packing[]>();
+
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	public Object structure(Object item) {
+		return new PackedEntry( (CacheEntry) item, getPackings() );
+	}
+
+	public Object destructure(Object item, SessionFactoryImplementor factory) {
+		final PackedEntry entry = (PackedEntry) item;
+		final Packing[] packings = persister.getEntityName().equals( entry.subclass ) ?
+				getPackings() :
+				getSubclassPackings( entry.subclass, factory );
+		return entry.unpack( packings );
+	}
+
+	private Packing[] getSubclassPackings(String subclass, SessionFactoryImplementor factory) {
+		Packing[] result = subclassPackings.get( subclass );
+		if ( result == null ) {
+			result = determinePackings( factory.getEntityPersister( subclass ).getPropertyTypes() );
+			subclassPackings.put( subclass, result );
+		}
+		return result;
+	}
+
+	private Packing[] getPackings() {
+		Packing[] result = packings;
+		if ( result == null ) {
+			result = determinePackings( persister.getPropertyTypes() );
+			packings = result;
+		}
+		return result;
+	}
+
+	private static Packing[] determinePackings(Type[] types) {
+		final Packing[] result = new Packing[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			result[i] = determinePacking( types[i] );
+		}
+		return result;
+	}
+
+	/**
+	 * The packing of the disassembled values of the given type, or null if they are kept as they are.
+	 */
+	private static Packing determinePacking(Type type) {
+		if ( type == StandardBasicTypes.INTEGER ) {
+			return Packing.INTEGER;
+		}
+		else if ( type == StandardBasicTypes.LONG ) {
+			return Packing.LONG;
+		}
+		else if ( type == StandardBasicTypes.SHORT ) {
+			return Packing.SHORT;
+		}
+		else if ( type == StandardBasicTypes.BYTE ) {
+			return Packing.BYTE;
+		}
+		else if ( type == StandardBasicTypes.CHARACTER ) {
+			return Packing.CHARACTER;
+		}
+		else if ( type == StandardBasicTypes.BOOLEAN
+				|| type == StandardBasicTypes.YES_NO
+				|| type == StandardBasicTypes.TRUE_FALSE
+				|| type == StandardBasicTypes.NUMERIC_BOOLEAN ) {
+			return Packing.BOOLEAN;
+		}
+		else if ( type == StandardBasicTypes.DOUBLE ) {
+			return Packing.DOUBLE;
+		}
+		else if ( type == StandardBasicTypes.FLOAT ) {
+			return Packing.FLOAT;
+		}
+		return null;
+	}
+
+	private static void writeBits(long bits, byte[] data, int position, int length) {
+		for ( int i = length - 1; i >= 0; i-- ) {
+			data[position + i] = (byte) bits;
+			bits >>>= 8;
+		}
+	}
+
+	private static long readBits(byte[] data, int position, int length) {
+		long bits = 0;
+		for ( int i = 0; i < length; i++ ) {
+			bits = ( bits << 8 ) | ( data[position + i] & 0xFF );
+		}
+		return bits;
+	}
+
+	private static enum Packing {
+		BOOLEAN( Boolean.class, 1 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				data[position] = ( (Boolean) value ).booleanValue() ? (byte) 1 : (byte) 0;
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return data[position] != 0 ? Boolean.TRUE : Boolean.FALSE;
+			}
+		},
+		BYTE( Byte.class, 1 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				data[position] = ( (Byte) value ).byteValue();
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Byte.valueOf( data[position] );
+			}
+		},
+		SHORT( Short.class, 2 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( ( (Short) value ).shortValue(), data, position, 2 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Short.valueOf( (short) readBits( data, position, 2 ) );
+			}
+		},
+		CHARACTER( Character.class, 2 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( ( (Character) value ).charValue(), data, position, 2 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Character.valueOf( (char) readBits( data, position, 2 ) );
+			}
+		},
+		INTEGER( Integer.class, 4 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( ( (Integer) value ).intValue(), data, position, 4 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Integer.valueOf( (int) readBits( data, position, 4 ) );
+			}
+		},
+		LONG( Long.class, 8 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( ( (Long) value ).longValue(), data, position, 8 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Long.valueOf( readBits( data, position, 8 ) );
+			}
+		},
+		FLOAT( Float.class, 4 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( Float.floatToRawIntBits( ( (Float) value ).floatValue() ), data, position, 4 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Float.valueOf( Float.intBitsToFloat( (int) readBits( data, position, 4 ) ) );
+			}
+		},
+		DOUBLE( Double.class, 8 ) {
+			@Override
+			void write(Object value, byte[] data, int position) {
+				writeBits( Double.doubleToRawLongBits( ( (Double) value ).doubleValue() ), data, position, 8 );
+			}
+
+			@Override
+			Serializable read(byte[] data, int position) {
+				return Double.valueOf( Double.longBitsToDouble( readBits( data, position, 8 ) ) );
+			}
+		};
+
+		private final Class valueClass;
+		private final int length;
+
+		private Packing(Class valueClass, int length) {
+			this.valueClass = valueClass;
+			this.length = length;
+		}
+
+		abstract void write(Object value, byte[] data, int position);
+
+		abstract Serializable read(byte[] data, int position);
+	}
+
+	/**
+	 * The cached form of a {@link CacheEntry}.  The data starts with a bitmap of the null values,
+	 * followed by a bitmap of the values of packed properties which could not be packed (the
+	 * marker of an unfetched lazy property for example), then by the packed values.
+	 */
+	private static final class PackedEntry implements Serializable {
+		private String subclass;
+		private final Object version;
+		private final boolean lazyPropertiesUnfetched;
+		private final byte[] data;
+		// the non-null values which are not packed, null if there are none
+		private final Serializable[] values;
+
+		PackedEntry(CacheEntry entry, Packing[] packings) {
+			final Serializable[] state = entry.getDisassembledState();
+			final int bitmapLength = ( state.length + 7 ) / 8;
+			int dataLength = bitmapLength * 2;
+			int valueCount = 0;
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( isPackable( state[i], packings[i] ) ) {
+					dataLength += packings[i].length;
+				}
+				else if ( state[i] != null ) {
+					valueCount++;
+				}
+			}
+			this.subclass = entry.getSubclass();
+			this.version = entry.getVersion();
+			this.lazyPropertiesUnfetched = entry.areLazyPropertiesUnfetched();
+			this.data = new byte[dataLength];
+			this.values = valueCount == 0 ? null : new Serializable[valueCount];
+
+			int position = bitmapLength * 2;
+			int valueIndex = 0;
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] == null ) {
+					data[i / 8] |= 1 << ( i % 8 );
+				}
+				else if ( isPackable( state[i], packings[i] ) ) {
+					packings[i].write( state[i], data, position );
+					position += packings[i].length;
+				}
+				else {
+					if ( packings[i] != null ) {
+						data[bitmapLength + i / 8] |= 1 << ( i % 8 );
+					}
+					values[valueIndex++] = state[i];
+				}
+			}
+		}
+
+		private static boolean isPackable(Serializable value, Packing packing) {
+			return packing != null && packing.valueClass.isInstance( value );
+		}
+
+		CacheEntry unpack(Packing[] packings) {
+			final Serializable[] state = new Serializable[packings.length];
+			final int bitmapLength = ( state.length + 7 ) / 8;
+			int position = bitmapLength * 2;
+			int valueIndex = 0;
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( ( data[i / 8] & ( 1 << ( i % 8 ) ) ) != 0 ) {
+					continue;
+				}
+				if ( packings[i] != null && ( data[bitmapLength + i / 8] & ( 1 << ( i % 8 ) ) ) == 0 ) {
+					state[i] = packings[i].read( data, position );
+					position += packings[i].length;
+				}
+				else {
+					state[i] = values[valueIndex++];
+				}
+			}
+			return new CacheEntry( state, subclass, lazyPropertiesUnfetched, version );
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			// share the entity name among the deserialized entries
+			subclass = subclass.intern();
+		}
+
+		@Override
+		public String toString() {
+			return "PackedEntry(" + subclass + ')' + ( values == null ? "[]" : ArrayHelper.toString( values ) );
+		}
+	}
+}
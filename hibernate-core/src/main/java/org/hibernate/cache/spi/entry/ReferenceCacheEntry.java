@@ -1,7 +1,7 @@
 /*
  * Hibernate, Relational Persistence for Idiomatic Java
  *
- * Copyright (c) 2010, Red Hat Inc. or third-party contributors as
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
  * indicated by the @author tags or express copyright attribution
  * statements applied by the authors.  All third-party contributions are
  * distributed under license by Red Hat Inc.
@@ -21,27 +21,35 @@
  * 51 Franklin Street, Fifth Floor
  * Boston, MA  02110-1301  USA
  */
-package org.hibernate.engine.jdbc.internal.proxy;
-import java.lang.reflect.Method;
-import java.sql.Connection;
-import java.sql.Statement;
+package org.hibernate.cache.spi.entry;
 
-import org.hibernate.HibernateException;
+import java.io.Serializable;
 
 /**
- * Invocation handler for {@link java.sql.Statement} proxies obtained from other JDBC object proxies
- *
- * @author Steve Ebersole
+ * A cached instance of a persistent class, held by reference rather than
+ * disassembled.  Only used for the entities which
+ * {@link org.hibernate.persister.entity.AbstractEntityPersister#canUseReferenceCacheEntries() can}
+ * be, the instance being shared by all the sessions hitting the cache.
  */
-public class ImplicitStatementProxyHandler extends AbstractStatementProxyHandler {
-	protected ImplicitStatementProxyHandler(Statement statement, ConnectionProxyHandler connectionProxyHandler, Connection connectionProxy) {
-		super( statement, connectionProxyHandler, connectionProxy );
+public final class ReferenceCacheEntry implements Serializable {
+
+	private final Object reference;
+	private final String subclass;
+
+	public ReferenceCacheEntry(Object reference, String subclass) {
+		this.reference = reference;
+		this.subclass = subclass;
+	}
+
+	public Object getReference() {
+		return reference;
+	}
+
+	public String getSubclass() {
+		return subclass;
 	}
 
-	protected void beginningInvocationHandling(Method method, Object[] args) {
-		// disallow executions...
-		if ( method.getName().startsWith( "execute" ) ) {
-			throw new HibernateException( "execution not allowed on implicit statement object" );
-		}
+	public String toString() {
+		return "ReferenceCacheEntry(" + subclass + ')';
 	}
 }
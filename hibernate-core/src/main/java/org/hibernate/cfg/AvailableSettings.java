@@ -91,6 +91,42 @@ public interface AvailableSettings {
 	 */
 	public static final String POOL_SIZE ="hibernate.connection.pool_size";
 
+	/**
+	 * Minimum number of connections the built-in Hibernate connection pool opens up front and keeps open.
+	 * Defaults to 0.
+	 */
+	public static final String POOL_MIN_SIZE ="hibernate.connection.pool_min_size";
+
+	/**
+	 * Maximum number of connections the built-in Hibernate connection pool hands out at the same time; further
+	 * requests wait for a connection to be released.  By default the number of connections is not limited.
+	 */
+	public static final String POOL_MAX_SIZE ="hibernate.connection.pool_max_size";
+
+	/**
+	 * Maximum time, in milliseconds, to wait for a connection from the built-in Hibernate connection pool when
+	 * {@link #POOL_MAX_SIZE} connections are in use.  Defaults to 30000.
+	 */
+	public static final String POOL_MAX_WAIT ="hibernate.connection.pool_max_wait";
+
+	/**
+	 * Time, in milliseconds, after which inactive connections of the built-in Hibernate connection pool are closed
+	 * (keeping at least {@link #POOL_MIN_SIZE} connections).  Disabled by default.
+	 */
+	public static final String POOL_IDLE_TIMEOUT ="hibernate.connection.pool_idle_timeout";
+
+	/**
+	 * Time, in milliseconds, after which a connection of the built-in Hibernate connection pool which has not been
+	 * released is reported as a possible leak, along with where it was obtained.  Disabled by default.
+	 */
+	public static final String POOL_LEAK_DETECTION_THRESHOLD ="hibernate.connection.pool_leak_detection_threshold";
+
+	/**
+	 * Timeout, in seconds, used to validate (see {@link java.sql.Connection#isValid}) inactive connections of the
+	 * built-in Hibernate connection pool before handing them out.  Disabled by default.
+	 */
+	public static final String POOL_VALIDATION_TIMEOUT ="hibernate.connection.pool_validation_timeout";
+
 	/**
 	 * Names a {@link javax.sql.DataSource}.  Can either reference a {@link javax.sql.DataSource} instance or
 	 * a {@literal JNDI} name under which to locate the {@link javax.sql.DataSource}.
@@ -152,6 +188,11 @@ public interface AvailableSettings {
 	 * Enable formatting of SQL logged to the console
 	 */
 	public static final String FORMAT_SQL ="hibernate.format_sql";
+	/**
+	 * Time, in milliseconds, above which executed SQL statements are logged as slow, along with their bind and
+	 * row counts, under the <tt>org.hibernate.SQL_SLOW</tt> category.  Disabled by default.
+	 */
+	public static final String LOG_SLOW_QUERY ="hibernate.log_slow_query";
 	/**
 	 * Add comments to the generated SQL
 	 */
@@ -164,6 +205,12 @@ public interface AvailableSettings {
 	 * The default batch size for batch fetching
 	 */
 	public static final String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
+	/**
+	 * The style of SQL statements used for batch fetching, <tt>legacy</tt> or <tt>padded</tt> (the default).
+	 *
+	 * @see org.hibernate.loader.BatchFetchStyle
+	 */
+	public static final String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
 	/**
 	 * Use <tt>java.io</tt> streams to read / write binary data from / to JDBC
 	 */
@@ -196,6 +243,12 @@ public interface AvailableSettings {
 	 * Should versioned data be included in batching?
 	 */
 	public static final String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
+	/**
+	 * Should inserts into different tables be kept open in the same JDBC batch (executed in foreign key order),
+	 * rather than executing the batch each time the inserted table changes?  Only applies if
+	 * {@link #STATEMENT_BATCH_SIZE batching} is enabled.  Default is <tt>false</tt>.
+	 */
+	public static final String BATCH_MULTIPLE_STATEMENTS = "hibernate.jdbc.batch_multiple_statements";
 	/**
 	 * An XSLT resource used to generate "custom" XML
 	 */
@@ -320,6 +373,16 @@ public interface AvailableSettings {
 	 * The <tt>QueryCacheFactory</tt> implementation class.
 	 */
 	public static final String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
+	/**
+	 * Invalidate cached query results on entity updates and deletions only when they returned the updated or
+	 * deleted entity, rather than whenever the entity table was modified (disabled by default)
+	 */
+	public static final String QUERY_CACHE_ROW_INVALIDATION = "hibernate.cache.query_cache_row_invalidation";
+	/**
+	 * The number of invalidated rows remembered for {@link #QUERY_CACHE_ROW_INVALIDATION}; once exceeded, they are
+	 * forgotten and all cached query results of the invalidated tables are treated as stale (100000 by default)
+	 */
+	public static final String QUERY_CACHE_ROW_INVALIDATION_MAX_ROWS = "hibernate.cache.query_cache_row_invalidation_max_rows";
 	/**
 	 * Enable the second-level cache (enabled by default)
 	 */
@@ -336,6 +399,16 @@ public interface AvailableSettings {
 	 * Enable use of structured second-level cache entries
 	 */
 	public static final String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
+	/**
+	 * Enable use of compact second-level cache entries, packing the state of cached entities into as
+	 * few objects as possible.  Ignored when structured entries are enabled.
+	 */
+	public static final String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+	/**
+	 * Enable caching of the instances of immutable entities having basic properties only by reference,
+	 * sharing the cached instances among sessions instead of assembling new ones on each cache hit
+	 */
+	public static final String USE_REFERENCE_CACHE = "hibernate.cache.use_reference_entries";
 
 	/**
 	 * Enable statistics collection
@@ -349,6 +422,13 @@ public interface AvailableSettings {
 	 */
 	public static final String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should the flush-time dirty checking of entities use comparators generated by the bytecode provider for the
+	 * properties of simple basic types, rather than {@link org.hibernate.type.Type#isDirty}?  Default is
+	 * <tt>false</tt>.
+	 */
+	public static final String USE_DIRTY_CHECK_OPTIMIZER = "hibernate.bytecode.use_dirty_check_optimizer";
+
 	/**
 	 * The classname of the HQL query parser factory
 	 */
@@ -417,6 +497,13 @@ public interface AvailableSettings {
 	 */
 	public static final String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Should the insert and update statements of a flush be ordered by table (respecting foreign key dependencies
+	 * between the tables) when JDBC batching is enabled?  Cheaper, but less thorough, than {@link #ORDER_INSERTS}.
+	 * Unrelated tables keep the order in which they were first used.  Default is <tt>true</tt>.
+	 */
+	public static final String ORDER_BY_TABLE = "hibernate.order_by_table";
+
 	/**
 	 * The EntityMode in which set the Session opened from the SessionFactory.
 	 */
@@ -31,6 +31,7 @@ import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.hql.spi.QueryTranslatorFactory;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.service.jta.platform.spi.JtaPlatform;
 import org.hibernate.tuple.entity.EntityTuplizerFactory;
 
@@ -45,6 +46,7 @@ public final class Settings {
 	private Map querySubstitutions;
 	private int jdbcBatchSize;
 	private int defaultBatchFetchSize;
+	private BatchFetchStyle batchFetchStyle;
 	private boolean scrollableResultSetsEnabled;
 	private boolean getGeneratedKeysEnabled;
 	private String defaultSchemaName;
@@ -57,7 +59,11 @@ public final class Settings {
 	private boolean autoUpdateSchema;
 	private boolean autoValidateSchema;
 	private boolean queryCacheEnabled;
+	private boolean queryCacheRowInvalidationEnabled;
+	private int queryCacheRowInvalidationMaxRows;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
+	private boolean referenceCacheEntriesEnabled;
 	private boolean secondLevelCacheEnabled;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
@@ -74,6 +80,8 @@ public final class Settings {
 	private boolean wrapResultSetsEnabled;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean orderByTableEnabled;
+	private boolean dirtyCheckOptimizerEnabled;
 	private EntityMode defaultEntityMode;
 	private boolean dataDefinitionImplicitCommit;
 	private boolean dataDefinitionInTransactionSupported;
@@ -120,6 +128,10 @@ public final class Settings {
 		return defaultBatchFetchSize;
 	}
 
+	public BatchFetchStyle getBatchFetchStyle() {
+		return batchFetchStyle;
+	}
+
 	public Map getQuerySubstitutions() {
 		return querySubstitutions;
 	}
@@ -176,6 +188,14 @@ public final class Settings {
 		return queryCacheEnabled;
 	}
 
+	public boolean isQueryCacheRowInvalidationEnabled() {
+		return queryCacheRowInvalidationEnabled;
+	}
+
+	public int getQueryCacheRowInvalidationMaxRows() {
+		return queryCacheRowInvalidationMaxRows;
+	}
+
 	public boolean isCommentsEnabled() {
 		return commentsEnabled;
 	}
@@ -228,10 +248,26 @@ public final class Settings {
 		return orderInsertsEnabled;
 	}
 
+	public boolean isOrderByTableEnabled() {
+		return orderByTableEnabled;
+	}
+
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return dirtyCheckOptimizerEnabled;
+	}
+
 	public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
+	public boolean isReferenceCacheEntriesEnabled() {
+		return referenceCacheEntriesEnabled;
+	}
+
 	public EntityMode getDefaultEntityMode() {
 		return defaultEntityMode;
 	}
@@ -282,6 +318,10 @@ public final class Settings {
 		defaultBatchFetchSize = i;
 	}
 
+	void setBatchFetchStyle(BatchFetchStyle batchFetchStyle) {
+		this.batchFetchStyle = batchFetchStyle;
+	}
+
 	void setQuerySubstitutions(Map map) {
 		querySubstitutions = map;
 	}
@@ -338,6 +378,14 @@ public final class Settings {
 		queryCacheEnabled = b;
 	}
 
+	void setQueryCacheRowInvalidationEnabled(boolean queryCacheRowInvalidationEnabled) {
+		this.queryCacheRowInvalidationEnabled = queryCacheRowInvalidationEnabled;
+	}
+
+	void setQueryCacheRowInvalidationMaxRows(int queryCacheRowInvalidationMaxRows) {
+		this.queryCacheRowInvalidationMaxRows = queryCacheRowInvalidationMaxRows;
+	}
+
 	void setCommentsEnabled(boolean commentsEnabled) {
 		this.commentsEnabled = commentsEnabled;
 	}
@@ -390,10 +438,26 @@ public final class Settings {
 		this.orderInsertsEnabled = orderInsertsEnabled;
 	}
 
+	void setOrderByTableEnabled(boolean orderByTableEnabled) {
+		this.orderByTableEnabled = orderByTableEnabled;
+	}
+
+	void setDirtyCheckOptimizerEnabled(boolean dirtyCheckOptimizerEnabled) {
+		this.dirtyCheckOptimizerEnabled = dirtyCheckOptimizerEnabled;
+	}
+
 	void setStructuredCacheEntriesEnabled(boolean structuredCacheEntriesEnabled) {
 		this.structuredCacheEntriesEnabled = structuredCacheEntriesEnabled;
 	}
 
+	void setCompactCacheEntriesEnabled(boolean compactCacheEntriesEnabled) {
+		this.compactCacheEntriesEnabled = compactCacheEntriesEnabled;
+	}
+
+	void setReferenceCacheEntriesEnabled(boolean referenceCacheEntriesEnabled) {
+		this.referenceCacheEntriesEnabled = referenceCacheEntriesEnabled;
+	}
+
 	void setDefaultEntityMode(EntityMode defaultEntityMode) {
 		this.defaultEntityMode = defaultEntityMode;
 	}
@@ -42,6 +42,7 @@ import org.hibernate.engine.jdbc.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.transaction.spi.TransactionFactory;
 import org.hibernate.hql.spi.QueryTranslatorFactory;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -195,6 +196,12 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setDefaultBatchFetchSize( batchFetchSize );
 
+		BatchFetchStyle batchFetchStyle = BatchFetchStyle.interpret( properties.get( Environment.BATCH_FETCH_STYLE ) );
+		if ( debugEnabled ) {
+			LOG.debugf( "Batch fetch style: %s", batchFetchStyle );
+		}
+		settings.setBatchFetchStyle( batchFetchStyle );
+
 		boolean comments = ConfigurationHelper.getBoolean( Environment.USE_SQL_COMMENTS, properties );
 		if ( debugEnabled ) {
 			LOG.debugf( "Generate SQL with comments: %s", enabledDisabled(comments) );
@@ -213,6 +220,18 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setOrderInsertsEnabled( orderInserts );
 
+		boolean orderByTable = ConfigurationHelper.getBoolean( Environment.ORDER_BY_TABLE, properties, true );
+		if ( debugEnabled ) {
+			LOG.debugf( "Order SQL inserts and updates by table: %s", enabledDisabled(orderByTable) );
+		}
+		settings.setOrderByTableEnabled( orderByTable );
+
+		boolean dirtyCheckOptimizer = ConfigurationHelper.getBoolean( Environment.USE_DIRTY_CHECK_OPTIMIZER, properties );
+		if ( debugEnabled ) {
+			LOG.debugf( "Generated dirty check comparators: %s", enabledDisabled(dirtyCheckOptimizer) );
+		}
+		settings.setDirtyCheckOptimizerEnabled( dirtyCheckOptimizer );
+
 		//Query parser settings:
 
 		settings.setQueryTranslatorFactory( createQueryTranslatorFactory( properties, serviceRegistry ) );
@@ -244,6 +263,20 @@ public class SettingsFactory implements Serializable {
 		settings.setQueryCacheEnabled( useQueryCache );
 		if (useQueryCache) {
 			settings.setQueryCacheFactory( createQueryCacheFactory( properties, serviceRegistry ) );
+			boolean useRowInvalidation = ConfigurationHelper.getBoolean(
+					Environment.QUERY_CACHE_ROW_INVALIDATION, properties
+			);
+			if ( debugEnabled ) {
+				LOG.debugf( "Query cache row invalidation: %s", enabledDisabled(useRowInvalidation) );
+			}
+			settings.setQueryCacheRowInvalidationEnabled( useRowInvalidation );
+			int rowInvalidationMaxRows = ConfigurationHelper.getInt(
+					Environment.QUERY_CACHE_ROW_INVALIDATION_MAX_ROWS, properties, 100000
+			);
+			if ( debugEnabled ) {
+				LOG.debugf( "Query cache row invalidation max rows: %s", rowInvalidationMaxRows );
+			}
+			settings.setQueryCacheRowInvalidationMaxRows( rowInvalidationMaxRows );
 		}
 
 		// The cache provider is needed when we either have second-level cache enabled
@@ -273,6 +306,18 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setStructuredCacheEntriesEnabled( useStructuredCacheEntries );
 
+		boolean useCompactCacheEntries = ConfigurationHelper.getBoolean( Environment.USE_COMPACT_CACHE, properties, false );
+		if ( debugEnabled ) {
+			LOG.debugf( "Compact second-level cache entries: %s", enabledDisabled(useCompactCacheEntries) );
+		}
+		settings.setCompactCacheEntriesEnabled( useCompactCacheEntries );
+
+		boolean useReferenceCacheEntries = ConfigurationHelper.getBoolean( Environment.USE_REFERENCE_CACHE, properties, false );
+		if ( debugEnabled ) {
+			LOG.debugf( "Reference second-level cache entries: %s", enabledDisabled(useReferenceCacheEntries) );
+		}
+		settings.setReferenceCacheEntriesEnabled( useReferenceCacheEntries );
+
 
 		//Statistics and logging:
 
@@ -1692,6 +1692,17 @@ public abstract class Dialect implements ConversionContext {
 		return bool ? "1" : "0";
 	}
 
+	/**
+	 * The JDBC fetch size to use for a {@link org.hibernate.ScrollMode#STREAMING} scroll whose query does
+	 * not specify one, such that the driver fetches the rows a few at a time rather than reading the
+	 * whole result set into memory.
+	 *
+	 * @return The fetch size, or 0 to leave it to the driver.
+	 */
+	public int getStreamingFetchSize() {
+		return 100;
+	}
+
 
 	// identifier quoting support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -366,4 +366,10 @@ public class MySQLDialect extends Dialect {
 	public boolean supportsSubqueryOnMutatingTable() {
 		return false;
 	}
+
+	@Override
+	public int getStreamingFetchSize() {
+		// Connector/J only streams a forward-only, read-only result set row by row with this fetch size
+		return Integer.MIN_VALUE;
+	}
 }
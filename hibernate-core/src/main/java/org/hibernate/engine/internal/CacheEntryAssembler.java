@@ -0,0 +1,267 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
+
+/**
+ * Assembles entities found in the second-level cache, on behalf of the load listener and of the query cache.
+ */
+public final class CacheEntryAssembler {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			CacheEntryAssembler.class.getName()
+	);
+
+	private CacheEntryAssembler() {
+	}
+
+	/**
+	 * Assemble an entity found in the second-level cache along with others, as a batch load from the database
+	 * would have loaded it: any proxy already handed out for it is resolved to it.
+	 *
+	 * @param ce The cache entry
+	 * @param key The key of the entity, which is not associated with the session yet
+	 * @param persister The persister for the entity
+	 * @param session The session
+	 */
+	public static void assembleBatchEntry(
+			final Object ce,
+			final EntityKey key,
+			final EntityPersister persister,
+			final EventSource session) throws HibernateException {
+		final Object entity = assemble( ce, key.getIdentifier(), persister, null, session );
+		final Object proxy = session.getPersistenceContext().proxyFor( persister, key, entity );
+		if ( proxy != entity ) {
+			( (HibernateProxy) proxy ).getHibernateLazyInitializer().setImplementation( entity );
+		}
+	}
+
+	/**
+	 * Assemble an entity found in the second-level cache and associate it with the session.
+	 *
+	 * @param ce The cache entry, as held by the cache region
+	 * @param id The identifier of the entity
+	 * @param persister The persister for the entity
+	 * @param optionalObject The instance to assemble the entity into, or null to instantiate one
+	 * @param session The session
+	 * @return The assembled entity
+	 */
+	public static Object assemble(
+			final Object ce,
+			final Serializable id,
+			final EntityPersister persister,
+			final Object optionalObject,
+			final EventSource session) throws HibernateException {
+		if ( ce instanceof ReferenceCacheEntry ) {
+			final ReferenceCacheEntry entry = (ReferenceCacheEntry) ce;
+			if ( optionalObject == null ) {
+				return associateReferenceCacheEntry( entry, id, persister, session );
+			}
+			// the state has to end up in the given instance: assemble it as if it was cached by value
+			final EntityPersister subclassPersister = session.getFactory().getEntityPersister( entry.getSubclass() );
+			final Object[] state = subclassPersister.getPropertyValues( entry.getReference() );
+			return assembleCacheEntry(
+					new CacheEntry(
+							state,
+							subclassPersister,
+							false,
+							Versioning.getVersion( state, subclassPersister ),
+							session,
+							entry.getReference()
+					),
+					id,
+					persister,
+					optionalObject,
+					session
+			);
+		}
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, session.getFactory() );
+		return assembleCacheEntry( entry, id, persister, optionalObject, session );
+	}
+
+	/**
+	 * Associate the instance held by the cache entry with the session, as is.  It is shared with the other
+	 * sessions which hit the same entry, which is safe as long as it is never modified: it is always
+	 * read-only.
+	 */
+	private static Object associateReferenceCacheEntry(
+			final ReferenceCacheEntry entry,
+			final Serializable id,
+			final EntityPersister persister,
+			final EventSource session) throws HibernateException {
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Resolving entity cached by reference: {0}",
+					MessageHelper.infoString( persister, id, factory ) );
+		}
+
+		final EntityPersister subclassPersister = factory.getEntityPersister( entry.getSubclass() );
+		final Object result = entry.getReference();
+		final Object[] values = subclassPersister.getPropertyValues( result );
+
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		persistenceContext.addEntity( session.generateEntityKey( id, subclassPersister ), result );
+		persistenceContext.addEntry(
+				result,
+				Status.READ_ONLY,
+				values,
+				null,
+				id,
+				Versioning.getVersion( values, subclassPersister ),
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false,
+				false
+			);
+
+		firePostLoad( result, id, persister, session );
+		return result;
+	}
+
+	private static Object assembleCacheEntry(
+			final CacheEntry entry,
+			final Serializable id,
+			final EntityPersister persister,
+			final Object optionalObject,
+			final EventSource session) throws HibernateException {
+
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Assembling entity from second-level cache: {0}",
+					MessageHelper.infoString( persister, id, factory ) );
+		}
+
+		EntityPersister subclassPersister = factory.getEntityPersister( entry.getSubclass() );
+		Object result = optionalObject == null ?
+				session.instantiate( subclassPersister, id ) : optionalObject;
+
+		// make it circular-reference safe
+		final EntityKey entityKey = session.generateEntityKey( id, subclassPersister );
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				result,
+				subclassPersister,
+				LockMode.NONE,
+				entry.areLazyPropertiesUnfetched(),
+				entry.getVersion(),
+				session
+			);
+
+		Type[] types = subclassPersister.getPropertyTypes();
+		Object[] values = entry.assemble( result, id, subclassPersister, session.getInterceptor(), session ); // intializes result by side-effect
+		TypeHelper.deepCopy(
+				values,
+				types,
+				subclassPersister.getPropertyUpdateability(),
+				values,
+				session
+		);
+
+		Object version = Versioning.getVersion( values, subclassPersister );
+		LOG.tracev( "Cached Version: {0}", version );
+
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		boolean isReadOnly = session.isDefaultReadOnly();
+		if ( persister.isMutable() ) {
+			Object proxy = persistenceContext.getProxy( entityKey );
+			if ( proxy != null ) {
+				// there is already a proxy for this impl
+				// only set the status to read-only if the proxy is read-only
+				isReadOnly = ( ( HibernateProxy ) proxy ).getHibernateLazyInitializer().isReadOnly();
+			}
+		}
+		else {
+			isReadOnly = true;
+		}
+		persistenceContext.addEntry(
+				result,
+				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
+				values,
+				null,
+				id,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false,
+				entry.areLazyPropertiesUnfetched()
+			);
+		subclassPersister.afterInitialize( result, entry.areLazyPropertiesUnfetched(), session );
+		persistenceContext.initializeNonLazyCollections();
+		// upgrade the lock if necessary:
+		//lock(result, lockMode);
+
+		firePostLoad( result, id, persister, session );
+		return result;
+	}
+
+	private static void firePostLoad(Object entity, Serializable id, EntityPersister persister, EventSource session) {
+		//PostLoad is needed for EJB3
+		//TODO: reuse the PostLoadEvent...
+		PostLoadEvent postLoadEvent = new PostLoadEvent( session )
+				.setEntity( entity )
+				.setId( id )
+				.setPersister( persister );
+
+		for ( PostLoadEventListener listener : postLoadEventListeners( session ) ) {
+			listener.onPostLoad( postLoadEvent );
+		}
+	}
+
+	private static Iterable<PostLoadEventListener> postLoadEventListeners(EventSource session) {
+		return session
+				.getFactory()
+				.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.POST_LOAD )
+				.listeners();
+	}
+}
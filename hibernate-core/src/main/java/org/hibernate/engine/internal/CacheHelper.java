@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.MultiGetRegionAccessStrategy;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+
+/**
+ * Helper for reading the second-level cache on behalf of the engine.
+ */
+public final class CacheHelper {
+
+	private CacheHelper() {
+	}
+
+	/**
+	 * Retrieve several items from the cache, in a single call if the strategy is a
+	 * {@link MultiGetRegionAccessStrategy}, one {@link RegionAccessStrategy#get} call per key otherwise.
+	 *
+	 * @param accessStrategy The access strategy of the cache region
+	 * @param keys The keys of the items to be retrieved
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @return the cached objects keyed by their keys; keys with no cached (or no readable) object are not included
+	 * @throws CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	public static Map<Object, Object> getAll(
+			RegionAccessStrategy accessStrategy,
+			Collection<?> keys,
+			long txTimestamp) throws CacheException {
+		if ( accessStrategy instanceof MultiGetRegionAccessStrategy ) {
+			return ( (MultiGetRegionAccessStrategy) accessStrategy ).getAll( keys, txTimestamp );
+		}
+		final Map<Object, Object> result = new HashMap<Object, Object>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = accessStrategy.get( key, txTimestamp );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+}
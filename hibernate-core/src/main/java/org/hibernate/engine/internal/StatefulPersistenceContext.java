@@ -30,6 +30,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -147,12 +148,24 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private boolean defaultReadOnly = false;
 	private boolean hasNonReadOnlyEntities = false;
+	private boolean readOnlyContext = false;
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
 
 
+	/**
+	 * Constructs a PersistentContext, bound to the given session, which may be read-only as a whole.
+	 *
+	 * @param session The session "owning" this context.
+	 * @param readOnlyContext Is the context read-only as a whole (see {@link #isReadOnlyContext()})?
+	 */
+	public StatefulPersistenceContext(SessionImplementor session, boolean readOnlyContext) {
+		this( session );
+		this.readOnlyContext = readOnlyContext;
+	}
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -162,28 +175,54 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.session = session;
 
 		entitiesByKey = new HashMap<EntityKey, Object>( INIT_COLL_SIZE );
-		entitiesByUniqueKey = new HashMap<EntityUniqueKey, Object>( INIT_COLL_SIZE );
-		//noinspection unchecked
-		proxiesByKey = new ConcurrentReferenceHashMap<EntityKey, Object>( INIT_COLL_SIZE, .75f, 1, ConcurrentReferenceHashMap.ReferenceType.STRONG, ConcurrentReferenceHashMap.ReferenceType.WEAK, null );
-		entitySnapshotsByKey = new HashMap<EntityKey, Object>( INIT_COLL_SIZE );
 
+		// the identity maps do not allocate anything until their first entry is added
 		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 		parentsByChild = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
 
 		collectionsByKey = new HashMap<CollectionKey, PersistentCollection>( INIT_COLL_SIZE );
-		arrayHolders = new IdentityHashMap<Object, PersistentCollection>( INIT_COLL_SIZE );
 
-		nullifiableEntityKeys = new HashSet<EntityKey>();
+		// entitiesByUniqueKey, proxiesByKey, entitySnapshotsByKey, arrayHolders, nullifiableEntityKeys
+		// and nullAssociations are only needed by some sessions, and are created on first use
 
 		initTransientState();
 	}
 
 	private void initTransientState() {
-		nullAssociations = new HashSet<AssociationKey>( INIT_COLL_SIZE );
+		nullAssociations = null;
 		nonlazyCollections = new ArrayList<PersistentCollection>( INIT_COLL_SIZE );
 	}
 
+	private Map<EntityUniqueKey, Object> entitiesByUniqueKey() {
+		if ( entitiesByUniqueKey == null ) {
+			entitiesByUniqueKey = new HashMap<EntityUniqueKey, Object>( INIT_COLL_SIZE );
+		}
+		return entitiesByUniqueKey;
+	}
+
+	@SuppressWarnings( {"unchecked"})
+	private Map<EntityKey, Object> proxiesByKey() {
+		if ( proxiesByKey == null ) {
+			proxiesByKey = new ConcurrentReferenceHashMap<EntityKey, Object>( INIT_COLL_SIZE, .75f, 1, ConcurrentReferenceHashMap.ReferenceType.STRONG, ConcurrentReferenceHashMap.ReferenceType.WEAK, null );
+		}
+		return proxiesByKey;
+	}
+
+	private Map<EntityKey, Object> entitySnapshotsByKey() {
+		if ( entitySnapshotsByKey == null ) {
+			entitySnapshotsByKey = new HashMap<EntityKey, Object>( INIT_COLL_SIZE );
+		}
+		return entitySnapshotsByKey;
+	}
+
+	private Map<Object, PersistentCollection> arrayHolders() {
+		if ( arrayHolders == null ) {
+			arrayHolders = new IdentityHashMap<Object, PersistentCollection>( INIT_COLL_SIZE );
+		}
+		return arrayHolders;
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -225,29 +264,31 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void clear() {
-		for ( Object o : proxiesByKey.values() ) {
-			if ( o == null ) {
-				//entry may be GCd
-				continue;
+		if ( proxiesByKey != null ) {
+			for ( Object o : proxiesByKey.values() ) {
+				if ( o == null ) {
+					//entry may be GCd
+					continue;
+				}
+				((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
 			}
-			((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
 		}
 		for ( Map.Entry<PersistentCollection, CollectionEntry> aCollectionEntryArray : IdentityMap.concurrentEntries( collectionEntries ) ) {
 			aCollectionEntryArray.getKey().unsetSession( getSession() );
 		}
-		arrayHolders.clear();
+		arrayHolders = null;
 		entitiesByKey.clear();
-		entitiesByUniqueKey.clear();
+		entitiesByUniqueKey = null;
 		entityEntries.clear();
 		parentsByChild.clear();
-		entitySnapshotsByKey.clear();
+		entitySnapshotsByKey = null;
 		collectionsByKey.clear();
 		collectionEntries.clear();
 		if ( unownedCollections != null ) {
 			unownedCollections.clear();
 		}
-		proxiesByKey.clear();
-		nullifiableEntityKeys.clear();
+		proxiesByKey = null;
+		nullifiableEntityKeys = null;
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
@@ -260,7 +301,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public boolean isDefaultReadOnly() {
-		return defaultReadOnly;
+		// whatever the default, everything loaded into a read-only context is read-only
+		return readOnlyContext || defaultReadOnly;
 	}
 
 	@Override
@@ -268,6 +310,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.defaultReadOnly = defaultReadOnly;
 	}
 
+	@Override
+	public boolean isReadOnlyContext() {
+		return readOnlyContext;
+	}
+
 	@Override
 	public boolean hasNonReadOnlyEntities() {
 		return hasNonReadOnlyEntities;
@@ -302,13 +349,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public Object[] getDatabaseSnapshot(Serializable id, EntityPersister persister)
 	throws HibernateException {
 		final EntityKey key = session.generateEntityKey( id, persister );
-		Object cached = entitySnapshotsByKey.get(key);
+		Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get(key);
 		if (cached!=null) {
 			return cached==NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			Object[] snapshot = persister.getDatabaseSnapshot( id, session );
-			entitySnapshotsByKey.put( key, snapshot==null ? NO_ROW : snapshot );
+			entitySnapshotsByKey().put( key, snapshot==null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -378,7 +425,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getCachedDatabaseSnapshot(EntityKey key) {
-		Object snapshot = entitySnapshotsByKey.get( key );
+		Object snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
 		if ( snapshot == NO_ROW ) {
 			throw new IllegalStateException( "persistence context reported no row snapshot for " + MessageHelper.infoString( key.getEntityName(), key.getIdentifier() ) );
 		}
@@ -413,14 +460,20 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public Object removeEntity(EntityKey key) {
 		Object entity = entitiesByKey.remove(key);
-		Iterator iter = entitiesByUniqueKey.values().iterator();
-		while ( iter.hasNext() ) {
-			if ( iter.next()==entity ) iter.remove();
+		if ( entitiesByUniqueKey != null ) {
+			Iterator iter = entitiesByUniqueKey.values().iterator();
+			while ( iter.hasNext() ) {
+				if ( iter.next()==entity ) iter.remove();
+			}
 		}
 		// Clear all parent cache
 		parentsByChild.clear();
-		entitySnapshotsByKey.remove(key);
-		nullifiableEntityKeys.remove(key);
+		if ( entitySnapshotsByKey != null ) {
+			entitySnapshotsByKey.remove(key);
+		}
+		if ( nullifiableEntityKeys != null ) {
+			nullifiableEntityKeys.remove(key);
+		}
 		getBatchFetchQueue().removeBatchLoadableEntityKey(key);
 		getBatchFetchQueue().removeSubselect(key);
 		return entity;
@@ -431,7 +484,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object getEntity(EntityUniqueKey euk) {
-		return entitiesByUniqueKey.get(euk);
+		return entitiesByUniqueKey == null ? null : entitiesByUniqueKey.get(euk);
 	}
 
 	/**
@@ -439,7 +492,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public void addEntity(EntityUniqueKey euk, Object entity) {
-		entitiesByUniqueKey.put(euk, entity);
+		entitiesByUniqueKey().put(euk, entity);
 	}
 
 	/**
@@ -555,7 +608,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public boolean containsProxy(Object entity) {
-		return proxiesByKey.containsValue( entity );
+		return proxiesByKey != null && proxiesByKey.containsValue( entity );
 	}
 
 	/**
@@ -612,7 +665,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			final EntityPersister persister = session.getFactory().getEntityPersister( li.getEntityName() );
 			final EntityKey key = session.generateEntityKey( li.getIdentifier(), persister );
 		  	// any earlier proxy takes precedence
-			if ( !proxiesByKey.containsKey( key ) ) {
+			if ( !proxiesByKey().containsKey( key ) ) {
 				proxiesByKey.put( key, proxy );
 			}
 			proxy.getHibernateLazyInitializer().setSession( session );
@@ -711,12 +764,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			LOG.narrowingProxy( concreteProxyClass );
 
 			if ( object != null ) {
-				proxiesByKey.remove(key);
+				if ( proxiesByKey != null ) {
+					proxiesByKey.remove(key);
+				}
 				return object; //return the proxied object
 			}
 			else {
 				proxy = persister.createProxy( key.getIdentifier(), session );
-				Object proxyOrig = proxiesByKey.put(key, proxy); //overwrite old proxy
+				Object proxyOrig = proxiesByKey().put(key, proxy); //overwrite old proxy
 				if ( proxyOrig != null ) {
 					if ( ! ( proxyOrig instanceof HibernateProxy ) ) {
 						throw new AssertionFailure(
@@ -754,7 +809,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( !persister.hasProxy() ) {
 			return impl;
 		}
-		Object proxy = proxiesByKey.get( key );
+		Object proxy = proxiesByKey == null ? null : proxiesByKey.get( key );
 		return ( proxy != null ) ? narrowProxy( proxy, persister, key, impl ) : impl;
 	}
 
@@ -833,6 +888,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void addUninitializedCollection(CollectionPersister persister, PersistentCollection collection, Serializable id) {
 		CollectionEntry ce = new CollectionEntry(collection, persister, id, flushing);
 		addCollection(collection, ce, id);
+		getBatchFetchQueue().addBatchLoadableCollection( collection, ce );
 	}
 
 	/**
@@ -842,6 +898,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void addUninitializedDetachedCollection(CollectionPersister persister, PersistentCollection collection) {
 		CollectionEntry ce = new CollectionEntry( persister, collection.getKey() );
 		addCollection( collection, ce, collection.getKey() );
+		getBatchFetchQueue().addBatchLoadableCollection( collection, ce );
 	}
 
 	/**
@@ -913,7 +970,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public CollectionEntry addInitializedCollection(CollectionPersister persister, PersistentCollection collection, Serializable id)
 	throws HibernateException {
 		CollectionEntry ce = new CollectionEntry(collection, persister, id, flushing);
-		ce.postInitialize(collection);
+		ce.postInitialize( collection, readOnlyContext );
 		addCollection(collection, ce, id);
 		return ce;
 	}
@@ -966,7 +1023,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public PersistentCollection getCollectionHolder(Object array) {
-		return arrayHolders.get(array);
+		return arrayHolders == null ? null : arrayHolders.get(array);
 	}
 
 	/**
@@ -977,12 +1034,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addCollectionHolder(PersistentCollection holder) {
 		//TODO:refactor + make this method private
-		arrayHolders.put( holder.getValue(), holder );
+		arrayHolders().put( holder.getValue(), holder );
 	}
 
 	@Override
 	public PersistentCollection removeCollectionHolder(Object array) {
-		return arrayHolders.remove(array);
+		return arrayHolders == null ? null : arrayHolders.remove(array);
 	}
 
 	/**
@@ -1029,7 +1086,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object getProxy(EntityKey key) {
-		return proxiesByKey.get(key);
+		return proxiesByKey == null ? null : proxiesByKey.get(key);
 	}
 
 	/**
@@ -1037,7 +1094,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
-		proxiesByKey.put(key, proxy);
+		proxiesByKey().put(key, proxy);
 	}
 
 	/**
@@ -1055,7 +1112,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			batchFetchQueue.removeBatchLoadableEntityKey( key );
 			batchFetchQueue.removeSubselect( key );
 		}
-		return proxiesByKey.remove( key );
+		return proxiesByKey == null ? null : proxiesByKey.remove( key );
 	}
 
 	/**
@@ -1063,6 +1120,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public HashSet getNullifiableEntityKeys() {
+		return nullifiableEntityKeys();
+	}
+
+	private HashSet<EntityKey> nullifiableEntityKeys() {
+		if ( nullifiableEntityKeys == null ) {
+			nullifiableEntityKeys = new HashSet<EntityKey>();
+		}
 		return nullifiableEntityKeys;
 	}
 
@@ -1072,7 +1136,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	}
 
 	public Map getProxiesByKey() {
-		return proxiesByKey;
+		return proxiesByKey();
 	}
 
 	@Override
@@ -1363,6 +1427,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public void addNullProperty(EntityKey ownerKey, String propertyName) {
+		if ( nullAssociations == null ) {
+			nullAssociations = new HashSet<AssociationKey>( INIT_COLL_SIZE );
+		}
 		nullAssociations.add( new AssociationKey(ownerKey, propertyName) );
 	}
 
@@ -1371,11 +1438,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public boolean isPropertyNull(EntityKey ownerKey, String propertyName) {
-		return nullAssociations.contains( new AssociationKey(ownerKey, propertyName) );
+		return nullAssociations != null && nullAssociations.contains( new AssociationKey(ownerKey, propertyName) );
 	}
 
 	private void clearNullProperties() {
-		nullAssociations.clear();
+		nullAssociations = null;
 	}
 
 	@Override
@@ -1402,6 +1469,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( object == null ) {
 			throw new AssertionFailure( "object must be non-null." );
 		}
+		if ( readOnlyContext && !readOnly ) {
+			throw new IllegalStateException( "Cannot make an entity loaded by a read-only session modifiable" );
+		}
 		if ( isReadOnly( object ) == readOnly ) {
 			return;
 		}
@@ -1479,6 +1549,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		oos.writeBoolean( defaultReadOnly );
 		oos.writeBoolean( hasNonReadOnlyEntities );
+		oos.writeBoolean( readOnlyContext );
 
 		oos.writeInt( entitiesByKey.size() );
 		if ( tracing ) LOG.trace("Starting serialization of [" + entitiesByKey.size() + "] entitiesByKey entries");
@@ -1489,27 +1560,31 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			oos.writeObject( entry.getValue() );
 		}
 
-		oos.writeInt( entitiesByUniqueKey.size() );
-		if ( tracing ) LOG.trace("Starting serialization of [" + entitiesByUniqueKey.size() + "] entitiesByUniqueKey entries");
-		itr = entitiesByUniqueKey.entrySet().iterator();
+		// the lazily created maps are not created just to write their (empty) contents
+		final Map<?, ?> uniqueKeyEntities = orEmpty( entitiesByUniqueKey );
+		oos.writeInt( uniqueKeyEntities.size() );
+		if ( tracing ) LOG.trace("Starting serialization of [" + uniqueKeyEntities.size() + "] entitiesByUniqueKey entries");
+		itr = uniqueKeyEntities.entrySet().iterator();
 		while ( itr.hasNext() ) {
 			Map.Entry entry = ( Map.Entry ) itr.next();
 			( ( EntityUniqueKey ) entry.getKey() ).serialize( oos );
 			oos.writeObject( entry.getValue() );
 		}
 
-		oos.writeInt( proxiesByKey.size() );
-		if ( tracing ) LOG.trace("Starting serialization of [" + proxiesByKey.size() + "] proxiesByKey entries");
-		itr = proxiesByKey.entrySet().iterator();
+		final Map<?, ?> proxies = orEmpty( proxiesByKey );
+		oos.writeInt( proxies.size() );
+		if ( tracing ) LOG.trace("Starting serialization of [" + proxies.size() + "] proxiesByKey entries");
+		itr = proxies.entrySet().iterator();
 		while ( itr.hasNext() ) {
 			Map.Entry entry = ( Map.Entry ) itr.next();
 			( (EntityKey) entry.getKey() ).serialize( oos );
 			oos.writeObject( entry.getValue() );
 		}
 
-		oos.writeInt( entitySnapshotsByKey.size() );
-		if ( tracing ) LOG.trace("Starting serialization of [" + entitySnapshotsByKey.size() + "] entitySnapshotsByKey entries");
-		itr = entitySnapshotsByKey.entrySet().iterator();
+		final Map<?, ?> snapshots = orEmpty( entitySnapshotsByKey );
+		oos.writeInt( snapshots.size() );
+		if ( tracing ) LOG.trace("Starting serialization of [" + snapshots.size() + "] entitySnapshotsByKey entries");
+		itr = snapshots.entrySet().iterator();
 		while ( itr.hasNext() ) {
 			Map.Entry entry = ( Map.Entry ) itr.next();
 			( ( EntityKey ) entry.getKey() ).serialize( oos );
@@ -1543,20 +1618,30 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			( ( CollectionEntry ) entry.getValue() ).serialize( oos );
 		}
 
-		oos.writeInt( arrayHolders.size() );
-		if ( tracing ) LOG.trace("Starting serialization of [" + arrayHolders.size() + "] arrayHolders entries");
-		itr = arrayHolders.entrySet().iterator();
+		final Map<?, ?> holders = orEmpty( arrayHolders );
+		oos.writeInt( holders.size() );
+		if ( tracing ) LOG.trace("Starting serialization of [" + holders.size() + "] arrayHolders entries");
+		itr = holders.entrySet().iterator();
 		while ( itr.hasNext() ) {
 			Map.Entry entry = ( Map.Entry ) itr.next();
 			oos.writeObject( entry.getKey() );
 			oos.writeObject( entry.getValue() );
 		}
 
-		oos.writeInt( nullifiableEntityKeys.size() );
-		if ( tracing ) LOG.trace("Starting serialization of [" + nullifiableEntityKeys.size() + "] nullifiableEntityKey entries");
-		for ( EntityKey entry : nullifiableEntityKeys ) {
-			entry.serialize( oos );
+		if ( nullifiableEntityKeys == null ) {
+			oos.writeInt( 0 );
 		}
+		else {
+			oos.writeInt( nullifiableEntityKeys.size() );
+			if ( tracing ) LOG.trace("Starting serialization of [" + nullifiableEntityKeys.size() + "] nullifiableEntityKey entries");
+			for ( EntityKey entry : nullifiableEntityKeys ) {
+				entry.serialize( oos );
+			}
+		}
+	}
+
+	private static Map<?, ?> orEmpty(Map<?, ?> map) {
+		return map == null ? Collections.emptyMap() : map;
 	}
 
 	public static StatefulPersistenceContext deserialize(
@@ -1575,6 +1660,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			rtn.defaultReadOnly = ois.readBoolean();
 			// todo : we can actually just determine this from the incoming EntityEntry-s
 			rtn.hasNonReadOnlyEntities = ois.readBoolean();
+			rtn.readOnlyContext = ois.readBoolean();
 
 			int count = ois.readInt();
 			if ( tracing ) LOG.trace("Starting deserialization of [" + count + "] entitiesByKey entries");
@@ -1644,6 +1730,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				final CollectionEntry ce = CollectionEntry.deserialize( ois, session );
 				pc.setCurrentSession( session );
 				rtn.collectionEntries.put( pc, ce );
+				if ( !pc.wasInitialized() && ce.getLoadedPersister() != null ) {
+					rtn.getBatchFetchQueue().addBatchLoadableCollection( pc, ce );
+				}
 			}
 
 			count = ois.readInt();
@@ -34,6 +34,7 @@ import org.hibernate.LockMode;
 import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -48,6 +49,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.property.BackrefPropertyAccessor;
@@ -196,14 +198,22 @@ public final class TwoPhaseLoad {
 			}
 
 			Object version = Versioning.getVersion(hydratedState, persister);
-			CacheEntry entry = new CacheEntry(
-					hydratedState,
-					persister,
-					entityEntry.isLoadedWithLazyPropertiesUnfetched(),
-					version,
-					session,
-					entity
-			);
+			final Object cacheEntry;
+			if ( persister instanceof AbstractEntityPersister
+					&& ( (AbstractEntityPersister) persister ).canUseReferenceCacheEntries() ) {
+				cacheEntry = new ReferenceCacheEntry( entity, persister.getEntityName() );
+			}
+			else {
+				CacheEntry entry = new CacheEntry(
+						hydratedState,
+						persister,
+						entityEntry.isLoadedWithLazyPropertiesUnfetched(),
+						version,
+						session,
+						entity
+				);
+				cacheEntry = persister.getCacheEntryStructure().structure( entry );
+			}
 			CacheKey cacheKey = session.generateCacheKey( id, persister.getIdentifierType(), persister.getRootEntityName() );
 
 			// explicit handling of caching for rows just inserted and then somehow forced to be read
@@ -215,21 +225,24 @@ public final class TwoPhaseLoad {
 			if ( session.getPersistenceContext().wasInsertedDuringTransaction( persister, id ) ) {
 				persister.getCacheAccessStrategy().update(
 						cacheKey,
-						persister.getCacheEntryStructure().structure( entry ),
+						cacheEntry,
 						version,
 						version
 				);
 			}
 			else {
+				final boolean stats = factory.getStatistics().isStatisticsEnabled();
+				final long startTime = stats ? System.nanoTime() : 0;
 				boolean put = persister.getCacheAccessStrategy().putFromLoad(
 						cacheKey,
-						persister.getCacheEntryStructure().structure( entry ),
+						cacheEntry,
 						session.getTimestamp(),
 						version,
 						useMinimalPuts( session, entityEntry )
 				);
 
-				if ( put && factory.getStatistics().isStatisticsEnabled() ) {
+				if ( put && stats ) {
+					factory.getStatisticsImplementor().secondLevelCachePutTime( System.nanoTime() - startTime );
 					factory.getStatisticsImplementor().secondLevelCachePut( persister.getCacheAccessStrategy().getRegion().getName() );
 				}
 			}
@@ -244,7 +257,8 @@ public final class TwoPhaseLoad {
 		}
 
 		boolean isReallyReadOnly = readOnly;
-		if ( !persister.isMutable() ) {
+		if ( !persister.isMutable() || persistenceContext.isReadOnlyContext() ) {
+			// a read-only session never makes loaded entities modifiable, even if a query asked to
 			isReallyReadOnly = true;
 		}
 		else {
@@ -112,6 +112,11 @@ public abstract class AbstractBatchImpl implements Batch {
 		return key;
 	}
 
+	@Override
+	public boolean join(BatchKey key) {
+		return this.key.equals( key );
+	}
+
 	@Override
 	public void addObserver(BatchObserver observer) {
 		observers.add( observer );
@@ -46,6 +46,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, BatchBuilderImpl.class.getName() );
 
 	private int size;
+	private boolean groupStatements;
 
 	public BatchBuilderImpl() {
 	}
@@ -53,21 +54,35 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 	@Override
 	public void configure(Map configurationValues) {
 		size = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, size );
+		groupStatements = ConfigurationHelper.getBoolean(
+				Environment.BATCH_MULTIPLE_STATEMENTS,
+				configurationValues,
+				groupStatements
+		);
 	}
 
 	public BatchBuilderImpl(int size) {
 		this.size = size;
 	}
 
+	public BatchBuilderImpl(int size, boolean groupStatements) {
+		this.size = size;
+		this.groupStatements = groupStatements;
+	}
+
 	public void setJdbcBatchSize(int size) {
 		this.size = size;
 	}
 
+	public void setGroupStatements(boolean groupStatements) {
+		this.groupStatements = groupStatements;
+	}
+
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
-		LOG.tracef( "Building batch [size=%s]", size );
+		LOG.tracef( "Building batch [size=%s, grouped=%s]", size, groupStatements );
 		return size > 1
-				? new BatchingBatch( key, jdbcCoordinator, size )
+				? new BatchingBatch( key, jdbcCoordinator, size, groupStatements )
 				: new NonBatchingBatch( key, jdbcCoordinator );
 	}
 
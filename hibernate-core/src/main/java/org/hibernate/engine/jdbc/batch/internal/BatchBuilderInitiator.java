@@ -52,7 +52,8 @@ public class BatchBuilderInitiator implements BasicServiceInitiator<BatchBuilder
 		final Object builder = configurationValues.get( BUILDER );
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( Environment.BATCH_MULTIPLE_STATEMENTS, configurationValues, false )
 			);
 		}
 
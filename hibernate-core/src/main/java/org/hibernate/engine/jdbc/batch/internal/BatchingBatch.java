@@ -24,6 +24,8 @@
 package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.jboss.logging.Logger;
@@ -36,6 +38,12 @@ import org.hibernate.internal.CoreMessageLogger;
 /**
  * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which does bathing based on a given size.  Once
  * the batch size is reached for a statement in the batch, the entire batch is implicitly executed.
+ * <p/>
+ * When statement grouping is enabled, a batch started for an {@link InsertBatchKey} will also accept other insert
+ * keys (see {@link #join}), keeping one open statement per SQL string.  The statements are executed in the order in
+ * which they were first added to the batch; should adding a row to an earlier statement mean it would be executed
+ * ahead of a row it depends upon (according to {@link InsertBatchKey#dependsOn}), the batch is implicitly executed
+ * first.
  *
  * @author Steve Ebersole
  */
@@ -43,33 +51,108 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, BatchingBatch.class.getName() );
 
-	// IMPL NOTE : Until HHH-5797 is fixed, there will only be 1 statement in a batch
-
 	private final int batchSize;
+	private final boolean groupStatements;
 	private int batchPosition;
 	private int statementPosition;
 
+	private BatchKey currentKey;
+	private final Map<String,BatchKey> statementKeys = new HashMap<String,BatchKey>();
+	private final Map<String,Integer> statementRowCounts = new HashMap<String,Integer>();
+
 	public BatchingBatch(
 			BatchKey key,
 			JdbcCoordinator jdbcCoordinator,
 			int batchSize) {
+		this( key, jdbcCoordinator, batchSize, false );
+	}
+
+	public BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			boolean groupStatements) {
 		super( key, jdbcCoordinator );
 		if ( ! key.getExpectation().canBeBatched() ) {
 			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
 		}
 		this.batchSize = batchSize;
+		this.groupStatements = groupStatements;
+		this.currentKey = key;
 	}
 
 	private String currentStatementSql;
 	private PreparedStatement currentStatement;
 
+	@Override
+	public boolean join(BatchKey key) {
+		if ( currentKey.equals( key ) ) {
+			return true;
+		}
+		if ( !groupStatements
+				|| !InsertBatchKey.class.isInstance( currentKey )
+				|| !InsertBatchKey.class.isInstance( key )
+				|| !key.getExpectation().canBeBatched() ) {
+			return false;
+		}
+		if ( statementPosition != 0 ) {
+			// in the middle of a multi-statement "row"
+			return false;
+		}
+		LOG.tracef( "Joining batch key [%s] to existing batch", key );
+		currentKey = key;
+		return true;
+	}
+
 	@Override
 	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( batchPosition > 0 && wouldReorderDependency( sql ) ) {
+			LOG.debugf( "Executing batch early to preserve statement dependency order : %s", sql );
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
 		currentStatementSql = sql;
 		currentStatement = super.getBatchStatement( sql, callable );
+		if ( !statementKeys.containsKey( sql ) ) {
+			statementKeys.put( sql, currentKey );
+		}
 		return currentStatement;
 	}
 
+	/**
+	 * Would adding a row for the current key to the (already batched) statement for the given SQL mean that row gets
+	 * executed before a row it depends on?  That is the case if any statement batched <i>after</i> the given one
+	 * writes to a table the current key references.
+	 */
+	private boolean wouldReorderDependency(String sql) {
+		if ( !groupStatements || !InsertBatchKey.class.isInstance( currentKey ) ) {
+			return false;
+		}
+		final InsertBatchKey insertKey = (InsertBatchKey) currentKey;
+		boolean found = false;
+		final Iterator<String> statementSqls = getStatements().keySet().iterator();
+		while ( statementSqls.hasNext() ) {
+			final String statementSql = statementSqls.next();
+			if ( found ) {
+				final BatchKey laterKey = statementKeys.get( statementSql );
+				if ( InsertBatchKey.class.isInstance( laterKey )
+						&& rowCount( statementSql ) > 0
+						&& insertKey.dependsOn( (InsertBatchKey) laterKey ) ) {
+					return true;
+				}
+			}
+			else if ( statementSql.equals( sql ) ) {
+				found = true;
+			}
+		}
+		return false;
+	}
+
+	private int rowCount(String sql) {
+		final Integer count = statementRowCounts.get( sql );
+		return count == null ? 0 : count;
+	}
+
 	@Override
 	public void addToBatch() {
 		try {
@@ -79,35 +162,45 @@ public class BatchingBatch extends AbstractBatchImpl {
 			LOG.debugf( "SQLException escaped proxy", e );
 			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
 		}
+		final int rowCount = rowCount( currentStatementSql ) + 1;
+		statementRowCounts.put( currentStatementSql, rowCount );
 		statementPosition++;
-		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
+		if ( statementPosition >= currentKey.getBatchedStatementCount() ) {
 			batchPosition++;
-			if ( batchPosition == batchSize ) {
+			statementPosition = 0;
+			if ( rowCount == batchSize ) {
 				notifyObserversImplicitExecution();
 				performExecution();
-				batchPosition = 0;
 			}
-			statementPosition = 0;
 		}
 	}
 
 	@Override
 	protected void doExecuteBatch() {
-		if ( batchPosition == 0 ) {
-			LOG.debug( "No batched statements to execute" );
+		try {
+			if ( batchPosition == 0 ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+			else {
+				LOG.debugf( "Executing batch size: %s", batchPosition );
+				performExecution();
+			}
 		}
-		else {
-			LOG.debugf( "Executing batch size: %s", batchPosition );
-			performExecution();
+		finally {
+			// the statements are released after explicit execution
+			statementKeys.clear();
 		}
 	}
 
 	private void performExecution() {
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
+				if ( rowCount( entry.getKey() ) == 0 ) {
+					continue;
+				}
 				try {
 					final PreparedStatement statement = entry.getValue();
-					checkRowCounts( statement.executeBatch(), statement );
+					checkRowCounts( statement.executeBatch(), statement, entry.getKey() );
 				}
 				catch ( SQLException e ) {
 					LOG.debug( "SQLException escaped proxy", e );
@@ -121,16 +214,28 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 		finally {
 			batchPosition = 0;
+			statementRowCounts.clear();
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
+	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, String sql) throws SQLException, HibernateException {
 		int numberOfRowCounts = rowCounts.length;
-		if ( numberOfRowCounts != batchPosition ) {
+		if ( numberOfRowCounts != rowCount( sql ) ) {
 			LOG.unexpectedRowCounts();
 		}
+		final BatchKey key = statementKeys.containsKey( sql ) ? statementKeys.get( sql ) : getKey();
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
-			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i );
+			key.getExpectation().verifyOutcome( rowCounts[i], ps, i );
 		}
 	}
-}
\ No newline at end of file
+
+	@Override
+	public void release() {
+		super.release();
+		statementKeys.clear();
+		statementRowCounts.clear();
+		batchPosition = 0;
+		statementPosition = 0;
+		currentKey = getKey();
+	}
+}
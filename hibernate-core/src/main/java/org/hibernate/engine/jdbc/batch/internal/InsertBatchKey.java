@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.BatchKey} for INSERT statements which knows the table it inserts into
+ * and the tables that table references through foreign keys.  This allows a {@link BatchingBatch} to keep the
+ * inserts for multiple tables open at once while still executing them in an order which satisfies those foreign keys.
+ */
+public class InsertBatchKey extends BasicBatchKey {
+	private final String tableName;
+	private final Set<String> referencedTableNames;
+
+	public InsertBatchKey(
+			String comparison,
+			Expectation expectation,
+			String tableName,
+			Set<String> referencedTableNames) {
+		super( comparison, expectation );
+		this.tableName = tableName;
+		this.referencedTableNames = referencedTableNames == null
+				? Collections.<String>emptySet()
+				: Collections.unmodifiableSet( referencedTableNames );
+	}
+
+	/**
+	 * The name of the table into which the keyed statements insert.
+	 *
+	 * @return The table name
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * The names of the tables referenced (through foreign keys) by {@link #getTableName() the table}.
+	 *
+	 * @return The referenced table names
+	 */
+	public Set<String> getReferencedTableNames() {
+		return referencedTableNames;
+	}
+
+	/**
+	 * Do rows inserted by the statements keyed by this key (possibly) depend on rows inserted by statements keyed
+	 * by the other key?
+	 *
+	 * @param other The other key
+	 *
+	 * @return {@code true} if rows for this key must be inserted after the rows for the other key
+	 */
+	public boolean dependsOn(InsertBatchKey other) {
+		return referencedTableNames.contains( other.tableName );
+	}
+
+	@Override
+	public String toString() {
+		return "InsertBatchKey(" + tableName + ")";
+	}
+}
@@ -41,6 +41,17 @@ public interface Batch {
 	 */
 	public BatchKey getKey();
 
+	/**
+	 * Attempts to make statements identified by the given key part of this batch, so that they can be added to
+	 * it without first executing the statements already batched.
+	 *
+	 * @param key The key identifying the statements about to be batched.
+	 *
+	 * @return {@code true} if this batch accepted the key (subsequent statements are batched here); {@code false}
+	 * if this batch must be executed before statements for that key can be batched.
+	 */
+	public boolean join(BatchKey key);
+
 	/**
 	 * Adds an observer to this batch.
 	 *
@@ -144,7 +144,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public Batch getBatch(BatchKey key) {
 		if ( currentBatch != null ) {
-			if ( currentBatch.getKey().equals( key ) ) {
+			if ( currentBatch.join( key ) ) {
 				return currentBatch;
 			}
 			else {
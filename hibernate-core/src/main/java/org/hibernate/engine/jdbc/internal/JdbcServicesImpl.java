@@ -180,6 +180,7 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 		final boolean showSQL = ConfigurationHelper.getBoolean( Environment.SHOW_SQL, configValues, false );
 		final boolean formatSQL = ConfigurationHelper.getBoolean( Environment.FORMAT_SQL, configValues, false );
+		final int logSlowQuery = ConfigurationHelper.getInt( Environment.LOG_SLOW_QUERY, configValues, 0 );
 
 		this.dialect = dialect;
 		this.lobCreatorBuilder = (
@@ -188,7 +189,7 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 						lobCreatorBuilder
 		);
 
-		this.sqlStatementLogger =  new SqlStatementLogger( showSQL, formatSQL );
+		this.sqlStatementLogger =  new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
 
 		this.extractedMetaDataSupport = new ExtractedDatabaseMetaDataImpl(
 				metaSupportsScrollable,
@@ -123,7 +123,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			String sql,
 			final boolean isCallable,
 			final ScrollMode scrollMode) {
-		if ( scrollMode != null && !scrollMode.equals( ScrollMode.FORWARD_ONLY ) ) {
+		if ( scrollMode != null && scrollMode.toResultSetType() != ResultSet.TYPE_FORWARD_ONLY ) {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
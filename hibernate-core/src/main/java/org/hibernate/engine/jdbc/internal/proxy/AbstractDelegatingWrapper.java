@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+
+/**
+ * Basic support for the concrete JDBC wrappers handed out by a logical connection.  Each wrapper delegates
+ * straight to its JDBC counterpart, converting any {@link SQLException} into a {@link JDBCException}.
+ */
+public abstract class AbstractDelegatingWrapper {
+	private final int hashCode;
+	private final JdbcServices jdbcServices;
+	private boolean valid = true;
+
+	protected AbstractDelegatingWrapper(int hashCode, JdbcServices jdbcServices) {
+		this.hashCode = hashCode;
+		this.jdbcServices = jdbcServices;
+	}
+
+	protected final JdbcServices getJdbcServices() {
+		return jdbcServices;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "[valid=" + valid + "]";
+	}
+
+	@Override
+	public final int hashCode() {
+		return hashCode;
+	}
+
+	protected final boolean isValid() {
+		return valid;
+	}
+
+	protected final void markInvalid() {
+		valid = false;
+	}
+
+	protected final void errorIfInvalid() {
+		if ( !isValid() ) {
+			throw new HibernateException( "proxy handle is no longer valid" );
+		}
+	}
+
+	protected final JDBCException convert(SQLException e) {
+		return jdbcServices.getSqlExceptionHelper().convert( e, e.getMessage() );
+	}
+
+	/**
+	 * Invokes a method introduced after JDBC 4.0 (by JDBC 4.1 or 4.2), which we cannot call directly since the
+	 * runtime JDBC version may not define it yet.  These are rarely used, so the cost of reflection is acceptable
+	 * here.
+	 *
+	 * @param jdbcInterface The JDBC interface declaring the method
+	 * @param delegate The JDBC object to invoke the method on
+	 * @param methodName The method name
+	 * @param parameterTypes The method parameter types
+	 * @param args The method arguments
+	 *
+	 * @return The method result
+	 *
+	 * @throws SQLException If the runtime JDBC version does not define the method
+	 */
+	protected final Object invokeReflectively(
+			Class jdbcInterface,
+			Object delegate,
+			String methodName,
+			Class[] parameterTypes,
+			Object... args) throws SQLException {
+		final Method method;
+		try {
+			method = jdbcInterface.getMethod( methodName, parameterTypes );
+		}
+		catch ( NoSuchMethodException e ) {
+			throw new SQLFeatureNotSupportedException( jdbcInterface.getName() + "#" + methodName + " requires a later JDBC version" );
+		}
+		try {
+			return method.invoke( delegate, args );
+		}
+		catch ( InvocationTargetException e ) {
+			final Throwable cause = e.getTargetException();
+			if ( cause instanceof SQLException ) {
+				throw convert( (SQLException) cause );
+			}
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new JdbcProxyException( "Unexpected exception calling " + methodName, cause );
+		}
+		catch ( IllegalAccessException e ) {
+			throw new JdbcProxyException( "Could not call " + methodName, e );
+		}
+	}
+}
@@ -0,0 +1,1411 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * The {@link CallableStatement} handed out by {@link DelegatingConnection}.
+ */
+public class DelegatingCallableStatement extends DelegatingPreparedStatement implements CallableStatement {
+	DelegatingCallableStatement(String sql, CallableStatement statement, DelegatingConnection connection) {
+		super( sql, statement, connection );
+	}
+
+	protected final CallableStatement callableStatement() {
+		return (CallableStatement) statement();
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		// the dialect knows how to extract the result set, which is not registered
+		final long start = executionStart();
+		final ResultSet resultSet = getJdbcServices().getDialect().getResultSet( callableStatement() );
+		afterExecution( getSql(), start, -1 );
+		return resultSet;
+	}
+
+	@Override
+	public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterIndex, sqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterIndex, sqlType, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		try {
+			return callableStatement().wasNull();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getString(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getString( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getBoolean(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getBoolean( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte getByte(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getByte( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public short getShort(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getShort( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getInt(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getInt( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public long getLong(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getLong( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public float getFloat(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getFloat( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public double getDouble(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getDouble( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+		try {
+			return callableStatement().getBigDecimal( parameterIndex, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte[] getBytes(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getBytes( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getDate( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getTime( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getTimestamp( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getObject( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getBigDecimal( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return callableStatement().getObject( parameterIndex, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Ref getRef(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getRef( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Blob getBlob(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getBlob( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Clob getClob(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getClob( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Array getArray(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getArray( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getDate( parameterIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getTime( parameterIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getTimestamp( parameterIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void registerOutParameter(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterIndex, sqlType, typeName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterName, sqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterName, sqlType, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException {
+		try {
+			callableStatement().registerOutParameter( parameterName, sqlType, typeName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public URL getURL(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getURL( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setURL(String parameterName, URL val) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setURL", parameterName, val );
+		}
+		try {
+			callableStatement().setURL( parameterName, val );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNull(String parameterName, int sqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNull", parameterName, sqlType );
+		}
+		try {
+			callableStatement().setNull( parameterName, sqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBoolean(String parameterName, boolean x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBoolean", parameterName, x );
+		}
+		try {
+			callableStatement().setBoolean( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setByte(String parameterName, byte x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setByte", parameterName, x );
+		}
+		try {
+			callableStatement().setByte( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setShort(String parameterName, short x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setShort", parameterName, x );
+		}
+		try {
+			callableStatement().setShort( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setInt(String parameterName, int x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setInt", parameterName, x );
+		}
+		try {
+			callableStatement().setInt( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setLong(String parameterName, long x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setLong", parameterName, x );
+		}
+		try {
+			callableStatement().setLong( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFloat(String parameterName, float x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setFloat", parameterName, x );
+		}
+		try {
+			callableStatement().setFloat( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDouble(String parameterName, double x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDouble", parameterName, x );
+		}
+		try {
+			callableStatement().setDouble( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBigDecimal", parameterName, x );
+		}
+		try {
+			callableStatement().setBigDecimal( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setString(String parameterName, String x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setString", parameterName, x );
+		}
+		try {
+			callableStatement().setString( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBytes(String parameterName, byte[] x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBytes", parameterName, x );
+		}
+		try {
+			callableStatement().setBytes( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDate(String parameterName, Date x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDate", parameterName, x );
+		}
+		try {
+			callableStatement().setDate( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTime(String parameterName, Time x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTime", parameterName, x );
+		}
+		try {
+			callableStatement().setTime( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTimestamp", parameterName, x );
+		}
+		try {
+			callableStatement().setTimestamp( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterName, x, length );
+		}
+		try {
+			callableStatement().setAsciiStream( parameterName, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterName, x, length );
+		}
+		try {
+			callableStatement().setBinaryStream( parameterName, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterName, x, targetSqlType, scale );
+		}
+		try {
+			callableStatement().setObject( parameterName, x, targetSqlType, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterName, x, targetSqlType );
+		}
+		try {
+			callableStatement().setObject( parameterName, x, targetSqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(String parameterName, Object x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterName, x );
+		}
+		try {
+			callableStatement().setObject( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterName, reader, length );
+		}
+		try {
+			callableStatement().setCharacterStream( parameterName, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDate", parameterName, x, cal );
+		}
+		try {
+			callableStatement().setDate( parameterName, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTime", parameterName, x, cal );
+		}
+		try {
+			callableStatement().setTime( parameterName, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTimestamp", parameterName, x, cal );
+		}
+		try {
+			callableStatement().setTimestamp( parameterName, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNull", parameterName, sqlType, typeName );
+		}
+		try {
+			callableStatement().setNull( parameterName, sqlType, typeName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getString(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getString( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getBoolean(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getBoolean( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte getByte(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getByte( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public short getShort(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getShort( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getInt(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getInt( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public long getLong(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getLong( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public float getFloat(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getFloat( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public double getDouble(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getDouble( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte[] getBytes(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getBytes( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getDate( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getTime( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getTimestamp( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getObject( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getBigDecimal( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return callableStatement().getObject( parameterName, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Ref getRef(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getRef( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Blob getBlob(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getBlob( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Clob getClob(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getClob( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Array getArray(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getArray( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(String parameterName, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getDate( parameterName, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(String parameterName, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getTime( parameterName, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+		try {
+			return callableStatement().getTimestamp( parameterName, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public URL getURL(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getURL( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public RowId getRowId(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getRowId( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public RowId getRowId(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getRowId( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setRowId(String parameterName, RowId x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setRowId", parameterName, x );
+		}
+		try {
+			callableStatement().setRowId( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNString(String parameterName, String value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNString", parameterName, value );
+		}
+		try {
+			callableStatement().setNString( parameterName, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNCharacterStream", parameterName, value, length );
+		}
+		try {
+			callableStatement().setNCharacterStream( parameterName, value, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(String parameterName, NClob value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterName, value );
+		}
+		try {
+			callableStatement().setNClob( parameterName, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterName, reader, length );
+		}
+		try {
+			callableStatement().setClob( parameterName, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterName, inputStream, length );
+		}
+		try {
+			callableStatement().setBlob( parameterName, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterName, reader, length );
+		}
+		try {
+			callableStatement().setNClob( parameterName, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public NClob getNClob(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getNClob( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public NClob getNClob(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getNClob( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setSQLXML", parameterName, xmlObject );
+		}
+		try {
+			callableStatement().setSQLXML( parameterName, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getSQLXML( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLXML getSQLXML(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getSQLXML( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getNString(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getNString( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getNString(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getNString( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getNCharacterStream(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getNCharacterStream( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getNCharacterStream(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getNCharacterStream( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getCharacterStream(int parameterIndex) throws SQLException {
+		try {
+			return callableStatement().getCharacterStream( parameterIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getCharacterStream(String parameterName) throws SQLException {
+		try {
+			return callableStatement().getCharacterStream( parameterName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(String parameterName, Blob x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterName, x );
+		}
+		try {
+			callableStatement().setBlob( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(String parameterName, Clob x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterName, x );
+		}
+		try {
+			callableStatement().setClob( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterName, x, length );
+		}
+		try {
+			callableStatement().setAsciiStream( parameterName, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterName, x, length );
+		}
+		try {
+			callableStatement().setBinaryStream( parameterName, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterName, reader, length );
+		}
+		try {
+			callableStatement().setCharacterStream( parameterName, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterName, x );
+		}
+		try {
+			callableStatement().setAsciiStream( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterName, x );
+		}
+		try {
+			callableStatement().setBinaryStream( parameterName, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterName, reader );
+		}
+		try {
+			callableStatement().setCharacterStream( parameterName, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNCharacterStream", parameterName, value );
+		}
+		try {
+			callableStatement().setNCharacterStream( parameterName, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(String parameterName, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterName, reader );
+		}
+		try {
+			callableStatement().setClob( parameterName, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterName, inputStream );
+		}
+		try {
+			callableStatement().setBlob( parameterName, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(String parameterName, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterName, reader );
+		}
+		try {
+			callableStatement().setNClob( parameterName, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	// JDBC 4.1 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@SuppressWarnings({ "unchecked" })
+	public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+		return (T) invokeReflectively( CallableStatement.class, callableStatement(), "getObject", new Class[] { int.class, Class.class }, parameterIndex, type );
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+		return (T) invokeReflectively( CallableStatement.class, callableStatement(), "getObject", new Class[] { String.class, Class.class }, parameterName, type );
+	}
+
+	// JDBC 4.2 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void setObject(String parameterName, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterName, x, targetSqlType, scaleOrLength );
+		}
+		invokeReflectively( CallableStatement.class, callableStatement(), "setObject", new Class[] { String.class, Object.class, SQLType.class, int.class }, parameterName, x, targetSqlType, scaleOrLength );
+	}
+
+	public void setObject(String parameterName, Object x, SQLType targetSqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterName, x, targetSqlType );
+		}
+		invokeReflectively( CallableStatement.class, callableStatement(), "setObject", new Class[] { String.class, Object.class, SQLType.class }, parameterName, x, targetSqlType );
+	}
+
+	public void registerOutParameter(int parameterIndex, SQLType sqlType) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { int.class, SQLType.class }, parameterIndex, sqlType );
+	}
+
+	public void registerOutParameter(int parameterIndex, SQLType sqlType, int scaleOrLength) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { int.class, SQLType.class, int.class }, parameterIndex, sqlType, scaleOrLength );
+	}
+
+	public void registerOutParameter(int parameterIndex, SQLType sqlType, String typeName) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { int.class, SQLType.class, String.class }, parameterIndex, sqlType, typeName );
+	}
+
+	public void registerOutParameter(String parameterName, SQLType sqlType) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { String.class, SQLType.class }, parameterName, sqlType );
+	}
+
+	public void registerOutParameter(String parameterName, SQLType sqlType, int scaleOrLength) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { String.class, SQLType.class, int.class }, parameterName, sqlType, scaleOrLength );
+	}
+
+	public void registerOutParameter(String parameterName, SQLType sqlType, String typeName) throws SQLException {
+		invokeReflectively( CallableStatement.class, callableStatement(), "registerOutParameter", new Class[] { String.class, SQLType.class, String.class }, parameterName, sqlType, typeName );
+	}
+}
@@ -0,0 +1,647 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.engine.jdbc.spi.JdbcResourceRegistry;
+import org.hibernate.engine.jdbc.spi.JdbcWrapper;
+import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.engine.jdbc.spi.NonDurableConnectionObserver;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The {@link Connection} handed out by a logical connection.  Delegates to whatever physical connection the
+ * logical connection currently holds, and registers the statements it creates with the resource registry.
+ */
+public class DelegatingConnection
+		extends AbstractDelegatingWrapper
+		implements Connection, JdbcWrapper<Connection>, NonDurableConnectionObserver {
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DelegatingConnection.class.getName() );
+
+	private final JdbcResourceRegistry resourceRegistry;
+	private LogicalConnectionImplementor logicalConnection;
+
+	DelegatingConnection(LogicalConnectionImplementor logicalConnection) {
+		super( logicalConnection.hashCode(), logicalConnection.getJdbcServices() );
+		this.resourceRegistry = logicalConnection.getResourceRegistry();
+		this.logicalConnection = logicalConnection;
+		this.logicalConnection.addObserver( this );
+	}
+
+	LogicalConnectionImplementor getLogicalConnection() {
+		errorIfInvalid();
+		return logicalConnection;
+	}
+
+	JdbcResourceRegistry getResourceRegistry() {
+		return resourceRegistry;
+	}
+
+	private Connection physicalConnection() {
+		errorIfInvalid();
+		return logicalConnection.getConnection();
+	}
+
+	@Override
+	public Connection getWrappedObject() {
+		return physicalConnection();
+	}
+
+	private Statement wrapStatement(Statement statement) {
+		final DelegatingStatement wrapper = new DelegatingStatement( statement, this, false );
+		resourceRegistry.register( wrapper );
+		return wrapper;
+	}
+
+	private PreparedStatement wrapPreparedStatement(String sql, PreparedStatement statement) {
+		final DelegatingPreparedStatement wrapper = new DelegatingPreparedStatement( sql, statement, this );
+		logicalConnection.notifyObserversStatementPrepared();
+		resourceRegistry.register( wrapper );
+		return wrapper;
+	}
+
+	private CallableStatement wrapCallableStatement(String sql, CallableStatement statement) {
+		final DelegatingCallableStatement wrapper = new DelegatingCallableStatement( sql, statement, this );
+		logicalConnection.notifyObserversStatementPrepared();
+		resourceRegistry.register( wrapper );
+		return wrapper;
+	}
+
+	private DatabaseMetaData wrapMetaData(DatabaseMetaData metaData) {
+		return new DelegatingDatabaseMetaData( metaData, this );
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if ( isValid() ) {
+			invalidateHandle();
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return !isValid();
+	}
+
+	private void invalidateHandle() {
+		LOG.trace( "Invalidating connection handle" );
+		logicalConnection = null;
+		markInvalid();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		try {
+			return physicalConnection().unwrap( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		try {
+			return physicalConnection().isWrapperFor( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Statement createStatement() throws SQLException {
+		try {
+			return wrapStatement( physicalConnection().createStatement() );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		try {
+			return wrapCallableStatement( sql, physicalConnection().prepareCall( sql ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String nativeSQL(String sql) throws SQLException {
+		try {
+			return physicalConnection().nativeSQL( sql );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAutoCommit(boolean autoCommit) throws SQLException {
+		try {
+			physicalConnection().setAutoCommit( autoCommit );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getAutoCommit() throws SQLException {
+		try {
+			return physicalConnection().getAutoCommit();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void commit() throws SQLException {
+		try {
+			physicalConnection().commit();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void rollback() throws SQLException {
+		try {
+			physicalConnection().rollback();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public DatabaseMetaData getMetaData() throws SQLException {
+		try {
+			return wrapMetaData( physicalConnection().getMetaData() );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) throws SQLException {
+		try {
+			physicalConnection().setReadOnly( readOnly );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isReadOnly() throws SQLException {
+		try {
+			return physicalConnection().isReadOnly();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCatalog(String catalog) throws SQLException {
+		try {
+			physicalConnection().setCatalog( catalog );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getCatalog() throws SQLException {
+		try {
+			return physicalConnection().getCatalog();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		try {
+			physicalConnection().setTransactionIsolation( level );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getTransactionIsolation() throws SQLException {
+		try {
+			return physicalConnection().getTransactionIsolation();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return physicalConnection().getWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		try {
+			physicalConnection().clearWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return wrapStatement( physicalConnection().createStatement( resultSetType, resultSetConcurrency ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql, resultSetType, resultSetConcurrency ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+		try {
+			return wrapCallableStatement( sql, physicalConnection().prepareCall( sql, resultSetType, resultSetConcurrency ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		try {
+			return physicalConnection().getTypeMap();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		try {
+			physicalConnection().setTypeMap( map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setHoldability(int holdability) throws SQLException {
+		try {
+			physicalConnection().setHoldability( holdability );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		try {
+			return physicalConnection().getHoldability();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Savepoint setSavepoint() throws SQLException {
+		try {
+			return physicalConnection().setSavepoint();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Savepoint setSavepoint(String name) throws SQLException {
+		try {
+			return physicalConnection().setSavepoint( name );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void rollback(Savepoint savepoint) throws SQLException {
+		try {
+			physicalConnection().rollback( savepoint );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		try {
+			physicalConnection().releaseSavepoint( savepoint );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return wrapStatement( physicalConnection().createStatement( resultSetType, resultSetConcurrency, resultSetHoldability ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql, resultSetType, resultSetConcurrency, resultSetHoldability ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+		try {
+			return wrapCallableStatement( sql, physicalConnection().prepareCall( sql, resultSetType, resultSetConcurrency, resultSetHoldability ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql, autoGeneratedKeys ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql, columnIndexes ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		try {
+			return wrapPreparedStatement( sql, physicalConnection().prepareStatement( sql, columnNames ) );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Clob createClob() throws SQLException {
+		try {
+			return physicalConnection().createClob();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Blob createBlob() throws SQLException {
+		try {
+			return physicalConnection().createBlob();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public NClob createNClob() throws SQLException {
+		try {
+			return physicalConnection().createNClob();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLXML createSQLXML() throws SQLException {
+		try {
+			return physicalConnection().createSQLXML();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isValid(int timeout) throws SQLException {
+		try {
+			return physicalConnection().isValid( timeout );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		try {
+			physicalConnection().setClientInfo( name, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		try {
+			physicalConnection().setClientInfo( properties );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getClientInfo(String name) throws SQLException {
+		try {
+			return physicalConnection().getClientInfo( name );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Properties getClientInfo() throws SQLException {
+		try {
+			return physicalConnection().getClientInfo();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		try {
+			return physicalConnection().createArrayOf( typeName, elements );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		try {
+			return physicalConnection().createStruct( typeName, attributes );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	// JDBC 4.1 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void setSchema(String schema) throws SQLException {
+		invokeReflectively( Connection.class, physicalConnection(), "setSchema", new Class[] { String.class }, schema );
+	}
+
+	public String getSchema() throws SQLException {
+		return (String) invokeReflectively( Connection.class, physicalConnection(), "getSchema", new Class[0] );
+	}
+
+	public void abort(Executor executor) throws SQLException {
+		invokeReflectively( Connection.class, physicalConnection(), "abort", new Class[] { Executor.class }, executor );
+	}
+
+	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		invokeReflectively( Connection.class, physicalConnection(), "setNetworkTimeout", new Class[] { Executor.class, int.class }, executor, milliseconds );
+	}
+
+	public int getNetworkTimeout() throws SQLException {
+		return (Integer) invokeReflectively( Connection.class, physicalConnection(), "getNetworkTimeout", new Class[0] );
+	}
+
+	// ConnectionObserver ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void physicalConnectionObtained(Connection connection) {
+	}
+
+	@Override
+	public void physicalConnectionReleased() {
+		LOG.logicalConnectionReleasingPhysicalConnection();
+	}
+
+	@Override
+	public void logicalConnectionClosed() {
+		LOG.logicalConnectionClosed();
+		invalidateHandle();
+	}
+
+	@Override
+	public void statementPrepared() {
+		// N/A
+	}
+}
@@ -0,0 +1,873 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The {@link PreparedStatement} handed out by {@link DelegatingConnection}.
+ */
+public class DelegatingPreparedStatement extends DelegatingStatement implements PreparedStatement {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DelegatingPreparedStatement.class.getName() );
+
+	protected final boolean trace = LOG.isTraceEnabled();
+
+	private final String sql;
+	protected int bindCount;
+
+	DelegatingPreparedStatement(String sql, PreparedStatement statement, DelegatingConnection connection) {
+		super( statement, connection, false );
+		this.sql = sql;
+		getJdbcServices().getSqlStatementLogger().logStatement( sql );
+	}
+
+	protected final PreparedStatement preparedStatement() {
+		return (PreparedStatement) statement();
+	}
+
+	@Override
+	protected void beforeExecution(String sql) {
+		// the SQL was already logged when the statement was prepared
+	}
+
+	@Override
+	protected String getSql() {
+		return sql;
+	}
+
+	@Override
+	protected int consumeBindCount() {
+		final int count = bindCount;
+		bindCount = 0;
+		return count;
+	}
+
+	protected final void journalParameterBind(String methodName, Object... args) {
+		LOG.tracev( "Binding via {0}: {1}", methodName, Arrays.asList( args ) );
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		try {
+			return wrapResultSet( preparedStatement().executeQuery(), getSql(), start );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		try {
+			final int rowCount = preparedStatement().executeUpdate();
+			afterExecution( getSql(), start, rowCount );
+			return rowCount;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNull", parameterIndex, sqlType );
+		}
+		try {
+			preparedStatement().setNull( parameterIndex, sqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBoolean", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setBoolean( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setByte", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setByte( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setShort", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setShort( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setInt", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setInt( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setLong", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setLong( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setFloat", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setFloat( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDouble", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setDouble( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBigDecimal", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setBigDecimal( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setString", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setString( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBytes", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setBytes( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDate", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setDate( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTime", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setTime( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTimestamp", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setTimestamp( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterIndex, x, length );
+		}
+		try {
+			preparedStatement().setAsciiStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setUnicodeStream", parameterIndex, x, length );
+		}
+		try {
+			preparedStatement().setUnicodeStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterIndex, x, length );
+		}
+		try {
+			preparedStatement().setBinaryStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void clearParameters() throws SQLException {
+		bindCount = 0;
+		try {
+			preparedStatement().clearParameters();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterIndex, x, targetSqlType );
+		}
+		try {
+			preparedStatement().setObject( parameterIndex, x, targetSqlType );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setObject( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		try {
+			final boolean result = preparedStatement().execute();
+			afterExecution( getSql(), start, -1 );
+			return result;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		try {
+			preparedStatement().addBatch();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterIndex, reader, length );
+		}
+		try {
+			preparedStatement().setCharacterStream( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setRef", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setRef( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setBlob( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setClob( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setArray", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setArray( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		try {
+			return preparedStatement().getMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setDate", parameterIndex, x, cal );
+		}
+		try {
+			preparedStatement().setDate( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTime", parameterIndex, x, cal );
+		}
+		try {
+			preparedStatement().setTime( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setTimestamp", parameterIndex, x, cal );
+		}
+		try {
+			preparedStatement().setTimestamp( parameterIndex, x, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNull", parameterIndex, sqlType, typeName );
+		}
+		try {
+			preparedStatement().setNull( parameterIndex, sqlType, typeName );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setURL", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setURL( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		try {
+			return preparedStatement().getParameterMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setRowId", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setRowId( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNString", parameterIndex, value );
+		}
+		try {
+			preparedStatement().setNString( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNCharacterStream", parameterIndex, value, length );
+		}
+		try {
+			preparedStatement().setNCharacterStream( parameterIndex, value, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterIndex, value );
+		}
+		try {
+			preparedStatement().setNClob( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterIndex, reader, length );
+		}
+		try {
+			preparedStatement().setClob( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterIndex, inputStream, length );
+		}
+		try {
+			preparedStatement().setBlob( parameterIndex, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterIndex, reader, length );
+		}
+		try {
+			preparedStatement().setNClob( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setSQLXML", parameterIndex, xmlObject );
+		}
+		try {
+			preparedStatement().setSQLXML( parameterIndex, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterIndex, x, targetSqlType, scaleOrLength );
+		}
+		try {
+			preparedStatement().setObject( parameterIndex, x, targetSqlType, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterIndex, x, length );
+		}
+		try {
+			preparedStatement().setAsciiStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterIndex, x, length );
+		}
+		try {
+			preparedStatement().setBinaryStream( parameterIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterIndex, reader, length );
+		}
+		try {
+			preparedStatement().setCharacterStream( parameterIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setAsciiStream", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setAsciiStream( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBinaryStream", parameterIndex, x );
+		}
+		try {
+			preparedStatement().setBinaryStream( parameterIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setCharacterStream", parameterIndex, reader );
+		}
+		try {
+			preparedStatement().setCharacterStream( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNCharacterStream", parameterIndex, value );
+		}
+		try {
+			preparedStatement().setNCharacterStream( parameterIndex, value );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setClob", parameterIndex, reader );
+		}
+		try {
+			preparedStatement().setClob( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setBlob", parameterIndex, inputStream );
+		}
+		try {
+			preparedStatement().setBlob( parameterIndex, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setNClob", parameterIndex, reader );
+		}
+		try {
+			preparedStatement().setNClob( parameterIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	// JDBC 4.2 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterIndex, x, targetSqlType, scaleOrLength );
+		}
+		invokeReflectively( PreparedStatement.class, preparedStatement(), "setObject", new Class[] { int.class, Object.class, SQLType.class, int.class }, parameterIndex, x, targetSqlType, scaleOrLength );
+	}
+
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+		bindCount++;
+		if ( trace ) {
+			journalParameterBind( "setObject", parameterIndex, x, targetSqlType );
+		}
+		invokeReflectively( PreparedStatement.class, preparedStatement(), "setObject", new Class[] { int.class, Object.class, SQLType.class }, parameterIndex, x, targetSqlType );
+	}
+
+	public long executeLargeUpdate() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		final long rowCount = (Long) invokeReflectively( PreparedStatement.class, preparedStatement(), "executeLargeUpdate", new Class[0] );
+		afterExecution( getSql(), start, rowCount );
+		return rowCount;
+	}
+}
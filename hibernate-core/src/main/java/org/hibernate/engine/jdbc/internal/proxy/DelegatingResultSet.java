@@ -0,0 +1,2046 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
+
+/**
+ * The {@link ResultSet} handed out by the wrappers of {@link DelegatingConnection}.
+ */
+public class DelegatingResultSet extends AbstractDelegatingWrapper implements ResultSet, InvalidatableWrapper<ResultSet> {
+	private final DelegatingConnection connection;
+	private ResultSet resultSet;
+	private Statement exposableStatement;
+
+	// slow query log state, only set when the producing execution is timed
+	private String sql;
+	private int bindCount;
+	private long executionStart;
+	private long slowQueryThreshold;
+	private long rowCount;
+
+	/**
+	 * @param resultSet The result set to wrap
+	 * @param connection The connection wrapper
+	 * @param exposableStatement The statement wrapper to expose from {@link #getStatement}, or {@code null} to
+	 * lazily build an implicit one
+	 */
+	DelegatingResultSet(ResultSet resultSet, DelegatingConnection connection, Statement exposableStatement) {
+		super( resultSet.hashCode(), connection.getJdbcServices() );
+		this.resultSet = resultSet;
+		this.connection = connection;
+		this.exposableStatement = exposableStatement;
+	}
+
+	protected final ResultSet resultSet() {
+		errorIfInvalid();
+		return resultSet;
+	}
+
+	@Override
+	public ResultSet getWrappedObject() {
+		return resultSet;
+	}
+
+	/**
+	 * Count the rows read through this result set and report the execution which produced it to the slow query
+	 * log when closed.
+	 */
+	void trackExecution(String sql, int bindCount, long executionStart, long slowQueryThreshold) {
+		this.sql = sql;
+		this.bindCount = bindCount;
+		this.executionStart = executionStart;
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	private void logIfSlow() {
+		if ( slowQueryThreshold > 0 ) {
+			final long time = System.nanoTime() - executionStart;
+			if ( time >= slowQueryThreshold ) {
+				getJdbcServices().getSqlStatementLogger().logSlowQuery( sql, time, bindCount, rowCount );
+			}
+			slowQueryThreshold = 0;
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if ( isValid() ) {
+			logIfSlow();
+			connection.getResourceRegistry().release( this );
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		logIfSlow();
+		resultSet = null;
+		exposableStatement = null;
+		markInvalid();
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		if ( exposableStatement == null ) {
+			try {
+				final Statement statement = resultSet().getStatement();
+				if ( statement == null ) {
+					return null;
+				}
+				exposableStatement = new DelegatingStatement( statement, connection, true );
+			}
+			catch ( SQLException e ) {
+				throw convert( e );
+			}
+		}
+		return exposableStatement;
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		try {
+			return resultSet().unwrap( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		try {
+			return resultSet().isWrapperFor( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		try {
+			final boolean hasNext = resultSet().next();
+			if ( hasNext ) {
+				rowCount++;
+			}
+			return hasNext;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		try {
+			return resultSet().wasNull();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getString(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getString( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBoolean( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte getByte(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getByte( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public short getShort(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getShort( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getInt(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getInt( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public long getLong(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getLong( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public float getFloat(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getFloat( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public double getDouble(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getDouble( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnIndex, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBytes( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getDate( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getTime( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getAsciiStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getUnicodeStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBinaryStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getString(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getString( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBoolean( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte getByte(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getByte( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public short getShort(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getShort( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getInt(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getInt( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public long getLong(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getLong( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public float getFloat(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getFloat( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public double getDouble(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getDouble( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnLabel, scale );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBytes( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getDate( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getTime( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getAsciiStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getUnicodeStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBinaryStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return resultSet().getWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		try {
+			resultSet().clearWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getCursorName() throws SQLException {
+		try {
+			return resultSet().getCursorName();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		try {
+			return resultSet().getMetaData();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getObject( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getObject( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int findColumn(String columnLabel) throws SQLException {
+		try {
+			return resultSet().findColumn( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getCharacterStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getCharacterStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBigDecimal( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		try {
+			return resultSet().isBeforeFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		try {
+			return resultSet().isAfterLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		try {
+			return resultSet().isFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		try {
+			return resultSet().isLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		try {
+			resultSet().beforeFirst();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		try {
+			resultSet().afterLast();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		try {
+			return resultSet().first();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		try {
+			return resultSet().last();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		try {
+			return resultSet().getRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean absolute(int row) throws SQLException {
+		try {
+			return resultSet().absolute( row );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		try {
+			return resultSet().relative( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		try {
+			return resultSet().previous();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		try {
+			resultSet().setFetchDirection( direction );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		try {
+			return resultSet().getFetchDirection();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		try {
+			resultSet().setFetchSize( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		try {
+			return resultSet().getFetchSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		try {
+			return resultSet().getType();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getConcurrency() throws SQLException {
+		try {
+			return resultSet().getConcurrency();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean rowUpdated() throws SQLException {
+		try {
+			return resultSet().rowUpdated();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean rowInserted() throws SQLException {
+		try {
+			return resultSet().rowInserted();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean rowDeleted() throws SQLException {
+		try {
+			return resultSet().rowDeleted();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNull(int columnIndex) throws SQLException {
+		try {
+			resultSet().updateNull( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		try {
+			resultSet().updateBoolean( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		try {
+			resultSet().updateByte( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		try {
+			resultSet().updateShort( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		try {
+			resultSet().updateInt( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		try {
+			resultSet().updateLong( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		try {
+			resultSet().updateFloat( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		try {
+			resultSet().updateDouble( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		try {
+			resultSet().updateBigDecimal( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateString(int columnIndex, String x) throws SQLException {
+		try {
+			resultSet().updateString( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		try {
+			resultSet().updateBytes( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateDate(int columnIndex, Date x) throws SQLException {
+		try {
+			resultSet().updateDate( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		try {
+			resultSet().updateTime( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		try {
+			resultSet().updateTimestamp( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		try {
+			resultSet().updateObject( columnIndex, x, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		try {
+			resultSet().updateObject( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNull(String columnLabel) throws SQLException {
+		try {
+			resultSet().updateNull( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		try {
+			resultSet().updateBoolean( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		try {
+			resultSet().updateByte( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		try {
+			resultSet().updateShort( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		try {
+			resultSet().updateInt( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		try {
+			resultSet().updateLong( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		try {
+			resultSet().updateFloat( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		try {
+			resultSet().updateDouble( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		try {
+			resultSet().updateBigDecimal( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateString(String columnLabel, String x) throws SQLException {
+		try {
+			resultSet().updateString( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		try {
+			resultSet().updateBytes( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateDate(String columnLabel, Date x) throws SQLException {
+		try {
+			resultSet().updateDate( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		try {
+			resultSet().updateTime( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		try {
+			resultSet().updateTimestamp( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		try {
+			resultSet().updateObject( columnLabel, x, scaleOrLength );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		try {
+			resultSet().updateObject( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void insertRow() throws SQLException {
+		try {
+			resultSet().insertRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateRow() throws SQLException {
+		try {
+			resultSet().updateRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void deleteRow() throws SQLException {
+		try {
+			resultSet().deleteRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void refreshRow() throws SQLException {
+		try {
+			resultSet().refreshRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void cancelRowUpdates() throws SQLException {
+		try {
+			resultSet().cancelRowUpdates();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void moveToInsertRow() throws SQLException {
+		try {
+			resultSet().moveToInsertRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void moveToCurrentRow() throws SQLException {
+		try {
+			resultSet().moveToCurrentRow();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return resultSet().getObject( columnIndex, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Ref getRef(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getRef( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Blob getBlob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getBlob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Clob getClob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getClob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Array getArray(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getArray( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		try {
+			return resultSet().getObject( columnLabel, map );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Ref getRef(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getRef( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Blob getBlob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getBlob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Clob getClob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getClob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Array getArray(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getArray( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getDate( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getDate( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTime( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTime( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnIndex, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		try {
+			return resultSet().getTimestamp( columnLabel, cal );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public URL getURL(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getURL( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public URL getURL(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getURL( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateRef(int columnIndex, Ref x) throws SQLException {
+		try {
+			resultSet().updateRef( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateRef(String columnLabel, Ref x) throws SQLException {
+		try {
+			resultSet().updateRef( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, Blob x) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, Blob x) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Clob x) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Clob x) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateArray(int columnIndex, Array x) throws SQLException {
+		try {
+			resultSet().updateArray( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateArray(String columnLabel, Array x) throws SQLException {
+		try {
+			resultSet().updateArray( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public RowId getRowId(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getRowId( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public RowId getRowId(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getRowId( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		try {
+			resultSet().updateRowId( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		try {
+			resultSet().updateRowId( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		try {
+			return resultSet().getHoldability();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		try {
+			return resultSet().isClosed();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNString(int columnIndex, String nString) throws SQLException {
+		try {
+			resultSet().updateNString( columnIndex, nString );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNString(String columnLabel, String nString) throws SQLException {
+		try {
+			resultSet().updateNString( columnLabel, nString );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, nClob );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, nClob );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public NClob getNClob(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNClob( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public NClob getNClob(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNClob( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getSQLXML( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getSQLXML( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		try {
+			resultSet().updateSQLXML( columnIndex, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		try {
+			resultSet().updateSQLXML( columnLabel, xmlObject );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getNString(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNString( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public String getNString(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNString( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		try {
+			return resultSet().getNCharacterStream( columnIndex );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		try {
+			return resultSet().getNCharacterStream( columnLabel );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, inputStream, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, reader, length );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNCharacterStream( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnIndex, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		try {
+			resultSet().updateAsciiStream( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		try {
+			resultSet().updateBinaryStream( columnLabel, x );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateCharacterStream( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		try {
+			resultSet().updateBlob( columnIndex, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		try {
+			resultSet().updateBlob( columnLabel, inputStream );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		try {
+			resultSet().updateClob( columnIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateClob( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNClob( columnIndex, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		try {
+			resultSet().updateNClob( columnLabel, reader );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	// JDBC 4.1 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@SuppressWarnings({ "unchecked" })
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		return (T) invokeReflectively( ResultSet.class, resultSet(), "getObject", new Class[] { int.class, Class.class }, columnIndex, type );
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return (T) invokeReflectively( ResultSet.class, resultSet(), "getObject", new Class[] { String.class, Class.class }, columnLabel, type );
+	}
+
+	// JDBC 4.2 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void updateObject(int columnIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		invokeReflectively( ResultSet.class, resultSet(), "updateObject", new Class[] { int.class, Object.class, SQLType.class, int.class }, columnIndex, x, targetSqlType, scaleOrLength );
+	}
+
+	public void updateObject(int columnIndex, Object x, SQLType targetSqlType) throws SQLException {
+		invokeReflectively( ResultSet.class, resultSet(), "updateObject", new Class[] { int.class, Object.class, SQLType.class }, columnIndex, x, targetSqlType );
+	}
+
+	public void updateObject(String columnLabel, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+		invokeReflectively( ResultSet.class, resultSet(), "updateObject", new Class[] { String.class, Object.class, SQLType.class, int.class }, columnLabel, x, targetSqlType, scaleOrLength );
+	}
+
+	public void updateObject(String columnLabel, Object x, SQLType targetSqlType) throws SQLException {
+		invokeReflectively( ResultSet.class, resultSet(), "updateObject", new Class[] { String.class, Object.class, SQLType.class }, columnLabel, x, targetSqlType );
+	}
+}
@@ -0,0 +1,695 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc.internal.proxy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
+import org.hibernate.engine.jdbc.spi.LogicalConnectionImplementor;
+
+/**
+ * The {@link Statement} handed out by {@link DelegatingConnection}.  Implicit instances (those reached through
+ * a result set rather than created by the application) refuse to execute anything.
+ */
+public class DelegatingStatement extends AbstractDelegatingWrapper implements Statement, InvalidatableWrapper<Statement> {
+	private final boolean implicit;
+	private final long slowQueryThreshold;
+	private DelegatingConnection connection;
+	private Statement statement;
+
+	DelegatingStatement(Statement statement, DelegatingConnection connection, boolean implicit) {
+		super( statement.hashCode(), connection.getJdbcServices() );
+		this.statement = statement;
+		this.connection = connection;
+		this.implicit = implicit;
+		this.slowQueryThreshold = TimeUnit.MILLISECONDS.toNanos(
+				connection.getJdbcServices().getSqlStatementLogger().getLogSlowQuery()
+		);
+	}
+
+	protected final DelegatingConnection connection() {
+		errorIfInvalid();
+		return connection;
+	}
+
+	protected final Statement statement() {
+		errorIfInvalid();
+		return statement;
+	}
+
+	@Override
+	public Statement getWrappedObject() {
+		return statement;
+	}
+
+	/**
+	 * Called before any execution method is delegated.
+	 *
+	 * @param sql The SQL passed to the execution method, or {@code null} if none
+	 */
+	protected void beforeExecution(String sql) {
+		if ( implicit ) {
+			throw new HibernateException( "execution not allowed on implicit statement object" );
+		}
+		if ( sql != null ) {
+			getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		}
+	}
+
+	/**
+	 * Start timing an execution for the slow query log.
+	 *
+	 * @return The start time in nanoseconds, or 0 if slow queries are not logged
+	 */
+	protected final long executionStart() {
+		return slowQueryThreshold > 0 ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Called after an execution method returned, to report it to the slow query log if needed.
+	 *
+	 * @param sql The SQL executed, or {@code null} if not known
+	 * @param start The value returned by {@link #executionStart()}
+	 * @param rowCount The number of rows affected, or a negative value if not known
+	 */
+	protected final void afterExecution(String sql, long start, long rowCount) {
+		if ( slowQueryThreshold > 0 ) {
+			final long time = System.nanoTime() - start;
+			final int bindCount = consumeBindCount();
+			if ( time >= slowQueryThreshold ) {
+				getJdbcServices().getSqlStatementLogger().logSlowQuery( sql, time, bindCount, rowCount );
+			}
+		}
+	}
+
+	protected final void afterExecution(String sql, long start, int[] rowCounts) {
+		long rowCount = 0;
+		for ( int count : rowCounts ) {
+			if ( count < 0 ) {
+				rowCount = -1;
+				break;
+			}
+			rowCount += count;
+		}
+		afterExecution( sql, start, rowCount );
+	}
+
+	protected final void afterExecution(String sql, long start, long[] rowCounts) {
+		long rowCount = 0;
+		for ( long count : rowCounts ) {
+			if ( count < 0 ) {
+				rowCount = -1;
+				break;
+			}
+			rowCount += count;
+		}
+		afterExecution( sql, start, rowCount );
+	}
+
+	/**
+	 * The SQL this statement was prepared with, if any.
+	 *
+	 * @return The SQL, or {@code null} for a plain statement
+	 */
+	protected String getSql() {
+		return null;
+	}
+
+	/**
+	 * The number of parameter values bound since the last execution, which is then reset.
+	 *
+	 * @return The bind count
+	 */
+	protected int consumeBindCount() {
+		return 0;
+	}
+
+	protected final ResultSet wrapResultSet(ResultSet resultSet) {
+		if ( resultSet == null ) {
+			return null;
+		}
+		final DelegatingResultSet wrapper = new DelegatingResultSet( resultSet, connection, this );
+		connection.getResourceRegistry().register( wrapper );
+		return wrapper;
+	}
+
+	/**
+	 * Wrap a result set produced by an execution method; if the execution is timed, the result set counts its rows
+	 * and reports to the slow query log once closed, so that fetch time is included.
+	 */
+	protected final ResultSet wrapResultSet(ResultSet resultSet, String sql, long start) {
+		if ( slowQueryThreshold == 0 ) {
+			return wrapResultSet( resultSet );
+		}
+		if ( resultSet == null ) {
+			afterExecution( sql, start, -1 );
+			return null;
+		}
+		final DelegatingResultSet wrapper = new DelegatingResultSet( resultSet, connection, this );
+		wrapper.trackExecution( sql, consumeBindCount(), start, slowQueryThreshold );
+		connection.getResourceRegistry().register( wrapper );
+		return wrapper;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if ( isValid() ) {
+			final LogicalConnectionImplementor lc = connection().getLogicalConnection();
+			connection.getResourceRegistry().release( this );
+			lc.afterStatementExecution();
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		connection = null;
+		statement = null;
+		markInvalid();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connection();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		try {
+			return statement().unwrap( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		try {
+			return statement().isWrapperFor( iface );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			return wrapResultSet( statement().executeQuery( sql ), sql, start );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int executeUpdate(String sql) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final int rowCount = statement().executeUpdate( sql );
+			afterExecution( sql, start, rowCount );
+			return rowCount;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		try {
+			return statement().getMaxFieldSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		try {
+			statement().setMaxFieldSize( max );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		try {
+			return statement().getMaxRows();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		try {
+			statement().setMaxRows( max );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		try {
+			statement().setEscapeProcessing( enable );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		try {
+			return statement().getQueryTimeout();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		try {
+			statement().setQueryTimeout( seconds );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		try {
+			statement().cancel();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		try {
+			return statement().getWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		try {
+			statement().clearWarnings();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		try {
+			statement().setCursorName( name );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean execute(String sql) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final boolean result = statement().execute( sql );
+			afterExecution( sql, start, -1 );
+			return result;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		try {
+			return wrapResultSet( statement().getResultSet() );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		try {
+			return statement().getUpdateCount();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		try {
+			return statement().getMoreResults();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		try {
+			statement().setFetchDirection( direction );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		try {
+			return statement().getFetchDirection();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		try {
+			statement().setFetchSize( rows );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		try {
+			return statement().getFetchSize();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		try {
+			return statement().getResultSetConcurrency();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		try {
+			return statement().getResultSetType();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void addBatch(String sql) throws SQLException {
+		try {
+			statement().addBatch( sql );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		try {
+			statement().clearBatch();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		try {
+			final int[] rowCounts = statement().executeBatch();
+			afterExecution( getSql(), start, rowCounts );
+			return rowCounts;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		try {
+			return statement().getMoreResults( current );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		try {
+			return wrapResultSet( statement().getGeneratedKeys() );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final int rowCount = statement().executeUpdate( sql, autoGeneratedKeys );
+			afterExecution( sql, start, rowCount );
+			return rowCount;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final int rowCount = statement().executeUpdate( sql, columnIndexes );
+			afterExecution( sql, start, rowCount );
+			return rowCount;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final int rowCount = statement().executeUpdate( sql, columnNames );
+			afterExecution( sql, start, rowCount );
+			return rowCount;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final boolean result = statement().execute( sql, autoGeneratedKeys );
+			afterExecution( sql, start, -1 );
+			return result;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final boolean result = statement().execute( sql, columnIndexes );
+			afterExecution( sql, start, -1 );
+			return result;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		try {
+			final boolean result = statement().execute( sql, columnNames );
+			afterExecution( sql, start, -1 );
+			return result;
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		try {
+			return statement().getResultSetHoldability();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		try {
+			return statement().isClosed();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		try {
+			statement().setPoolable( poolable );
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		try {
+			return statement().isPoolable();
+		}
+		catch ( SQLException e ) {
+			throw convert( e );
+		}
+	}
+
+	// JDBC 4.1 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public void closeOnCompletion() throws SQLException {
+		invokeReflectively( Statement.class, statement(), "closeOnCompletion", new Class[0] );
+	}
+
+	public boolean isCloseOnCompletion() throws SQLException {
+		return (Boolean) invokeReflectively( Statement.class, statement(), "isCloseOnCompletion", new Class[0] );
+	}
+
+	// JDBC 4.2 ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	public long getLargeUpdateCount() throws SQLException {
+		return (Long) invokeReflectively( Statement.class, statement(), "getLargeUpdateCount", new Class[0] );
+	}
+
+	public void setLargeMaxRows(long max) throws SQLException {
+		invokeReflectively( Statement.class, statement(), "setLargeMaxRows", new Class[] { long.class }, max );
+	}
+
+	public long getLargeMaxRows() throws SQLException {
+		return (Long) invokeReflectively( Statement.class, statement(), "getLargeMaxRows", new Class[0] );
+	}
+
+	public long[] executeLargeBatch() throws SQLException {
+		beforeExecution( null );
+		final long start = executionStart();
+		final long[] rowCounts = (long[]) invokeReflectively( Statement.class, statement(), "executeLargeBatch", new Class[0] );
+		afterExecution( getSql(), start, rowCounts );
+		return rowCounts;
+	}
+
+	public long executeLargeUpdate(String sql) throws SQLException {
+		return doExecuteLargeUpdate( sql, new Class[] { String.class }, sql );
+	}
+
+	public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return doExecuteLargeUpdate( sql, new Class[] { String.class, int.class }, sql, autoGeneratedKeys );
+	}
+
+	public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return doExecuteLargeUpdate( sql, new Class[] { String.class, int[].class }, sql, columnIndexes );
+	}
+
+	public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+		return doExecuteLargeUpdate( sql, new Class[] { String.class, String[].class }, sql, columnNames );
+	}
+
+	private long doExecuteLargeUpdate(String sql, Class[] parameterTypes, Object... args) throws SQLException {
+		beforeExecution( sql );
+		final long start = executionStart();
+		final long rowCount = (Long) invokeReflectively( Statement.class, statement(), "executeLargeUpdate", parameterTypes, args );
+		afterExecution( sql, start, rowCount );
+		return rowCount;
+	}
+}
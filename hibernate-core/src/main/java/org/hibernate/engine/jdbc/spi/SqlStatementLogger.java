@@ -23,6 +23,8 @@
  */
 package org.hibernate.engine.jdbc.spi;
 
+import java.util.concurrent.TimeUnit;
+
 import org.jboss.logging.Logger;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
@@ -37,9 +39,11 @@ import org.hibernate.internal.CoreMessageLogger;
 public class SqlStatementLogger {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, "org.hibernate.SQL");
+	private static final CoreMessageLogger SLOW_LOG = Logger.getMessageLogger( CoreMessageLogger.class, "org.hibernate.SQL_SLOW" );
 
 	private boolean logToStdout;
 	private boolean format;
+	private long logSlowQuery;
 
 	/**
 	 * Constructs a new SqlStatementLogger instance.
@@ -55,8 +59,20 @@ public class SqlStatementLogger {
 	 * @param format Should we format the statements prior to logging
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format) {
+		this( logToStdout, format, 0 );
+	}
+
+	/**
+	 * Constructs a new SqlStatementLogger instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements prior to logging
+	 * @param logSlowQuery The execution time, in milliseconds, above which statements are logged as slow; 0 disables
+	 */
+	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery) {
 		this.logToStdout = logToStdout;
 		this.format = format;
+		this.logSlowQuery = logSlowQuery;
 	}
 
 	/**
@@ -85,6 +101,19 @@ public class SqlStatementLogger {
 		this.format = format;
 	}
 
+	/**
+	 * The execution time, in milliseconds, above which statements are logged as slow.
+	 *
+	 * @return The threshold; 0 if slow statements are not logged
+	 */
+	public long getLogSlowQuery() {
+		return logSlowQuery;
+	}
+
+	public void setLogSlowQuery(long logSlowQuery) {
+		this.logSlowQuery = logSlowQuery;
+	}
+
 	/**
 	 * Log a SQL statement string.
 	 *
@@ -106,5 +135,27 @@ public class SqlStatementLogger {
 			System.out.println( "Hibernate: " + statement );
 		}
 	}
-}
 
+	/**
+	 * Log a SQL statement whose execution took longer than the {@link #getLogSlowQuery() threshold}.  Statements
+	 * below the threshold are ignored.
+	 *
+	 * @param statement The SQL statement.
+	 * @param time The execution time, in nanoseconds
+	 * @param bindCount The number of parameter values bound
+	 * @param rowCount The number of rows returned or affected, or a negative value if not known
+	 */
+	public void logSlowQuery(String statement, long time, int bindCount, long rowCount) {
+		if ( logSlowQuery < 1 || statement == null ) {
+			return;
+		}
+		final long timeInMillis = TimeUnit.NANOSECONDS.toMillis( time );
+		if ( timeInMillis < logSlowQuery ) {
+			return;
+		}
+		SLOW_LOG.slowQuery( timeInMillis, bindCount, rowCount < 0 ? "?" : String.valueOf( rowCount ), statement );
+		if ( logToStdout ) {
+			System.out.println( "Hibernate slow query (" + timeInMillis + " ms): " + statement );
+		}
+	}
+}
@@ -251,7 +251,8 @@ public class CollectionLoadContext {
 			ce = getLoadContext().getPersistenceContext().addInitializedCollection( persister, lce.getCollection(), lce.getKey() );
 		}
 		else {
-			ce.postInitialize( lce.getCollection() );
+			ce.postInitialize( lce.getCollection(), getLoadContext().getPersistenceContext().isReadOnlyContext() );
+			getLoadContext().getPersistenceContext().getBatchFetchQueue().removeBatchLoadableCollection( ce );
 		}
 
 		boolean addToCache = hasNoQueuedAdds && // there were no queued additions
@@ -330,6 +331,8 @@ public class CollectionLoadContext {
 
 		CollectionCacheEntry entry = new CollectionCacheEntry( lce.getCollection(), persister );
 		CacheKey cacheKey = session.generateCacheKey( lce.getKey(), persister.getKeyType(), persister.getRole() );
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		boolean put = persister.getCacheAccessStrategy().putFromLoad(
 				cacheKey,
 				persister.getCacheEntryStructure().structure(entry),
@@ -338,7 +341,8 @@ public class CollectionLoadContext {
 				factory.getSettings().isMinimalPutsEnabled() && session.getCacheMode()!= CacheMode.REFRESH
 		);
 
-		if ( put && factory.getStatistics().isStatisticsEnabled() ) {
+		if ( put && stats ) {
+			factory.getStatisticsImplementor().secondLevelCachePutTime( System.nanoTime() - startTime );
 			factory.getStatisticsImplementor().secondLevelCachePut( persister.getCacheAccessStrategy().getRegion().getName() );
 		}
 	}
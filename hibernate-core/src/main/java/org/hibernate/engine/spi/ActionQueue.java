@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jboss.logging.Logger;
@@ -55,6 +56,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cfg.Settings;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.type.Type;
@@ -368,11 +370,21 @@ public class ActionQueue {
 
 	private void registerCleanupActions(Executable executable) {
 		beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
-		if ( session.getFactory().getSettings().isQueryCacheEnabled() ) {
+		final Settings settings = session.getFactory().getSettings();
+		if ( settings.isQueryCacheEnabled() ) {
 			final String[] spaces = (String[]) executable.getPropertySpaces();
 			if ( spaces != null && spaces.length > 0 ) { //HHH-6286
-				afterTransactionProcesses.addSpacesToInvalidate( spaces );
-				session.getFactory().getUpdateTimestampsCache().preinvalidate( spaces );
+				if ( settings.isQueryCacheRowInvalidationEnabled()
+						&& ( executable instanceof EntityUpdateAction || executable instanceof EntityDeleteAction ) ) {
+					// the rows of an updated or deleted entity are known, no need to invalidate the whole spaces
+					final Serializable id = ( (EntityAction) executable ).getId();
+					afterTransactionProcesses.addRowsToInvalidate( spaces, id );
+					session.getFactory().getUpdateTimestampsCache().preinvalidateRow( spaces, id );
+				}
+				else {
+					afterTransactionProcesses.addSpacesToInvalidate( spaces );
+					session.getFactory().getUpdateTimestampsCache().preinvalidate( spaces );
+				}
 			}
 		}
 		afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
@@ -440,13 +452,38 @@ public class ActionQueue {
 
 	@SuppressWarnings({ "unchecked" })
 	public void sortActions() {
-		if ( session.getFactory().getSettings().isOrderUpdatesEnabled() ) {
+		final Settings settings = session.getFactory().getSettings();
+		final boolean orderByTable = settings.isOrderByTableEnabled() && settings.getJdbcBatchSize() > 1;
+		if ( settings.isOrderUpdatesEnabled() ) {
 			//sort the updates by pk
 			java.util.Collections.sort( updates );
 		}
-		if ( session.getFactory().getSettings().isOrderInsertsEnabled() ) {
+		else if ( orderByTable ) {
+			sortByTable( updates );
+		}
+		if ( settings.isOrderInsertsEnabled() ) {
 			sortInsertActions();
 		}
+		else if ( orderByTable ) {
+			sortByTable( insertions );
+		}
+	}
+
+	/**
+	 * Order the given entity actions by the tables of their entities, see {@link TableDependencyOrder}.
+	 *
+	 * @param actions The entity actions
+	 */
+	private void sortByTable(List actions) {
+		final String[] entityNames = new String[ actions.size() ];
+		for ( int i = 0; i < entityNames.length; i++ ) {
+			final Object action = actions.get( i );
+			if ( !EntityAction.class.isInstance( action ) ) {
+				return;
+			}
+			entityNames[i] = ( (EntityAction) action ).getEntityName();
+		}
+		session.getFactory().getTableDependencyOrder().sort( actions, entityNames );
 	}
 
 	/**
@@ -675,6 +712,7 @@ public class ActionQueue {
 	private static class AfterTransactionCompletionProcessQueue {
 		private SessionImplementor session;
 		private Set<String> querySpacesToInvalidate = new HashSet<String>();
+		private Map<Serializable, Set<Serializable>> queryRowsToInvalidate = new HashMap<Serializable, Set<Serializable>>();
 		private List<AfterTransactionCompletionProcess> processes
 				= new ArrayList<AfterTransactionCompletionProcess>( INIT_QUEUE_LIST_SIZE * 3 );
 
@@ -692,6 +730,17 @@ public class ActionQueue {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addRowsToInvalidate(String[] spaces, Serializable id) {
+			for ( String space : spaces ) {
+				Set<Serializable> ids = queryRowsToInvalidate.get( space );
+				if ( ids == null ) {
+					ids = new HashSet<Serializable>();
+					queryRowsToInvalidate.put( space, ids );
+				}
+				ids.add( id );
+			}
+		}
+
 		public void register(AfterTransactionCompletionProcess process) {
 			if ( process == null ) {
 				return;
@@ -718,8 +767,12 @@ public class ActionQueue {
 				session.getFactory().getUpdateTimestampsCache().invalidate(
 						querySpacesToInvalidate.toArray( new String[ querySpacesToInvalidate.size()] )
 				);
+				if ( !queryRowsToInvalidate.isEmpty() ) {
+					session.getFactory().getUpdateTimestampsCache().invalidateRows( queryRowsToInvalidate );
+				}
 			}
 			querySpacesToInvalidate.clear();
+			queryRowsToInvalidate.clear();
 		}
 	}
 
@@ -24,16 +24,21 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.util.MarkerObject;
-import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -49,16 +54,23 @@ public class BatchFetchQueue {
 	public static final Object MARKER = new MarkerObject( "MARKER" );
 
 	/**
-	 * Defines a sequence of {@link EntityKey} elements that are currently
-	 * elegible for batch-fetching.
-	 * <p/>
-	 * Even though this is a map, we only use the keys.  A map was chosen in
-	 * order to utilize a {@link LinkedHashMap} to maintain sequencing
-	 * as well as uniqueness.
+	 * The {@link EntityKey} elements that are currently elegible for batch-fetching, grouped
+	 * by the root entity name of the hierarchy they belong to.  Each group maintains the
+	 * sequence in which the keys were registered, as well as their uniqueness.
+	 */
+	private final Map<String, KeySequence<EntityKey, EntityKey>> batchLoadableEntityKeys
+			= new HashMap<String, KeySequence<EntityKey, EntityKey>>( 8 );
+
+	/**
+	 * The uninitialized collections that are currently elegible for batch-fetching, grouped
+	 * by collection role, in the sequence in which they were registered.
 	 * <p/>
-	 * TODO : this would be better as a SequencedReferenceSet, but no such beast exists!
+	 * Entries are removed as the collections get initialized; entries left behind by
+	 * collections which were evicted from the persistence context by other means are
+	 * discarded lazily, when next encountered while building a batch.
 	 */
-	private final Map batchLoadableEntityKeys = new LinkedHashMap(8);
+	private final Map<String, KeySequence<CollectionEntry, PersistentCollection>> batchLoadableCollections
+			= new HashMap<String, KeySequence<CollectionEntry, PersistentCollection>>( 8 );
 
 	/**
 	 * A map of {@link SubselectFetch subselect-fetch descriptors} keyed by the
@@ -85,9 +97,9 @@ public class BatchFetchQueue {
 	 */
 	public void clear() {
 		batchLoadableEntityKeys.clear();
+		batchLoadableCollections.clear();
 		subselectsByEntityKey.clear();
 	}
-
 	/**
 	 * Retrieve the fetch descriptor associated with the given entity key.
 	 *
@@ -140,7 +152,12 @@ public class BatchFetchQueue {
 	 */
 	public void addBatchLoadableEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable() ) {
-			batchLoadableEntityKeys.put( key, MARKER );
+			KeySequence<EntityKey, EntityKey> keys = batchLoadableEntityKeys.get( key.getRootEntityName() );
+			if ( keys == null ) {
+				keys = new KeySequence<EntityKey, EntityKey>();
+				batchLoadableEntityKeys.put( key.getRootEntityName(), keys );
+			}
+			keys.add( key, key );
 		}
 	}
 
@@ -150,11 +167,70 @@ public class BatchFetchQueue {
 	 * if necessary
 	 */
 	public void removeBatchLoadableEntityKey(EntityKey key) {
-		if ( key.isBatchLoadable() ) batchLoadableEntityKeys.remove(key);
+		if ( key.isBatchLoadable() ) {
+			KeySequence<EntityKey, EntityKey> keys = batchLoadableEntityKeys.get( key.getRootEntityName() );
+			if ( keys != null ) {
+				keys.remove( key );
+				if ( keys.isEmpty() ) {
+					batchLoadableEntityKeys.remove( key.getRootEntityName() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Register an uninitialized collection as available for batch fetching
+	 * along with the other collections of its role, if that role is batch
+	 * fetched at all.
+	 * <p/>
+	 * The {@link CollectionPersister} contract does not expose the batch size,
+	 * so only an {@link AbstractCollectionPersister} can tell that its role is
+	 * not batch fetched.  Collections of any other persister are always queued;
+	 * should that persister never batch fetch, they are simply never asked for
+	 * and leave the queue again when initialized or evicted.
+	 *
+	 * @param collection The uninitialized collection.
+	 * @param ce The entry of the collection within the persistence context.
+	 */
+	public void addBatchLoadableCollection(PersistentCollection collection, CollectionEntry ce) {
+		final CollectionPersister persister = ce.getLoadedPersister();
+		// other persisters cannot tell, so their collections are always queued
+		if ( persister instanceof AbstractCollectionPersister
+				&& !( (AbstractCollectionPersister) persister ).isBatchLoadable() ) {
+			return;
+		}
+		final String role = persister.getRole();
+		KeySequence<CollectionEntry, PersistentCollection> collections = batchLoadableCollections.get( role );
+		if ( collections == null ) {
+			collections = new KeySequence<CollectionEntry, PersistentCollection>();
+			batchLoadableCollections.put( role, collections );
+		}
+		collections.add( ce, collection );
+	}
+
+	/**
+	 * After initializing a collection we don't need to batch fetch it
+	 * anymore, remove it from the queue if necessary.
+	 *
+	 * @param ce The entry of the collection within the persistence context.
+	 */
+	public void removeBatchLoadableCollection(CollectionEntry ce) {
+		if ( ce.getLoadedPersister() == null ) {
+			return;
+		}
+		final String role = ce.getLoadedPersister().getRole();
+		KeySequence<CollectionEntry, PersistentCollection> collections = batchLoadableCollections.get( role );
+		if ( collections != null ) {
+			collections.remove( ce );
+			if ( collections.isEmpty() ) {
+				batchLoadableCollections.remove( role );
+			}
+		}
 	}
 
 	/**
-	 * Get a batch of uninitialized collection keys for a given role
+	 * Get a batch of uninitialized collection keys for a given role, preferring
+	 * the collections registered immediately after the given key.
 	 *
 	 * @param collectionPersister The persister for the collection role.
 	 * @param id A key that must be included in the batch fetch
@@ -167,58 +243,66 @@ public class BatchFetchQueue {
 			final int batchSize) {
 		Serializable[] keys = new Serializable[batchSize];
 		keys[0] = id;
-		int i = 1;
-		//int count = 0;
-		int end = -1;
-		boolean checkForEnd = false;
-		// this only works because collection entries are kept in a sequenced
-		// map by persistence context (maybe we should do like entities and
-		// keep a separate sequences set...)
-
-		for ( Map.Entry<PersistentCollection,CollectionEntry> me :
-			IdentityMap.concurrentEntries( (Map<PersistentCollection,CollectionEntry>) context.getCollectionEntries() )) {
-
-			CollectionEntry ce = me.getValue();
-			PersistentCollection collection = me.getKey();
-			if ( !collection.wasInitialized() && ce.getLoadedPersister() == collectionPersister ) {
-
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
 
-				//if ( end == -1 && count > batchSize*10 ) return keys; //try out ten batches, max
+		final KeySequence<CollectionEntry, PersistentCollection> collections =
+				batchLoadableCollections.get( collectionPersister.getRole() );
+		if ( collections == null ) {
+			return keys;
+		}
 
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						ce.getLoadedKey(),
-						collectionPersister.getFactory()
-				);
+		// locate the requested collection within the sequence, so that the batch can be
+		// built from its neighbours without walking every collection of the role
+		KeyNode<CollectionEntry, PersistentCollection> start = null;
+		final PersistentCollection requested = context.getCollection( new CollectionKey( collectionPersister, id ) );
+		if ( requested != null ) {
+			final CollectionEntry requestedEntry = context.getCollectionEntry( requested );
+			if ( requestedEntry != null ) {
+				start = collections.getNode( requestedEntry );
+			}
+		}
 
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
+		final NeighbourWalk<CollectionEntry, PersistentCollection> walk =
+				new NeighbourWalk<CollectionEntry, PersistentCollection>( collections, start );
+		int i = 1;
+		while ( i < batchSize ) {
+			// gather just enough candidates to fill the batch, and check them against
+			// the second-level cache all at once
+			final int wanted = batchSize - i;
+			final List<Serializable> candidates = new ArrayList<Serializable>( wanted );
+			KeyNode<CollectionEntry, PersistentCollection> node;
+			while ( candidates.size() < wanted && ( node = walk.next() ) != null ) {
+				final CollectionEntry ce = node.key;
+				final PersistentCollection collection = node.value;
+				if ( collection.wasInitialized() || context.getCollectionEntry( collection ) != ce ) {
+					// no longer batch loadable; discard the stale entry
+					collections.remove( ce );
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else if ( !collectionPersister.getKeyType().isEqual( id, ce.getLoadedKey(), collectionPersister.getFactory() ) ) {
+					candidates.add( ce.getLoadedKey() );
 				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
+			}
+			final Set<Serializable> cached = getCachedCollectionKeys( candidates, collectionPersister );
+			for ( Serializable candidate : candidates ) {
+				if ( !cached.contains( candidate ) ) {
+					keys[i++] = candidate;
 				}
 			}
+			if ( candidates.size() < wanted ) {
+				break; //we ran out of keys to try
+			}
+		}
 
+		if ( collections.isEmpty() ) {
+			batchLoadableCollections.remove( collectionPersister.getRole() );
 		}
-		return keys; //we ran out of keys to try
+		return keys;
 	}
 
 	/**
-	 * Get a batch of unloaded identifiers for this class, using a slightly
-	 * complex algorithm that tries to grab keys registered immediately after
-	 * the given key.
+	 * Get a batch of unloaded identifiers for this class, preferring the keys
+	 * registered immediately after the given key, and then those registered
+	 * immediately before it.  Keys of subclass entities are included as well,
+	 * since the persister loads its entities polymorphically.
 	 *
 	 * @param persister The persister for the entities being loaded.
 	 * @param id The identifier of the entity currently demanding load.
@@ -232,56 +316,230 @@ public class BatchFetchQueue {
 			final EntityMode entityMode) {
 		Serializable[] ids = new Serializable[batchSize];
 		ids[0] = id; //first element of array is reserved for the actual instance we are loading!
+
+		final KeySequence<EntityKey, EntityKey> keys = batchLoadableEntityKeys.get( persister.getRootEntityName() );
+		if ( keys == null ) {
+			return ids;
+		}
+
+		final NeighbourWalk<EntityKey, EntityKey> walk = startEntityWalk( keys, persister, id );
 		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		Iterator iter = batchLoadableEntityKeys.keySet().iterator();
-		while ( iter.hasNext() ) {
-			EntityKey key = (EntityKey) iter.next();
-			if ( key.getEntityName().equals( persister.getEntityName() ) ) { //TODO: this needn't exclude subclasses...
-				if ( checkForEnd && i == end ) {
-					//the first id found after the given id
-					return ids;
-				}
-				if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, persister ) ) {
-						ids[i++] = key.getIdentifier();
-					}
-				}
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if (end!=-1) checkForEnd = true;
+		while ( i < batchSize ) {
+			// gather just enough candidates to fill the batch, and check them against
+			// the second-level cache all at once
+			final int wanted = batchSize - i;
+			final List<EntityKey> candidates = collectEntityKeys( walk, persister, id, wanted );
+			final Set<EntityKey> cached = getCachedEntityKeys( candidates, persister );
+			for ( EntityKey candidate : candidates ) {
+				if ( !cached.contains( candidate ) ) {
+					ids[i++] = candidate.getIdentifier();
 				}
 			}
+			if ( candidates.size() < wanted ) {
+				break; //we ran out of ids to try
+			}
 		}
-		return ids; //we ran out of ids to try
+		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey key = context.getSession().generateCacheKey(
+	/**
+	 * Get the keys queued for batch fetching along with the given identifier, picked the same way as
+	 * by {@link #getEntityBatch}, but regardless of their presence in the second-level cache.
+	 *
+	 * @param persister The persister for the entities being loaded.
+	 * @param id The identifier of the entity currently demanding load (not part of the returned keys).
+	 * @param maxKeys The maximum number of keys to return
+	 * @return The queued keys, possibly empty
+	 */
+	public List<EntityKey> getBatchLoadableEntityKeys(
+			final EntityPersister persister,
+			final Serializable id,
+			final int maxKeys) {
+		final KeySequence<EntityKey, EntityKey> keys = batchLoadableEntityKeys.get( persister.getRootEntityName() );
+		if ( keys == null ) {
+			return Collections.emptyList();
+		}
+		return collectEntityKeys( startEntityWalk( keys, persister, id ), persister, id, maxKeys );
+	}
+
+	private NeighbourWalk<EntityKey, EntityKey> startEntityWalk(
+			KeySequence<EntityKey, EntityKey> keys,
+			EntityPersister persister,
+			Serializable id) {
+		final KeyNode<EntityKey, EntityKey> start = keys.getNode( context.getSession().generateEntityKey( id, persister ) );
+		return new NeighbourWalk<EntityKey, EntityKey>( keys, start );
+	}
+
+	private List<EntityKey> collectEntityKeys(
+			NeighbourWalk<EntityKey, EntityKey> walk,
+			EntityPersister persister,
+			Serializable id,
+			int maxKeys) {
+		final List<EntityKey> result = new ArrayList<EntityKey>( maxKeys );
+		KeyNode<EntityKey, EntityKey> node;
+		while ( result.size() < maxKeys && ( node = walk.next() ) != null ) {
+			final EntityKey key = node.key;
+			final boolean loadable = key.getEntityName().equals( persister.getEntityName() )
+					|| persister.isSubclassEntityName( key.getEntityName() );
+			if ( loadable && !persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
+				result.add( key );
+			}
+		}
+		return result;
+	}
+
+	private Set<EntityKey> getCachedEntityKeys(List<EntityKey> entityKeys, EntityPersister persister) {
+		if ( entityKeys.isEmpty() || !persister.hasCache() ) {
+			return Collections.emptySet();
+		}
+		final SessionImplementor session = context.getSession();
+		final Map<CacheKey, EntityKey> keysByCacheKey = new HashMap<CacheKey, EntityKey>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			final CacheKey cacheKey = session.generateCacheKey(
 					entityKey.getIdentifier(),
 					persister.getIdentifierType(),
-					entityKey.getEntityName()
+					persister.getRootEntityName()
 			);
-			return persister.getCacheAccessStrategy().get( key, context.getSession().getTimestamp() ) != null;
+			keysByCacheKey.put( cacheKey, entityKey );
+		}
+		final Map<Object, Object> entries = CacheHelper.getAll(
+				persister.getCacheAccessStrategy(),
+				keysByCacheKey.keySet(),
+				session.getTimestamp()
+		);
+		final Set<EntityKey> result = new HashSet<EntityKey>( entries.size() );
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			if ( entry.getValue() != null ) {
+				result.add( keysByCacheKey.get( entry.getKey() ) );
+			}
 		}
-		return false;
+		return result;
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey cacheKey = context.getSession().generateCacheKey(
+	private Set<Serializable> getCachedCollectionKeys(List<Serializable> collectionKeys, CollectionPersister persister) {
+		if ( collectionKeys.isEmpty() || !persister.hasCache() ) {
+			return Collections.emptySet();
+		}
+		final SessionImplementor session = context.getSession();
+		final Map<CacheKey, Serializable> keysByCacheKey = new HashMap<CacheKey, Serializable>( collectionKeys.size() );
+		for ( Serializable collectionKey : collectionKeys ) {
+			final CacheKey cacheKey = session.generateCacheKey(
 					collectionKey,
-			        persister.getKeyType(),
-			        persister.getRole()
+					persister.getKeyType(),
+					persister.getRole()
 			);
-			return persister.getCacheAccessStrategy().get( cacheKey, context.getSession().getTimestamp() ) != null;
+			keysByCacheKey.put( cacheKey, collectionKey );
+		}
+		final Map<Object, Object> entries = CacheHelper.getAll(
+				persister.getCacheAccessStrategy(),
+				keysByCacheKey.keySet(),
+				session.getTimestamp()
+		);
+		// collection keys do not necessarily implement equals() consistently with their
+		// type, so track them by identity
+		final Set<Serializable> result = Collections.newSetFromMap( new IdentityHashMap<Serializable, Boolean>() );
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			if ( entry.getValue() != null ) {
+				result.add( keysByCacheKey.get( entry.getKey() ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Walks a {@link KeySequence} starting right after a given node up to the end of the
+	 * sequence, and then backwards starting right before that node.  Without a starting
+	 * node the whole sequence is walked from the start.
+	 * <p/>
+	 * Removing the node just returned from the sequence does not disturb the walk.
+	 */
+	private static final class NeighbourWalk<K, V> {
+		private final KeyNode<K, V> start;
+		private KeyNode<K, V> current;
+		private boolean backwards;
+
+		private NeighbourWalk(KeySequence<K, V> sequence, KeyNode<K, V> start) {
+			this.start = start;
+			this.current = start == null ? sequence.head : start.next;
+		}
+
+		private KeyNode<K, V> next() {
+			if ( current == null && !backwards ) {
+				backwards = true;
+				current = start == null ? null : start.previous;
+			}
+			final KeyNode<K, V> node = current;
+			if ( node != null ) {
+				current = backwards ? node.previous : node.next;
+			}
+			return node;
+		}
+	}
+
+	/**
+	 * An insertion-ordered set of keys (each carrying a value), which unlike a
+	 * {@link java.util.LinkedHashMap} allows walking the sequence in both directions
+	 * starting from any given key.
+	 */
+	private static final class KeySequence<K, V> {
+		private final Map<K, KeyNode<K, V>> nodes = new HashMap<K, KeyNode<K, V>>();
+		private KeyNode<K, V> head;
+		private KeyNode<K, V> tail;
+
+		private void add(K key, V value) {
+			if ( nodes.containsKey( key ) ) {
+				// keep the original position, as a LinkedHashMap would
+				return;
+			}
+			final KeyNode<K, V> node = new KeyNode<K, V>( key, value );
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+				node.previous = tail;
+			}
+			tail = node;
+			nodes.put( key, node );
+		}
+
+		private void remove(K key) {
+			final KeyNode<K, V> node = nodes.remove( key );
+			if ( node == null ) {
+				return;
+			}
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+		}
+
+		private KeyNode<K, V> getNode(K key) {
+			return nodes.get( key );
+		}
+
+		private boolean isEmpty() {
+			return head == null;
+		}
+	}
+
+	private static final class KeyNode<K, V> {
+		private final K key;
+		private final V value;
+		private KeyNode<K, V> previous;
+		private KeyNode<K, V> next;
+
+		private KeyNode(K key, V value) {
+			this.key = key;
+			this.value = value;
 		}
-		return false;
 	}
 }
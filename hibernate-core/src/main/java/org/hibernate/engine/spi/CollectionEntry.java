@@ -208,7 +208,18 @@ public final class CollectionEntry implements Serializable {
 	}
 
 	public void postInitialize(PersistentCollection collection) throws HibernateException {
-		snapshot = getLoadedPersister().isMutable() ?
+		postInitialize( collection, false );
+	}
+
+	/**
+	 * Called after the collection is initialized.
+	 *
+	 * @param collection The initialized collection
+	 * @param readOnlyContext Was the collection loaded by a read-only session?  If so, no snapshot is taken, as
+	 * the collection is never flushed.
+	 */
+	public void postInitialize(PersistentCollection collection, boolean readOnlyContext) throws HibernateException {
+		snapshot = getLoadedPersister().isMutable() && !readOnlyContext ?
 				collection.getSnapshot( getLoadedPersister() ) :
 				null;
 		collection.setSnapshot(loadedKey, role, snapshot);
@@ -127,6 +127,10 @@ public final class EntityKey implements Serializable {
 		return entityName;
 	}
 
+	public String getRootEntityName() {
+		return rootEntityName;
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		EntityKey otherKey = (EntityKey) other;
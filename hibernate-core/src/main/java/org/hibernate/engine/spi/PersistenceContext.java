@@ -611,6 +611,16 @@ public interface PersistenceContext {
 	 */
 	public void setDefaultReadOnly(boolean readOnly);
 
+	/**
+	 * Is this persistence context read-only as a whole?  That is the case of the persistence context of sessions
+	 * opened in {@link org.hibernate.SessionBuilder#readOnly(boolean) read-only} mode: all the entities and proxies
+	 * loaded into it are read-only, no snapshot is kept of the loaded state of entities and collections, and it is
+	 * never flushed.
+	 *
+	 * @return true, the persistence context is read-only as a whole; false otherwise.
+	 */
+	public boolean isReadOnlyContext();
+
 	/**
 	 * Is the entity or proxy read-only?
 	 * <p/>
@@ -123,6 +123,14 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 
 	public QueryPlanCache getQueryPlanCache();
 
+	/**
+	 * Get the ranking of entities by the foreign key dependencies between their tables, used to order the
+	 * actions of a flush.
+	 *
+	 * @return The table dependency order
+	 */
+	public TableDependencyOrder getTableDependencyOrder();
+
 	/**
 	 * Get the return types of a query
 	 */
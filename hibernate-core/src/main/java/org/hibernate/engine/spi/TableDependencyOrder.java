@@ -0,0 +1,299 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Ranks entities by the foreign key dependencies between the tables they are mapped to, such that the tables of an
+ * entity only reference tables of entities with a lower (or the same) rank.  Used to order the insert and update
+ * actions of a flush by table, so that JDBC batches stay as long as possible, without the expense of inspecting
+ * the state of every queued entity.
+ * <p/>
+ * All entities of a hierarchy share a rank, as do all hierarchies which (directly or indirectly) reference each
+ * other.  Sorting groups actions by rank, without changing the relative order of actions with the same rank, and
+ * moves a group ahead of the groups seen before it only when it is (directly or indirectly) referenced by them.
+ * Unrelated tables are therefore written in the order they were first seen in the flush.
+ */
+public class TableDependencyOrder {
+	/**
+	 * Singleton access for an "order" which knows no rank; sorting with it never reorders anything.
+	 */
+	public static final TableDependencyOrder NONE = new TableDependencyOrder( new HashMap<String,Integer>(), new BitSet[0] );
+
+	private final Map<String,Integer> rankByEntityName;
+	private final BitSet[] dependenciesByRank;
+
+	private TableDependencyOrder(Map<String,Integer> rankByEntityName, BitSet[] dependenciesByRank) {
+		this.rankByEntityName = rankByEntityName;
+		this.dependenciesByRank = dependenciesByRank;
+	}
+
+	/**
+	 * Builds the order for the given persisters.  Should the table dependencies of any persister be unknown, the
+	 * returned order is {@link #NONE}.
+	 *
+	 * @param persisters All entity persisters of the session factory
+	 *
+	 * @return The order
+	 */
+	public static TableDependencyOrder build(Collection<EntityPersister> persisters) {
+		final Map<String,Set<String>> tablesByHierarchy = new LinkedHashMap<String,Set<String>>();
+		final Map<String,Set<String>> referencedTablesByHierarchy = new HashMap<String,Set<String>>();
+		for ( EntityPersister persister : persisters ) {
+			if ( !AbstractEntityPersister.class.isInstance( persister ) ) {
+				return NONE;
+			}
+			final Map<String,Set<String>> referencedTableNamesByTable =
+					( (AbstractEntityPersister) persister ).getReferencedTableNamesByTable();
+			if ( referencedTableNamesByTable == null ) {
+				return NONE;
+			}
+			final String hierarchy = persister.getRootEntityName();
+			Set<String> tables = tablesByHierarchy.get( hierarchy );
+			if ( tables == null ) {
+				tables = new HashSet<String>();
+				tablesByHierarchy.put( hierarchy, tables );
+				referencedTablesByHierarchy.put( hierarchy, new HashSet<String>() );
+			}
+			for ( Map.Entry<String,Set<String>> entry : referencedTableNamesByTable.entrySet() ) {
+				tables.add( entry.getKey() );
+				referencedTablesByHierarchy.get( hierarchy ).addAll( entry.getValue() );
+			}
+		}
+
+		final Map<String,Set<String>> hierarchiesByTable = new HashMap<String,Set<String>>();
+		for ( Map.Entry<String,Set<String>> entry : tablesByHierarchy.entrySet() ) {
+			for ( String table : entry.getValue() ) {
+				Set<String> hierarchies = hierarchiesByTable.get( table );
+				if ( hierarchies == null ) {
+					hierarchies = new HashSet<String>();
+					hierarchiesByTable.put( table, hierarchies );
+				}
+				hierarchies.add( entry.getKey() );
+			}
+		}
+
+		final Map<String,Set<String>> dependencies = new HashMap<String,Set<String>>();
+		for ( String hierarchy : tablesByHierarchy.keySet() ) {
+			final Set<String> dependsOn = new HashSet<String>();
+			for ( String referencedTable : referencedTablesByHierarchy.get( hierarchy ) ) {
+				final Set<String> referencedHierarchies = hierarchiesByTable.get( referencedTable );
+				if ( referencedHierarchies != null ) {
+					dependsOn.addAll( referencedHierarchies );
+				}
+			}
+			dependsOn.remove( hierarchy );
+			dependencies.put( hierarchy, dependsOn );
+		}
+
+		final Map<String,Integer> rankByHierarchy = new RankCalculator( dependencies ).calculate();
+		final Map<String,Integer> rankByEntityName = new HashMap<String,Integer>();
+		int rankCount = 0;
+		for ( EntityPersister persister : persisters ) {
+			final Integer rank = rankByHierarchy.get( persister.getRootEntityName() );
+			rankByEntityName.put( persister.getEntityName(), rank );
+			rankCount = Math.max( rankCount, rank + 1 );
+		}
+
+		// every rank only depends upon lower ranks, so the transitive dependencies can be collected in rank order
+		final List<Set<String>> hierarchiesByRank = new ArrayList<Set<String>>( rankCount );
+		for ( int rank = 0; rank < rankCount; rank++ ) {
+			hierarchiesByRank.add( new HashSet<String>() );
+		}
+		for ( Map.Entry<String,Integer> entry : rankByHierarchy.entrySet() ) {
+			hierarchiesByRank.get( entry.getValue() ).add( entry.getKey() );
+		}
+		final BitSet[] dependenciesByRank = new BitSet[rankCount];
+		for ( int rank = 0; rank < rankCount; rank++ ) {
+			final BitSet rankDependencies = new BitSet( rankCount );
+			for ( String hierarchy : hierarchiesByRank.get( rank ) ) {
+				for ( String dependency : dependencies.get( hierarchy ) ) {
+					final int dependencyRank = rankByHierarchy.get( dependency );
+					if ( dependencyRank != rank ) {
+						rankDependencies.set( dependencyRank );
+						rankDependencies.or( dependenciesByRank[dependencyRank] );
+					}
+				}
+			}
+			dependenciesByRank[rank] = rankDependencies;
+		}
+		return new TableDependencyOrder( rankByEntityName, dependenciesByRank );
+	}
+
+	/**
+	 * Get the rank of the named entity.
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return The rank, or -1 if not known.
+	 */
+	public int getRank(String entityName) {
+		final Integer rank = rankByEntityName.get( entityName );
+		return rank == null ? -1 : rank;
+	}
+
+	/**
+	 * Sorts the given actions by the rank of their entities, keeping the relative order of actions with the same
+	 * rank as well as the order in which unrelated ranks were first seen.  The list is left untouched if any of the
+	 * entities is not ranked.
+	 *
+	 * @param actions The actions to sort
+	 * @param entityNames The names of the entities of the actions, by position
+	 *
+	 * @return {@code true} if the actions were sorted (or were already in order); {@code false} otherwise.
+	 */
+	public <T> boolean sort(List<T> actions, String[] entityNames) {
+		final int rankCount = dependenciesByRank.length;
+		final int size = actions.size();
+		if ( size < 2 || rankCount < 2 ) {
+			return rankCount > 0;
+		}
+		final int[] ranks = new int[size];
+		final int[] rankSizes = new int[rankCount];
+		final int[] seenRanks = new int[rankCount];
+		int seenCount = 0;
+		final BitSet present = new BitSet( rankCount );
+		boolean grouped = true;
+		for ( int i = 0; i < size; i++ ) {
+			final int rank = getRank( entityNames[i] );
+			if ( rank < 0 ) {
+				return false;
+			}
+			ranks[i] = rank;
+			if ( rankSizes[rank]++ == 0 ) {
+				seenRanks[seenCount++] = rank;
+				present.set( rank );
+			}
+			else if ( rank != ranks[i - 1] ) {
+				grouped = false;
+			}
+		}
+
+		// emit the earliest seen rank whose present dependencies were all emitted already
+		final int[] rankOrder = new int[seenCount];
+		final BitSet emitted = new BitSet( rankCount );
+		boolean reordered = false;
+		for ( int emitCount = 0; emitCount < seenCount; emitCount++ ) {
+			for ( int i = 0; i < seenCount; i++ ) {
+				final int rank = seenRanks[i];
+				if ( emitted.get( rank ) ) {
+					continue;
+				}
+				final BitSet pending = (BitSet) dependenciesByRank[rank].clone();
+				pending.and( present );
+				pending.andNot( emitted );
+				if ( pending.isEmpty() ) {
+					rankOrder[emitCount] = rank;
+					emitted.set( rank );
+					reordered = reordered || rank != seenRanks[emitCount];
+					break;
+				}
+			}
+		}
+		if ( grouped && !reordered ) {
+			return true;
+		}
+
+		// stable counting sort
+		final int[] positions = new int[rankCount];
+		int position = 0;
+		for ( int rank : rankOrder ) {
+			positions[rank] = position;
+			position += rankSizes[rank];
+		}
+		final List<T> sorted = new ArrayList<T>( actions );
+		for ( int i = 0; i < size; i++ ) {
+			actions.set( positions[ ranks[i] ]++, sorted.get( i ) );
+		}
+		return true;
+	}
+
+	/**
+	 * Tarjan's strongly connected components algorithm.  Components are completed only after every component they
+	 * depend upon, so the order of completion is the rank.
+	 */
+	private static class RankCalculator {
+		private final Map<String,Set<String>> dependencies;
+		private final Map<String,Integer> index = new HashMap<String,Integer>();
+		private final Map<String,Integer> lowLink = new HashMap<String,Integer>();
+		private final List<String> stack = new ArrayList<String>();
+		private final Set<String> onStack = new HashSet<String>();
+		private final Map<String,Integer> ranks = new HashMap<String,Integer>();
+		private int nextIndex;
+		private int nextRank;
+
+		private RankCalculator(Map<String,Set<String>> dependencies) {
+			this.dependencies = dependencies;
+		}
+
+		private Map<String,Integer> calculate() {
+			for ( String node : dependencies.keySet() ) {
+				if ( !index.containsKey( node ) ) {
+					visit( node );
+				}
+			}
+			return ranks;
+		}
+
+		private void visit(String node) {
+			index.put( node, nextIndex );
+			lowLink.put( node, nextIndex );
+			nextIndex++;
+			stack.add( node );
+			onStack.add( node );
+
+			for ( String dependency : dependencies.get( node ) ) {
+				if ( !index.containsKey( dependency ) ) {
+					visit( dependency );
+					lowLink.put( node, Math.min( lowLink.get( node ), lowLink.get( dependency ) ) );
+				}
+				else if ( onStack.contains( dependency ) ) {
+					lowLink.put( node, Math.min( lowLink.get( node ), index.get( dependency ) ) );
+				}
+			}
+
+			if ( lowLink.get( node ).equals( index.get( node ) ) ) {
+				String member;
+				do {
+					member = stack.remove( stack.size() - 1 );
+					onStack.remove( member );
+					ranks.put( member, nextRank );
+				} while ( !member.equals( node ) );
+				nextRank++;
+			}
+		}
+	}
+}
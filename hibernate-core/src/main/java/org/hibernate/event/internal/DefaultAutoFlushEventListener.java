@@ -52,6 +52,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		if ( flushMightBeNeeded(source) ) {
+			final boolean stats = source.getFactory().getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
 			flushEverythingToExecutions(event);
 			if ( flushIsReallyNeeded(event, source) ) {
 				LOG.trace( "Need to execute flush" );
@@ -61,8 +63,9 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				// note: performExecutions() clears all collectionXxxxtion
 				// collections (the collection actions) in the session
 
-				if ( source.getFactory().getStatistics().isStatisticsEnabled() ) {
+				if ( stats ) {
 					source.getFactory().getStatisticsImplementor().flush();
+					source.getFactory().getStatisticsImplementor().flushTime( System.nanoTime() - startTime );
 				}
 			}
 			else {
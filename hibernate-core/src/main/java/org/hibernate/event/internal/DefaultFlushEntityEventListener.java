@@ -25,6 +25,7 @@ package org.hibernate.event.internal;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Set;
 
 import org.jboss.logging.Logger;
 
@@ -35,6 +36,8 @@ import org.hibernate.Session;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.bytecode.instrumentation.spi.AbstractFieldInterceptor;
+import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -46,6 +49,7 @@ import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.type.Type;
@@ -524,7 +528,21 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			cannotDirtyCheck = loadedState==null; // object loaded by update()
 			if ( !cannotDirtyCheck ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				final boolean[] trackedProperties = getDirtyTrackedProperties( entity, entry, persister );
+				if ( trackedProperties == null ) {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
+				else if ( !ArrayHelper.isAllFalse( trackedProperties ) ) {
+					// the entity recorded which attributes it wrote, only those (and the mutable ones,
+					// which could have been changed in place) need comparing with the snapshot
+					dirtyProperties = ( (AbstractEntityPersister) persister ).findDirty(
+							values,
+							loadedState,
+							trackedProperties,
+							entity,
+							session
+					);
+				}
 			}
 			else if ( entry.getStatus() == Status.DELETED && ! event.getEntityEntry().isModifiableEntity() ) {
 				// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -570,6 +588,38 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
+	/**
+	 * Determine which properties of an entity instrumented for dirty tracking might have been modified: the ones
+	 * whose field was written since the entity was last flushed, plus the mutable ones.
+	 *
+	 * @return The properties which might be dirty, or null if the entity does not track its modifications, or if its
+	 * persister or interceptor cannot make use of them (only {@link AbstractEntityPersister} and
+	 * {@link AbstractFieldInterceptor} can).
+	 */
+	private boolean[] getDirtyTrackedProperties(Object entity, EntityEntry entry, EntityPersister persister) {
+		if ( entry.getStatus() != Status.MANAGED
+				|| !( persister instanceof AbstractEntityPersister )
+				|| !persister.getEntityMetamodel().isDirtyTracked() ) {
+			// the deleted state of an entity is not tracked
+			return null;
+		}
+		final FieldInterceptor interceptor = persister.getInstrumentationMetadata().extractInterceptor( entity );
+		if ( !( interceptor instanceof AbstractFieldInterceptor ) ) {
+			return null;
+		}
+		final Set<String> dirtyAttributes = ( (AbstractFieldInterceptor) interceptor ).getDirtyAttributes();
+		if ( dirtyAttributes == null ) {
+			return null;
+		}
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		final boolean[] trackedProperties = new boolean[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			trackedProperties[i] = propertyTypes[i].isMutable() || dirtyAttributes.contains( propertyNames[i] );
+		}
+		return trackedProperties;
+	}
+
 	private class DirtyCheckAttributeInfoImpl implements CustomEntityDirtinessStrategy.AttributeInformation {
 		private final FlushEntityEvent event;
 		private final EntityPersister persister;
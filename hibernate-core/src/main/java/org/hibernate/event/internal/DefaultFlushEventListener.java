@@ -48,12 +48,16 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getEntityEntries().size() > 0 ||
 				persistenceContext.getCollectionEntries().size() > 0 ) {
 
+			final boolean stats = source.getFactory().getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
+
 			flushEverythingToExecutions(event);
 			performExecutions(source);
 			postFlush(source);
 		
-			if ( source.getFactory().getStatistics().isStatisticsEnabled() ) {
+			if ( stats ) {
 				source.getFactory().getStatisticsImplementor().flush();
+				source.getFactory().getStatisticsImplementor().flushTime( System.nanoTime() - startTime );
 			}
 
 		}
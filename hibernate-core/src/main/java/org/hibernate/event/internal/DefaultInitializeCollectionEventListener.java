@@ -120,9 +120,12 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
         final SessionFactoryImplementor factory = source.getFactory();
 
         final CacheKey ck = source.generateCacheKey( id, persister.getKeyType(), persister.getRole() );
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
         Object ce = persister.getCacheAccessStrategy().get(ck, source.getTimestamp());
 
-		if ( factory.getStatistics().isStatisticsEnabled() ) {
+		if ( stats ) {
+			factory.getStatisticsImplementor().secondLevelCacheGetTime( System.nanoTime() - startTime );
             if (ce == null) {
                 factory.getStatisticsImplementor()
 						.secondLevelCacheMiss( persister.getCacheAccessStrategy().getRegion().getName() );
@@ -141,7 +144,9 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 
 		final PersistenceContext persistenceContext = source.getPersistenceContext();
         cacheEntry.assemble(collection, persister, persistenceContext.getCollectionOwner(id, persister));
-        persistenceContext.getCollectionEntry(collection).postInitialize(collection);
+        final CollectionEntry collectionEntry = persistenceContext.getCollectionEntry( collection );
+        collectionEntry.postInitialize( collection, persistenceContext.isReadOnlyContext() );
+        persistenceContext.getBatchFetchQueue().removeBatchLoadableCollection( collectionEntry );
         // addInitializedCollection(collection, persister, id);
         return true;
 	}
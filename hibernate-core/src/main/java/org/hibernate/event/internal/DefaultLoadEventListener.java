@@ -24,6 +24,12 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.logging.Logger;
 
@@ -34,23 +40,18 @@ import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.access.SoftLock;
-import org.hibernate.cache.spi.entry.CacheEntry;
-import org.hibernate.engine.internal.TwoPhaseLoad;
-import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.internal.CacheEntryAssembler;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
-import org.hibernate.event.service.spi.EventListenerRegistry;
-import org.hibernate.event.spi.EventSource;
-import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
-import org.hibernate.event.spi.PostLoadEvent;
-import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -58,7 +59,6 @@ import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.EmbeddedComponentType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
-import org.hibernate.type.TypeHelper;
 
 /**
  * Defines the default load event listeners used by hibernate for loading entities
@@ -136,6 +136,8 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 
 		final  EntityKey keyToLoad = source.generateEntityKey( event.getEntityId(), persister );
 
+		final boolean stats = source.getFactory().getStatistics().isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
 		try {
 			if ( loadType.isNakedEntityReturned() ) {
 				//do not return a proxy!
@@ -156,6 +158,9 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 			LOG.unableToLoadCommand( e );
 			throw e;
 		}
+		if ( stats ) {
+			source.getFactory().getStatisticsImplementor().entityLoadTime( System.nanoTime() - startTime );
+		}
 	}
 
 	private void loadByDerivedIdentitySimplePkValue(
@@ -532,8 +537,46 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 					persister.getIdentifierType(),
 					persister.getRootEntityName()
 			);
-			Object ce = persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
-			if ( factory.getStatistics().isStatisticsEnabled() ) {
+			// only the batch size of our own persisters is known
+			final List<EntityKey> batchKeys = persister instanceof AbstractEntityPersister && persister.isBatchLoadable()
+					? source.getPersistenceContext().getBatchFetchQueue().getBatchLoadableEntityKeys(
+							persister,
+							event.getEntityId(),
+							( (AbstractEntityPersister) persister ).getBatchSize() - 1
+					)
+					: Collections.<EntityKey>emptyList();
+
+			final boolean stats = factory.getStatistics().isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
+			final Object ce;
+			Map<Object, Object> batchEntries = Collections.emptyMap();
+			final Map<Object, EntityKey> batchKeysByCacheKey = new HashMap<Object, EntityKey>( batchKeys.size() );
+			if ( batchKeys.isEmpty() ) {
+				ce = persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
+			}
+			else {
+				// look up the entities queued for batch loading along with this one in the
+				// same call, rather than in one call each when they get loaded in turn
+				for ( EntityKey batchKey : batchKeys ) {
+					batchKeysByCacheKey.put(
+							source.generateCacheKey(
+									batchKey.getIdentifier(),
+									persister.getIdentifierType(),
+									persister.getRootEntityName()
+							),
+							batchKey
+					);
+				}
+				final Set<Object> cacheKeys = new HashSet<Object>( batchKeysByCacheKey.keySet() );
+				cacheKeys.add( ck );
+				batchEntries = new HashMap<Object, Object>(
+						CacheHelper.getAll( persister.getCacheAccessStrategy(), cacheKeys, source.getTimestamp() )
+				);
+				ce = batchEntries.remove( ck );
+			}
+
+			if ( stats ) {
+				factory.getStatisticsImplementor().secondLevelCacheGetTime( System.nanoTime() - startTime );
 				if ( ce == null ) {
 					factory.getStatisticsImplementor().secondLevelCacheMiss(
 							persister.getCacheAccessStrategy().getRegion().getName()
@@ -546,117 +589,35 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 				}
 			}
 
+			Object result = null;
 			if ( ce != null ) {
-				CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
-
 				// Entity was found in second-level cache...
-				return assembleCacheEntry(
-						entry,
+				result = CacheEntryAssembler.assemble(
+						ce,
 						event.getEntityId(),
 						persister,
-						event
+						event.getInstanceToLoad(),
+						event.getSession()
 				);
 			}
-		}
-
-		return null;
-	}
-
-	private Object assembleCacheEntry(
-			final CacheEntry entry,
-			final Serializable id,
-			final EntityPersister persister,
-			final LoadEvent event) throws HibernateException {
-
-		final Object optionalObject = event.getInstanceToLoad();
-		final EventSource session = event.getSession();
-		final SessionFactoryImplementor factory = session.getFactory();
-
-		if ( LOG.isTraceEnabled() ) {
-			LOG.tracev( "Assembling entity from second-level cache: {0}",
-					MessageHelper.infoString( persister, id, factory ) );
-		}
-
-		EntityPersister subclassPersister = factory.getEntityPersister( entry.getSubclass() );
-		Object result = optionalObject == null ?
-				session.instantiate( subclassPersister, id ) : optionalObject;
-
-		// make it circular-reference safe
-		final EntityKey entityKey = session.generateEntityKey( id, subclassPersister );
-		TwoPhaseLoad.addUninitializedCachedEntity(
-				entityKey,
-				result,
-				subclassPersister,
-				LockMode.NONE,
-				entry.areLazyPropertiesUnfetched(),
-				entry.getVersion(),
-				session
-			);
-
-		Type[] types = subclassPersister.getPropertyTypes();
-		Object[] values = entry.assemble( result, id, subclassPersister, session.getInterceptor(), session ); // intializes result by side-effect
-		TypeHelper.deepCopy(
-				values,
-				types,
-				subclassPersister.getPropertyUpdateability(),
-				values,
-				session
-		);
 
-		Object version = Versioning.getVersion( values, subclassPersister );
-		LOG.tracev( "Cached Version: {0}", version );
-
-		final PersistenceContext persistenceContext = session.getPersistenceContext();
-		boolean isReadOnly = session.isDefaultReadOnly();
-		if ( persister.isMutable() ) {
-			Object proxy = persistenceContext.getProxy( entityKey );
-			if ( proxy != null ) {
-				// there is already a proxy for this impl
-				// only set the status to read-only if the proxy is read-only
-				isReadOnly = ( ( HibernateProxy ) proxy ).getHibernateLazyInitializer().isReadOnly();
+			for ( Map.Entry<Object, Object> batchEntry : batchEntries.entrySet() ) {
+				final EntityKey batchKey = batchKeysByCacheKey.get( batchEntry.getKey() );
+				if ( batchEntry.getValue() == null
+						|| source.getPersistenceContext().getEntity( batchKey ) != null ) {
+					continue;
+				}
+				if ( factory.getStatistics().isStatisticsEnabled() ) {
+					factory.getStatisticsImplementor().secondLevelCacheHit(
+							persister.getCacheAccessStrategy().getRegion().getName()
+					);
+				}
+				CacheEntryAssembler.assembleBatchEntry( batchEntry.getValue(), batchKey, persister, event.getSession() );
 			}
-		}
-		else {
-			isReadOnly = true;
-		}
-		persistenceContext.addEntry(
-				result,
-				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
-				values,
-				null,
-				id,
-				version,
-				LockMode.NONE,
-				true,
-				subclassPersister,
-				false,
-				entry.areLazyPropertiesUnfetched()
-			);
-		subclassPersister.afterInitialize( result, entry.areLazyPropertiesUnfetched(), session );
-		persistenceContext.initializeNonLazyCollections();
-		// upgrade the lock if necessary:
-		//lock(result, lockMode);
-
-		//PostLoad is needed for EJB3
-		//TODO: reuse the PostLoadEvent...
-		PostLoadEvent postLoadEvent = new PostLoadEvent( session )
-				.setEntity( result )
-				.setId( id )
-				.setPersister( persister );
-
-		for ( PostLoadEventListener listener : postLoadEventListeners( session ) ) {
-			listener.onPostLoad( postLoadEvent );
-		}
 
-		return result;
-	}
+			return result;
+		}
 
-	private Iterable<PostLoadEventListener> postLoadEventListeners(EventSource session) {
-		return session
-				.getFactory()
-				.getServiceRegistry()
-				.getService( EventListenerRegistry.class )
-				.getEventListenerGroup( EventType.POST_LOAD )
-				.listeners();
+		return null;
 	}
 }
@@ -82,6 +82,10 @@ public class EvictVisitor extends AbstractVisitor {
 							ce.getLoadedKey(),
 							getSession().getFactory() ) );
 		}
+		if ( !collection.wasInitialized() ) {
+			// no longer to be batch fetched along with the collections still in the session
+			getSession().getPersistenceContext().getBatchFetchQueue().removeBatchLoadableCollection( ce );
+		}
 		if ( ce.getLoadedPersister() != null && ce.getLoadedKey() != null ) {
 			//TODO: is this 100% correct?
 			getSession().getPersistenceContext().getCollectionsByKey().remove(
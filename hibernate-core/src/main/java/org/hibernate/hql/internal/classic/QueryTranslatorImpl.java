@@ -38,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 
@@ -950,7 +951,7 @@ public class QueryTranslatorImpl extends BasicLoader implements FilterTranslator
 
 		boolean stats = session.getFactory().getStatistics().isStatisticsEnabled();
 		long startTime = 0;
-		if ( stats ) startTime = System.currentTimeMillis();
+		if ( stats ) startTime = System.nanoTime();
 
 		try {
 
@@ -960,10 +961,12 @@ public class QueryTranslatorImpl extends BasicLoader implements FilterTranslator
 			Iterator result = new IteratorImpl( rs, st, session, queryParameters.isReadOnly( session ), returnTypes, getColumnNames(), hi );
 
 			if ( stats ) {
+				final long time = System.nanoTime() - startTime;
+				session.getFactory().getStatisticsImplementor().queryExecutionTime( "HQL: " + queryString, time );
 				session.getFactory().getStatisticsImplementor().queryExecuted(
 						"HQL: " + queryString,
 						0,
-						System.currentTimeMillis() - startTime
+						TimeUnit.NANOSECONDS.toMillis( time )
 					);
 			}
 
@@ -25,10 +25,13 @@ package org.hibernate.id.enhanced;
 
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -50,7 +53,9 @@ public class OptimizerFactory {
 		HILO( "hilo", HiLoOptimizer.class ),
 		LEGACY_HILO( "legacy-hilo", LegacyHiLoAlgorithmOptimizer.class ),
 		POOLED( "pooled", PooledOptimizer.class, true ),
-		POOLED_LO( "pooled-lo", PooledLoOptimizer.class, true );
+		POOLED_LO( "pooled-lo", PooledLoOptimizer.class, true ),
+		POOLED_LO_CONCURRENT( "pooled-lo-concurrent", ConcurrentPooledLoOptimizer.class, true ),
+		POOLED_LO_THREAD_LOCAL( "pooled-lo-thread-local", ThreadLocalPooledLoOptimizer.class, true );
 
 		private final String externalName;
 		private final Class<? extends Optimizer> optimizerClass;
@@ -98,6 +103,12 @@ public class OptimizerFactory {
 			else if ( POOLED_LO.externalName.equals( externalName ) ) {
 				return POOLED_LO;
 			}
+			else if ( POOLED_LO_CONCURRENT.externalName.equals( externalName ) ) {
+				return POOLED_LO_CONCURRENT;
+			}
+			else if ( POOLED_LO_THREAD_LOCAL.externalName.equals( externalName ) ) {
+				return POOLED_LO_THREAD_LOCAL;
+			}
 			else {
 				LOG.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name" );
 				return null;
@@ -230,6 +241,27 @@ public class OptimizerFactory {
 		public final int getIncrementSize() {
 			return incrementSize;
 		}
+
+		/**
+		 * Ask a {@link PrefetchingAccessCallback} to prefetch the next source value if the value at its prefetch
+		 * threshold is among the values of the current block just handed out.  Other callbacks are ignored.
+		 *
+		 * @param callback Callback to access the underlying value source.
+		 * @param firstUsed The (1-based) position within the current block of the first value handed out.
+		 * @param lastUsed The (1-based) position within the current block of the last value handed out.
+		 */
+		protected final void prefetchIfDue(AccessCallback callback, long firstUsed, long lastUsed) {
+			if ( callback instanceof PrefetchingAccessCallback ) {
+				final PrefetchingAccessCallback prefetchingCallback = (PrefetchingAccessCallback) callback;
+				final long prefetchPosition = Math.max(
+						1L,
+						(long) Math.ceil( incrementSize * prefetchingCallback.getPrefetchThreshold() )
+				);
+				if ( firstUsed <= prefetchPosition && prefetchPosition <= lastUsed ) {
+					prefetchingCallback.prefetchNextValue();
+				}
+			}
+		}
 	}
 
 	/**
@@ -436,6 +468,7 @@ public class OptimizerFactory {
 		private IntegralDataTypeHolder hiValue;
 		private IntegralDataTypeHolder value;
 		private long initialValue = -1;
+		private int blockUsage;
 
 		public PooledOptimizer(Class returnClass, int incrementSize) {
 			super( returnClass, incrementSize );
@@ -464,11 +497,15 @@ public class OptimizerFactory {
 					hiValue = value;
 					value = hiValue.copy().subtract( incrementSize );
 				}
+				blockUsage = 0;
 			}
 			else if ( ! hiValue.gt( value ) ) {
 				hiValue = callback.getNextValue();
 				value = hiValue.copy().subtract( incrementSize );
+				blockUsage = 0;
 			}
+			blockUsage++;
+			prefetchIfDue( callback, blockUsage, blockUsage );
 			return value.makeValueThenIncrement();
 		}
 
@@ -502,6 +539,7 @@ public class OptimizerFactory {
 	public static class PooledLoOptimizer extends OptimizerSupport {
 		private IntegralDataTypeHolder lastSourceValue; // last value read from db source
 		private IntegralDataTypeHolder value; // the current generator value
+		private int blockUsage; // the number of values handed out from the current block
 
 		public PooledLoOptimizer(Class returnClass, int incrementSize) {
 			super( returnClass, incrementSize );
@@ -522,7 +560,10 @@ public class OptimizerFactory {
 				while ( value.lt( 1 ) ) {
 					value.increment();
 				}
+				blockUsage = 0;
 			}
+			blockUsage++;
+			prefetchIfDue( callback, blockUsage, blockUsage );
 			return value.makeValueThenIncrement();
 		}
 
@@ -537,6 +578,164 @@ public class OptimizerFactory {
 		}
 	}
 
+	/**
+	 * A variation of {@link PooledLoOptimizer} which does not serialize the sessions generating identifiers.  Values
+	 * are handed out from the current pool with an atomic increment; only obtaining the next pool from the database
+	 * is guarded, so that a pool is not fetched by several threads at once.
+	 */
+	public static class ConcurrentPooledLoOptimizer extends OptimizerSupport {
+		private final AtomicReference<Pool> currentPool = new AtomicReference<Pool>();
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		public ConcurrentPooledLoOptimizer(Class returnClass, int incrementSize) {
+			super( returnClass, incrementSize );
+			if ( incrementSize < 1 ) {
+				throw new HibernateException( "increment size cannot be less than 1" );
+			}
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Creating concurrent pooled optimizer (lo) with [incrementSize={0}; returnClass={1}]", incrementSize, returnClass.getName() );
+			}
+		}
+
+		@Override
+		public Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Pool pool = currentPool.get();
+				if ( pool != null ) {
+					final long value = pool.next.getAndIncrement();
+					if ( value < pool.limit ) {
+						final long position = pool.position( value );
+						prefetchIfDue( callback, position, position );
+						return makeValue( value );
+					}
+				}
+				nextPool( callback, pool );
+			}
+		}
+
+		/**
+		 * Get the current pool, obtaining the next one from the database if the current one is the given exhausted
+		 * pool.
+		 *
+		 * @param callback Callback to access the underlying value source.
+		 * @param exhausted The pool found to be exhausted (or {@code null} if there was none).
+		 *
+		 * @return The (possibly new) current pool.
+		 */
+		final synchronized Pool nextPool(AccessCallback callback, Pool exhausted) {
+			final Pool current = currentPool.get();
+			if ( current != exhausted ) {
+				// another thread already obtained the next pool
+				return current;
+			}
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			final long lo = sourceValue.makeValue().longValue();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final Pool pool = new Pool( lo, Math.max( lo, 1 ), lo + incrementSize );
+			lastSourceValue = sourceValue;
+			currentPool.set( pool );
+			return pool;
+		}
+
+		final Serializable makeValue(long value) {
+			if ( returnClass == Long.class ) {
+				return Long.valueOf( value );
+			}
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+		}
+
+		final Pool currentPool() {
+			return currentPool.get();
+		}
+
+		@Override
+		public IntegralDataTypeHolder getLastSourceValue() {
+			return lastSourceValue;
+		}
+
+		@Override
+		public boolean applyIncrementSizeToSourceValues() {
+			return true;
+		}
+	}
+
+	/**
+	 * A variation of {@link ConcurrentPooledLoOptimizer} in which each thread claims a slice of the current pool and
+	 * hands out the values of that slice without any coordination with other threads.  Values are unique, but not
+	 * generated in order across threads, and the unused values of each thread's slice are lost when the
+	 * optimizer is discarded.
+	 * <p/>
+	 * The slice size is a sixteenth of the increment size.
+	 */
+	public static class ThreadLocalPooledLoOptimizer extends ConcurrentPooledLoOptimizer {
+		private final int sliceSize;
+		private final ThreadLocal<long[]> slices = new ThreadLocal<long[]>() {
+			@Override
+			protected long[] initialValue() {
+				// { next value, limit }
+				return new long[2];
+			}
+		};
+
+		public ThreadLocalPooledLoOptimizer(Class returnClass, int incrementSize) {
+			super( returnClass, incrementSize );
+			this.sliceSize = Math.max( 1, incrementSize / 16 );
+		}
+
+		@Override
+		public Serializable generate(AccessCallback callback) {
+			final long[] slice = slices.get();
+			if ( slice[0] >= slice[1] ) {
+				claimSlice( callback, slice );
+			}
+			return makeValue( slice[0]++ );
+		}
+
+		private void claimSlice(AccessCallback callback, long[] slice) {
+			Pool pool = currentPool();
+			while ( true ) {
+				if ( pool != null ) {
+					final long start = pool.next.getAndAdd( sliceSize );
+					if ( start < pool.limit ) {
+						slice[0] = start;
+						slice[1] = Math.min( start + sliceSize, pool.limit );
+						prefetchIfDue( callback, pool.position( slice[0] ), pool.position( slice[1] - 1 ) );
+						return;
+					}
+				}
+				pool = nextPool( callback, pool );
+			}
+		}
+
+		public int getSliceSize() {
+			return sliceSize;
+		}
+	}
+
+	/**
+	 * A pool of values, {@code [next, limit)}, shared by the threads using a {@link ConcurrentPooledLoOptimizer}.
+	 */
+	static final class Pool {
+		private final long lo;
+		private final AtomicLong next;
+		private final long limit;
+
+		private Pool(long lo, long start, long limit) {
+			this.lo = lo;
+			this.next = new AtomicLong( start );
+			this.limit = limit;
+		}
+
+		/**
+		 * @param value A value of this pool.
+		 *
+		 * @return The (1-based) position of the value within the block of source values this pool was built from.
+		 */
+		private long position(long value) {
+			return value - lo + 1;
+		}
+	}
+
 	/**
 	 * @deprecated Use {@link StandardOptimizerDescriptor#getExternalName()} via {@link StandardOptimizerDescriptor#NONE}
 	 */
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Middleware LLC or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Middleware LLC.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ *
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * An {@link AccessCallback} able to obtain the next value from the underlying source ahead of time, in the
+ * background, so that an {@link Optimizer} running out of values does not have to wait for the database.
+ */
+public interface PrefetchingAccessCallback extends AccessCallback {
+	/**
+	 * The fraction (between 0 and 1) of a block of values which should be used up before the next value is
+	 * {@link #prefetchNextValue() prefetched}.
+	 *
+	 * @return The prefetch threshold.
+	 */
+	public double getPrefetchThreshold();
+
+	/**
+	 * Start obtaining the next value in the background, unless that is already being done.  The next call to
+	 * {@link #getNextValue()} returns the prefetched value.
+	 */
+	public void prefetchNextValue();
+}
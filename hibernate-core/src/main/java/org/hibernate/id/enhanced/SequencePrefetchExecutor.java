@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.service.Service;
+
+/**
+ * Runs the background fetches of {@link SequenceStructure sequences} with prefetching enabled.  Scoped to a
+ * session factory; once the factory is closed no more tasks are accepted.
+ */
+public interface SequencePrefetchExecutor extends Service {
+	/**
+	 * Run the given prefetch task in the background.
+	 *
+	 * @param task The task
+	 *
+	 * @throws RejectedExecutionException If the session factory has been closed.
+	 */
+	public void execute(Runnable task);
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard implementation of {@link SequencePrefetchExecutor}: a single daemon thread, started on first use and
+ * let go again when idle.  Stopped (together with any pending prefetch) when the session factory is closed.
+ */
+public class SequencePrefetchExecutorImpl implements SequencePrefetchExecutor, Stoppable {
+	private transient ThreadPoolExecutor executor;
+	private boolean stopped;
+
+	@Override
+	public synchronized void execute(Runnable task) {
+		if ( stopped ) {
+			throw new RejectedExecutionException( "Session factory has been closed" );
+		}
+		if ( executor == null ) {
+			executor = new ThreadPoolExecutor(
+					1, 1, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread( runnable, "Hibernate sequence prefetch" );
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+			executor.allowCoreThreadTimeOut( true );
+		}
+		executor.execute( task );
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			for ( Runnable pending : executor.shutdownNow() ) {
+				// so that nobody waits for a prefetch which will never run
+				if ( Future.class.isInstance( pending ) ) {
+					( (Future) pending ).cancel( false );
+				}
+			}
+			executor = null;
+		}
+	}
+}
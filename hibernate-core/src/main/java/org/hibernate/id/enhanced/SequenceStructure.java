@@ -23,9 +23,17 @@
  *
  */
 package org.hibernate.id.enhanced;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.logging.Logger;
 
@@ -35,9 +43,16 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
 
 /**
  * Describes a sequence.
+ * <p/>
+ * When {@link #enablePrefetch prefetching} is enabled the callbacks built here are
+ * {@link PrefetchingAccessCallback}s: once the optimizer has used up the configured fraction of its current block,
+ * the next sequence value is obtained in the background (by the {@link SequencePrefetchExecutor} of the session
+ * factory) over a separate connection, so that the thread exhausting the block does not have to wait for the
+ * database round trip.
  *
  * @author Steve Ebersole
  */
@@ -52,6 +67,9 @@ public class SequenceStructure implements DatabaseStructure {
 	private final String sql;
 	private boolean applyIncrementSizeToSourceValues;
 	private int accessCounter;
+	private double prefetchThreshold;
+	private final AtomicReference<Future<IntegralDataTypeHolder>> prefetchedValue
+			= new AtomicReference<Future<IntegralDataTypeHolder>>();
 
 	public SequenceStructure(
 			Dialect dialect,
@@ -86,50 +104,148 @@ public class SequenceStructure implements DatabaseStructure {
 		return initialValue;
 	}
 
+	/**
+	 * Enable asynchronous prefetching of the next sequence value.
+	 *
+	 * @param prefetchThreshold The fraction of a block of values which should be used up before the next sequence
+	 * value is prefetched; must be greater than 0 and at most 1.
+	 */
+	public void enablePrefetch(double prefetchThreshold) {
+		if ( prefetchThreshold <= 0 || prefetchThreshold > 1 ) {
+			throw new IllegalArgumentException( "Prefetch threshold must be in the range (0, 1] : " + prefetchThreshold );
+		}
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
 	@Override
 	public AccessCallback buildCallback(final SessionImplementor session) {
-		return new AccessCallback() {
-			@Override
-			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
-				try {
-					PreparedStatement st = session.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
-					try {
-						ResultSet rs = st.executeQuery();
+		if ( prefetchThreshold > 0 ) {
+			return new PrefetchingAccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					Future<IntegralDataTypeHolder> prefetched = prefetchedValue.getAndSet( null );
+					if ( prefetched != null ) {
 						try {
-							rs.next();
-							IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
-							value.initialize( rs, 1 );
-							if ( LOG.isDebugEnabled() ) {
-								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
-							}
+							IntegralDataTypeHolder value = prefetched.get();
+							accessCounter++;
 							return value;
 						}
-						finally {
-							try {
-								rs.close();
-							}
-							catch( Throwable ignore ) {
-								// intentionally empty
-							}
+						catch ( InterruptedException e ) {
+							Thread.currentThread().interrupt();
+							LOG.unableToPrefetchSequenceValue( sequenceName, e );
+						}
+						catch ( ExecutionException e ) {
+							LOG.unableToPrefetchSequenceValue( sequenceName, e.getCause() );
+						}
+						catch ( CancellationException e ) {
+							LOG.unableToPrefetchSequenceValue( sequenceName, e );
 						}
 					}
-					finally {
-						st.close();
-					}
+					return nextValue( session );
+				}
 
+				@Override
+				public double getPrefetchThreshold() {
+					return prefetchThreshold;
 				}
-				catch ( SQLException sqle) {
-					throw session.getFactory().getSQLExceptionHelper().convert(
-							sqle,
-							"could not get next sequence value",
-							sql
+
+				@Override
+				public void prefetchNextValue() {
+					final ConnectionProvider connectionProvider = session.getFactory().getConnectionProvider();
+					final SequencePrefetchExecutor executor = session.getFactory().getServiceRegistry()
+							.getService( SequencePrefetchExecutor.class );
+					if ( connectionProvider == null || executor == null || prefetchedValue.get() != null ) {
+						return;
+					}
+					FutureTask<IntegralDataTypeHolder> task = new FutureTask<IntegralDataTypeHolder>(
+							new Callable<IntegralDataTypeHolder>() {
+								@Override
+								public IntegralDataTypeHolder call() throws SQLException {
+									return prefetchValue( connectionProvider );
+								}
+							}
 					);
+					if ( prefetchedValue.compareAndSet( null, task ) ) {
+						try {
+							executor.execute( task );
+						}
+						catch ( RejectedExecutionException e ) {
+							// the session factory is being closed; the next value is obtained synchronously
+							prefetchedValue.compareAndSet( task, null );
+						}
+					}
 				}
+			};
+		}
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return nextValue( session );
 			}
 		};
 	}
 
+	private IntegralDataTypeHolder nextValue(SessionImplementor session) {
+		accessCounter++;
+		try {
+			PreparedStatement st = session.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			try {
+				return extractValue( st );
+			}
+			finally {
+				st.close();
+			}
+		}
+		catch ( SQLException sqle) {
+			throw session.getFactory().getSQLExceptionHelper().convert(
+					sqle,
+					"could not get next sequence value",
+					sql
+			);
+		}
+	}
+
+	private IntegralDataTypeHolder prefetchValue(ConnectionProvider connectionProvider) throws SQLException {
+		Connection connection = connectionProvider.getConnection();
+		try {
+			PreparedStatement st = connection.prepareStatement( sql );
+			try {
+				IntegralDataTypeHolder value = extractValue( st );
+				if ( !connection.getAutoCommit() ) {
+					connection.commit();
+				}
+				return value;
+			}
+			finally {
+				st.close();
+			}
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+
+	private IntegralDataTypeHolder extractValue(PreparedStatement st) throws SQLException {
+		ResultSet rs = st.executeQuery();
+		try {
+			rs.next();
+			IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+			value.initialize( rs, 1 );
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+			}
+			return value;
+		}
+		finally {
+			try {
+				rs.close();
+			}
+			catch( Throwable ignore ) {
+				// intentionally empty
+			}
+		}
+	}
+
 	@Override
 	public void prepare(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
@@ -94,6 +94,21 @@ import org.hibernate.type.Type;
  *     <td>The name of column which holds the sequence value for the given segment</td>
  *   </tr>
  * </table>
+ * <p/>
+ * Configuration parameters used specifically when the underlying structure is a sequence:
+ * <table>
+ * 	 <tr>
+ *     <td><b>NAME</b></td>
+ *     <td><b>DEFAULT</b></td>
+ *     <td><b>DESCRIPTION</b></td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link #PREFETCH_PARAM}</td>
+ *     <td><i>none</i></td>
+ *     <td>The fraction (between 0 and 1) of a pool of values which should be used up before the next sequence
+ *     value is obtained in the background; only applies to pooled optimizers</td>
+ *   </tr>
+ * </table>
  *
  * @author Steve Ebersole
  */
@@ -125,6 +140,10 @@ public class SequenceStyleGenerator
 	public static final String DEF_VALUE_COLUMN = "next_val";
 
 
+	// sequence-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	public static final String PREFETCH_PARAM = "prefetch_threshold";
+
+
 	// state ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	private DatabaseStructure databaseStructure;
 	private Optimizer optimizer;
@@ -196,6 +215,12 @@ public class SequenceStyleGenerator
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
 		this.databaseStructure.prepare( optimizer );
+		if ( databaseStructure instanceof SequenceStructure && OptimizerFactory.isPooledOptimizer( optimizationStrategy ) ) {
+			final double prefetchThreshold = determinePrefetchThreshold( params );
+			if ( prefetchThreshold > 0 ) {
+				( (SequenceStructure) databaseStructure ).enablePrefetch( prefetchThreshold );
+			}
+		}
 	}
 
 	/**
@@ -293,6 +318,33 @@ public class SequenceStyleGenerator
 		return ConfigurationHelper.getString( OPT_PARAM, params, defaultOptimizerStrategy );
 	}
 
+	/**
+	 * Determine the fraction of a pool of values which should be used up before the next sequence value is
+	 * prefetched in the background.
+	 * <p/>
+	 * Called during {@link #configure configuration} <b>when resolving to a physical sequence used with a pooled
+	 * optimizer</b>.
+	 *
+	 * @param params The params supplied in the generator config (plus some standard useful extras).
+	 * @return The prefetch threshold, or 0 if prefetching is not enabled.
+	 */
+	protected double determinePrefetchThreshold(Properties params) {
+		final String value = ConfigurationHelper.getString( PREFETCH_PARAM, params );
+		if ( value == null ) {
+			return 0;
+		}
+		try {
+			final double prefetchThreshold = Double.parseDouble( value.trim() );
+			if ( prefetchThreshold > 0 && prefetchThreshold <= 1 ) {
+				return prefetchThreshold;
+			}
+		}
+		catch ( NumberFormatException ignore ) {
+			// reported below
+		}
+		throw new MappingException( "Invalid " + PREFETCH_PARAM + " [" + value + "]; expecting a value in the range (0, 1]" );
+	}
+
 	/**
 	 * In certain cases we need to adjust the increment size based on the
 	 * selected optimizer.  This is the hook to achieve that.
@@ -30,20 +30,32 @@ import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.TimeZone;
 
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.loader.Loader;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
@@ -64,6 +76,7 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	private Set<EntityKey> streamedKeys = Collections.emptySet();
 
 	public AbstractScrollableResults(
 	        ResultSet rs,
@@ -288,4 +301,88 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 	protected void afterScrollOperation() {
 		session.afterScrollOperation();
 	}
+
+	/**
+	 * @return A list to pass to the loader to receive the entities the next row loads into the session when
+	 * {@link ScrollMode#STREAMING streaming}, or null otherwise
+	 */
+	protected List newLoadedEntities() {
+		return isStreaming() ? new ArrayList() : null;
+	}
+
+	/**
+	 * @return A set to pass to the loader to receive the keys of all the entities of the next row when
+	 * {@link ScrollMode#STREAMING streaming}, or null otherwise
+	 */
+	protected Set<EntityKey> newRowKeys() {
+		return isStreaming() ? new HashSet<EntityKey>() : null;
+	}
+
+	/**
+	 * When {@link ScrollMode#STREAMING streaming}, evict the entities the scroll loaded for the rows the cursor
+	 * moved past from the session, unless the row it moved to references them.  This includes the entities
+	 * fetched along with the returned ones, the elements of fetched collections among them.  Entities which
+	 * were already managed by the session before the scroll loaded them are left alone.
+	 *
+	 * @param row The values of the row the cursor moved to, or null if it moved past the last row
+	 * @param loadedEntities The entities the loader loaded into the session for that row, as collected in the
+	 * list obtained from {@link #newLoadedEntities()}
+	 * @param rowKeys The keys of all the entities of that row, as collected in the set obtained from
+	 * {@link #newRowKeys()}
+	 */
+	protected void evictPassedRow(Object[] row, List loadedEntities, Set<EntityKey> rowKeys) {
+		if ( !isStreaming() ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final Set<EntityKey> keptKeys = new HashSet<EntityKey>();
+		if ( loadedEntities != null ) {
+			for ( Object entity : loadedEntities ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null ) {
+					keptKeys.add( entry.getEntityKey() );
+				}
+			}
+		}
+		if ( rowKeys != null ) {
+			for ( EntityKey key : rowKeys ) {
+				if ( streamedKeys.contains( key ) ) {
+					keptKeys.add( key );
+				}
+			}
+		}
+		if ( row != null ) {
+			for ( Object value : row ) {
+				final EntityKey key = getEntityKey( value );
+				if ( key != null && streamedKeys.contains( key ) ) {
+					keptKeys.add( key );
+				}
+			}
+		}
+		for ( EntityKey key : streamedKeys ) {
+			if ( !keptKeys.contains( key ) ) {
+				final Object entity = persistenceContext.getEntity( key );
+				if ( entity != null ) {
+					( (EventSource) session ).evict( entity );
+				}
+			}
+		}
+		streamedKeys = keptKeys;
+	}
+
+	private boolean isStreaming() {
+		return queryParameters.getScrollMode() == ScrollMode.STREAMING && session instanceof EventSource;
+	}
+
+	private EntityKey getEntityKey(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer li = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			return session.generateEntityKey(
+					li.getIdentifier(),
+					session.getFactory().getEntityPersister( li.getEntityName() )
+			);
+		}
+		final EntityEntry entry = value == null ? null : session.getPersistenceContext().getEntry( value );
+		return entry == null ? null : entry.getEntityKey();
+	}
 }
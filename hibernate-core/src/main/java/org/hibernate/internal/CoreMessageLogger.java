@@ -1578,4 +1578,20 @@ public interface CoreMessageLogger extends BasicLogger {
 	@LogMessage(level = INFO)
 	@Message(value = "NaturalId queries executed to database: %s", id = 442)
 	void naturalIdQueriesExecuted(long naturalIdQueriesExecutionCount);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to prefetch next value of sequence [%s]; obtaining it synchronously", id = 443)
+	void unableToPrefetchSequenceValue(String sequenceName, @Cause Throwable e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "JDBC connection obtained from the connection pool [%s] has not been released for more than %s ms; it may have been leaked", id = 444)
+	void connectionLeakDetected(String url, long leakDetectionThreshold, @Cause Throwable obtainedAt);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Slow query took %s ms [binds: %s, rows: %s]: %s", id = 445)
+	void slowQuery(long time, int bindCount, String rowCount, String sql);
+
+	@LogMessage(level = INFO)
+	@Message(value = "%s latency in ns: count=%s, p50=%s, p99=%s, p999=%s, max=%s", id = 446)
+	void latency(String operation, long count, long p50, long p99, long p999, long max);
 }
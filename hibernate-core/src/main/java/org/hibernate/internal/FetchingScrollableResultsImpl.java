@@ -25,9 +25,12 @@ package org.hibernate.internal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.hql.internal.HolderInstantiator;
@@ -70,6 +73,7 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 		if ( maxPosition != null && maxPosition.intValue() <= currentPosition ) {
 			currentRow = null;
 			currentPosition = maxPosition.intValue() + 1;
+			evictPassedRow( null, null, null );
 			return false;
 		}
 
@@ -79,11 +83,15 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 			return false;
 		}
 
+		final List loadedEntities = newLoadedEntities();
+		final Set<EntityKey> rowKeys = newRowKeys();
 		Object row = getLoader().loadSequentialRowsForward(
 				getResultSet(),
 				getSession(),
 				getQueryParameters(),
-				false
+				false,
+				loadedEntities,
+				rowKeys
 		);
 
 
@@ -100,6 +108,7 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 
 		currentPosition++;
 		currentRow = new Object[] { row };
+		evictPassedRow( row instanceof Object[] ? (Object[]) row : currentRow, loadedEntities, rowKeys );
 
 		if ( afterLast ) {
 			if ( maxPosition == null ) {
@@ -25,10 +25,13 @@ package org.hibernate.internal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.hql.internal.HolderInstantiator;
@@ -234,14 +237,19 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 		
 		if (!underlyingScrollSuccessful) {
 			currentRow = null;
+			evictPassedRow( null, null, null );
 			return;
 		}
 
+		final List loadedEntities = newLoadedEntities();
+		final Set<EntityKey> rowKeys = newRowKeys();
 		Object result = getLoader().loadSingleRow(
 				getResultSet(),
 				getSession(),
 				getQueryParameters(),
-				false
+				false,
+				loadedEntities,
+				rowKeys
 		);
 		if ( result != null && result.getClass().isArray() ) {
 			currentRow = (Object[]) result;
@@ -249,6 +257,7 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 		else {
 			currentRow = new Object[] { result };
 		}
+		evictPassedRow( currentRow, loadedEntities, rowKeys );
 
 		if ( getHolderInstantiator() != null ) {
 			currentRow = new Object[] { getHolderInstantiator().instantiate(currentRow) };
@@ -102,6 +102,7 @@ import org.hibernate.engine.spi.Mapping;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.TableDependencyOrder;
 import org.hibernate.engine.transaction.internal.TransactionCoordinatorImpl;
 import org.hibernate.engine.transaction.spi.TransactionEnvironment;
 import org.hibernate.exception.spi.SQLExceptionConverter;
@@ -207,6 +208,7 @@ public final class SessionFactoryImpl
 	private final transient SessionFactoryObserverChain observer = new SessionFactoryObserverChain();
 	private final transient ConcurrentHashMap<EntityNameResolver,Object> entityNameResolvers = new ConcurrentHashMap<EntityNameResolver, Object>();
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient TableDependencyOrder tableDependencyOrder;
 	private final transient Cache cacheAccess = new CacheImpl();
 	private transient boolean isClosed = false;
 	private final transient TypeResolver typeResolver;
@@ -466,6 +468,7 @@ public final class SessionFactoryImpl
 			final CollectionPersister persister = ( ( CollectionPersister ) iter.next() );
 			persister.postInstantiate();
 		}
+		tableDependencyOrder = TableDependencyOrder.build( entityPersisters.values() );
 
 		//JNDI + Serialization:
 
@@ -914,6 +917,7 @@ public final class SessionFactoryImpl
 			final CollectionPersister persister = ( ( CollectionPersister ) iter.next() );
 			persister.postInstantiate();
 		}
+		tableDependencyOrder = TableDependencyOrder.build( entityPersisters.values() );
 
 		//JNDI + Serialization:
 
@@ -1110,6 +1114,10 @@ public final class SessionFactoryImpl
 		return queryPlanCache;
 	}
 
+	public TableDependencyOrder getTableDependencyOrder() {
+		return tableDependencyOrder;
+	}
+
 	@SuppressWarnings( {"ThrowableResultOfMethodCallIgnored"})
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
 		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
@@ -1810,6 +1818,7 @@ public final class SessionFactoryImpl
 		private boolean autoJoinTransactions = true;
 		private boolean flushBeforeCompletion;
 		private String tenantIdentifier;
+		private boolean readOnly;
 
 		SessionBuilderImpl(SessionFactoryImpl sessionFactory) {
 			this.sessionFactory = sessionFactory;
@@ -1838,7 +1847,8 @@ public final class SessionFactoryImpl
 					flushBeforeCompletion,
 					autoClose,
 					connectionReleaseMode,
-					tenantIdentifier
+					tenantIdentifier,
+					readOnly
 			);
 		}
 
@@ -1889,6 +1899,12 @@ public final class SessionFactoryImpl
 			this.tenantIdentifier = tenantIdentifier;
 			return this;
 		}
+
+		@Override
+		public SessionBuilder readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
 	}
 
 	public static class StatelessSessionBuilderImpl implements StatelessSessionBuilder {
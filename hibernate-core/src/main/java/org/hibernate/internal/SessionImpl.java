@@ -216,6 +216,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 	 * @param autoCloseSessionEnabled Should we auto close after completion of transaction
 	 * @param connectionReleaseMode The mode by which we should release JDBC connections.
 	 * @param tenantIdentifier The tenant identifier to use.  May be null
+	 * @param readOnly Should the session be read-only as a whole?
 	 */
 	SessionImpl(
 			final Connection connection,
@@ -227,12 +228,13 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			final boolean flushBeforeCompletionEnabled,
 			final boolean autoCloseSessionEnabled,
 			final ConnectionReleaseMode connectionReleaseMode,
-			final String tenantIdentifier) {
+			final String tenantIdentifier,
+			final boolean readOnly) {
 		super( factory, tenantIdentifier );
 		this.timestamp = timestamp;
 		this.interceptor = interceptor == null ? EmptyInterceptor.INSTANCE : interceptor;
 		this.actionQueue = new ActionQueue( this );
-		this.persistenceContext = new StatefulPersistenceContext( this );
+		this.persistenceContext = new StatefulPersistenceContext( this, readOnly );
 
 		this.autoCloseSessionEnabled = autoCloseSessionEnabled;
 		this.flushBeforeCompletionEnabled = flushBeforeCompletionEnabled;
@@ -665,6 +667,19 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		}
 	}
 
+	private void errorIfReadOnly() {
+		if ( persistenceContext.isReadOnlyContext() ) {
+			throw new SessionException( "Session is read-only" );
+		}
+	}
+
+	private void errorIfReadOnly(LockMode lockMode) {
+		if ( lockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT || lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
+			// forcing a version increment is a change, which a read-only session would never flush
+			errorIfReadOnly();
+		}
+	}
+
 	private void checkNoUnresolvedActionsBeforeOperation() {
 		if ( persistenceContext.getCascadeLevel() == 0 && actionQueue.hasUnresolvedEntityInsertActions() ) {
 			throw new IllegalStateException( "There are delayed insert actions before operation as cascade level 0." );
@@ -689,6 +704,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireSaveOrUpdate(SaveOrUpdateEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE_UPDATE ) ) {
@@ -718,6 +734,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private Serializable fireSave(SaveOrUpdateEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE ) ) {
@@ -740,6 +757,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireUpdate(SaveOrUpdateEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.UPDATE ) ) {
@@ -773,6 +791,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireLock(LockEvent event) {
 		errorIfClosed();
+		errorIfReadOnly( event.getLockMode() );
 		checkTransactionSynchStatus();
 		for ( LockEventListener listener : listeners( EventType.LOCK ) ) {
 			listener.onLock( event );
@@ -797,6 +816,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void firePersist(Map copiedAlready, PersistEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( PersistEventListener listener : listeners( EventType.PERSIST ) ) {
 			listener.onPersist( event, copiedAlready );
@@ -805,6 +825,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void firePersist(PersistEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( PersistEventListener listener : listeners( EventType.PERSIST ) ) {
@@ -832,6 +853,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void firePersistOnFlush(Map copiedAlready, PersistEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( PersistEventListener listener : listeners( EventType.PERSIST_ONFLUSH ) ) {
 			listener.onPersist( event, copiedAlready );
@@ -840,6 +862,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void firePersistOnFlush(PersistEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( PersistEventListener listener : listeners( EventType.PERSIST_ONFLUSH ) ) {
@@ -865,6 +888,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private Object fireMerge(MergeEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( MergeEventListener listener : listeners( EventType.MERGE ) ) {
@@ -876,6 +900,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireMerge(Map copiedAlready, MergeEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( MergeEventListener listener : listeners( EventType.MERGE ) ) {
 			listener.onMerge( event, copiedAlready );
@@ -908,6 +933,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireDelete(DeleteEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( DeleteEventListener listener : listeners( EventType.DELETE ) ) {
 			listener.onDelete( event );
@@ -916,6 +942,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireDelete(DeleteEvent event, Set transientEntities) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( DeleteEventListener listener : listeners( EventType.DELETE ) ) {
 			listener.onDelete( event, transientEntities );
@@ -1041,6 +1068,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		errorIfClosed();
+		errorIfReadOnly( event.getLockMode() );
 		checkTransactionSynchStatus();
 		for ( LoadEventListener listener : listeners( EventType.LOAD ) ) {
 			listener.onLoad( event, loadType );
@@ -1085,6 +1113,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireRefresh(RefreshEvent event) {
 		errorIfClosed();
+		errorIfReadOnly( event.getLockMode() );
 		checkTransactionSynchStatus();
 		for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 			listener.onRefresh( event );
@@ -1093,6 +1122,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireRefresh(Map refreshedAlready, RefreshEvent event) {
 		errorIfClosed();
+		errorIfReadOnly( event.getLockMode() );
 		checkTransactionSynchStatus();
 		for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 			listener.onRefresh( event, refreshedAlready );
@@ -1113,6 +1143,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	private void fireReplicate(ReplicateEvent event) {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		for ( ReplicateEventListener listener : listeners( EventType.REPLICATE ) ) {
 			listener.onReplicate( event );
@@ -1148,6 +1179,10 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			// do not auto-flush while outside a transaction
 			return false;
 		}
+		if ( persistenceContext.isReadOnlyContext() ) {
+			// nothing to flush
+			return false;
+		}
 		AutoFlushEvent event = new AutoFlushEvent( querySpaces, this );
 		for ( AutoFlushEventListener listener : listeners( EventType.AUTO_FLUSH ) ) {
 			listener.onAutoFlush( event );
@@ -1159,6 +1194,10 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		errorIfClosed();
 		checkTransactionSynchStatus();
 		LOG.debug( "Checking session dirtiness" );
+		if ( persistenceContext.isReadOnlyContext() ) {
+			LOG.debug( "Session not dirty (read-only session)" );
+			return false;
+		}
 		if ( actionQueue.areInsertionsOrDeletionsQueued() ) {
 			LOG.debug( "Session dirty (scheduled updates and insertions)" );
 			return true;
@@ -1176,6 +1215,10 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		if ( persistenceContext.getCascadeLevel() > 0 ) {
 			throw new HibernateException("Flush during cascade is dangerous");
 		}
+		if ( persistenceContext.isReadOnlyContext() ) {
+			LOG.trace( "Skipping flush of read-only session" );
+			return;
+		}
 		FlushEvent flushEvent = new FlushEvent( this );
 		for ( FlushEventListener listener : listeners( EventType.FLUSH ) ) {
 			listener.onFlush( flushEvent );
@@ -1224,6 +1267,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
 		errorIfClosed();
+		errorIfReadOnly();
 		checkTransactionSynchStatus();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getHQLQueryPlan( query, false );
@@ -1244,6 +1288,7 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
     public int executeNativeUpdate(NativeSQLQuerySpecification nativeQuerySpecification,
             QueryParameters queryParameters) throws HibernateException {
         errorIfClosed();
+        errorIfReadOnly();
         checkTransactionSynchStatus();
         queryParameters.validateParameters();
         NativeSQLQueryPlan plan = getNativeSQLQueryPlan( nativeQuerySpecification );
@@ -2263,6 +2308,11 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		public SharedSessionBuilder flushBeforeCompletion(boolean flushBeforeCompletion) {
 			return (SharedSessionBuilder) super.flushBeforeCompletion( flushBeforeCompletion );
 		}
+
+		@Override
+		public SharedSessionBuilder readOnly(boolean readOnly) {
+			return (SharedSessionBuilder) super.readOnly( readOnly );
+		}
 	}
 
 	private class CoordinatingEntityNameResolver implements EntityNameResolver {
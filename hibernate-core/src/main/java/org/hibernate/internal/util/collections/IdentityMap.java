@@ -24,25 +24,41 @@
  */
 package org.hibernate.internal.util.collections;
 
-import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * A <tt>Map</tt> where keys are compared by object identity,
  * rather than <tt>equals()</tt>.
+ * <p/>
+ * Iteration order is the order in which entries were added.  Entries are kept, in that order, in an array of
+ * {@link IdentityMapEntry} slots (each holding both the key and the value) indexed by an open-addressing hash table
+ * of slot positions, so keys are not wrapped and nothing is allocated until the first entry is added.
  */
 public final class IdentityMap<K,V> implements Map<K,V> {
+	private static final IdentityMapEntry[] NO_ENTRIES = new IdentityMapEntry[0];
+
+	private final int initialCapacity;
+
+	// entries, in insertion order; removed entries leave a null slot until the next rehash
+	private IdentityMapEntry<K,V>[] entries;
+	// open-addressing table of (entry position + 1), 0 marking a free bucket and DELETED a removed entry
+	private int[] table;
+	private int used;
+	private int size;
 
-	private final Map<IdentityKey<K>,V> map;
 	@SuppressWarnings( {"unchecked"})
-	private transient Entry<IdentityKey<K>,V>[] entryArray = new Entry[0];
+	private transient Entry<K,V>[] entryArray = NO_ENTRIES;
 	private transient boolean dirty = false;
 
+	private static final int DELETED = -1;
+
 	/**
 	 * Return a new instance of this class, with iteration
 	 * order defined as the order in which entries were added
@@ -51,16 +67,16 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 * @return The map
 	 */
 	public static <K,V> IdentityMap<K,V> instantiateSequenced(int size) {
-		return new IdentityMap<K,V>( new LinkedHashMap<IdentityKey<K>,V>( size ) );
+		return new IdentityMap<K,V>( size );
 	}
 
 	/**
-	 * Private ctor used in serialization.
+	 * Private ctor.
 	 *
-	 * @param underlyingMap The delegate map.
+	 * @param initialCapacity The number of entries to make room for once the first entry is added.
 	 */
-	private IdentityMap(Map<IdentityKey<K>,V> underlyingMap) {
-		map = underlyingMap;
+	private IdentityMap(int initialCapacity) {
+		this.initialCapacity = Math.max( initialCapacity, 2 );
 		dirty = true;
 	}
 
@@ -77,47 +93,74 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	public Iterator<K> keyIterator() {
-		return new KeyIterator<K>( map.keySet().iterator() );
+		return new KeyIterator();
 	}
 
 	@Override
 	public int size() {
-		return map.size();
+		return size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return map.isEmpty();
+		return size == 0;
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	public boolean containsKey(Object key) {
-		return map.containsKey( new IdentityKey( key ) );
+		return indexOf( key ) >= 0;
 	}
 
 	@Override
 	public boolean containsValue(Object val) {
-		return map.containsValue(val);
+		for ( int i = 0; i < used; i++ ) {
+			final IdentityMapEntry<K,V> entry = entries[i];
+			if ( entry != null && ( val == null ? entry.value == null : val.equals( entry.value ) ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V get(Object key) {
-		return map.get( new IdentityKey(key) );
+		final int bucket = indexOf( key );
+		return bucket < 0 ? null : entries[table[bucket] - 1].value;
 	}
 
 	@Override
 	public V put(K key, V value) {
+		final int bucket = indexOf( key );
+		if ( bucket >= 0 ) {
+			return entries[table[bucket] - 1].setValue( value );
+		}
+		if ( entries == null ) {
+			allocate( initialCapacity );
+		}
+		else if ( used == entries.length ) {
+			allocate( Math.max( size * 2, initialCapacity ) );
+		}
 		dirty = true;
-		return map.put( new IdentityKey<K>(key), value );
+		entries[used] = new IdentityMapEntry<K,V>( key, value );
+		insert( key, used );
+		used++;
+		size++;
+		return null;
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V remove(Object key) {
+		final int bucket = indexOf( key );
+		if ( bucket < 0 ) {
+			return null;
+		}
 		dirty = true;
-		return map.remove( new IdentityKey(key) );
+		final int position = table[bucket] - 1;
+		final V value = entries[position].value;
+		entries[position] = null;
+		table[bucket] = DELETED;
+		size--;
+		return value;
 	}
 
 	@Override
@@ -131,7 +174,10 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	public void clear() {
 		dirty = true;
 		entryArray = null;
-		map.clear();
+		entries = null;
+		table = null;
+		used = 0;
+		size = 0;
 	}
 
 	@Override
@@ -142,14 +188,22 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 
 	@Override
 	public Collection<V> values() {
-		return map.values();
+		final ArrayList<V> values = new ArrayList<V>( size );
+		for ( int i = 0; i < used; i++ ) {
+			if ( entries[i] != null ) {
+				values.add( entries[i].value );
+			}
+		}
+		return Collections.unmodifiableList( values );
 	}
 
 	@Override
 	public Set<Entry<K,V>> entrySet() {
-		Set<Entry<K,V>> set = new HashSet<Entry<K,V>>( map.size() );
-		for ( Entry<IdentityKey<K>, V> entry : map.entrySet() ) {
-			set.add( new IdentityMapEntry<K,V>( entry.getKey().getRealKey(), entry.getValue() ) );
+		Set<Entry<K,V>> set = new HashSet<Entry<K,V>>( size );
+		for ( int i = 0; i < used; i++ ) {
+			if ( entries[i] != null ) {
+				set.add( new IdentityMapEntry<K,V>( entries[i].key, entries[i].value ) );
+			}
 		}
 		return set;
 	}
@@ -157,36 +211,115 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	@SuppressWarnings( {"unchecked"})
 	public Map.Entry[] entryArray() {
 		if (dirty) {
-			entryArray = new Map.Entry[ map.size() ];
-			Iterator itr = map.entrySet().iterator();
-			int i=0;
-			while ( itr.hasNext() ) {
-				Map.Entry me = (Map.Entry) itr.next();
-				entryArray[i++] = new IdentityMapEntry( ( (IdentityKey) me.getKey() ).key, me.getValue() );
+			entryArray = new Map.Entry[ size ];
+			int j = 0;
+			for ( int i = 0; i < used; i++ ) {
+				if ( entries[i] != null ) {
+					entryArray[j++] = entries[i];
+				}
 			}
 			dirty = false;
 		}
 		return entryArray;
 	}
 
+	private static int hash(Object key, int mask) {
+		int h = System.identityHashCode( key );
+		// spread the bits of the identity hash code, as it is used modulo a power of 2
+		h ^= h >>> 16;
+		h *= 0x9E3779B9;
+		h ^= h >>> 16;
+		return h & mask;
+	}
+
+	/**
+	 * @return The bucket of the table holding the position of the entry for the given key, or -1 if there is none.
+	 */
+	private int indexOf(Object key) {
+		if ( table == null ) {
+			return -1;
+		}
+		final int mask = table.length - 1;
+		int bucket = hash( key, mask );
+		int slot;
+		while ( ( slot = table[bucket] ) != 0 ) {
+			if ( slot != DELETED && entries[slot - 1].key == key ) {
+				return bucket;
+			}
+			bucket = ( bucket + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	private void insert(Object key, int position) {
+		final int mask = table.length - 1;
+		int bucket = hash( key, mask );
+		while ( table[bucket] != 0 ) {
+			bucket = ( bucket + 1 ) & mask;
+		}
+		table[bucket] = position + 1;
+	}
+
+	/**
+	 * (Re)allocate the entry array and the table, dropping the slots of removed entries.  The table has at least
+	 * twice as many buckets as there are entry slots, so it is never more than half full (including removed entries).
+	 */
+	@SuppressWarnings( {"unchecked"})
+	private void allocate(int capacity) {
+		final IdentityMapEntry<K,V>[] oldEntries = entries;
+		final int oldUsed = used;
+		int tableSize = 4;
+		while ( tableSize < capacity * 2 ) {
+			tableSize <<= 1;
+		}
+		entries = new IdentityMapEntry[ tableSize / 2 ];
+		table = new int[ tableSize ];
+		used = 0;
+		for ( int i = 0; i < oldUsed; i++ ) {
+			final IdentityMapEntry<K,V> entry = oldEntries[i];
+			if ( entry != null ) {
+				entries[used] = entry;
+				insert( entry.key, used );
+				used++;
+			}
+		}
+	}
+
 	@Override
     public String toString() {
-		return map.toString();
+		final StringBuilder buffer = new StringBuilder( "{" );
+		for ( int i = 0; i < used; i++ ) {
+			if ( entries[i] != null ) {
+				if ( buffer.length() > 1 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( entries[i].key ).append( '=' ).append( entries[i].value );
+			}
+		}
+		return buffer.append( '}' ).toString();
 	}
 
-	static final class KeyIterator<K> implements Iterator<K> {
-		private final Iterator<IdentityKey<K>> identityKeyIterator;
+	final class KeyIterator implements Iterator<K> {
+		private int next = advance( 0 );
 
-		private KeyIterator(Iterator<IdentityKey<K>> iterator) {
-			identityKeyIterator = iterator;
+		private int advance(int position) {
+			while ( position < used && entries[position] == null ) {
+				position++;
+			}
+			return position;
 		}
 
 		public boolean hasNext() {
-			return identityKeyIterator.hasNext();
+			return next < used;
 		}
 
 		public K next() {
-			return identityKeyIterator.next().getRealKey();
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final K key = entries[next].key;
+			next = advance( next + 1 );
+			return key;
 		}
 
 		public void remove() {
@@ -195,7 +328,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 
 	}
 		public static final class IdentityMapEntry<K,V> implements java.util.Map.Entry<K,V> {
-		private K key;
+		private final K key;
 		private V value;
 
 		IdentityMapEntry(K key, V value) {
@@ -218,32 +351,4 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 		}
 	}
 
-	public static final class IdentityKey<K> implements Serializable {
-		private K key;
-
-		IdentityKey(K key) {
-			this.key=key;
-		}
-
-		@SuppressWarnings( {"EqualsWhichDoesntCheckParameterClass"})
-		@Override
-        public boolean equals(Object other) {
-			return key == ( (IdentityKey) other ).key;
-		}
-
-		@Override
-        public int hashCode() {
-			return System.identityHashCode(key);
-		}
-
-		@Override
-        public String toString() {
-			return key.toString();
-		}
-
-		public K getRealKey() {
-			return key;
-		}
-	}
-
 }
\ No newline at end of file
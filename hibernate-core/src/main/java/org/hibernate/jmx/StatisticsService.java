@@ -12,6 +12,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
 import org.hibernate.stat.CollectionStatistics;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.NaturalIdCacheStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
@@ -361,7 +362,99 @@ public class StatisticsService implements StatisticsServiceMBean {
 		return stats.getOptimisticFailureCount();
 	}
 
+	public int getConnectionPoolActiveCount() {
+		return stats.getConnectionPoolActiveCount();
+	}
+
+	public int getConnectionPoolIdleCount() {
+		return stats.getConnectionPoolIdleCount();
+	}
+
+	public int getConnectionPoolWaitingCount() {
+		return stats.getConnectionPoolWaitingCount();
+	}
+
 	public String getQueryExecutionMaxTimeQueryString() {
 		return stats.getQueryExecutionMaxTimeQueryString();
 	}
+
+	public LatencyStatistics getQueryExecutionLatency() {
+		return stats.getQueryExecutionLatency();
+	}
+
+	public LatencyStatistics getEntityLoadLatency() {
+		return stats.getEntityLoadLatency();
+	}
+
+	public LatencyStatistics getFlushLatency() {
+		return stats.getFlushLatency();
+	}
+
+	public LatencyStatistics getSecondLevelCacheGetLatency() {
+		return stats.getSecondLevelCacheGetLatency();
+	}
+
+	public LatencyStatistics getSecondLevelCachePutLatency() {
+		return stats.getSecondLevelCachePutLatency();
+	}
+
+	public long getQueryExecutionLatencyP50() {
+		return stats.getQueryExecutionLatency().getP50();
+	}
+
+	public long getQueryExecutionLatencyP99() {
+		return stats.getQueryExecutionLatency().getP99();
+	}
+
+	public long getQueryExecutionLatencyP999() {
+		return stats.getQueryExecutionLatency().getP999();
+	}
+
+	public long getEntityLoadLatencyP50() {
+		return stats.getEntityLoadLatency().getP50();
+	}
+
+	public long getEntityLoadLatencyP99() {
+		return stats.getEntityLoadLatency().getP99();
+	}
+
+	public long getEntityLoadLatencyP999() {
+		return stats.getEntityLoadLatency().getP999();
+	}
+
+	public long getFlushLatencyP50() {
+		return stats.getFlushLatency().getP50();
+	}
+
+	public long getFlushLatencyP99() {
+		return stats.getFlushLatency().getP99();
+	}
+
+	public long getFlushLatencyP999() {
+		return stats.getFlushLatency().getP999();
+	}
+
+	public long getSecondLevelCacheGetLatencyP50() {
+		return stats.getSecondLevelCacheGetLatency().getP50();
+	}
+
+	public long getSecondLevelCacheGetLatencyP99() {
+		return stats.getSecondLevelCacheGetLatency().getP99();
+	}
+
+	public long getSecondLevelCacheGetLatencyP999() {
+		return stats.getSecondLevelCacheGetLatency().getP999();
+	}
+
+	public long getSecondLevelCachePutLatencyP50() {
+		return stats.getSecondLevelCachePutLatency().getP50();
+	}
+
+	public long getSecondLevelCachePutLatencyP99() {
+		return stats.getSecondLevelCachePutLatency().getP99();
+	}
+
+	public long getSecondLevelCachePutLatencyP999() {
+		return stats.getSecondLevelCachePutLatency().getP999();
+	}
 }
@@ -17,4 +17,79 @@ public interface StatisticsServiceMBean extends Statistics {
 	 * @param sfJNDIName session factory jndi name
 	 */
 	public abstract void setSessionFactoryJNDIName(String sfJNDIName);
+
+	/**
+	 * @return The median latency of query executions, in nanoseconds
+	 */
+	public long getQueryExecutionLatencyP50();
+
+	/**
+	 * @return The 99th percentile latency of query executions, in nanoseconds
+	 */
+	public long getQueryExecutionLatencyP99();
+
+	/**
+	 * @return The 99.9th percentile latency of query executions, in nanoseconds
+	 */
+	public long getQueryExecutionLatencyP999();
+
+	/**
+	 * @return The median latency of entity loads, in nanoseconds
+	 */
+	public long getEntityLoadLatencyP50();
+
+	/**
+	 * @return The 99th percentile latency of entity loads, in nanoseconds
+	 */
+	public long getEntityLoadLatencyP99();
+
+	/**
+	 * @return The 99.9th percentile latency of entity loads, in nanoseconds
+	 */
+	public long getEntityLoadLatencyP999();
+
+	/**
+	 * @return The median latency of session flushes, in nanoseconds
+	 */
+	public long getFlushLatencyP50();
+
+	/**
+	 * @return The 99th percentile latency of session flushes, in nanoseconds
+	 */
+	public long getFlushLatencyP99();
+
+	/**
+	 * @return The 99.9th percentile latency of session flushes, in nanoseconds
+	 */
+	public long getFlushLatencyP999();
+
+	/**
+	 * @return The median latency of second-level cache lookups, in nanoseconds
+	 */
+	public long getSecondLevelCacheGetLatencyP50();
+
+	/**
+	 * @return The 99th percentile latency of second-level cache lookups, in nanoseconds
+	 */
+	public long getSecondLevelCacheGetLatencyP99();
+
+	/**
+	 * @return The 99.9th percentile latency of second-level cache lookups, in nanoseconds
+	 */
+	public long getSecondLevelCacheGetLatencyP999();
+
+	/**
+	 * @return The median latency of second-level cache puts, in nanoseconds
+	 */
+	public long getSecondLevelCachePutLatencyP50();
+
+	/**
+	 * @return The 99th percentile latency of second-level cache puts, in nanoseconds
+	 */
+	public long getSecondLevelCachePutLatencyP99();
+
+	/**
+	 * @return The 99.9th percentile latency of second-level cache puts, in nanoseconds
+	 */
+	public long getSecondLevelCachePutLatencyP999();
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Describes the SQL statements used by Hibernate when batch fetching entities and collections.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_STYLE
+ */
+public enum BatchFetchStyle {
+	/**
+	 * A loader is built upfront for each size in a descending ladder of batch sizes (for a batch size of
+	 * 32, the sizes 32, 16, 10, 9, 8, ..., 1), and a batch is loaded with the loader for the biggest size
+	 * it can fill, leaving the remaining keys for later batches.  A batch of 15 keys is thus loaded by
+	 * a statement for 10 keys, followed by another one for the 5 left over.
+	 */
+	LEGACY,
+	/**
+	 * A batch is always loaded by a single statement, for the smallest size of the ladder able to hold
+	 * all its keys; the parameters left over are padded with the identifier being loaded.  Loaders are
+	 * built the first time their size is used.
+	 */
+	PADDED;
+
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			BatchFetchStyle.class.getName()
+	);
+
+	/**
+	 * Interpret the value of the {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_STYLE} setting.
+	 *
+	 * @param setting The setting value, either a {@link BatchFetchStyle} or its (case insensitive) name.
+	 *
+	 * @return The batch fetch style; {@link #PADDED} if none was specified
+	 */
+	public static BatchFetchStyle interpret(Object setting) {
+		if ( setting == null ) {
+			return PADDED;
+		}
+		if ( BatchFetchStyle.class.isInstance( setting ) ) {
+			return (BatchFetchStyle) setting;
+		}
+		final String styleName = setting.toString().trim();
+		try {
+			return BatchFetchStyle.valueOf( styleName.toUpperCase() );
+		}
+		catch ( RuntimeException e ) {
+			LOG.warn( "Unknown batch fetch style [" + styleName + "], using BatchFetchStyle.PADDED." );
+			return PADDED;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.Loadable;
+
+/**
+ * The column positions of the entity aliases of a {@link Loader} within one JDBC result set.  Positions are
+ * resolved from the aliases the first time a row is read and then reused for every following row of the same
+ * result set, so that values are read by position instead of by alias.
+ * <p/>
+ * Positions cannot be kept on the loader itself: the same loader may execute its SQL wrapped differently (for
+ * example by a dialect's limit handling), which shifts column positions between executions.
+ */
+final class ColumnPositions {
+	private final ResultSet resultSet;
+	private final int[] keyPositions;
+	private final Map<Loadable, PropertyPositions>[] propertyPositions;
+
+	@SuppressWarnings({ "unchecked" })
+	ColumnPositions(ResultSet resultSet, int entitySpan) {
+		this.resultSet = resultSet;
+		this.keyPositions = new int[entitySpan];
+		this.propertyPositions = new Map[entitySpan];
+	}
+
+	/**
+	 * Get the position of the (single-column) key of the given entity.
+	 *
+	 * @param i The index of the entity in the loader
+	 * @param keyAlias The suffixed key alias
+	 *
+	 * @return The (1-based) column position
+	 *
+	 * @throws SQLException Indicates the alias could not be resolved
+	 */
+	int getKeyPosition(int i, String keyAlias) throws SQLException {
+		if ( keyPositions[i] == 0 ) {
+			keyPositions[i] = resultSet.findColumn( keyAlias );
+		}
+		return keyPositions[i];
+	}
+
+	/**
+	 * Get the property aliases and positions of the given entity, as loaded by the given (sub-class) persister.  The
+	 * aliases are cached too, as building them for a sub-class persister is not cheap.  The positions are filled in by
+	 * {@link AbstractEntityPersister#hydrate} as properties are first read.
+	 */
+	PropertyPositions getPropertyPositions(int i, Loadable persister, EntityAliases entityAliases, boolean root) {
+		if ( propertyPositions[i] == null ) {
+			propertyPositions[i] = new IdentityHashMap<Loadable, PropertyPositions>();
+		}
+		PropertyPositions positions = propertyPositions[i].get( persister );
+		if ( positions == null ) {
+			final String[][] aliases = root ?
+					entityAliases.getSuffixedPropertyAliases() :
+					entityAliases.getSuffixedPropertyAliases( persister );
+			positions = new PropertyPositions( aliases );
+			propertyPositions[i].put( persister, positions );
+		}
+		return positions;
+	}
+
+	static final class PropertyPositions {
+		final String[][] aliases;
+		final int[][] positions;
+
+		private PropertyPositions(String[][] aliases) {
+			this.aliases = aliases;
+			this.positions = new int[aliases.length][];
+		}
+	}
+}
@@ -36,6 +36,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 
@@ -73,6 +74,7 @@ import org.hibernate.internal.FetchingScrollableResultsImpl;
 import org.hibernate.internal.ScrollableResultsImpl;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
@@ -80,6 +82,7 @@ import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
@@ -316,10 +319,35 @@ public abstract class Loader {
 	        final SessionImplementor session,
 	        final QueryParameters queryParameters,
 	        final boolean returnProxies) throws HibernateException {
+		return loadSingleRow( resultSet, session, queryParameters, returnProxies, null, null );
+	}
+
+	/**
+	 * Loads a single row from the result set.  This is the processing used from the
+	 * ScrollableResults where no collection fetches were encountered.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param loadedEntities (optional) receives the entities the row loaded into the session,
+	 * as opposed to those it found there already
+	 * @param rowKeys (optional) receives the keys of all the entities of the row, whether loaded or found
+	 * @return The loaded "row".
+	 * @throws HibernateException
+	 */
+	public Object loadSingleRow(
+	        final ResultSet resultSet,
+	        final SessionImplementor session,
+	        final QueryParameters queryParameters,
+	        final boolean returnProxies,
+	        final List loadedEntities,
+	        final Set<EntityKey> rowKeys) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List hydratedObjects = entitySpan == 0 ?
 				null : new ArrayList( entitySpan );
+		final EntityKey[] keys = new EntityKey[entitySpan];
 
 		final Object result;
 		try {
@@ -330,9 +358,10 @@ public abstract class Loader {
 					getLockModes( queryParameters.getLockOptions() ),
 					null,
 					hydratedObjects,
-					new EntityKey[entitySpan],
+					keys,
 					returnProxies
 				);
+			addRowKeys( keys, rowKeys );
 		}
 		catch ( SQLException sqle ) {
 			throw factory.getSQLExceptionHelper().convert(
@@ -349,6 +378,9 @@ public abstract class Loader {
 				queryParameters.isReadOnly( session )
 			);
 		session.getPersistenceContext().initializeNonLazyCollections();
+		if ( loadedEntities != null && hydratedObjects != null ) {
+			loadedEntities.addAll( hydratedObjects );
+		}
 		return result;
 	}
 
@@ -357,7 +389,9 @@ public abstract class Loader {
 	        final SessionImplementor session,
 	        final QueryParameters queryParameters,
 	        final boolean returnProxies,
-	        final EntityKey keyToRead) throws HibernateException {
+	        final EntityKey keyToRead,
+	        final List loadedEntities,
+	        final Set<EntityKey> rowKeys) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List hydratedObjects = entitySpan == 0 ?
@@ -381,6 +415,7 @@ public abstract class Loader {
 				if ( result == null ) {
 					result = loaded;
 				}
+				addRowKeys( loadedKeys, rowKeys );
 			}
 			while ( keyToRead.equals( loadedKeys[0] ) && resultSet.next() );
 		}
@@ -399,9 +434,22 @@ public abstract class Loader {
 				queryParameters.isReadOnly( session )
 			);
 		session.getPersistenceContext().initializeNonLazyCollections();
+		if ( loadedEntities != null && hydratedObjects != null ) {
+			loadedEntities.addAll( hydratedObjects );
+		}
 		return result;
 	}
 
+	private static void addRowKeys(EntityKey[] keys, Set<EntityKey> rowKeys) {
+		if ( rowKeys != null ) {
+			for ( EntityKey key : keys ) {
+				if ( key != null ) {
+					rowKeys.add( key );
+				}
+			}
+		}
+	}
+
 	/**
 	 * Loads a single logical row from the result set moving forward.  This is the
 	 * processing used from the ScrollableResults where there were collection fetches
@@ -420,6 +468,32 @@ public abstract class Loader {
 	        final SessionImplementor session,
 	        final QueryParameters queryParameters,
 	        final boolean returnProxies) throws HibernateException {
+		return loadSequentialRowsForward( resultSet, session, queryParameters, returnProxies, null, null );
+	}
+
+	/**
+	 * Loads a single logical row from the result set moving forward.  This is the
+	 * processing used from the ScrollableResults where there were collection fetches
+	 * encountered; thus a single logical row may have multiple rows in the underlying
+	 * result set.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param loadedEntities (optional) receives the entities the row loaded into the session,
+	 * as opposed to those it found there already
+	 * @param rowKeys (optional) receives the keys of all the entities of the row, whether loaded or found
+	 * @return The loaded "row".
+	 * @throws HibernateException
+	 */
+	public Object loadSequentialRowsForward(
+	        final ResultSet resultSet,
+	        final SessionImplementor session,
+	        final QueryParameters queryParameters,
+	        final boolean returnProxies,
+	        final List loadedEntities,
+	        final Set<EntityKey> rowKeys) throws HibernateException {
 
 		// note that for sequential scrolling, we make the assumption that
 		// the first persister element is the "root entity"
@@ -448,7 +522,7 @@ public abstract class Loader {
 					session
 				);
 
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey, loadedEntities, rowKeys );
 		}
 		catch ( SQLException sqle ) {
 			throw factory.getSQLExceptionHelper().convert(
@@ -573,7 +647,7 @@ public abstract class Loader {
 			resultSet.next();
 
 			// and doAfterTransactionCompletion the load
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead, null, null );
 		}
 		catch ( SQLException sqle ) {
 			throw factory.getSQLExceptionHelper().convert(
@@ -616,6 +690,7 @@ public abstract class Loader {
 				hydratedObjects,
 				keys,
 				returnProxies,
+				null,
 				null
 		);
 	}
@@ -629,10 +704,20 @@ public abstract class Loader {
 	        final List hydratedObjects,
 	        final EntityKey[] keys,
 	        boolean returnProxies,
-	        ResultTransformer forcedResultTransformer) throws SQLException, HibernateException {
+	        ResultTransformer forcedResultTransformer,
+	        ColumnPositions columnPositions) throws SQLException, HibernateException {
 		final Loadable[] persisters = getEntityPersisters();
 		final int entitySpan = persisters.length;
-		extractKeysFromResultSet( persisters, queryParameters, resultSet, session, keys, lockModesArray, hydratedObjects );
+		extractKeysFromResultSet(
+				persisters,
+				queryParameters,
+				resultSet,
+				session,
+				keys,
+				lockModesArray,
+				hydratedObjects,
+				columnPositions
+		);
 
 		registerNonExists( keys, persisters, session );
 
@@ -645,7 +730,8 @@ public abstract class Loader {
 				optionalObjectKey,
 				lockModesArray,
 				hydratedObjects,
-				session
+				session,
+				columnPositions
 		);
 
 		readCollectionElements( row, resultSet, session );
@@ -682,6 +768,27 @@ public abstract class Loader {
 			EntityKey[] keys,
 			LockMode[] lockModes,
 			List hydratedObjects) throws SQLException {
+		extractKeysFromResultSet(
+				persisters,
+				queryParameters,
+				resultSet,
+				session,
+				keys,
+				lockModes,
+				hydratedObjects,
+				null
+		);
+	}
+
+	private void extractKeysFromResultSet(
+			Loadable[] persisters,
+			QueryParameters queryParameters,
+			ResultSet resultSet,
+			SessionImplementor session,
+			EntityKey[] keys,
+			LockMode[] lockModes,
+			List hydratedObjects,
+			ColumnPositions columnPositions) throws SQLException {
 		final int entitySpan = persisters.length;
 
 		final int numberOfPersistersToProcess;
@@ -699,7 +806,14 @@ public abstract class Loader {
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
-			hydratedKeyState[i] = idType.hydrate( resultSet, getEntityAliases()[i].getSuffixedKeyAliases(), session, null );
+			final String[] keyAliases = getEntityAliases()[i].getSuffixedKeyAliases();
+			if ( columnPositions != null && idType instanceof AbstractStandardBasicType ) {
+				final int position = columnPositions.getKeyPosition( i, keyAliases[0] );
+				hydratedKeyState[i] = ( (AbstractStandardBasicType) idType ).nullSafeGet( resultSet, position, keyAliases[0], session );
+			}
+			else {
+				hydratedKeyState[i] = idType.hydrate( resultSet, keyAliases, session, null );
+			}
 		}
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
@@ -747,7 +861,8 @@ public abstract class Loader {
 									getOptionalObjectKey( queryParameters, session ),
 									queryParameters.getOptionalObject(),
 									hydratedObjects,
-									session
+									session,
+									columnPositions
 							);
 						}
 					}
@@ -843,6 +958,7 @@ public abstract class Loader {
 		try {
 			handleEmptyCollections( queryParameters.getCollectionKeys(), rs, session );
 			EntityKey[] keys = new EntityKey[entitySpan]; //we can reuse it for each row
+			final ColumnPositions columnPositions = new ColumnPositions( rs, entitySpan );
 			LOG.trace( "Processing result set" );
 			int count;
 			for ( count = 0; count < maxRows && rs.next(); count++ ) {
@@ -856,7 +972,8 @@ public abstract class Loader {
 						hydratedObjects,
 						keys,
 						returnProxies,
-						forcedResultTransformer
+						forcedResultTransformer,
+						columnPositions
 				);
 				results.add( result );
 				if ( createSubselects ) {
@@ -1335,7 +1452,8 @@ public abstract class Loader {
 	        final EntityKey optionalObjectKey,
 	        final LockMode[] lockModes,
 	        final List hydratedObjects,
-	        final SessionImplementor session)
+	        final SessionImplementor session,
+	        final ColumnPositions columnPositions)
 	throws HibernateException, SQLException {
 
 		final int cols = persisters.length;
@@ -1380,7 +1498,8 @@ public abstract class Loader {
 							optionalObjectKey,
 							optionalObject,
 							hydratedObjects,
-							session
+							session,
+							columnPositions
 						);
 				}
 
@@ -1444,7 +1563,8 @@ public abstract class Loader {
 	        final EntityKey optionalObjectKey,
 	        final Object optionalObject,
 	        final List hydratedObjects,
-	        final SessionImplementor session)
+	        final SessionImplementor session,
+	        final ColumnPositions columnPositions)
 	throws HibernateException, SQLException {
 		final String instanceClass = getInstanceClass(
 				rs,
@@ -1479,7 +1599,8 @@ public abstract class Loader {
 				rowIdAlias,
 				acquiredLockMode,
 				persister,
-				session
+				session,
+				columnPositions
 			);
 
 		//materialize associations (and initialize the object) later
@@ -1508,7 +1629,8 @@ public abstract class Loader {
 	        final String rowIdAlias,
 	        final LockMode lockMode,
 	        final Loadable rootPersister,
-	        final SessionImplementor session)
+	        final SessionImplementor session,
+	        final ColumnPositions columnPositions)
 	throws SQLException, HibernateException {
 
 		final Serializable id = key.getIdentifier();
@@ -1533,21 +1655,57 @@ public abstract class Loader {
 				session
 			);
 
-		//This is not very nice (and quite slow):
-		final String[][] cols = persister == rootPersister ?
-				getEntityAliases()[i].getSuffixedPropertyAliases() :
-				getEntityAliases()[i].getSuffixedPropertyAliases(persister);
+		final Object[] values;
+		if ( columnPositions == null ) {
+			//This is not very nice (and quite slow):
+			final String[][] cols = persister == rootPersister ?
+					getEntityAliases()[i].getSuffixedPropertyAliases() :
+					getEntityAliases()[i].getSuffixedPropertyAliases(persister);
 
-		final Object[] values = persister.hydrate(
-				rs,
-				id,
-				object,
-				rootPersister,
-				cols,
-				eagerPropertyFetch,
-				session
+			values = persister.hydrate(
+					rs,
+					id,
+					object,
+					rootPersister,
+					cols,
+					eagerPropertyFetch,
+					session
+				);
+		}
+		else {
+			// aliases and their positions are resolved once per result set
+			final ColumnPositions.PropertyPositions propertyPositions = columnPositions.getPropertyPositions(
+					i,
+					persister,
+					getEntityAliases()[i],
+					persister == rootPersister
 			);
 
+			if ( persister instanceof AbstractEntityPersister ) {
+				values = ( (AbstractEntityPersister) persister ).hydrate(
+						rs,
+						id,
+						object,
+						rootPersister,
+						propertyPositions.aliases,
+						propertyPositions.positions,
+						eagerPropertyFetch,
+						session
+					);
+			}
+			else {
+				values = persister.hydrate(
+						rs,
+						id,
+						object,
+						rootPersister,
+						propertyPositions.aliases,
+						eagerPropertyFetch,
+						session
+					);
+			}
+		}
+
 		final Object rowId = persister.hasRowId() ? rs.getObject(rowIdAlias) : null;
 
 		final AssociationType[] ownerAssociationTypes = getOwnerAssociationTypes();
@@ -1667,6 +1825,10 @@ public abstract class Loader {
 	}
 
 	private ScrollMode getScrollMode(boolean scroll, boolean hasFirstRow, boolean useLimitOffSet, QueryParameters queryParameters) {
+		if ( scroll && queryParameters.getScrollMode() == ScrollMode.STREAMING ) {
+			// forward-only, so available even without scrollable result sets
+			return ScrollMode.STREAMING;
+		}
 		final boolean canScroll = getFactory().getSettings().isScrollableResultSetsEnabled();
 		if ( canScroll ) {
 			if ( scroll ) {
@@ -1743,6 +1905,12 @@ public abstract class Loader {
 					st.setFetchSize( selection.getFetchSize() );
 				}
 			}
+			if ( scrollMode == ScrollMode.STREAMING ) {
+				if ( ( selection == null || selection.getFetchSize() == null ) && dialect.getStreamingFetchSize() != 0 ) {
+					st.setFetchSize( dialect.getStreamingFetchSize() );
+				}
+				st.setFetchDirection( ResultSet.FETCH_FORWARD );
+			}
 
 			// handle lock timeout...
 			LockOptions lockOptions = queryParameters.getLockOptions();
@@ -2431,7 +2599,7 @@ public abstract class Loader {
 
 		final boolean stats = getFactory().getStatistics().isStatisticsEnabled();
 		long startTime = 0;
-		if ( stats ) startTime = System.currentTimeMillis();
+		if ( stats ) startTime = System.nanoTime();
 
 		List result;
 		try {
@@ -2446,10 +2614,12 @@ public abstract class Loader {
 		}
 
 		if ( stats ) {
+			final long time = System.nanoTime() - startTime;
+			getFactory().getStatisticsImplementor().queryExecutionTime( getQueryIdentifier(), time );
 			getFactory().getStatisticsImplementor().queryExecuted(
 					getQueryIdentifier(),
 					result.size(),
-					System.currentTimeMillis() - startTime
+					TimeUnit.NANOSECONDS.toMillis( time )
 				);
 		}
 
@@ -2502,7 +2672,7 @@ public abstract class Loader {
 		final boolean stats = getQueryIdentifier() != null &&
 				getFactory().getStatistics().isStatisticsEnabled();
 		long startTime = 0;
-		if ( stats ) startTime = System.currentTimeMillis();
+		if ( stats ) startTime = System.nanoTime();
 
 		try {
 
@@ -2510,10 +2680,12 @@ public abstract class Loader {
 			ResultSet rs = getResultSet(st, queryParameters.hasAutoDiscoverScalarTypes(), queryParameters.isCallable(), queryParameters.getRowSelection(), session);
 
 			if ( stats ) {
+				final long time = System.nanoTime() - startTime;
+				getFactory().getStatisticsImplementor().queryExecutionTime( getQueryIdentifier(), time );
 				getFactory().getStatisticsImplementor().queryExecuted(
 						getQueryIdentifier(),
 						0,
-						System.currentTimeMillis() - startTime
+						TimeUnit.NANOSECONDS.toMillis( time )
 					);
 			}
 
@@ -31,6 +31,7 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.loader.Loader;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.collection.QueryableCollection;
@@ -93,6 +94,14 @@ public class BatchingCollectionInitializer implements CollectionInitializer {
 			final LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
 		if ( maxBatchSize > 1 ) {
 			int[] batchSizesToCreate = ArrayHelper.getBatchSizes(maxBatchSize);
+			if ( factory.getSettings().getBatchFetchStyle() != BatchFetchStyle.LEGACY ) {
+				return new PaddedBatchingCollectionInitializer( persister, batchSizesToCreate ) {
+					@Override
+					protected Loader buildLoader(int batchSize) {
+						return new OneToManyLoader( persister, batchSize, factory, loadQueryInfluencers );
+					}
+				};
+			}
 			Loader[] loadersToCreate = new Loader[ batchSizesToCreate.length ];
 			for ( int i=0; i<batchSizesToCreate.length; i++ ) {
 				loadersToCreate[i] = new OneToManyLoader( persister, batchSizesToCreate[i], factory, loadQueryInfluencers );
@@ -111,6 +120,14 @@ public class BatchingCollectionInitializer implements CollectionInitializer {
 			final LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
 		if ( maxBatchSize > 1 ) {
 			int[] batchSizesToCreate = ArrayHelper.getBatchSizes( maxBatchSize );
+			if ( factory.getSettings().getBatchFetchStyle() != BatchFetchStyle.LEGACY ) {
+				return new PaddedBatchingCollectionInitializer( persister, batchSizesToCreate ) {
+					@Override
+					protected Loader buildLoader(int batchSize) {
+						return new BasicCollectionLoader( persister, batchSize, factory, loadQueryInfluencers );
+					}
+				};
+			}
 			Loader[] loadersToCreate = new Loader[ batchSizesToCreate.length ];
 			for ( int i=0; i<batchSizesToCreate.length; i++ ) {
 				loadersToCreate[i] = new BasicCollectionLoader( persister, batchSizesToCreate[i], factory, loadQueryInfluencers );
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * "Batch" loads collections with a single statement per batch, padding the
+ * keys of a batch to the smallest of the configured batch sizes able to hold
+ * them all.  The loader for a given batch size is only built the first time
+ * a batch of that size is loaded.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#PADDED
+ */
+public abstract class PaddedBatchingCollectionInitializer extends BatchingCollectionInitializer {
+
+	private final int[] batchSizes;
+	private final CollectionPersister collectionPersister;
+	private final AtomicReferenceArray<Loader> loaders;
+
+	/**
+	 * @param collectionPersister The persister of the collection role to load
+	 * @param batchSizes The supported batch sizes, in descending order and ending with a size of 1
+	 */
+	public PaddedBatchingCollectionInitializer(CollectionPersister collectionPersister, int[] batchSizes) {
+		super( collectionPersister, batchSizes, new Loader[ batchSizes.length ] );
+		this.batchSizes = batchSizes;
+		this.collectionPersister = collectionPersister;
+		this.loaders = new AtomicReferenceArray<Loader>( batchSizes.length );
+	}
+
+	/**
+	 * Build the loader for batches of the given size.
+	 *
+	 * @param batchSize One of the supported batch sizes
+	 *
+	 * @return The loader; for a batch size of 1, a {@link CollectionInitializer}
+	 */
+	protected abstract Loader buildLoader(int batchSize);
+
+	private Loader getLoader(int index) {
+		Loader loader = loaders.get( index );
+		if ( loader == null ) {
+			loader = buildLoader( batchSizes[index] );
+			if ( !loaders.compareAndSet( index, null, loader ) ) {
+				// another thread got there first, use its loader
+				loader = loaders.get( index );
+			}
+		}
+		return loader;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Builds any loader not built yet.
+	 */
+	@Override
+	public Loader[] getLoaders() {
+		final Loader[] result = new Loader[ batchSizes.length ];
+		for ( int i = 0; i < batchSizes.length; i++ ) {
+			result[i] = getLoader( i );
+		}
+		return result;
+	}
+
+	@Override
+	public void initialize(Serializable id, SessionImplementor session) throws HibernateException {
+		final Serializable[] batch = session.getPersistenceContext().getBatchFetchQueue()
+				.getCollectionBatch( collectionPersister, id, batchSizes[0] );
+
+		int numberOfKeys = 0;
+		while ( numberOfKeys < batch.length && batch[numberOfKeys] != null ) {
+			numberOfKeys++;
+		}
+
+		int index = batchSizes.length - 1;
+		while ( index > 0 && batchSizes[index] < numberOfKeys ) {
+			index--;
+		}
+		if ( batchSizes[index] == 1 ) {
+			getLoader( index ).loadCollection( session, id, collectionPersister.getKeyType() );
+			return;
+		}
+
+		final Serializable[] keys = new Serializable[ batchSizes[index] ];
+		System.arraycopy( batch, 0, keys, 0, numberOfKeys );
+		Arrays.fill( keys, numberOfKeys, keys.length, id );
+		getLoader( index ).loadCollectionBatch( session, keys, collectionPersister.getKeyType() );
+	}
+}
@@ -35,6 +35,7 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.loader.Loader;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.OuterJoinLoadable;
@@ -61,7 +62,7 @@ public class BatchingEntityLoader implements UniqueEntityLoader {
 		idType = persister.getIdentifierType();
 	}
 
-	private Object getObjectFromList(List results, Serializable id, SessionImplementor session) {
+	protected Object getObjectFromList(List results, Serializable id, SessionImplementor session) {
 		// get the right object from the list ... would it be easier to just call getEntity() ??
 		Iterator iter = results.iterator();
 		while ( iter.hasNext() ) {
@@ -121,6 +122,14 @@ public class BatchingEntityLoader implements UniqueEntityLoader {
 
 		if ( maxBatchSize>1 ) {
 			int[] batchSizesToCreate = ArrayHelper.getBatchSizes(maxBatchSize);
+			if ( factory.getSettings().getBatchFetchStyle() != BatchFetchStyle.LEGACY ) {
+				return new PaddedBatchingEntityLoader( persister, batchSizesToCreate ) {
+					@Override
+					protected Loader buildLoader(int batchSize) {
+						return new EntityLoader( persister, batchSize, lockMode, factory, loadQueryInfluencers );
+					}
+				};
+			}
 			Loader[] loadersToCreate = new Loader[ batchSizesToCreate.length ];
 			for ( int i=0; i<batchSizesToCreate.length; i++ ) {
 				loadersToCreate[i] = new EntityLoader(persister, batchSizesToCreate[i], lockMode, factory, loadQueryInfluencers);
@@ -141,6 +150,14 @@ public class BatchingEntityLoader implements UniqueEntityLoader {
 
 		if ( maxBatchSize>1 ) {
 			int[] batchSizesToCreate = ArrayHelper.getBatchSizes(maxBatchSize);
+			if ( factory.getSettings().getBatchFetchStyle() != BatchFetchStyle.LEGACY ) {
+				return new PaddedBatchingEntityLoader( persister, batchSizesToCreate ) {
+					@Override
+					protected Loader buildLoader(int batchSize) {
+						return new EntityLoader( persister, batchSize, lockOptions, factory, loadQueryInfluencers );
+					}
+				};
+			}
 			Loader[] loadersToCreate = new Loader[ batchSizesToCreate.length ];
 			for ( int i=0; i<batchSizesToCreate.length; i++ ) {
 				loadersToCreate[i] = new EntityLoader(persister, batchSizesToCreate[i], lockOptions, factory, loadQueryInfluencers);
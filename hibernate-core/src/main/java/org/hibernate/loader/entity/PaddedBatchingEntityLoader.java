@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader.entity;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * "Batch" loads entities with a single statement per batch, padding the
+ * identifiers of a batch to the smallest of the configured batch sizes able
+ * to hold them all.  The loader for a given batch size is only built the
+ * first time a batch of that size is loaded.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#PADDED
+ */
+public abstract class PaddedBatchingEntityLoader extends BatchingEntityLoader {
+
+	private final int[] batchSizes;
+	private final EntityPersister persister;
+	private final AtomicReferenceArray<Loader> loaders;
+
+	/**
+	 * @param persister The persister of the entities to load
+	 * @param batchSizes The supported batch sizes, in descending order and ending with a size of 1
+	 */
+	public PaddedBatchingEntityLoader(EntityPersister persister, int[] batchSizes) {
+		super( persister, batchSizes, new Loader[ batchSizes.length ] );
+		this.batchSizes = batchSizes;
+		this.persister = persister;
+		this.loaders = new AtomicReferenceArray<Loader>( batchSizes.length );
+	}
+
+	/**
+	 * Build the loader for batches of the given size.
+	 *
+	 * @param batchSize One of the supported batch sizes
+	 *
+	 * @return The loader; for a batch size of 1, a {@link UniqueEntityLoader}
+	 */
+	protected abstract Loader buildLoader(int batchSize);
+
+	private Loader getLoader(int index) {
+		Loader loader = loaders.get( index );
+		if ( loader == null ) {
+			loader = buildLoader( batchSizes[index] );
+			if ( !loaders.compareAndSet( index, null, loader ) ) {
+				// another thread got there first, use its loader
+				loader = loaders.get( index );
+			}
+		}
+		return loader;
+	}
+
+	/**
+	 * Locate the smallest supported batch size able to hold the given number of identifiers.
+	 */
+	private int getBatchSizeIndex(int numberOfIds) {
+		int index = batchSizes.length - 1;
+		while ( index > 0 && batchSizes[index] < numberOfIds ) {
+			index--;
+		}
+		return index;
+	}
+
+	/**
+	 * Load the entities with the given identifiers, regardless of the batch fetch queue, in as
+	 * few statements as the supported batch sizes allow.
+	 *
+	 * @param ids The identifiers of the entities to load
+	 * @param session The session to load them into
+	 * @param lockOptions The lock options to apply
+	 */
+	public void loadEntities(Serializable[] ids, SessionImplementor session, LockOptions lockOptions) {
+		for ( int start = 0; start < ids.length; start += batchSizes[0] ) {
+			final int numberOfIds = Math.min( batchSizes[0], ids.length - start );
+			final int index = getBatchSizeIndex( numberOfIds );
+			if ( batchSizes[index] == 1 ) {
+				( (UniqueEntityLoader) getLoader( index ) ).load( ids[start], null, session );
+				continue;
+			}
+			final Serializable[] batch = new Serializable[ batchSizes[index] ];
+			System.arraycopy( ids, start, batch, 0, numberOfIds );
+			Arrays.fill( batch, numberOfIds, batch.length, ids[start] );
+			getLoader( index ).loadEntityBatch(
+					session,
+					batch,
+					persister.getIdentifierType(),
+					null,
+					persister.getEntityName(),
+					ids[start],
+					persister,
+					lockOptions
+			);
+		}
+	}
+
+	@Override
+	public Object load(Serializable id, Object optionalObject, SessionImplementor session, LockOptions lockOptions) {
+		final Serializable[] batch = session.getPersistenceContext()
+				.getBatchFetchQueue()
+				.getEntityBatch( persister, id, batchSizes[0], persister.getEntityMode() );
+
+		int numberOfIds = 0;
+		while ( numberOfIds < batch.length && batch[numberOfIds] != null ) {
+			numberOfIds++;
+		}
+
+		final int index = getBatchSizeIndex( numberOfIds );
+		if ( batchSizes[index] == 1 ) {
+			return ( (UniqueEntityLoader) getLoader( index ) ).load( id, optionalObject, session );
+		}
+
+		final Serializable[] ids = new Serializable[ batchSizes[index] ];
+		System.arraycopy( batch, 0, ids, 0, numberOfIds );
+		Arrays.fill( ids, numberOfIds, ids.length, id );
+		final List results = getLoader( index ).loadEntityBatch(
+				session,
+				ids,
+				persister.getIdentifierType(),
+				optionalObject,
+				persister.getEntityName(),
+				id,
+				persister,
+				lockOptions
+		);
+		return getObjectFromList( results, id, session );
+	}
+}
@@ -31,6 +31,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -483,7 +484,7 @@ public class QueryLoader extends BasicLoader {
 		final boolean stats = session.getFactory().getStatistics().isStatisticsEnabled();
 		long startTime = 0;
 		if ( stats ) {
-			startTime = System.currentTimeMillis();
+			startTime = System.nanoTime();
 		}
 
 		try {
@@ -503,11 +504,13 @@ public class QueryLoader extends BasicLoader {
 			);
 
 			if ( stats ) {
+				final long time = System.nanoTime() - startTime;
+				session.getFactory().getStatisticsImplementor().queryExecutionTime( getQueryIdentifier(), time );
 				session.getFactory().getStatisticsImplementor().queryExecuted(
 //						"HQL: " + queryTranslator.getQueryString(),
 						getQueryIdentifier(),
 						0,
-						System.currentTimeMillis() - startTime
+						TimeUnit.NANOSECONDS.toMillis( time )
 				);
 			}
 
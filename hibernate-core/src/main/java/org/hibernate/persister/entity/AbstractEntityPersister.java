@@ -29,6 +29,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,18 +52,24 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.StaleStateException;
 import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
 import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizerProvider;
 import org.hibernate.bytecode.spi.EntityInstrumentationMetadata;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.InsertBatchKey;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntry;
@@ -86,15 +93,19 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.loader.Loader;
 import org.hibernate.loader.entity.BatchingEntityLoader;
 import org.hibernate.loader.entity.CascadeEntityLoader;
 import org.hibernate.loader.entity.EntityLoader;
+import org.hibernate.loader.entity.PaddedBatchingEntityLoader;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.ForeignKey;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Table;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.metamodel.binding.AssociationAttributeBinding;
 import org.hibernate.metamodel.binding.AttributeBinding;
@@ -102,6 +113,7 @@ import org.hibernate.metamodel.binding.EntityBinding;
 import org.hibernate.metamodel.binding.SimpleValueBinding;
 import org.hibernate.metamodel.binding.SingularAttributeBinding;
 import org.hibernate.metamodel.relational.DerivedValue;
+import org.hibernate.metamodel.relational.TableSpecification;
 import org.hibernate.metamodel.relational.Value;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.property.BackrefPropertyAccessor;
@@ -115,11 +127,14 @@ import org.hibernate.sql.SelectFragment;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
 import org.hibernate.sql.Update;
+import org.hibernate.tuple.StandardProperty;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
@@ -139,6 +154,9 @@ public abstract class AbstractEntityPersister
 
 	public static final String ENTITY_CLASS = "class";
 
+	// the smallest number of entities loaded per statement by loadEntities()
+	private static final int MULTI_LOAD_BATCH_SIZE = 32;
+
 	// moved up from AbstractEntityPersister ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	private final SessionFactoryImplementor factory;
 	private final EntityRegionAccessStrategy cacheAccessStrategy;
@@ -157,6 +175,8 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	private final int batchSize;
+	// table name -> names of the tables it references through foreign keys; null if not known
+	private final Map<String,Set<String>> referencedTableNamesByTable;
 	private final boolean hasSubselectLoadableCollections;
 	protected final String rowIdName;
 
@@ -258,6 +278,14 @@ public abstract class AbstractEntityPersister
 
 	private UniqueEntityLoader queryLoader;
 
+	// loads many entities at once, built the first time loadEntities() is called
+	private volatile PaddedBatchingEntityLoader multiEntityLoader;
+
+	private boolean referenceCacheEntriesUsable;
+
+	private DirtyCheckOptimizer dirtyCheckOptimizer;
+	private boolean[] dirtyCheckOptimizedProperties;
+
 	private final String temporaryIdTableName;
 	private final String temporaryIdTableDDL;
 
@@ -483,6 +511,60 @@ public abstract class AbstractEntityPersister
 		return propertySelectable;
 	}
 
+	/**
+	 * The names of the tables referenced (through foreign keys) by each of the tables in this entity's table closure.
+	 *
+	 * @return The referenced table names keyed by table name, or {@code null} if not known
+	 */
+	public Map<String,Set<String>> getReferencedTableNamesByTable() {
+		return referencedTableNamesByTable;
+	}
+
+	private static Map<String,Set<String>> collectReferencedTableNames(
+			PersistentClass persistentClass,
+			SessionFactoryImplementor factory) {
+		final Map<String,Set<String>> result = new HashMap<String,Set<String>>();
+		final Iterator tables = persistentClass.getTableClosureIterator();
+		while ( tables.hasNext() ) {
+			final Table table = (Table) tables.next();
+			final Set<String> referencedTableNames = new HashSet<String>();
+			final Iterator foreignKeys = table.getForeignKeyIterator();
+			while ( foreignKeys.hasNext() ) {
+				final Table referencedTable = ( (ForeignKey) foreignKeys.next() ).getReferencedTable();
+				if ( referencedTable != null ) {
+					referencedTableNames.add( qualify( referencedTable, factory ) );
+				}
+			}
+			result.put( qualify( table, factory ), Collections.unmodifiableSet( referencedTableNames ) );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	private static Map<String,Set<String>> collectReferencedTableNames(
+			EntityBinding entityBinding,
+			SessionFactoryImplementor factory) {
+		// persisters built from the metamodel only map the primary table so far (see SingleTableEntityPersister)
+		final TableSpecification table = entityBinding.getPrimaryTable();
+		final Set<String> referencedTableNames = new HashSet<String>();
+		for ( org.hibernate.metamodel.relational.ForeignKey foreignKey : table.getForeignKeys() ) {
+			if ( foreignKey.getTargetTable() != null ) {
+				referencedTableNames.add( foreignKey.getTargetTable().getQualifiedName( factory.getDialect() ) );
+			}
+		}
+		return Collections.singletonMap(
+				table.getQualifiedName( factory.getDialect() ),
+				Collections.unmodifiableSet( referencedTableNames )
+		);
+	}
+
+	private static String qualify(Table table, SessionFactoryImplementor factory) {
+		return table.getQualifiedName(
+				factory.getDialect(),
+				factory.getSettings().getDefaultCatalogName(),
+				factory.getSettings().getDefaultSchemaName()
+		);
+	}
+
 	public AbstractEntityPersister(
 			final PersistentClass persistentClass,
 			final EntityRegionAccessStrategy cacheAccessStrategy,
@@ -494,9 +576,7 @@ public abstract class AbstractEntityPersister
 		this.cacheAccessStrategy = cacheAccessStrategy;
 		this.naturalIdRegionAccessStrategy = naturalIdRegionAccessStrategy;
 		isLazyPropertiesCacheable = persistentClass.isLazyPropertiesCacheable();
-		this.cacheEntryStructure = factory.getSettings().isStructuredCacheEntriesEnabled() ?
-				(CacheEntryStructure) new StructuredCacheEntry(this) :
-				(CacheEntryStructure) new UnstructuredCacheEntry();
+		this.cacheEntryStructure = buildCacheEntryStructure( factory );
 
 		this.entityMetamodel = new EntityMetamodel( persistentClass, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
@@ -508,6 +588,7 @@ public abstract class AbstractEntityPersister
 		}
 		batchSize = batch;
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
+		referencedTableNamesByTable = collectReferencedTableNames( persistentClass, factory );
 
 		propertyMapping = new BasicEntityPropertyMapping( this );
 
@@ -782,10 +863,7 @@ public abstract class AbstractEntityPersister
 				entityBinding.getHierarchyDetails().getCaching() == null ?
 						false :
 						entityBinding.getHierarchyDetails().getCaching().isCacheLazyProperties();
-		this.cacheEntryStructure =
-				factory.getSettings().isStructuredCacheEntriesEnabled() ?
-						new StructuredCacheEntry(this) :
-						new UnstructuredCacheEntry();
+		this.cacheEntryStructure = buildCacheEntryStructure( factory );
 		this.entityMetamodel = new EntityMetamodel( entityBinding, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
 		int batch = entityBinding.getBatchSize();
@@ -794,6 +872,7 @@ public abstract class AbstractEntityPersister
 		}
 		batchSize = batch;
 		hasSubselectLoadableCollections = entityBinding.hasSubselectLoadableCollections();
+		referencedTableNamesByTable = collectReferencedTableNames( entityBinding, factory );
 
 		propertyMapping = new BasicEntityPropertyMapping( this );
 
@@ -1312,6 +1391,14 @@ public abstract class AbstractEntityPersister
 		return batchSize > 1;
 	}
 
+	/**
+	 * The maximum number of instances to load in a single batch; only meaningful when
+	 * {@link #isBatchLoadable batch loading} is enabled.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
 	public String[] getIdentifierColumnNames() {
 		return rootTableKeyColumnNames;
 	}
@@ -2321,6 +2408,18 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private CacheEntryStructure buildCacheEntryStructure(SessionFactoryImplementor factory) {
+		if ( factory.getSettings().isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntry( this );
+		}
+		else if ( factory.getSettings().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntry( this );
+		}
+		else {
+			return new UnstructuredCacheEntry();
+		}
+	}
+
 	protected UniqueEntityLoader createEntityLoader(
 			LockMode lockMode,
 			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
@@ -2627,6 +2726,27 @@ public abstract class AbstractEntityPersister
 	        final String[][] suffixedPropertyColumns,
 	        final boolean allProperties,
 	        final SessionImplementor session) throws SQLException, HibernateException {
+		return hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, null, allProperties, session );
+	}
+
+	/**
+	 * Unmarshall the fields of a persistent instance from a result set,
+	 * reading basic properties by position rather than by alias.
+	 * <tt>propertyPositions</tt> is indexed like the properties; any entry
+	 * still null is resolved from <tt>suffixedPropertyColumns</tt> on first
+	 * use and stored back, so callers should keep the same array for every
+	 * row read from the same result set.  A null <tt>propertyPositions</tt>
+	 * reads everything by alias.
+	 */
+	public Object[] hydrate(
+			final ResultSet rs,
+	        final Serializable id,
+	        final Object object,
+	        final Loadable rootLoadable,
+	        final String[][] suffixedPropertyColumns,
+	        final int[][] propertyPositions,
+	        final boolean allProperties,
+	        final SessionImplementor session) throws SQLException, HibernateException {
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Hydrating entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
@@ -2697,7 +2817,15 @@ public abstract class AbstractEntityPersister
 					else {
 						final ResultSet propertyResultSet = propertyIsDeferred ? sequentialResultSet : rs;
 						final String[] cols = propertyIsDeferred ? propertyColumnAliases[i] : suffixedPropertyColumns[i];
-						values[i] = types[i].hydrate( propertyResultSet, cols, session, object );
+						if ( propertyPositions != null && !propertyIsDeferred && types[i] instanceof AbstractStandardBasicType ) {
+							if ( propertyPositions[i] == null ) {
+								propertyPositions[i] = new int[] { rs.findColumn( cols[0] ) };
+							}
+							values[i] = ( (AbstractStandardBasicType) types[i] ).nullSafeGet( rs, propertyPositions[i][0], cols[0], session );
+						}
+						else {
+							values[i] = types[i].hydrate( propertyResultSet, cols, session, object );
+						}
 					}
 				}
 				else {
@@ -2819,10 +2947,12 @@ public abstract class AbstractEntityPersister
 		// nor can we batch statements where the expectation is based on an output param
 		final boolean useBatch = j == 0 && expectation.canBeBatched();
 		if ( useBatch && inserBatchKey == null ) {
-			inserBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
+			final Set<String> referencedTableNames = referencedTableNamesByTable == null
+					? null
+					: referencedTableNamesByTable.get( getTableName( j ) );
+			inserBatchKey = referencedTableNames == null
+					? new BasicBatchKey( getEntityName() + "#INSERT", expectation )
+					: new InsertBatchKey( getEntityName() + "#INSERT", expectation, getTableName( j ), referencedTableNames );
 		}
 		final boolean callable = isInsertCallable( j );
 
@@ -3616,7 +3746,116 @@ public abstract class AbstractEntityPersister
 		createLoaders();
 		createUniqueKeyLoaders();
 		createQueryLoader();
+		createDirtyCheckOptimizer();
+		referenceCacheEntriesUsable = determineReferenceCacheEntriesUsable();
+	}
+
+	/**
+	 * Instances may be shared among sessions through the cache when they can never be modified by
+	 * Hibernate, and hold nothing tied to a session: immutable, not instrumented, and with basic
+	 * properties only.
+	 */
+	private boolean determineReferenceCacheEntriesUsable() {
+		if ( !factory.getSettings().isReferenceCacheEntriesEnabled()
+				|| !hasCache()
+				|| isMutable()
+				|| isInstrumented()
+				|| getEntityMode() != EntityMode.POJO ) {
+			return false;
+		}
+		for ( Type type : getSubclassPropertyTypeClosure() ) {
+			if ( type.isAssociationType() || type.isComponentType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the comparator used to dirty check the properties mapped to simple basic types, when enabled through
+	 * {@link org.hibernate.cfg.AvailableSettings#USE_DIRTY_CHECK_OPTIMIZER}.
+	 */
+	protected void createDirtyCheckOptimizer() {
+		if ( !factory.getSettings().isDirtyCheckOptimizerEnabled() || getEntityMode() != EntityMode.POJO ) {
+			return;
+		}
+		final StandardProperty[] properties = entityMetamodel.getProperties();
+		final boolean[] laziness = entityMetamodel.getPropertyLaziness();
+		final Class[] valueClasses = new Class[properties.length];
+		final boolean[] optimized = new boolean[properties.length];
+		boolean anyOptimized = false;
+		for ( int i = 0; i < properties.length; i++ ) {
+			if ( !laziness[i] ) {
+				valueClasses[i] = determineDirtyCheckValueClass( properties[i].getType() );
+				optimized[i] = valueClasses[i] != null;
+				anyOptimized = anyOptimized || optimized[i];
+			}
+		}
+		if ( !anyOptimized ) {
+			return;
+		}
+		dirtyCheckOptimizer = buildDirtyCheckOptimizer( Environment.getBytecodeProvider(), getMappedClass(), valueClasses );
+		if ( dirtyCheckOptimizer != null ) {
+			dirtyCheckOptimizedProperties = optimized;
+		}
+	}
+
+	/**
+	 * Ask the given bytecode provider for a dirty check optimizer, if it is able to generate one.
+	 *
+	 * @return The optimizer, or {@code null} if the provider does not support dirty check optimization.
+	 */
+	static DirtyCheckOptimizer buildDirtyCheckOptimizer(
+			BytecodeProvider bytecodeProvider,
+			Class mappedClass,
+			Class[] valueClasses) {
+		if ( !DirtyCheckOptimizerProvider.class.isInstance( bytecodeProvider ) ) {
+			LOG.debugf(
+					"Bytecode provider [%s] does not support dirty check optimization; dirty checking %s through its types",
+					bytecodeProvider.getClass().getName(),
+					mappedClass.getName()
+			);
+			return null;
+		}
+		return ( (DirtyCheckOptimizerProvider) bytecodeProvider ).getDirtyCheckOptimizer( mappedClass, valueClasses );
+	}
 
+	/**
+	 * The class of the values of the properties of the given type, when their dirtiness is determined by a simple
+	 * equality check of these values.
+	 */
+	private static Class determineDirtyCheckValueClass(Type type) {
+		if ( type == StandardBasicTypes.INTEGER ) {
+			return Integer.class;
+		}
+		else if ( type == StandardBasicTypes.LONG ) {
+			return Long.class;
+		}
+		else if ( type == StandardBasicTypes.SHORT ) {
+			return Short.class;
+		}
+		else if ( type == StandardBasicTypes.BYTE ) {
+			return Byte.class;
+		}
+		else if ( type == StandardBasicTypes.CHARACTER ) {
+			return Character.class;
+		}
+		else if ( type == StandardBasicTypes.BOOLEAN
+				|| type == StandardBasicTypes.YES_NO
+				|| type == StandardBasicTypes.TRUE_FALSE
+				|| type == StandardBasicTypes.NUMERIC_BOOLEAN ) {
+			return Boolean.class;
+		}
+		else if ( type == StandardBasicTypes.DOUBLE ) {
+			return Double.class;
+		}
+		else if ( type == StandardBasicTypes.FLOAT ) {
+			return Float.class;
+		}
+		else if ( type == StandardBasicTypes.STRING ) {
+			return String.class;
+		}
+		return null;
 	}
 
 	//needed by subclasses to override the createLoader strategy
@@ -3715,6 +3954,53 @@ public abstract class AbstractEntityPersister
 		return loader.load( id, optionalObject, session, lockOptions );
 	}
 
+	/**
+	 * Load the entities with the given identifiers into the session, with as few
+	 * statements as possible.  This is a best-effort operation: entities which
+	 * cannot be loaded this way (because of a custom loader or of enabled filters
+	 * or fetch profiles for example) are silently left to be loaded one by one.
+	 *
+	 * @param ids The identifiers of the entities to load, none of them already
+	 * associated with the session
+	 * @param session The originating session
+	 */
+	public void loadEntities(Serializable[] ids, SessionImplementor session) throws HibernateException {
+		if ( queryLoader != null
+				|| isAffectedByEnabledFilters( session )
+				|| session.getLoadQueryInfluencers().getInternalFetchProfile() != null
+				|| isAffectedByEnabledFetchProfiles( session ) ) {
+			// these would not be loaded the way load() loads them; leave them to be loaded one by one
+			return;
+		}
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Fetching {0} entities: {1}", ids.length, getEntityName() );
+		}
+		getMultiEntityLoader().loadEntities( ids, session, LockOptions.NONE );
+	}
+
+	private PaddedBatchingEntityLoader getMultiEntityLoader() {
+		PaddedBatchingEntityLoader loader = multiEntityLoader;
+		if ( loader == null ) {
+			loader = new PaddedBatchingEntityLoader(
+					this,
+					ArrayHelper.getBatchSizes( Math.max( batchSize, MULTI_LOAD_BATCH_SIZE ) )
+			) {
+				@Override
+				protected Loader buildLoader(int size) {
+					return new EntityLoader(
+							AbstractEntityPersister.this,
+							size,
+							LockMode.NONE,
+							getFactory(),
+							LoadQueryInfluencers.NONE
+					);
+				}
+			};
+			multiEntityLoader = loader;
+		}
+		return loader;
+	}
+
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		affectingFetchProfileNames.add( fetchProfileName );
 	}
@@ -3822,14 +4108,67 @@ public abstract class AbstractEntityPersister
 	 */
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SessionImplementor session)
 	throws HibernateException {
+		final int[] props;
+		if ( dirtyCheckOptimizer == null ) {
+			props = TypeHelper.findDirty(
+					entityMetamodel.getProperties(),
+					currentState,
+					previousState,
+					propertyColumnUpdateable,
+					hasUninitializedLazyProperties( entity ),
+					session
+			);
+		}
+		else {
+			props = TypeHelper.findDirty(
+					entityMetamodel.getProperties(),
+					currentState,
+					previousState,
+					propertyColumnUpdateable,
+					hasUninitializedLazyProperties( entity ),
+					null,
+					dirtyCheckOptimizer,
+					dirtyCheckOptimizedProperties,
+					session
+			);
+		}
+		if ( props == null ) {
+			return null;
+		}
+		else {
+			logDirtyProperties( props );
+			return props;
+		}
+	}
+
+	/**
+	 * Compare the two snapshots to determine if they represent dirty state, only comparing the given properties.
+	 *
+	 * @param currentState The current snapshot
+	 * @param previousState The baseline snapshot
+	 * @param includeProperties Which properties should be compared; the others are considered not dirty
+	 * @param entity The entity containing the state
+	 * @param session The originating session
+	 * @return The indices of all dirty properties, or null if no properties
+	 * were dirty.
+	 */
+	public int[] findDirty(
+			Object[] currentState,
+			Object[] previousState,
+			boolean[] includeProperties,
+			Object entity,
+			SessionImplementor session) throws HibernateException {
 		int[] props = TypeHelper.findDirty(
 				entityMetamodel.getProperties(),
 				currentState,
 				previousState,
 				propertyColumnUpdateable,
 				hasUninitializedLazyProperties( entity ),
+				includeProperties,
+				dirtyCheckOptimizer,
+				dirtyCheckOptimizedProperties,
 				session
-			);
+		);
 		if ( props == null ) {
 			return null;
 		}
@@ -3906,6 +4245,16 @@ public abstract class AbstractEntityPersister
 	public CacheEntryStructure getCacheEntryStructure() {
 		return cacheEntryStructure;
 	}
+
+	/**
+	 * Can instances be cached by reference, the second-level cache holding the
+	 * instances themselves instead of their disassembled state?
+	 *
+	 * @return True if instances are cached as {@link org.hibernate.cache.spi.entry.ReferenceCacheEntry}s
+	 */
+	public boolean canUseReferenceCacheEntries() {
+		return referenceCacheEntriesUsable;
+	}
 	
 	public boolean hasNaturalIdCache() {
 		return naturalIdRegionAccessStrategy != null;
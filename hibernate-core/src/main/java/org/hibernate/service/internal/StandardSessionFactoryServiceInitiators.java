@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.event.service.internal.EventListenerServiceInitiator;
+import org.hibernate.id.enhanced.SequencePrefetchExecutorInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -45,6 +46,7 @@ public class StandardSessionFactoryServiceInitiators {
 
 		serviceInitiators.add( EventListenerServiceInitiator.INSTANCE );
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
+		serviceInitiators.add( SequencePrefetchExecutorInitiator.INSTANCE );
 
 		return Collections.unmodifiableList( serviceInitiators );
 	}
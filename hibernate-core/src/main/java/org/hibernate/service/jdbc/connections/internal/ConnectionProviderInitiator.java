@@ -278,6 +278,12 @@ public class ConnectionProviderInitiator implements BasicServiceInitiator<Connec
 		SPECIAL_PROPERTIES.add( Environment.URL );
 		SPECIAL_PROPERTIES.add( Environment.CONNECTION_PROVIDER );
 		SPECIAL_PROPERTIES.add( Environment.POOL_SIZE );
+		SPECIAL_PROPERTIES.add( Environment.POOL_MIN_SIZE );
+		SPECIAL_PROPERTIES.add( Environment.POOL_MAX_SIZE );
+		SPECIAL_PROPERTIES.add( Environment.POOL_MAX_WAIT );
+		SPECIAL_PROPERTIES.add( Environment.POOL_IDLE_TIMEOUT );
+		SPECIAL_PROPERTIES.add( Environment.POOL_LEAK_DETECTION_THRESHOLD );
+		SPECIAL_PROPERTIES.add( Environment.POOL_VALIDATION_TIMEOUT );
 		SPECIAL_PROPERTIES.add( Environment.ISOLATION );
 		SPECIAL_PROPERTIES.add( Environment.DRIVER );
 		SPECIAL_PROPERTIES.add( Environment.USER );
@@ -27,8 +27,17 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.logging.Logger;
 
@@ -42,6 +51,7 @@ import org.hibernate.service.UnknownUnwrapTypeException;
 import org.hibernate.service.classloading.spi.ClassLoaderService;
 import org.hibernate.service.classloading.spi.ClassLoadingException;
 import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.jdbc.connections.spi.PoolingConnectionProvider;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -49,7 +59,14 @@ import org.hibernate.service.spi.Stoppable;
 
 /**
  * A connection provider that uses the {@link java.sql.DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
+ * <p/>
+ * Idle connections are kept in a lock-free stack, most recently used first (at most
+ * {@link AvailableSettings#POOL_SIZE} of them, and at least {@link AvailableSettings#POOL_MIN_SIZE}); the number of
+ * connections handed out at the same time can be limited through {@link AvailableSettings#POOL_MAX_SIZE}, in which
+ * case requests wait at most {@link AvailableSettings#POOL_MAX_WAIT} for a connection.  Idle connections can be
+ * evicted after {@link AvailableSettings#POOL_IDLE_TIMEOUT} and validated before use, and connections not released
+ * within {@link AvailableSettings#POOL_LEAK_DETECTION_THRESHOLD} are reported.
  * <p/>
  * IMPL NOTE : not intended for production use!
  *
@@ -58,33 +75,46 @@ import org.hibernate.service.spi.Stoppable;
  */
 @SuppressWarnings( {"UnnecessaryUnboxing"})
 public class DriverManagerConnectionProviderImpl
-		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+		implements PoolingConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DriverManagerConnectionProviderImpl.class.getName() );
 
 	private String url;
 	private Properties connectionProps;
 	private Integer isolation;
 	private int poolSize;
+	private int minSize;
+	private int maxSize;
+	private int maxWait;
+	private int idleTimeout;
+	private int leakDetectionThreshold;
+	private int validationTimeout;
 	private boolean autocommit;
 
-	private final ArrayList<Connection> pool = new ArrayList<Connection>();
-	private int checkedOut = 0;
+	// a (Treiber) stack, so that surplus connections stay idle long enough to be evicted; java.util.concurrent
+	// of Java 6 has no lock-free deque
+	private final AtomicReference<IdleNode> idle = new AtomicReference<IdleNode>();
+	// the idle connections, including those reserved a slot in the stack but not pushed yet
+	private final AtomicInteger idleCount = new AtomicInteger();
+	private final ConcurrentHashMap<Connection, PooledConnection> checkedOut = new ConcurrentHashMap<Connection, PooledConnection>();
+	private final AtomicInteger waitingCount = new AtomicInteger();
+	private Semaphore permits;
+	private ScheduledExecutorService housekeeper;
 
-	private boolean stopped;
+	private volatile boolean stopped;
 
 	private transient ServiceRegistryImplementor serviceRegistry;
 
 	@Override
 	public boolean isUnwrappableAs(Class unwrapType) {
 		return ConnectionProvider.class.equals( unwrapType ) ||
+				PoolingConnectionProvider.class.equals( unwrapType ) ||
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType );
 	}
 
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public <T> T unwrap(Class<T> unwrapType) {
-		if ( ConnectionProvider.class.equals( unwrapType ) ||
-				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
+		if ( isUnwrappableAs( unwrapType ) ) {
 			return (T) this;
 		}
 		else {
@@ -128,6 +158,26 @@ public class DriverManagerConnectionProviderImpl
 		poolSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 ); // default pool size 20
         LOG.hibernateConnectionPoolSize(poolSize);
 
+		minSize = Math.min( ConfigurationHelper.getInt( AvailableSettings.POOL_MIN_SIZE, configurationValues, 0 ), poolSize );
+		maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_MAX_SIZE, configurationValues, Integer.MAX_VALUE );
+		if ( maxSize < 1 ) {
+			throw new HibernateException( "Invalid " + AvailableSettings.POOL_MAX_SIZE + " [" + maxSize + "]; must be at least 1" );
+		}
+		maxWait = ConfigurationHelper.getInt( AvailableSettings.POOL_MAX_WAIT, configurationValues, 30000 );
+		idleTimeout = ConfigurationHelper.getInt( AvailableSettings.POOL_IDLE_TIMEOUT, configurationValues, 0 );
+		leakDetectionThreshold = ConfigurationHelper.getInt( AvailableSettings.POOL_LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
+		validationTimeout = ConfigurationHelper.getInt( AvailableSettings.POOL_VALIDATION_TIMEOUT, configurationValues, 0 );
+		LOG.debugf(
+				"Connection pool settings: min size %s, max size %s, max wait %s ms, idle timeout %s ms, leak detection threshold %s ms, validation timeout %s s",
+				minSize,
+				maxSize,
+				maxWait,
+				idleTimeout,
+				leakDetectionThreshold,
+				validationTimeout
+		);
+		permits = new Semaphore( maxSize );
+
 		autocommit = ConfigurationHelper.getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues );
         LOG.autoCommitMode( autocommit );
 
@@ -149,45 +199,158 @@ public class DriverManagerConnectionProviderImpl
 			LOG.connectionProperties( connectionProps );
 		else
 			LOG.connectionProperties( ConfigurationHelper.maskOut( connectionProps, "password" ) );
+	
+		for ( int i = 0; i < minSize; i++ ) {
+			try {
+				final PooledConnection pooled = new PooledConnection( openConnection() );
+				idleCount.incrementAndGet();
+				checkIn( pooled );
+			}
+			catch ( SQLException e ) {
+				throw new HibernateException( "Unable to open initial JDBC connections of the connection pool", e );
+			}
+		}
+
+		final long housekeepingPeriod = housekeepingPeriod();
+		if ( housekeepingPeriod > 0 ) {
+			housekeeper = Executors.newSingleThreadScheduledExecutor(
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread( runnable, "Hibernate connection pool housekeeper" );
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+			housekeeper.scheduleWithFixedDelay(
+					new Runnable() {
+						@Override
+						public void run() {
+							evictIdleConnections();
+							detectLeaks();
+						}
+					},
+					housekeepingPeriod,
+					housekeepingPeriod,
+					TimeUnit.MILLISECONDS
+			);
+		}
+	}
+
+	private long housekeepingPeriod() {
+		long period = 0;
+		if ( idleTimeout > 0 ) {
+			period = idleTimeout;
+		}
+		if ( leakDetectionThreshold > 0 && ( period == 0 || leakDetectionThreshold < period ) ) {
+			period = leakDetectionThreshold;
+		}
+		// check at least twice within the shortest interval of interest, but not too frequently
+		return period == 0 ? 0 : Math.max( period / 2, 100 );
 	}
 
 	public void stop() {
 		LOG.cleaningUpConnectionPool( url );
 
-		for ( Connection connection : pool ) {
-			try {
-				connection.close();
+		stopped = true;
+		if ( housekeeper != null ) {
+			housekeeper.shutdownNow();
+		}
+		closeIdleConnections();
+	}
+
+	private void closeIdleConnections() {
+		for ( IdleNode node = idle.getAndSet( null ); node != null; node = node.next ) {
+			idleCount.decrementAndGet();
+			closeQuietly( node.pooled.connection );
+		}
+	}
+
+	public Connection getConnection() throws SQLException {
+		LOG.tracev( "Total checked-out connections: {0}", checkedOut.size() );
+
+		acquirePermit();
+		boolean success = false;
+		try {
+			// essentially, if we have available connections in the pool, use one...
+			PooledConnection pooled = borrowIdle();
+			if ( pooled == null ) {
+				// otherwise we open a new connection...
+				pooled = new PooledConnection( openConnection() );
 			}
-			catch (SQLException sqle) {
-				LOG.unableToClosePooledConnection( sqle );
+			pooled.checkOut( leakDetectionThreshold > 0 );
+			checkedOut.put( pooled.connection, pooled );
+			success = true;
+			return pooled.connection;
+		}
+		finally {
+			if ( !success ) {
+				permits.release();
 			}
 		}
-		pool.clear();
-		stopped = true;
 	}
 
-	public Connection getConnection() throws SQLException {
-		LOG.tracev( "Total checked-out connections: {0}", checkedOut );
-
-		// essentially, if we have available connections in the pool, use one...
-		synchronized (pool) {
-			if ( !pool.isEmpty() ) {
-				int last = pool.size() - 1;
-				LOG.tracev( "Using pooled JDBC connection, pool size: {0}", last );
-				Connection pooled = pool.remove( last );
+	private void acquirePermit() throws SQLException {
+		if ( permits.tryAcquire() ) {
+			return;
+		}
+		waitingCount.incrementAndGet();
+		try {
+			if ( !permits.tryAcquire( maxWait, TimeUnit.MILLISECONDS ) ) {
+				throw new SQLException(
+						"Timed out after " + maxWait + " ms waiting for a JDBC connection from the connection pool ["
+								+ url + "]; all " + maxSize + " connections are in use"
+				);
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new SQLException( "Interrupted while waiting for a JDBC connection from the connection pool [" + url + "]" );
+		}
+		finally {
+			waitingCount.decrementAndGet();
+		}
+	}
+
+	private PooledConnection borrowIdle() throws SQLException {
+		PooledConnection pooled;
+		while ( ( pooled = checkOutIdle() ) != null ) {
+			idleCount.decrementAndGet();
+			final Connection connection = pooled.connection;
+			if ( validationTimeout > 0 && !isValid( connection ) ) {
+				LOG.debug( "Discarding invalid pooled JDBC connection" );
+				closeQuietly( connection );
+				continue;
+			}
+			LOG.tracev( "Using pooled JDBC connection, pool size: {0}", idleCount.get() );
+			try {
 				if ( isolation != null ) {
-					pooled.setTransactionIsolation( isolation.intValue() );
+					connection.setTransactionIsolation( isolation.intValue() );
 				}
-				if ( pooled.getAutoCommit() != autocommit ) {
-					pooled.setAutoCommit( autocommit );
+				if ( connection.getAutoCommit() != autocommit ) {
+					connection.setAutoCommit( autocommit );
 				}
-				checkedOut++;
-				return pooled;
 			}
+			catch ( SQLException e ) {
+				closeQuietly( connection );
+				throw e;
+			}
+			return pooled;
 		}
+		return null;
+	}
 
-		// otherwise we open a new connection...
+	private boolean isValid(Connection connection) {
+		try {
+			return connection.isValid( validationTimeout );
+		}
+		catch ( SQLException e ) {
+			return false;
+		}
+	}
 
+	private Connection openConnection() throws SQLException {
 		LOG.debug( "Opening new JDBC connection" );
 		Connection conn = DriverManager.getConnection( url, connectionProps );
 		if ( isolation != null ) {
@@ -200,26 +363,154 @@ public class DriverManagerConnectionProviderImpl
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Created connection to: %s, Isolation Level: %s", url, conn.getTransactionIsolation() );
 		}
-
-		checkedOut++;
 		return conn;
 	}
 
 	public void closeConnection(Connection conn) throws SQLException {
-		checkedOut--;
-
-		// add to the pool if the max size is not yet reached.
-		synchronized (pool) {
-			int currentSize = pool.size();
-			if ( currentSize < poolSize ) {
-				LOG.tracev( "Returning connection to pool, pool size: {0}", ( currentSize + 1 ) );
-				pool.add(conn);
+		final PooledConnection pooled = checkedOut.remove( conn );
+		if ( pooled == null ) {
+			// not (or no longer) handed out by this pool
+			LOG.debug( "Closing JDBC connection" );
+			conn.close();
+			return;
+		}
+
+		try {
+			// add to the pool if the max size is not yet reached.
+			if ( !stopped && reserveIdleSlot() ) {
+				LOG.tracev( "Returning connection to pool, pool size: {0}", idleCount.get() );
+				checkIn( pooled );
+				if ( stopped ) {
+					// the pool was stopped concurrently
+					closeIdleConnections();
+				}
 				return;
 			}
+
+			LOG.debug( "Closing JDBC connection" );
+			conn.close();
+		}
+		finally {
+			permits.release();
 		}
+	}
 
-		LOG.debug( "Closing JDBC connection" );
-		conn.close();
+	/**
+	 * Reserve a slot for an idle connection, unless {@link AvailableSettings#POOL_SIZE} connections are idle already.
+	 *
+	 * @return {@code true} if a slot was reserved; {@code false} otherwise.
+	 */
+	private boolean reserveIdleSlot() {
+		while ( true ) {
+			final int count = idleCount.get();
+			if ( count >= poolSize ) {
+				return false;
+			}
+			if ( idleCount.compareAndSet( count, count + 1 ) ) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Push a connection onto the idle stack; its slot must have been reserved already.
+	 *
+	 * @param pooled The connection
+	 */
+	private void checkIn(PooledConnection pooled) {
+		pooled.lastUsed = System.nanoTime();
+		push( pooled );
+	}
+
+	private void push(PooledConnection pooled) {
+		while ( true ) {
+			final IdleNode top = idle.get();
+			if ( idle.compareAndSet( top, new IdleNode( pooled, top ) ) ) {
+				return;
+			}
+		}
+	}
+
+	private PooledConnection checkOutIdle() {
+		while ( true ) {
+			final IdleNode top = idle.get();
+			if ( top == null ) {
+				return null;
+			}
+			if ( idle.compareAndSet( top, top.next ) ) {
+				return top.pooled;
+			}
+		}
+	}
+
+	private void evictIdleConnections() {
+		if ( idleTimeout <= 0 ) {
+			return;
+		}
+		// a stack cannot give up its bottom entries, so take all of them and push back the ones to keep; connections
+		// requested meanwhile are opened anew
+		final List<PooledConnection> connections = new ArrayList<PooledConnection>();
+		for ( IdleNode node = idle.getAndSet( null ); node != null; node = node.next ) {
+			connections.add( node.pooled );
+		}
+		final long now = System.nanoTime();
+		// least recently used connections first
+		int keep = connections.size();
+		while ( keep > 0 && idleCount.get() > minSize ) {
+			final PooledConnection pooled = connections.get( keep - 1 );
+			if ( TimeUnit.NANOSECONDS.toMillis( now - pooled.lastUsed ) < idleTimeout ) {
+				break;
+			}
+			keep--;
+			idleCount.decrementAndGet();
+			LOG.debug( "Closing idle JDBC connection" );
+			closeQuietly( pooled.connection );
+		}
+		for ( int i = keep - 1; i >= 0; i-- ) {
+			push( connections.get( i ) );
+		}
+		if ( stopped ) {
+			// the pool was stopped concurrently
+			closeIdleConnections();
+		}
+	}
+
+	private void detectLeaks() {
+		if ( leakDetectionThreshold <= 0 ) {
+			return;
+		}
+		final long now = System.nanoTime();
+		for ( PooledConnection pooled : checkedOut.values() ) {
+			if ( !pooled.leakReported
+					&& TimeUnit.NANOSECONDS.toMillis( now - pooled.checkedOutAt ) >= leakDetectionThreshold ) {
+				pooled.leakReported = true;
+				LOG.connectionLeakDetected( url, leakDetectionThreshold, pooled.obtainedAt );
+			}
+		}
+	}
+
+	private static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException sqle) {
+			LOG.unableToClosePooledConnection( sqle );
+		}
+	}
+
+	@Override
+	public int getActiveCount() {
+		return checkedOut.size();
+	}
+
+	@Override
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	@Override
+	public int getWaitingCount() {
+		return waitingCount.get();
 	}
 
 	@Override
@@ -238,4 +529,38 @@ public class DriverManagerConnectionProviderImpl
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 	}
+
+	/**
+	 * An entry of the idle stack.
+	 */
+	private static final class IdleNode {
+		private final PooledConnection pooled;
+		private final IdleNode next;
+
+		private IdleNode(PooledConnection pooled, IdleNode next) {
+			this.pooled = pooled;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * A connection of the pool, along with its bookkeeping.
+	 */
+	private static final class PooledConnection {
+		private final Connection connection;
+		private volatile long lastUsed;
+		private volatile long checkedOutAt;
+		private volatile Throwable obtainedAt;
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		private void checkOut(boolean trackObtainedAt) {
+			checkedOutAt = System.nanoTime();
+			obtainedAt = trackObtainedAt ? new Throwable( "JDBC connection obtained here" ) : null;
+			leakReported = false;
+		}
+	}
 }
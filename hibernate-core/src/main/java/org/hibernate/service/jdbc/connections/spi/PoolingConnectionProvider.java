@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.service.jdbc.connections.spi;
+
+/**
+ * A {@link ConnectionProvider} which pools connections and can report on the state of its pool.
+ */
+public interface PoolingConnectionProvider extends ConnectionProvider {
+	/**
+	 * The number of connections currently handed out by the pool.
+	 *
+	 * @return The number of connections in use.
+	 */
+	public int getActiveCount();
+
+	/**
+	 * The number of open connections currently available in the pool.
+	 *
+	 * @return The number of idle connections.
+	 */
+	public int getIdleCount();
+
+	/**
+	 * The number of requests currently waiting for a connection to become available.
+	 *
+	 * @return The number of waiting requests.
+	 */
+	public int getWaitingCount();
+}
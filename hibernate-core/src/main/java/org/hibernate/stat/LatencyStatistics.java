@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the latency of some operation, allowing tail latencies to be inspected rather than just the
+ * average.  All times are in nanoseconds, and percentiles are accurate to within 12.5%.
+ */
+public interface LatencyStatistics extends Serializable {
+	/**
+	 * @return The number of recorded operations
+	 */
+	public long getCount();
+
+	/**
+	 * @return The longest recorded latency, in nanoseconds
+	 */
+	public long getMax();
+
+	/**
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The latency (in nanoseconds) which the given percentage of recorded operations did not exceed, or 0
+	 * if nothing was recorded
+	 */
+	public long getPercentile(double percentile);
+
+	/**
+	 * @return The median latency, in nanoseconds
+	 */
+	public long getP50();
+
+	/**
+	 * @return The 99th percentile latency, in nanoseconds
+	 */
+	public long getP99();
+
+	/**
+	 * @return The 99.9th percentile latency, in nanoseconds
+	 */
+	public long getP999();
+}
@@ -48,4 +48,9 @@ public interface QueryStatistics extends Serializable {
 	long getExecutionMaxTime();
 
 	long getExecutionMinTime();
+
+	/**
+	 * Latency distribution of the executions of this query onto the DB
+	 */
+	LatencyStatistics getExecutionLatency();
 }
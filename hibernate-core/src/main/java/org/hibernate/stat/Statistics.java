@@ -272,4 +272,41 @@ public interface Statistics {
 	 * that occurred
 	 */
 	public long getOptimisticFailureCount();
+	/**
+	 * The number of connections currently in use, if the connection provider
+	 * is a {@link org.hibernate.service.jdbc.connections.spi.PoolingConnectionProvider}
+	 */
+	public int getConnectionPoolActiveCount();
+	/**
+	 * The number of idle connections currently available, if the connection provider
+	 * is a {@link org.hibernate.service.jdbc.connections.spi.PoolingConnectionProvider}
+	 */
+	public int getConnectionPoolIdleCount();
+	/**
+	 * The number of requests currently waiting for a connection, if the connection provider
+	 * is a {@link org.hibernate.service.jdbc.connections.spi.PoolingConnectionProvider}
+	 */
+	public int getConnectionPoolWaitingCount();
+	/**
+	 * Latency distribution of query executions, including those with no
+	 * {@link #getQueryStatistics(String) per query} statistics
+	 */
+	public LatencyStatistics getQueryExecutionLatency();
+	/**
+	 * Latency distribution of entity loads, whether resolved from the
+	 * persistence context, the second-level cache or the database
+	 */
+	public LatencyStatistics getEntityLoadLatency();
+	/**
+	 * Latency distribution of session flushes (either implicit or explicit)
+	 */
+	public LatencyStatistics getFlushLatency();
+	/**
+	 * Latency distribution of entity and collection lookups in the second-level cache
+	 */
+	public LatencyStatistics getSecondLevelCacheGetLatency();
+	/**
+	 * Latency distribution of entity and collection puts into the second-level cache
+	 */
+	public LatencyStatistics getSecondLevelCachePutLatency();
 }
\ No newline at end of file
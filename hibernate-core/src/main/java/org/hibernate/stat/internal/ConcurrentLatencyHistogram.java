@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * A lock-free latency histogram.  Each power of two is split into 8 linear buckets, so a recorded value is off by at
+ * most 12.5% while the whole range of {@code long} fits in under 500 buckets.  Recording is a single atomic
+ * increment; percentiles are computed when read.
+ */
+public class ConcurrentLatencyHistogram implements LatencyStatistics {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = ( 64 - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record the latency of one operation
+	 *
+	 * @param time The latency, in nanoseconds
+	 */
+	public void record(long time) {
+		if ( time < 0 ) {
+			// System.nanoTime() is not guaranteed to be monotonic on all platforms
+			time = 0;
+		}
+		buckets.incrementAndGet( bucketIndex( time ) );
+		count.incrementAndGet();
+		for ( long old = max.get(); time > old && !max.compareAndSet( old, time ); old = max.get() ) ;
+	}
+
+	void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			buckets.set( i, 0 );
+		}
+		count.set( 0 );
+		max.set( 0 );
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+		return ( shift + 1 ) * SUB_BUCKET_COUNT + (int) ( ( value >>> shift ) & ( SUB_BUCKET_COUNT - 1 ) );
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long subBucket = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+
+	@Override
+	public long getCount() {
+		return count.get();
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public long getPercentile(double percentile) {
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final double fraction = Math.min( Math.max( percentile, 0d ), 100d ) / 100d;
+		final long rank = Math.max( 1, (long) Math.ceil( fraction * total ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.min( bucketUpperBound( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	@Override
+	public long getP50() {
+		return getPercentile( 50d );
+	}
+
+	@Override
+	public long getP99() {
+		return getPercentile( 99d );
+	}
+
+	@Override
+	public long getP999() {
+		return getPercentile( 99.9d );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( "LatencyStatistics" )
+				.append( "[count=" ).append( getCount() )
+				.append( ",p50=" ).append( getP50() )
+				.append( ",p99=" ).append( getP99() )
+				.append( ",p999=" ).append( getP999() )
+				.append( ",max=" ).append( getMax() )
+				.append( ']' )
+				.toString();
+	}
+}
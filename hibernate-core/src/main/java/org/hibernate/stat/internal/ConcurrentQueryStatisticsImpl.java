@@ -28,6 +28,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -46,6 +47,7 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final ConcurrentLatencyHistogram executionLatency = new ConcurrentLatencyHistogram();
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -128,6 +130,13 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 		return executionMinTime.get();
 	}
 
+	/**
+	 * latency distribution, in ns, of the executions of this query onto the DB
+	 */
+	public LatencyStatistics getExecutionLatency() {
+		return executionLatency;
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -150,6 +159,15 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 		}
 	}
 
+	/**
+	 * add the duration of a DB query to its latency distribution
+	 *
+	 * @param time time taken, in ns
+	 */
+	void executionTime(long time) {
+		executionLatency.record( time );
+	}
+
 	public String toString() {
 		return new StringBuilder()
 				.append("QueryStatistics")
@@ -161,6 +179,9 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 				.append(",executionAvgTime=").append(this.getExecutionAvgTime())
 				.append(",executionMaxTime=").append(this.executionMaxTime)
 				.append(",executionMinTime=").append(this.executionMinTime)
+				.append(",executionP50Nanos=").append(this.executionLatency.getP50())
+				.append(",executionP99Nanos=").append(this.executionLatency.getP99())
+				.append(",executionP999Nanos=").append(this.executionLatency.getP999())
 				.append(']')
 				.toString();
 	}
@@ -34,8 +34,11 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.service.Service;
+import org.hibernate.service.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.jdbc.connections.spi.PoolingConnectionProvider;
 import org.hibernate.stat.CollectionStatistics;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.NaturalIdCacheStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
@@ -101,6 +104,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 	private AtomicLong optimisticFailureCount = new AtomicLong();
 
+	private final ConcurrentLatencyHistogram queryExecutionLatency = new ConcurrentLatencyHistogram();
+	private final ConcurrentLatencyHistogram entityLoadLatency = new ConcurrentLatencyHistogram();
+	private final ConcurrentLatencyHistogram flushLatency = new ConcurrentLatencyHistogram();
+	private final ConcurrentLatencyHistogram secondLevelCacheGetLatency = new ConcurrentLatencyHistogram();
+	private final ConcurrentLatencyHistogram secondLevelCachePutLatency = new ConcurrentLatencyHistogram();
+
 	/**
 	 * natural id cache statistics per region
 	 */
@@ -183,6 +192,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 		optimisticFailureCount.set( 0 );
 
+		queryExecutionLatency.clear();
+		entityLoadLatency.clear();
+		flushLatency.clear();
+		secondLevelCacheGetLatency.clear();
+		secondLevelCachePutLatency.clear();
+
 		secondLevelCacheStatistics.clear();
 		entityStatistics.clear();
 		collectionStatistics.clear();
@@ -203,6 +218,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		flushCount.getAndIncrement();
 	}
 
+	public void flushTime(long time) {
+		flushLatency.record( time );
+	}
+
 	public void connect() {
 		connectCount.getAndIncrement();
 	}
@@ -212,6 +231,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementLoadCount();
 	}
 
+	public void entityLoadTime(long time) {
+		entityLoadLatency.record( time );
+	}
+
 	public void fetchEntity(String entityName) {
 		entityFetchCount.getAndIncrement();
 		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementFetchCount();
@@ -361,6 +384,14 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		( (ConcurrentSecondLevelCacheStatisticsImpl) getSecondLevelCacheStatistics( regionName ) ).incrementPutCount();
 	}
 
+	public void secondLevelCacheGetTime(long time) {
+		secondLevelCacheGetLatency.record( time );
+	}
+
+	public void secondLevelCachePutTime(long time) {
+		secondLevelCachePutLatency.record( time );
+	}
+
 	public void secondLevelCacheHit(String regionName) {
 		secondLevelCacheHitCount.getAndIncrement();
 		( (ConcurrentSecondLevelCacheStatisticsImpl) getSecondLevelCacheStatistics( regionName ) ).incrementHitCount();
@@ -425,6 +456,14 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		}
 	}
 
+	public void queryExecutionTime(String hql, long time) {
+		queryExecutionLatency.record( time );
+		if ( hql != null ) {
+			ConcurrentQueryStatisticsImpl qs = (ConcurrentQueryStatisticsImpl) getQueryStatistics( hql );
+			qs.executionTime( time );
+		}
+	}
+
 	public void queryCacheHit(String hql, String regionName) {
 		queryCacheHitCount.getAndIncrement();
 		if ( hql != null ) {
@@ -723,6 +762,24 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		LOG.queryCacheHits( queryCacheHitCount.get() );
 		LOG.queryCacheMisses( queryCacheMissCount.get() );
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
+		logLatency( "Query execution", queryExecutionLatency );
+		logLatency( "Entity load", entityLoadLatency );
+		logLatency( "Flush", flushLatency );
+		logLatency( "Second-level cache get", secondLevelCacheGetLatency );
+		logLatency( "Second-level cache put", secondLevelCachePutLatency );
+	}
+
+	private static void logLatency(String operation, LatencyStatistics latency) {
+		if ( latency.getCount() > 0 ) {
+			LOG.latency(
+					operation,
+					latency.getCount(),
+					latency.getP50(),
+					latency.getP99(),
+					latency.getP999(),
+					latency.getMax()
+			);
+		}
 	}
 
 	/**
@@ -830,6 +887,52 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return optimisticFailureCount.get();
 	}
 
+	public int getConnectionPoolActiveCount() {
+		final PoolingConnectionProvider pool = getPoolingConnectionProvider();
+		return pool == null ? 0 : pool.getActiveCount();
+	}
+
+	public int getConnectionPoolIdleCount() {
+		final PoolingConnectionProvider pool = getPoolingConnectionProvider();
+		return pool == null ? 0 : pool.getIdleCount();
+	}
+
+	public int getConnectionPoolWaitingCount() {
+		final PoolingConnectionProvider pool = getPoolingConnectionProvider();
+		return pool == null ? 0 : pool.getWaitingCount();
+	}
+
+	public LatencyStatistics getQueryExecutionLatency() {
+		return queryExecutionLatency;
+	}
+
+	public LatencyStatistics getEntityLoadLatency() {
+		return entityLoadLatency;
+	}
+
+	public LatencyStatistics getFlushLatency() {
+		return flushLatency;
+	}
+
+	public LatencyStatistics getSecondLevelCacheGetLatency() {
+		return secondLevelCacheGetLatency;
+	}
+
+	public LatencyStatistics getSecondLevelCachePutLatency() {
+		return secondLevelCachePutLatency;
+	}
+
+	private PoolingConnectionProvider getPoolingConnectionProvider() {
+		if ( sessionFactory == null ) {
+			return null;
+		}
+		final ConnectionProvider connectionProvider = sessionFactory.getConnectionProvider();
+		if ( connectionProvider == null || !connectionProvider.isUnwrappableAs( PoolingConnectionProvider.class ) ) {
+			return null;
+		}
+		return connectionProvider.unwrap( PoolingConnectionProvider.class );
+	}
+
 	@Override
     public String toString() {
 		return new StringBuilder()
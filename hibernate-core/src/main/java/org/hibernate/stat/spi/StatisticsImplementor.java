@@ -48,6 +48,13 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void flush();
 
+	/**
+	 * Callback about the duration of a flush
+	 *
+	 * @param time The time taken, in nanoseconds
+	 */
+	public void flushTime(long time);
+
 	/**
 	 * Callback about a connection being obtained from {@link org.hibernate.service.jdbc.connections.spi.ConnectionProvider}
 	 */
@@ -86,6 +93,13 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void fetchEntity(String entityName);
 
+	/**
+	 * Callback about the duration of an entity load, however the entity was resolved.
+	 *
+	 * @param time The time taken, in nanoseconds
+	 */
+	public void entityLoadTime(long time);
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -171,6 +185,20 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 * @param regionName The name of the cache region
 	 */
 	public void secondLevelCacheMiss(String regionName);
+
+	/**
+	 * Callback about the duration of an entity or collection lookup in the second-level cache, hit or miss.
+	 *
+	 * @param time The time taken, in nanoseconds
+	 */
+	public void secondLevelCacheGetTime(long time);
+
+	/**
+	 * Callback about the duration of an entity or collection put into the second-level cache.
+	 *
+	 * @param time The time taken, in nanoseconds
+	 */
+	public void secondLevelCachePutTime(long time);
 	
 	/**
 	 * Callback indicating a put into natural id cache.
@@ -234,6 +262,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback about the duration of a query execution, reported along with {@link #queryExecuted}.
+	 *
+	 * @param hql The query
+	 * @param time The time taken, in nanoseconds
+	 */
+	public void queryExecutionTime(String hql, long time);
+
 
 	/**
 	 * Callback indicating a hit to the timestamp cache
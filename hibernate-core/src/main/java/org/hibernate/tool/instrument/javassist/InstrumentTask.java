@@ -59,13 +59,30 @@ import org.hibernate.tool.instrument.BasicInstrumentationTask;
  * </instrument>
  * </pre>
  * See the Hibernate manual regarding this option.
+ * <p/>
+ * Similarly, the instrumented classes can be flagged as tracking which of their
+ * fields are written, so that flushes only dirty check the modified attributes:<pre>
+ * <instrument verbose="true" dirtyTracking="true">
+ *     ...
+ * </instrument>
+ * </pre>
  *
  * @author Muga Nishizawa
  * @author Steve Ebersole
  */
 public class InstrumentTask extends BasicInstrumentationTask {
+	private boolean dirtyTracking;
+
+	public boolean isDirtyTracking() {
+		return dirtyTracking;
+	}
+
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.dirtyTracking = dirtyTracking;
+	}
+
 	@Override
     protected Instrumenter buildInstrumenter(Logger logger, Instrumenter.Options options) {
-		return new JavassistInstrumenter( logger, options );
+		return new JavassistInstrumenter( logger, options, isDirtyTracking() );
 	}
 }
@@ -107,6 +107,7 @@ public class EntityMetamodel implements Serializable {
 	private final Map<String, Integer> propertyIndexes = new HashMap<String, Integer>();
 	private final boolean hasCollections;
 	private final boolean hasMutableProperties;
+	private final boolean dirtyTracked;
 	private final boolean hasLazyProperties;
 	private final boolean hasNonIdentifierPropertyNamedId;
 
@@ -318,6 +319,7 @@ public class EntityMetamodel implements Serializable {
 
 		hasCollections = foundCollection;
 		hasMutableProperties = foundMutable;
+		dirtyTracked = determineDirtyTracked();
 
 		iter = persistentClass.getSubclassIterator();
 		while ( iter.hasNext() ) {
@@ -568,6 +570,7 @@ public class EntityMetamodel implements Serializable {
 
 		hasCollections = foundCollection;
 		hasMutableProperties = foundMutable;
+		dirtyTracked = determineDirtyTracked();
 
 		for ( EntityBinding subEntityBinding : entityBinding.getPostOrderSubEntityBindingClosure() ) {
 			subclassEntityNames.add( subEntityBinding.getEntity().getName() );
@@ -949,6 +952,35 @@ public class EntityMetamodel implements Serializable {
 		return entityMode;
 	}
 
+	/**
+	 * Entities are only dirty checked by the attributes their interceptor reports as written when the writes of
+	 * every immutable property are tracked; mutable properties are always compared, as they can change in place.
+	 */
+	private boolean determineDirtyTracked() {
+		if ( !instrumentationMetadata.isDirtyTracked() ) {
+			return false;
+		}
+		for ( StandardProperty property : properties ) {
+			if ( !property.getType().isMutable() && !instrumentationMetadata.isDirtyTracked( property.getName() ) ) {
+				LOG.debugf(
+						"Modifications of property [%s] of entity [%s] are not tracked; the entity is fully dirty checked",
+						property.getName(),
+						name
+				);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the modifications of every property of this entity are either tracked by its field interceptor, or
+	 * (for mutable properties) found by comparing the property values.
+	 */
+	public boolean isDirtyTracked() {
+		return dirtyTracked;
+	}
+
 	/**
 	 * Whether or not this class can be lazy (ie intercepted)
 	 */
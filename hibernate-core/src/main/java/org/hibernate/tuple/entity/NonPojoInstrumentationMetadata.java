@@ -52,6 +52,16 @@ public class NonPojoInstrumentationMetadata implements EntityInstrumentationMeta
 		return false;
 	}
 
+	@Override
+	public boolean isDirtyTracked() {
+		return false;
+	}
+
+	@Override
+	public boolean isDirtyTracked(String attributeName) {
+		return false;
+	}
+
 	@Override
 	public FieldInterceptor extractInterceptor(Object entity) throws NotInstrumentedException {
 		throw new NotInstrumentedException( errorMsg );
@@ -42,9 +42,11 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.relational.Size;
+import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
@@ -244,8 +246,29 @@ public abstract class AbstractStandardBasicType<T>
 	}
 
 	public final T nullSafeGet(ResultSet rs, String name, final SessionImplementor session) throws SQLException {
+		return nullSafeGet( rs, name, buildWrapperOptions( session ) );
+	}
+
+	/**
+	 * Get a column value from a result set by position.  Cheaper than reading it by name, since the result set
+	 * does not need to resolve the column.  Extractors which cannot read by position read the value by name.
+	 *
+	 * @param rs The result set from which to extract the value.
+	 * @param position The (1-based) position of the column in the result set.
+	 * @param name The name of the column, used by extractors which cannot read by position.
+	 * @param session The session from which the request originates
+	 *
+	 * @return The extracted value.
+	 *
+	 * @throws SQLException Indicates problem making the JDBC call(s).
+	 */
+	public final T nullSafeGet(ResultSet rs, int position, String name, SessionImplementor session) throws SQLException {
+		return nullSafeGet( rs, position, name, buildWrapperOptions( session ) );
+	}
+
+	private WrapperOptions buildWrapperOptions(final SessionImplementor session) {
 		// todo : have SessionImplementor extend WrapperOptions
-		final WrapperOptions options = new WrapperOptions() {
+		return new WrapperOptions() {
 			public boolean useStreamForLobBinding() {
 				return Environment.useStreamsForBinary();
 			}
@@ -261,14 +284,21 @@ public abstract class AbstractStandardBasicType<T>
 				return remapped == null ? sqlTypeDescriptor : remapped;
 			}
 		};
-
-		return nullSafeGet( rs, name, options );
 	}
 
 	protected final T nullSafeGet(ResultSet rs, String name, WrapperOptions options) throws SQLException {
 		return remapSqlTypeDescriptor( options ).getExtractor( javaTypeDescriptor ).extract( rs, name, options );
 	}
 
+	protected final T nullSafeGet(ResultSet rs, int position, String name, WrapperOptions options) throws SQLException {
+		final ValueExtractor<T> extractor = remapSqlTypeDescriptor( options ).getExtractor( javaTypeDescriptor );
+		if ( extractor instanceof BasicExtractor && ( (BasicExtractor<T>) extractor ).canExtractByPosition() ) {
+			return ( (BasicExtractor<T>) extractor ).extract( rs, position, options );
+		}
+		// other extractors can only read by name
+		return extractor.extract( rs, name, options );
+	}
+
 	public Object get(ResultSet rs, String name, SessionImplementor session) throws HibernateException, SQLException {
 		return nullSafeGet( rs, name, session );
 	}
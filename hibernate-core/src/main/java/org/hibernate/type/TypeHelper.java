@@ -26,6 +26,7 @@ import java.io.Serializable;
 import java.util.Map;
 
 import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.property.BackrefPropertyAccessor;
 import org.hibernate.tuple.StandardProperty;
@@ -312,6 +313,81 @@ public class TypeHelper {
 		}
 	}
 
+	/**
+	 * Determine if any of the given field values are dirty, returning an array containing
+	 * indices of the dirty fields.  Only the included properties are compared, the values of
+	 * those flagged as optimized by the given {@link DirtyCheckOptimizer} instead of their
+	 * {@link Type}.
+	 * <p/>
+	 * If it is determined that no fields are dirty, null is returned.
+	 *
+	 * @param properties The property definitions
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param anyUninitializedProperties Does the entity currently hold any uninitialized property values?
+	 * @param includeProperties Which properties should be compared, or null to compare all of them
+	 * @param optimizer The generated comparator of the optimized properties, if any
+	 * @param optimizedProperties Which properties are compared by the optimizer
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int[] findDirty(
+			final StandardProperty[] properties,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final boolean anyUninitializedProperties,
+			final boolean[] includeProperties,
+			final DirtyCheckOptimizer optimizer,
+			final boolean[] optimizedProperties,
+			final SessionImplementor session) {
+		int[] results = null;
+		int count = 0;
+		int span = properties.length;
+
+		final boolean[] optimizedDirty;
+		if ( optimizer == null ) {
+			optimizedDirty = null;
+		}
+		else {
+			optimizedDirty = new boolean[span];
+			optimizer.findDirty( currentState, previousState, optimizedDirty );
+		}
+
+		for ( int i = 0; i < span; i++ ) {
+			final boolean dirty;
+			if ( ( includeProperties != null && !includeProperties[i] )
+					|| currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| !properties[i].isDirtyCheckable( anyUninitializedProperties ) ) {
+				dirty = false;
+			}
+			else if ( optimizedDirty != null && optimizedProperties[i] ) {
+				// single column basic types: same as AbstractStandardBasicType.isDirty()
+				dirty = optimizedDirty[i] && includeColumns[i][0];
+			}
+			else {
+				dirty = properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session );
+			}
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[span];
+				}
+				results[count++] = i;
+			}
+		}
+
+		if ( count == 0 ) {
+			return null;
+		}
+		else {
+			int[] trimmed = new int[count];
+			System.arraycopy( results, 0, trimmed, 0, count );
+			return trimmed;
+		}
+	}
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
@@ -25,6 +25,7 @@ package org.hibernate.type.descriptor.sql;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.logging.Logger;
 
@@ -42,6 +43,8 @@ public abstract class BasicExtractor<J> implements ValueExtractor<J> {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, BasicExtractor.class.getName() );
 
+	private static final ConcurrentHashMap<Class, Boolean> EXTRACTS_BY_POSITION = new ConcurrentHashMap<Class, Boolean>();
+
 	private final JavaTypeDescriptor<J> javaDescriptor;
 	private final SqlTypeDescriptor sqlDescriptor;
 
@@ -90,4 +93,81 @@ public abstract class BasicExtractor<J> implements ValueExtractor<J> {
 	 * @throws SQLException Indicates a problem access the result set
 	 */
 	protected abstract J doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException;
+
+	/**
+	 * Extract value from result set by column position, avoiding the column lookup needed when extracting by name.
+	 *
+	 * @param rs The result set from which to extract the value
+	 * @param position The (1-based) position of the column in the result set
+	 * @param options The options
+	 *
+	 * @return The extracted value
+	 *
+	 * @throws SQLException Indicates a JDBC error occurred.
+	 */
+	public J extract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+		final J value = doExtract( rs, position, options );
+		if ( value == null || rs.wasNull() ) {
+			LOG.tracev( "Found [null] as column at position [{0}]", position );
+			return null;
+		}
+		else {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Found [{0}] as column at position [{1}]", getJavaDescriptor().extractLoggableRepresentation( value ), position );
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Perform the extraction by column position.
+	 * <p/>
+	 * Called from {@link #extract(ResultSet, int, WrapperOptions)}.  Null checking of the value (as well as consulting
+	 * {@link ResultSet#wasNull}) is done there.  By default the column label is looked up and the extraction is
+	 * delegated to {@link #doExtract(ResultSet, String, WrapperOptions)}; extractors should override this to read
+	 * the column by position directly.
+	 *
+	 * @param rs The result set
+	 * @param position The (1-based) position of the column in the result set
+	 * @param options The binding options
+	 *
+	 * @return The extracted value.
+	 *
+	 * @throws SQLException Indicates a problem access the result set
+	 */
+	protected J doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+		return doExtract( rs, rs.getMetaData().getColumnLabel( position ), options );
+	}
+
+	/**
+	 * Does this extractor read columns by position itself, i.e. does it override
+	 * {@link #doExtract(ResultSet, int, WrapperOptions)}?  If not, extracting by position costs a metadata lookup
+	 * per value, and callers that know the column name should extract by name instead.
+	 *
+	 * @return {@code true} if extracting by position avoids the column lookup.
+	 */
+	public boolean canExtractByPosition() {
+		final Class extractorClass = getClass();
+		Boolean result = EXTRACTS_BY_POSITION.get( extractorClass );
+		if ( result == null ) {
+			result = overridesPositionalExtraction( extractorClass );
+			EXTRACTS_BY_POSITION.put( extractorClass, result );
+		}
+		return result;
+	}
+
+	private static boolean overridesPositionalExtraction(Class extractorClass) {
+		for ( Class current = extractorClass; current != BasicExtractor.class; current = current.getSuperclass() ) {
+			try {
+				current.getDeclaredMethod( "doExtract", ResultSet.class, int.class, WrapperOptions.class );
+				return true;
+			}
+			catch ( NoSuchMethodException ignore ) {
+			}
+			catch ( SecurityException e ) {
+				return false;
+			}
+		}
+		return false;
+	}
 }
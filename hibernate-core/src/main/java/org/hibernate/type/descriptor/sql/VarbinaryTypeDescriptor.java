@@ -66,6 +66,12 @@ public class VarbinaryTypeDescriptor implements SqlTypeDescriptor {
 				final byte[] bytes = rs.getBytes( name );
 				return javaTypeDescriptor.wrap( bytes, options );
 			}
+
+			@Override
+			protected X doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+				final byte[] bytes = rs.getBytes( position );
+				return javaTypeDescriptor.wrap( bytes, options );
+			}
 		};
 	}
 }
@@ -34,8 +34,13 @@ import org.hibernate.Transaction;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.test.batchfetch.Model;
+import org.hibernate.test.batchfetch.ProductLine;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * This is how to do batch processing in Hibernate. Remember to enable JDBC batch updates, or this test will take a
  * VeryLongTime!
@@ -45,7 +50,7 @@ import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 public class BatchTest extends BaseCoreFunctionalTestCase {
 	@Override
 	public String[] getMappings() {
-		return new String[] { "batch/DataPoint.hbm.xml" };
+		return new String[] { "batch/DataPoint.hbm.xml", "batchfetch/ProductLine.hbm.xml" };
 	}
 
 	@Override
@@ -88,6 +93,157 @@ public class BatchTest extends BaseCoreFunctionalTestCase {
 		doBatchInsertUpdate( 50, batchSize + 1 );
 	}
 
+	@Test
+	public void testStreamingScroll() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 50; i++ ) {
+			DataPoint dp = new DataPoint();
+			dp.setX( new BigDecimal( i * 0.1d ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+			dp.setY( new BigDecimal( Math.cos( dp.getX().doubleValue() ) ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+			s.save( dp );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		int i = 0;
+		ScrollableResults sr = s.createQuery( "from DataPoint dp order by dp.x asc" )
+				.scroll( ScrollMode.STREAMING );
+		while ( sr.next() ) {
+			DataPoint dp = ( DataPoint ) sr.get( 0 );
+			assertTrue( s.contains( dp ) );
+			// the entities of the previous rows were evicted
+			assertEquals( 1, s.getStatistics().getEntityCount() );
+			i++;
+		}
+		assertEquals( 50, i );
+		assertEquals( 0, s.getStatistics().getEntityCount() );
+		sr.close();
+		s.createQuery( "delete from DataPoint" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testStreamingScrollKeepsManagedEntities() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		long firstId = 0;
+		for ( int i = 0; i < 10; i++ ) {
+			DataPoint dp = new DataPoint();
+			dp.setX( new BigDecimal( i * 0.1d ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+			dp.setY( new BigDecimal( Math.cos( dp.getX().doubleValue() ) ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+			s.save( dp );
+			if ( i == 0 ) {
+				firstId = dp.getId();
+			}
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		DataPoint managed = ( DataPoint ) s.get( DataPoint.class, firstId );
+		int i = 0;
+		ScrollableResults sr = s.createQuery( "from DataPoint dp order by dp.x asc" )
+				.scroll( ScrollMode.STREAMING );
+		while ( sr.next() ) {
+			assertTrue( s.contains( sr.get( 0 ) ) );
+			i++;
+		}
+		assertEquals( 10, i );
+		// only the entities the scroll loaded itself were evicted
+		assertTrue( s.contains( managed ) );
+		assertEquals( 1, s.getStatistics().getEntityCount() );
+		sr.close();
+		s.createQuery( "delete from DataPoint" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testStreamingScrollEvictsFetchedAssociations() {
+		createProductLines();
+
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		int i = 0;
+		ScrollableResults sr = s.createQuery( "from Model m join fetch m.productLine order by m.productLine.id" )
+				.scroll( ScrollMode.STREAMING );
+		while ( sr.next() ) {
+			Model model = ( Model ) sr.get( 0 );
+			// the product line is kept while the models of the new row reference it
+			assertTrue( s.contains( model.getProductLine() ) );
+			// the model and its product line, along with the lazy models of the latter
+			assertEquals( 2, s.getStatistics().getEntityCount() );
+			assertEquals( 1, s.getStatistics().getCollectionCount() );
+			i++;
+		}
+		assertEquals( 30, i );
+		assertEquals( 0, s.getStatistics().getEntityCount() );
+		assertEquals( 0, s.getStatistics().getCollectionCount() );
+		sr.close();
+		t.commit();
+		s.close();
+
+		deleteProductLines();
+	}
+
+	@Test
+	public void testStreamingScrollEvictsFetchedCollections() {
+		createProductLines();
+
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		int i = 0;
+		ScrollableResults sr = s.createQuery( "from ProductLine pl left join fetch pl.models order by pl.id" )
+				.scroll( ScrollMode.STREAMING );
+		while ( sr.next() ) {
+			ProductLine productLine = ( ProductLine ) sr.get( 0 );
+			assertEquals( 3, productLine.getModels().size() );
+			// the product line and its models
+			assertEquals( 4, s.getStatistics().getEntityCount() );
+			assertEquals( 1, s.getStatistics().getCollectionCount() );
+			i++;
+		}
+		assertEquals( 10, i );
+		assertEquals( 0, s.getStatistics().getEntityCount() );
+		assertEquals( 0, s.getStatistics().getCollectionCount() );
+		sr.close();
+		t.commit();
+		s.close();
+
+		deleteProductLines();
+	}
+
+	private void createProductLines() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 10; i++ ) {
+			ProductLine productLine = new ProductLine();
+			productLine.setDescription( "product line " + i );
+			for ( int j = 0; j < 3; j++ ) {
+				Model model = new Model( productLine );
+				model.setName( "model " + j );
+				model.setDescription( "model " + j + " of product line " + i );
+			}
+			s.save( productLine );
+		}
+		t.commit();
+		s.close();
+	}
+
+	private void deleteProductLines() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		s.createQuery( "delete from Model" ).executeUpdate();
+		s.createQuery( "delete from ProductLine" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
 	public void doBatchInsertUpdate(int nEntities, int nBeforeFlush) {
 		Session s = openSession();
 		s.setCacheMode( CacheMode.IGNORE );
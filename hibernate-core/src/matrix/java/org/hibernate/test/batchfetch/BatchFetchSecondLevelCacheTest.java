@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.batchfetch;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Batch loading of entities available in the second-level cache.
+ */
+public class BatchFetchSecondLevelCacheTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batchfetch/ProductLine.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected String getCacheConcurrencyStrategy() {
+		return "nonstrict-read-write";
+	}
+
+	@SuppressWarnings( {"unchecked"})
+	@Test
+	public void testCachedEntitiesResolvedTogether() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		List<Serializable> ids = new ArrayList<Serializable>();
+		for ( int i = 0; i < 10; i++ ) {
+			ProductLine line = new ProductLine();
+			line.setDescription( "Line " + i );
+			ids.add( s.save( line ) );
+		}
+		t.commit();
+		s.close();
+
+		// populate the second-level cache
+		s = openSession();
+		t = s.beginTransaction();
+		assertEquals( 10, s.createQuery( "from ProductLine" ).list().size() );
+		t.commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List<ProductLine> lines = new ArrayList<ProductLine>();
+		for ( Serializable id : ids ) {
+			lines.add( (ProductLine) s.load( ProductLine.class, id ) );
+		}
+		Hibernate.initialize( lines.get( 0 ) ); //resolve all ten proxies from the cache
+		for ( ProductLine line : lines ) {
+			assertTrue( Hibernate.isInitialized( line ) );
+		}
+		assertEquals( 10, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getSecondLevelCacheMissCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object line : s.createQuery( "from ProductLine" ).list() ) {
+			s.delete( line );
+		}
+		t.commit();
+		s.close();
+	}
+}
@@ -22,6 +22,8 @@
  * Boston, MA  02110-1301  USA
  */
 package org.hibernate.test.batchfetch;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -31,10 +33,13 @@ import org.junit.Test;
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -43,7 +48,12 @@ import static org.junit.Assert.assertTrue;
 public class BatchFetchTest extends BaseCoreFunctionalTestCase {
 	@Override
 	public String[] getMappings() {
-		return new String[] { "batchfetch/ProductLine.hbm.xml" };
+		return new String[] { "batchfetch/ProductLine.hbm.xml", "batchfetch/Vehicle.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
 	}
 
 	@SuppressWarnings( {"unchecked"})
@@ -136,5 +146,170 @@ public class BatchFetchTest extends BaseCoreFunctionalTestCase {
 		s.close();
 	}
 
-}
+	@SuppressWarnings( {"unchecked"})
+	@Test
+	public void testBatchFetchIncludesKeysRegisteredBeforeRequestedKey() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 10; i++ ) {
+			ProductLine line = new ProductLine();
+			line.setDescription( "Line " + i );
+			Model model = new Model( line );
+			model.setName( "Model " + i );
+			model.setDescription( "Model of line " + i );
+			s.save( line );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List<ProductLine> lines = s.createQuery( "from ProductLine pl order by pl.description" ).list();
+		assertEquals( 10, lines.size() );
+		ProductLine last = lines.get( 9 );
+		assertEquals( 1, last.getModels().size() ); //fetch all ten collections
+		for ( ProductLine line : lines ) {
+			assertTrue( Hibernate.isInitialized( line.getModels() ) );
+		}
+
+		s.clear();
+
+		List<Model> models = s.createQuery( "from Model m order by m.name" ).list();
+		assertEquals( 10, models.size() );
+		for ( Model model : models ) {
+			assertFalse( Hibernate.isInitialized( model.getProductLine() ) );
+		}
+		models.get( 9 ).getProductLine().getDescription(); //fetch all ten product lines
+		for ( Model model : models ) {
+			assertTrue( Hibernate.isInitialized( model.getProductLine() ) );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object line : s.createQuery( "from ProductLine" ).list() ) {
+			s.delete( line );
+		}
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testBatchLoadedWithSingleStatement() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		List<Serializable> ids = new ArrayList<Serializable>();
+		for ( int i = 0; i < 15; i++ ) {
+			ProductLine line = new ProductLine();
+			line.setDescription( "Line " + i );
+			ids.add( s.save( line ) );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List<ProductLine> lines = new ArrayList<ProductLine>();
+		for ( Serializable id : ids ) {
+			lines.add( (ProductLine) s.load( ProductLine.class, id ) );
+		}
+		sessionFactory().getStatistics().clear();
+		Hibernate.initialize( lines.get( 0 ) ); //fetch all 15, padded to a batch of 16
+		for ( ProductLine line : lines ) {
+			assertTrue( Hibernate.isInitialized( line ) );
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getPrepareStatementCount() );
+		for ( ProductLine line : lines ) {
+			s.delete( line );
+		}
+		t.commit();
+		s.close();
+	}
 
+	@Test
+	public void testBatchFetchIncludesSubclassKeys() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		List<Serializable> carIds = new ArrayList<Serializable>();
+		for ( int i = 0; i < 5; i++ ) {
+			carIds.add( s.save( new Car( "Car " + i, 4 ) ) );
+		}
+		Serializable vehicleId = s.save( new Vehicle( "Vehicle" ) );
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List<Car> cars = new ArrayList<Car>();
+		for ( Serializable carId : carIds ) {
+			cars.add( (Car) s.load( Car.class, carId ) );
+		}
+		Vehicle vehicle = (Vehicle) s.load( Vehicle.class, vehicleId );
+		sessionFactory().getStatistics().clear();
+		// the superclass persister loads polymorphically, so the queued car keys are part of its batch
+		assertEquals( "Vehicle", vehicle.getName() );
+		assertEquals( 1, sessionFactory().getStatistics().getPrepareStatementCount() );
+		for ( Car car : cars ) {
+			assertTrue( Hibernate.isInitialized( car ) );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object v : s.createQuery( "from Vehicle" ).list() ) {
+			s.delete( v );
+		}
+		t.commit();
+		s.close();
+	}
+
+	@SuppressWarnings( {"unchecked"})
+	@Test
+	public void testEvictedCollectionsLeaveBatchFetchQueue() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 2; i++ ) {
+			ProductLine line = new ProductLine();
+			line.setDescription( "Line " + i );
+			Model model = new Model( line );
+			model.setName( "Model " + i );
+			model.setDescription( "Model of line " + i );
+			s.save( line );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List<ProductLine> lines = s.createQuery( "from ProductLine pl order by pl.description" ).list();
+		ProductLine evicted = lines.get( 0 );
+		ProductLine kept = lines.get( 1 );
+		assertFalse( Hibernate.isInitialized( evicted.getModels() ) );
+		WeakReference<Object> evictedModels = new WeakReference<Object>( evicted.getModels() );
+		s.evict( evicted );
+		lines = null;
+		evicted = null;
+
+		// the batch fetch queue no longer references the collection of the evicted owner
+		for ( int i = 0; i < 10 && evictedModels.get() != null; i++ ) {
+			System.gc();
+		}
+		assertNull( evictedModels.get() );
+
+		sessionFactory().getStatistics().clear();
+		assertEquals( 1, kept.getModels().size() );
+		assertEquals( 1, sessionFactory().getStatistics().getCollectionLoadCount() );
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object line : s.createQuery( "from ProductLine" ).list() ) {
+			s.delete( line );
+		}
+		t.commit();
+		s.close();
+	}
+}
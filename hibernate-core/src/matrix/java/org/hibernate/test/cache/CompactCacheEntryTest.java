@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.cache;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the round trip of entity state through compact second-level cache entries.
+ */
+public class CompactCacheEntryTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { CompactItem.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.CACHE_REGION_PREFIX, "" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( Environment.USE_COMPACT_CACHE, "true" );
+	}
+
+	@Test
+	public void testRoundTrip() {
+		assertTrue(
+				sessionFactory().getEntityPersister( CompactItem.class.getName() ).getCacheEntryStructure()
+						instanceof CompactCacheEntry
+		);
+
+		Session s = openSession();
+		s.beginTransaction();
+		CompactItem item = new CompactItem();
+		item.setName( "widget" );
+		item.setQuantity( -42 );
+		item.setTotal( Long.MAX_VALUE );
+		item.setAvailable( true );
+		item.setPrice( 12.5d );
+		item.setGrade( 'B' );
+		s.save( item );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		item = (CompactItem) s.get( CompactItem.class, item.getId() );
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+		assertEquals( "widget", item.getName() );
+		assertEquals( -42, item.getQuantity() );
+		assertEquals( Long.MAX_VALUE, item.getTotal() );
+		assertTrue( item.isAvailable() );
+		assertEquals( 12.5d, item.getPrice(), 0d );
+		assertEquals( 'B', item.getGrade() );
+		assertNull( item.getRating() );
+		s.delete( item );
+		s.getTransaction().commit();
+		s.close();
+	}
+}
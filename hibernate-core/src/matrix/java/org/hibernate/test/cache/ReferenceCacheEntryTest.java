@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.cache;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the sharing of immutable entities cached by reference.
+ */
+public class ReferenceCacheEntryTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Country.class, CacheableItem.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.CACHE_REGION_PREFIX, "" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( Environment.USE_REFERENCE_CACHE, "true" );
+	}
+
+	@Test
+	public void testImmutableEntitySharedAmongSessions() {
+		assertTrue(
+				( (AbstractEntityPersister) sessionFactory().getEntityPersister( Country.class.getName() ) )
+						.canUseReferenceCacheEntries()
+		);
+		assertFalse(
+				( (AbstractEntityPersister) sessionFactory().getEntityPersister( CacheableItem.class.getName() ) )
+						.canUseReferenceCacheEntries()
+		);
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( new Country( "FR", "France" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		Session s1 = openSession();
+		s1.beginTransaction();
+		Country country1 = (Country) s1.get( Country.class, "FR" );
+		Session s2 = openSession();
+		s2.beginTransaction();
+		Country country2 = (Country) s2.get( Country.class, "FR" );
+
+		assertSame( country1, country2 );
+		assertEquals( "France", country2.getName() );
+		assertTrue( s1.isReadOnly( country1 ) );
+		assertTrue( s2.isReadOnly( country2 ) );
+		assertEquals( 2, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+
+		s2.getTransaction().commit();
+		s2.close();
+		s1.getTransaction().commit();
+		s1.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Country" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.idgen.enhanced.sequence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests prefetching of sequence values, including the synchronous fallback when the prefetch fails.
+ */
+public class PooledPrefetchSequenceTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "idgen/enhanced/sequence/PooledPrefetch.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.CONNECTION_PROVIDER, PrefetchFailingConnectionProvider.class.getName() );
+	}
+
+	@Test
+	public void testPrefetchedValuesUsed() {
+		PrefetchFailingConnectionProvider.failPrefetch = false;
+		PrefetchFailingConnectionProvider.prefetchAttempts.set( 0 );
+		saveAndVerifyIdentifiers();
+		assertTrue( PrefetchFailingConnectionProvider.prefetchAttempts.get() > 0 );
+	}
+
+	@Test
+	public void testFallbackWhenPrefetchFails() {
+		PrefetchFailingConnectionProvider.failPrefetch = true;
+		PrefetchFailingConnectionProvider.prefetchAttempts.set( 0 );
+		try {
+			saveAndVerifyIdentifiers();
+			assertTrue( PrefetchFailingConnectionProvider.prefetchAttempts.get() > 0 );
+		}
+		finally {
+			PrefetchFailingConnectionProvider.failPrefetch = false;
+		}
+	}
+
+	private void saveAndVerifyIdentifiers() {
+		EntityPersister persister = sessionFactory().getEntityPersister( Entity.class.getName() );
+		SequenceStyleGenerator generator = ( SequenceStyleGenerator ) persister.getIdentifierGenerator();
+		int increment = generator.getOptimizer().getIncrementSize();
+
+		// three blocks worth of values, each of them prefetched (or failing to be prefetched) half way through
+		Entity[] entities = new Entity[ increment * 3 ];
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < entities.length; i++ ) {
+			entities[i] = new Entity( "" + ( i + 1 ) );
+			s.save( entities[i] );
+		}
+		s.getTransaction().commit();
+
+		s.beginTransaction();
+		long firstId = entities[0].getId();
+		for ( int i = 0; i < entities.length; i++ ) {
+			assertEquals( firstId + i, entities[i].getId().longValue() );
+			s.delete( entities[i] );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public static class PrefetchFailingConnectionProvider extends DriverManagerConnectionProviderImpl {
+		private static volatile boolean failPrefetch;
+		private static final AtomicInteger prefetchAttempts = new AtomicInteger();
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if ( Thread.currentThread().getName().startsWith( "Hibernate sequence prefetch" ) ) {
+				prefetchAttempts.incrementAndGet();
+				if ( failPrefetch ) {
+					throw new SQLException( "Prefetch connections are not available" );
+				}
+			}
+			return super.getConnection();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.insertordering;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.TableDependencyOrder;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests ordering of inserts by table, which does not need {@link Environment#ORDER_INSERTS}.
+ */
+public class TableOrderingTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "insertordering/Mapping.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( BatchBuilderInitiator.BUILDER, SqlRecordingBatchBuilder.class.getName() );
+	}
+
+	@Test
+	public void testTableDependencyRanks() {
+		TableDependencyOrder order = sessionFactory().getTableDependencyOrder();
+		int membershipRank = order.getRank( Membership.class.getName() );
+		assertTrue( membershipRank > order.getRank( User.class.getName() ) );
+		assertTrue( membershipRank > order.getRank( Group.class.getName() ) );
+	}
+
+	@Test
+	public void testUnrelatedTablesKeepFirstSeenOrder() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 5; i++ ) {
+			s.save( new Group( "group-" + i ) );
+			s.save( new User( "user-" + i ) );
+		}
+		SqlRecordingBatch.batchedSql.clear();
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals( 2, SqlRecordingBatch.batchedSql.size() );
+		assertTrue( SqlRecordingBatch.batchedSql.get( 0 ).contains( "INS_ORD_GRP" ) );
+		assertTrue( SqlRecordingBatch.batchedSql.get( 1 ).contains( "INS_ORD_USR" ) );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Group" ).executeUpdate();
+		s.createQuery( "delete from User" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testInsertsOrderedByTable() {
+		Session s = openSession();
+		s.beginTransaction();
+		int iterations = 12;
+		for ( int i = 0; i < iterations; i++ ) {
+			User user = new User( "user-" + i );
+			Group group = new Group( "group-" + i );
+			s.save( user );
+			s.save( group );
+			user.addMembership( group );
+		}
+		SqlRecordingBatch.batchedSql.clear();
+		s.getTransaction().commit();
+		s.close();
+
+		// users, groups and memberships; without the ordering, the user and group inserts would alternate
+		assertEquals( 3, SqlRecordingBatch.batchedSql.size() );
+		// users and groups are unrelated, so they keep the order in which they were first saved
+		assertTrue( SqlRecordingBatch.batchedSql.get( 0 ).contains( "INS_ORD_USR" ) );
+		assertTrue( SqlRecordingBatch.batchedSql.get( 1 ).contains( "INS_ORD_GRP" ) );
+		assertTrue( SqlRecordingBatch.batchedSql.get( 2 ).contains( "INS_ORD_MEM" ) );
+
+		s = openSession();
+		s.beginTransaction();
+		Iterator users = s.createQuery( "from User u left join fetch u.memberships m left join fetch m.group" ).list().iterator();
+		while ( users.hasNext() ) {
+			s.delete( users.next() );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public static class SqlRecordingBatch extends BatchingBatch {
+		private static List<String> batchedSql = new ArrayList<String>();
+
+		public SqlRecordingBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+			super( key, jdbcCoordinator, batchSize );
+		}
+
+		@Override
+		public PreparedStatement getBatchStatement(String sql, boolean callable) {
+			if ( batchedSql.isEmpty() || !batchedSql.get( batchedSql.size() - 1 ).equals( sql ) ) {
+				batchedSql.add( sql );
+			}
+			return super.getBatchStatement( sql, callable );
+		}
+	}
+
+	public static class SqlRecordingBatchBuilder extends BatchBuilderImpl {
+		private int jdbcBatchSize;
+
+		@Override
+		public void setJdbcBatchSize(int jdbcBatchSize) {
+			this.jdbcBatchSize = jdbcBatchSize;
+		}
+
+		@Override
+		public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+			return new SqlRecordingBatch( key, jdbcCoordinator, jdbcBatchSize );
+		}
+	}
+}
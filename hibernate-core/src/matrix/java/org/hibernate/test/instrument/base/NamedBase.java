@@ -0,0 +1,16 @@
+package org.hibernate.test.instrument.base;
+
+/**
+ * A superclass whose fields are not intercepted, as they are outside of the instrumented domain package.
+ */
+public class NamedBase {
+	private String name;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,76 @@
+package org.hibernate.test.instrument.cases;
+
+import junit.framework.Assert;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.hibernate.test.instrument.domain.Folder;
+import org.hibernate.test.instrument.domain.Tag;
+
+/**
+ * Flushes entities instrumented for dirty tracking, including one whose modifications cannot all be tracked.
+ */
+public class TestDirtyTrackingExecutable extends AbstractExecutable {
+	public void execute() {
+		SessionFactoryImplementor factory = (SessionFactoryImplementor) getFactory();
+		Assert.assertTrue( factory.getEntityPersister( Folder.class.getName() ).getEntityMetamodel().isDirtyTracked() );
+		Assert.assertFalse( factory.getEntityPersister( Tag.class.getName() ).getEntityMetamodel().isDirtyTracked() );
+
+		Statistics statistics = getFactory().getStatistics();
+		statistics.setStatisticsEnabled( true );
+
+		Session s = getFactory().openSession();
+		Transaction t = s.beginTransaction();
+		Folder folder = new Folder();
+		folder.setName( "pics" );
+		s.persist( folder );
+		Tag tag = new Tag();
+		tag.setName( "holidays" );
+		tag.setDescription( "summer" );
+		s.persist( tag );
+		t.commit();
+		s.close();
+
+		statistics.clear();
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		folder = (Folder) s.get( Folder.class, folder.getId() );
+		tag = (Tag) s.get( Tag.class, tag.getId() );
+		s.flush();
+		Assert.assertEquals( 0, statistics.getEntityUpdateCount() );
+		folder.setName( "pictures" );
+		// written by the superclass, without going through the interceptor
+		tag.setName( "vacation" );
+		t.commit();
+		s.close();
+		Assert.assertEquals( 2, statistics.getEntityUpdateCount() );
+
+		statistics.clear();
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		folder = (Folder) s.get( Folder.class, folder.getId() );
+		tag = (Tag) s.get( Tag.class, tag.getId() );
+		Assert.assertEquals( "pictures", folder.getName() );
+		Assert.assertEquals( "vacation", tag.getName() );
+		folder.setName( "photos" );
+		s.flush();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		// the modifications tracked before the previous flush are not reported again
+		s.flush();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		s.delete( folder );
+		s.delete( tag );
+		t.commit();
+		s.close();
+	}
+
+	@Override
+	protected String[] getResources() {
+		return new String[] {
+				"org/hibernate/test/instrument/domain/Documents.hbm.xml",
+				"org/hibernate/test/instrument/domain/Tags.hbm.xml"
+		};
+	}
+}
@@ -0,0 +1,24 @@
+package org.hibernate.test.instrument.domain;
+
+import org.hibernate.test.instrument.base.NamedBase;
+
+public class Tag extends NamedBase {
+	private Long id;
+	private String description;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.instrument.runtime;
+
+import org.junit.Test;
+
+import org.hibernate.bytecode.buildtime.spi.ClassFilter;
+import org.hibernate.bytecode.buildtime.spi.FieldFilter;
+import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
+import org.hibernate.bytecode.internal.javassist.JavassistClassTransformer;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ClassTransformer;
+
+/**
+ * Runs the instrumentation tests against classes which are also instrumented to track the modifications of their
+ * fields.
+ */
+public class JavassistDirtyTrackingInstrumentationTest extends AbstractTransformingClassLoaderInstrumentTestCase {
+	protected BytecodeProvider buildBytecodeProvider() {
+		return new BytecodeProviderImpl() {
+			@Override
+			public ClassTransformer getTransformer(ClassFilter classFilter, FieldFilter fieldFilter) {
+				return new JavassistClassTransformer( classFilter, fieldFilter, true );
+			}
+		};
+	}
+
+	@Test
+	public void testDirtyTracking() {
+		executeExecutable( "org.hibernate.test.instrument.cases.TestDirtyTrackingExecutable" );
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.querycache;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the invalidation of cached query results by the updated rows rather than the updated tables.
+ */
+public class QueryCacheRowInvalidationTest extends BaseCoreFunctionalTestCase {
+	private static final String QUERY = "from Item i where i.name = 'widget'";
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "querycache/Item.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( Environment.QUERY_CACHE_ROW_INVALIDATION, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testRowInvalidation() {
+		Session s = openSession();
+		s.beginTransaction();
+		Item widget = createItem( s, "widget" );
+		Item gizmo = createItem( s, "gizmo" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals( 1, runQuery() );
+		sessionFactory().getStatistics().clear();
+		assertEquals( 1, runQuery() );
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+
+		// an update of a row which was not returned leaves the cached results alone
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, gizmo.getId() ) ).setDescription( "a gizmo" );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		assertEquals( 1, runQuery() );
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+
+		// an update of a returned row invalidates them
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, widget.getId() ) ).setDescription( "a widget" );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		assertEquals( 1, runQuery() );
+		assertEquals( 0, sessionFactory().getStatistics().getQueryCacheHitCount() );
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheMissCount() );
+
+		// inserts still invalidate the whole table
+		s = openSession();
+		s.beginTransaction();
+		createItem( s, "widget" );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		assertEquals( 2, runQuery() );
+		assertEquals( 0, sessionFactory().getStatistics().getQueryCacheHitCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private Item createItem(Session s, String name) {
+		Item item = new Item();
+		item.setName( name );
+		item.setDescription( name );
+		s.persist( item );
+		return item;
+	}
+
+	private int runQuery() {
+		Session s = openSession();
+		s.beginTransaction();
+		int size = s.createQuery( QUERY ).setCacheable( true ).list().size();
+		s.getTransaction().commit();
+		s.close();
+		return size;
+	}
+}
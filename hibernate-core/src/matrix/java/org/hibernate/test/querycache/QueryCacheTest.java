@@ -259,6 +259,97 @@ public class QueryCacheTest extends BaseCoreFunctionalTestCase {
 		s.close();
 	}
 
+	@Test
+	public void testCachedResultsLoadedWithSingleStatement() {
+		sessionFactory().getCache().evictQueryRegions();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 12; i++ ) {
+			Item item = new Item();
+			item.setName( "widget" );
+			item.setDescription( "widget " + i );
+			s.persist( item );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 12, s.createQuery( queryString ).setCacheable( true ).list().size() );
+		s.getTransaction().commit();
+		s.close();
+
+		// the cached results only hold the ids, whose entities are neither in the session nor in the cache
+		sessionFactory().getCache().evictEntityRegion( Item.class );
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		List result = s.createQuery( queryString ).setCacheable( true ).list();
+		assertEquals( 12, result.size() );
+		for ( Object item : result ) {
+			assertTrue( Hibernate.isInitialized( item ) );
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+		// more entities than the batch-size of Item, still one statement
+		assertEquals( 1, sessionFactory().getStatistics().getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testCachedResultsAssembledWithSingleCacheLookup() {
+		sessionFactory().getCache().evictQueryRegions();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 12; i++ ) {
+			Item item = new Item();
+			item.setName( "widget" );
+			item.setDescription( "widget " + i );
+			s.persist( item );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 12, s.createQuery( queryString ).setCacheable( true ).list().size() );
+		s.getTransaction().commit();
+		s.close();
+
+		// the cached results only hold the ids, whose entities are all in the second-level cache
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		List result = s.createQuery( queryString ).setCacheable( true ).list();
+		assertEquals( 12, result.size() );
+		for ( Object item : result ) {
+			assertTrue( Hibernate.isInitialized( item ) );
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+		assertEquals( 12, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		// one multi-get for all of the entities, rather than one more get per entity
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheGetLatency().getCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
 	@Test
 	public void testQueryCacheFetch() throws Exception {
 		sessionFactory().evictQueries();
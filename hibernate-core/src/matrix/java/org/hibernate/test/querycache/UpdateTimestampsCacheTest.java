@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link UpdateTimestampsCache} combines the timestamps it wrote itself with those found in its region.
+ */
+public class UpdateTimestampsCacheTest extends BaseCoreFunctionalTestCase {
+	private static final String SPACE = "ITEM";
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( Environment.CACHE_REGION_FACTORY, DroppingRegionFactory.class.getName() );
+		cfg.setProperty( Environment.QUERY_CACHE_ROW_INVALIDATION_MAX_ROWS, "2" );
+	}
+
+	@Test
+	public void testLocalInvalidationIsSeenBeforeTheRegionPut() {
+		final UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		final DroppingTimestampsRegion region = (DroppingTimestampsRegion) cache.getRegion();
+		final Set<Serializable> spaces = Collections.<Serializable>singleton( SPACE );
+		final Long cachedAt = region.nextTimestamp();
+		assertTrue( cache.isUpToDate( spaces, cachedAt ) );
+
+		// the puts have not reached the region (yet)
+		region.dropPuts = true;
+		cache.preinvalidate( new Serializable[] { SPACE } );
+		assertNull( region.get( SPACE ) );
+		assertFalse( cache.isUpToDate( spaces, cachedAt ) );
+
+		cache.invalidate( new Serializable[] { SPACE } );
+		assertNull( region.get( SPACE ) );
+		assertFalse( cache.isUpToDate( spaces, cachedAt ) );
+		// results cached after the invalidation are up to date
+		assertTrue( cache.isUpToDate( spaces, region.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testRegionTimestampsAreHonoured() {
+		final UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		final TimestampsRegion region = cache.getRegion();
+		final Set<Serializable> spaces = Collections.<Serializable>singleton( SPACE );
+		final Long cachedAt = region.nextTimestamp();
+
+		// written by another node, which bypasses this node's local timestamps
+		region.put( SPACE, region.nextTimestamp() );
+		assertFalse( cache.isUpToDate( spaces, cachedAt ) );
+		assertTrue( cache.isUpToDate( spaces, region.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testClearResetsLocalTimestamps() {
+		final UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		final DroppingTimestampsRegion region = (DroppingTimestampsRegion) cache.getRegion();
+		final Set<Serializable> spaces = Collections.<Serializable>singleton( SPACE );
+		final Long cachedAt = region.nextTimestamp();
+
+		region.dropPuts = true;
+		cache.invalidate( new Serializable[] { SPACE } );
+		assertFalse( cache.isUpToDate( spaces, cachedAt ) );
+
+		cache.clear();
+		assertTrue( cache.isUpToDate( spaces, cachedAt ) );
+	}
+
+	@Test
+	public void testRowTimestampsBeyondTheMaximumAreDiscarded() {
+		final UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		final Set<Serializable> spaces = Collections.<Serializable>singleton( SPACE );
+		final Map<Serializable, Set<Serializable>> cachedRows = rows( 1L );
+		final Long cachedAt = cache.getRegion().nextTimestamp();
+
+		cache.invalidateRows( rows( 2L, 3L ) );
+		assertTrue( cache.isUpToDate( spaces, cachedAt, cachedRows ) );
+		assertFalse( cache.isUpToDate( spaces, cachedAt, rows( 2L ) ) );
+
+		// the third row exceeds the maximum, so the cached results can no longer tell which rows were updated
+		cache.invalidateRows( rows( 4L ) );
+		assertFalse( cache.isUpToDate( spaces, cachedAt, cachedRows ) );
+		assertTrue( cache.isUpToDate( spaces, cache.getRegion().nextTimestamp(), cachedRows ) );
+	}
+
+	private static Map<Serializable, Set<Serializable>> rows(Serializable... ids) {
+		return Collections.<Serializable, Set<Serializable>>singletonMap(
+				SPACE,
+				new HashSet<Serializable>( Arrays.asList( ids ) )
+		);
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		final UpdateTimestampsCache cache = sessionFactory().getUpdateTimestampsCache();
+		( (DroppingTimestampsRegion) cache.getRegion() ).dropPuts = false;
+		cache.clear();
+	}
+
+	public static class DroppingRegionFactory extends CachingRegionFactory {
+		public DroppingRegionFactory() {
+		}
+
+		public DroppingRegionFactory(Properties properties) {
+			super( properties );
+		}
+
+		@Override
+		public TimestampsRegion buildTimestampsRegion(String regionName, Properties properties) throws CacheException {
+			return new DroppingTimestampsRegion( super.buildTimestampsRegion( regionName, properties ) );
+		}
+	}
+
+	/**
+	 * A timestamps region which can drop puts, as if they had not been replicated yet.
+	 */
+	private static class DroppingTimestampsRegion implements TimestampsRegion {
+		private final TimestampsRegion delegate;
+		private volatile boolean dropPuts;
+
+		private DroppingTimestampsRegion(TimestampsRegion delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object get(Object key) throws CacheException {
+			return delegate.get( key );
+		}
+
+		@Override
+		public void put(Object key, Object value) throws CacheException {
+			if ( !dropPuts ) {
+				delegate.put( key, value );
+			}
+		}
+
+		@Override
+		public void evict(Object key) throws CacheException {
+			delegate.evict( key );
+		}
+
+		@Override
+		public void evictAll() throws CacheException {
+			delegate.evictAll();
+		}
+
+		@Override
+		public String getName() {
+			return delegate.getName();
+		}
+
+		@Override
+		public void destroy() throws CacheException {
+			delegate.destroy();
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return delegate.contains( key );
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return delegate.getSizeInMemory();
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return delegate.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return delegate.getElementCountOnDisk();
+		}
+
+		@Override
+		public Map toMap() {
+			return delegate.toMap();
+		}
+
+		@Override
+		public long nextTimestamp() {
+			return delegate.nextTimestamp();
+		}
+
+		@Override
+		public int getTimeout() {
+			return delegate.getTimeout();
+		}
+	}
+}
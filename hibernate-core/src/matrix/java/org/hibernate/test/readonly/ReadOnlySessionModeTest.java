@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.readonly;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionException;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of sessions opened in read-only mode through {@link org.hibernate.SessionBuilder#readOnly}.
+ */
+public class ReadOnlySessionModeTest extends AbstractReadOnlyTest {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "readonly/DataPoint.hbm.xml", "readonly/TextHolder.hbm.xml" };
+	}
+
+	@Test
+	public void testReadOnlySessionMode() {
+		Session s = openSession();
+		s.beginTransaction();
+		DataPoint dp = new DataPoint();
+		dp.setX( new BigDecimal( 0.1d ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+		dp.setY( new BigDecimal( Math.cos( dp.getX().doubleValue() ) ).setScale( 19, BigDecimal.ROUND_DOWN ) );
+		dp.setDescription( "original" );
+		s.save( dp );
+		s.getTransaction().commit();
+		s.close();
+
+		clearCounts();
+
+		s = sessionFactory().withOptions().readOnly( true ).openSession();
+		s.setCacheMode( CacheMode.IGNORE );
+		s.beginTransaction();
+		assertTrue( s.isDefaultReadOnly() );
+		List list = s.createQuery( "from DataPoint" ).setReadOnly( false ).list();
+		assertEquals( 1, list.size() );
+		dp = (DataPoint) list.get( 0 );
+		assertTrue( s.isReadOnly( dp ) );
+		assertNull(
+				"no loaded state should be kept",
+				( (SessionImplementor) s ).getPersistenceContext().getEntry( dp ).getLoadedState()
+		);
+		try {
+			s.setReadOnly( dp, false );
+			fail( "entities of a read-only session should not be made modifiable" );
+		}
+		catch (IllegalStateException expected) {
+		}
+		// asking for modifiable entities by default is ignored, not refused
+		s.setDefaultReadOnly( false );
+		assertTrue( s.isDefaultReadOnly() );
+		Iterator it = s.createQuery( "from DataPoint" ).setReadOnly( false ).iterate();
+		assertTrue( s.isReadOnly( it.next() ) );
+		Hibernate.close( it );
+		ScrollableResults results = s.createQuery( "from DataPoint" ).setReadOnly( false ).scroll( ScrollMode.FORWARD_ONLY );
+		assertTrue( results.next() );
+		assertTrue( s.isReadOnly( results.get( 0 ) ) );
+		results.close();
+		try {
+			s.buildLockRequest( new LockOptions( LockMode.OPTIMISTIC_FORCE_INCREMENT ) ).lock( dp );
+			fail( "a read-only session should refuse to increment versions" );
+		}
+		catch (SessionException expected) {
+		}
+		try {
+			s.buildLockRequest( new LockOptions( LockMode.PESSIMISTIC_FORCE_INCREMENT ) ).lock( dp );
+			fail( "a read-only session should refuse to increment versions" );
+		}
+		catch (SessionException expected) {
+		}
+		dp.setDescription( "changed" );
+		assertFalse( s.isDirty() );
+		s.flush();
+		try {
+			s.save( new DataPoint() );
+			fail( "a read-only session should refuse to save entities" );
+		}
+		catch (SessionException expected) {
+		}
+		try {
+			s.delete( dp );
+			fail( "a read-only session should refuse to delete entities" );
+		}
+		catch (SessionException expected) {
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		assertInsertCount( 0 );
+		assertUpdateCount( 0 );
+		assertDeleteCount( 0 );
+
+		s = openSession();
+		s.beginTransaction();
+		dp = (DataPoint) s.get( DataPoint.class, dp.getId() );
+		assertEquals( "original", dp.getDescription() );
+		s.delete( dp );
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.cache.internal.CacheDataDescriptionImpl;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the regions built by the {@link LocalRegionFactory}.
+ */
+public class LocalRegionFactoryTest extends BaseUnitTestCase {
+	private LocalRegionFactory regionFactory;
+
+	@Before
+	public void setUp() {
+		regionFactory = new LocalRegionFactory();
+		regionFactory.start( null, new Properties() );
+	}
+
+	@Test
+	public void testRegionsBounded() {
+		Properties properties = new Properties();
+		properties.setProperty( LocalRegionFactory.MAX_ENTRIES, "100" );
+		properties.setProperty( LocalRegionFactory.MAX_ENTRIES + ".big", "1000" );
+
+		QueryResultsRegion small = regionFactory.buildQueryResultsRegion( "small", properties );
+		QueryResultsRegion big = regionFactory.buildQueryResultsRegion( "big", properties );
+		TimestampsRegion timestamps = regionFactory.buildTimestampsRegion( "timestamps", properties );
+		for ( int i = 0; i < 2000; i++ ) {
+			small.put( i, "value" + i );
+			big.put( i, "value" + i );
+			timestamps.put( i, (long) i );
+		}
+		assertTrue( small.getElementCountInMemory() <= 100 );
+		assertTrue( big.getElementCountInMemory() > 100 );
+		assertTrue( big.getElementCountInMemory() <= 1000 );
+		// the timestamps must never be evicted
+		assertEquals( 2000, timestamps.getElementCountInMemory() );
+		assertEquals( 1999L, timestamps.get( 1999 ) );
+	}
+
+	@Test
+	public void testReadWriteAccess() {
+		EntityRegionAccessStrategy access = regionFactory.buildEntityRegion(
+				"entity",
+				new Properties(),
+				new CacheDataDescriptionImpl( true, false, null )
+		).buildAccessStrategy( AccessType.READ_WRITE );
+
+		assertTrue( access.putFromLoad( "key", "value", regionFactory.nextTimestamp(), null, false ) );
+		assertEquals( "value", access.get( "key", regionFactory.nextTimestamp() ) );
+
+		// locked items are not readable
+		SoftLock lock = access.lockItem( "key", null );
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+		assertFalse( access.putFromLoad( "key", "stale", regionFactory.nextTimestamp(), null, false ) );
+
+		assertTrue( access.afterUpdate( "key", "updated", null, null, lock ) );
+		assertEquals( "updated", access.get( "key", regionFactory.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testLocksSurviveEviction() {
+		Properties properties = new Properties();
+		properties.setProperty( LocalRegionFactory.MAX_ENTRIES, "10" );
+		EntityRegionAccessStrategy access = buildEntityAccess( properties, AccessType.READ_WRITE );
+
+		assertTrue( access.putFromLoad( "key", "value", regionFactory.nextTimestamp(), null, false ) );
+		SoftLock lock = access.lockItem( "key", null );
+		for ( int i = 0; i < 100; i++ ) {
+			access.putFromLoad( i, "value" + i, regionFactory.nextTimestamp(), null, false );
+		}
+		// the lock of the transaction in progress must still keep stale data out
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+		assertFalse( access.putFromLoad( "key", "stale", regionFactory.nextTimestamp(), null, false ) );
+
+		assertTrue( access.afterUpdate( "key", "updated", null, null, lock ) );
+		assertEquals( "updated", access.get( "key", regionFactory.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testTimeToLive() throws InterruptedException {
+		Properties properties = new Properties();
+		properties.setProperty( LocalRegionFactory.TIME_TO_LIVE, "1" );
+		EntityRegionAccessStrategy access = buildEntityAccess( properties, AccessType.READ_WRITE );
+
+		assertTrue( access.putFromLoad( "key", "value", regionFactory.nextTimestamp(), null, false ) );
+		assertTrue( access.putFromLoad( "locked", "value", regionFactory.nextTimestamp(), null, false ) );
+		SoftLock lock = access.lockItem( "locked", null );
+		assertEquals( "value", access.get( "key", regionFactory.nextTimestamp() ) );
+
+		Thread.sleep( 1100 );
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+		assertFalse( access.getRegion().contains( "key" ) );
+		// locks do not expire with the data
+		assertFalse( access.putFromLoad( "locked", "stale", regionFactory.nextTimestamp(), null, false ) );
+		assertTrue( access.afterUpdate( "locked", "updated", null, null, lock ) );
+		assertEquals( "updated", access.get( "locked", regionFactory.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testReadOnlyAccess() {
+		EntityRegionAccessStrategy access = buildEntityAccess( new Properties(), AccessType.READ_ONLY );
+
+		assertTrue( access.putFromLoad( "key", "value", regionFactory.nextTimestamp(), null, false ) );
+		assertEquals( "value", access.get( "key", regionFactory.nextTimestamp() ) );
+		assertFalse( access.insert( "inserted", "value", null ) );
+		assertTrue( access.afterInsert( "inserted", "value", null ) );
+		assertEquals( "value", access.get( "inserted", regionFactory.nextTimestamp() ) );
+
+		try {
+			access.lockItem( "key", null );
+			fail( "expecting read-only items not to be locked" );
+		}
+		catch ( UnsupportedOperationException expected ) {
+			// expected
+		}
+		try {
+			access.update( "key", "updated", null, null );
+			fail( "expecting read-only items not to be updated" );
+		}
+		catch ( UnsupportedOperationException expected ) {
+			// expected
+		}
+		assertEquals( "value", access.get( "key", regionFactory.nextTimestamp() ) );
+
+		access.evict( "key" );
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testNonstrictReadWriteAccess() {
+		EntityRegionAccessStrategy access = buildEntityAccess( new Properties(), AccessType.NONSTRICT_READ_WRITE );
+
+		assertTrue( access.putFromLoad( "key", "value", regionFactory.nextTimestamp(), null, false ) );
+		assertEquals( "value", access.get( "key", regionFactory.nextTimestamp() ) );
+		assertNull( access.lockItem( "key", null ) );
+
+		// modified items are evicted rather than updated
+		assertFalse( access.update( "key", "updated", null, null ) );
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+		assertTrue( access.putFromLoad( "key", "reloaded", regionFactory.nextTimestamp(), null, false ) );
+		assertFalse( access.afterUpdate( "key", "updated", null, null, null ) );
+		assertNull( access.get( "key", regionFactory.nextTimestamp() ) );
+
+		assertFalse( access.afterInsert( "inserted", "value", null ) );
+		assertNull( access.get( "inserted", regionFactory.nextTimestamp() ) );
+	}
+
+	@Test
+	public void testNaturalIdReadWriteAccess() {
+		NaturalIdRegionAccessStrategy access = regionFactory.buildNaturalIdRegion(
+				"naturalId",
+				new Properties(),
+				new CacheDataDescriptionImpl( true, false, null )
+		).buildAccessStrategy( AccessType.READ_WRITE );
+
+		assertTrue( access.putFromLoad( "naturalId", 1L, regionFactory.nextTimestamp(), null, false ) );
+		assertEquals( 1L, access.get( "naturalId", regionFactory.nextTimestamp() ) );
+
+		SoftLock lock = access.lockItem( "naturalId", null );
+		assertNull( access.get( "naturalId", regionFactory.nextTimestamp() ) );
+		assertFalse( access.putFromLoad( "naturalId", 2L, regionFactory.nextTimestamp(), null, false ) );
+		assertTrue( access.afterUpdate( "naturalId", 3L, lock ) );
+		assertEquals( 3L, access.get( "naturalId", regionFactory.nextTimestamp() ) );
+
+		assertFalse( access.insert( "other", 4L ) );
+		assertTrue( access.afterInsert( "other", 4L ) );
+		assertEquals( 4L, access.get( "other", regionFactory.nextTimestamp() ) );
+	}
+
+	private EntityRegionAccessStrategy buildEntityAccess(Properties properties, AccessType accessType) {
+		return regionFactory.buildEntityRegion(
+				"entity",
+				properties,
+				new CacheDataDescriptionImpl( true, false, null )
+		).buildAccessStrategy( accessType );
+	}
+}
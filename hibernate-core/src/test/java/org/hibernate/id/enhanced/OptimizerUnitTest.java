@@ -23,6 +23,10 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Test;
 
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -254,6 +258,130 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testBasicConcurrentPooledLoOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildOptimizer(
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, 1, 3
+		);
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// force a "clock over"
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testThreadLocalPooledLoOptimizerUsage() {
+		// slices of 2 values
+		final SourceMock sequence = new SourceMock( 1, 32 );
+		final Optimizer optimizer = new OptimizerFactory.ThreadLocalPooledLoOptimizer( Long.class, 32 );
+
+		for ( int i = 1; i <= 4; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// a second thread claims its own slice of the pool
+		final Long[] otherThreadValue = new Long[1];
+		Thread other = new Thread() {
+			@Override
+			public void run() {
+				otherThreadValue[0] = ( Long ) optimizer.generate( sequence );
+			}
+		};
+		other.start();
+		try {
+			other.join();
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException( e );
+		}
+		assertEquals( 5, otherThreadValue[0].intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// ... so this thread continues with the following slice
+		assertEquals( 7, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 8, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentOptimizersGenerateUniqueValues() throws Exception {
+		for ( OptimizerFactory.StandardOptimizerDescriptor descriptor : new OptimizerFactory.StandardOptimizerDescriptor[] {
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED_LO_CONCURRENT,
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED_LO_THREAD_LOCAL
+		} ) {
+			final SourceMock sequence = new SourceMock( 1, 50 );
+			final Optimizer optimizer = buildOptimizer( descriptor, 1, 50 );
+			final int threadCount = 8;
+			final int valuesPerThread = 1000;
+			final Set<Long> values = Collections.synchronizedSet( new HashSet<Long>() );
+			final AccessCallback synchronizedSequence = new AccessCallback() {
+				@Override
+				public synchronized IntegralDataTypeHolder getNextValue() {
+					return sequence.getNextValue();
+				}
+			};
+			Thread[] threads = new Thread[threadCount];
+			for ( int i = 0; i < threadCount; i++ ) {
+				threads[i] = new Thread() {
+					@Override
+					public void run() {
+						for ( int j = 0; j < valuesPerThread; j++ ) {
+							values.add( ( Long ) optimizer.generate( synchronizedSequence ) );
+						}
+					}
+				};
+				threads[i].start();
+			}
+			for ( Thread thread : threads ) {
+				thread.join();
+			}
+			assertEquals( threadCount * valuesPerThread, values.size() );
+		}
+	}
+
+	@Test
+	public void testPrefetchingOptimizerUsage() {
+		for ( OptimizerFactory.StandardOptimizerDescriptor descriptor : new OptimizerFactory.StandardOptimizerDescriptor[] {
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED,
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED_LO,
+				OptimizerFactory.StandardOptimizerDescriptor.POOLED_LO_CONCURRENT
+		} ) {
+			final PrefetchingSourceMock sequence = new PrefetchingSourceMock( 1, 10, 0.5 );
+			final Optimizer optimizer = buildOptimizer( descriptor, 1, 10 );
+
+			for ( int i = 1; i <= 4; i++ ) {
+				optimizer.generate( sequence );
+			}
+			assertEquals( descriptor.getExternalName(), 0, sequence.getTimesPrefetched() );
+			optimizer.generate( sequence );
+			assertEquals( descriptor.getExternalName(), 1, sequence.getTimesPrefetched() );
+
+			// the rest of the block does not prefetch again...
+			for ( int i = 6; i <= 10; i++ ) {
+				optimizer.generate( sequence );
+			}
+			assertEquals( descriptor.getExternalName(), 1, sequence.getTimesPrefetched() );
+
+			// ... but the next block does, once it is half used
+			for ( int i = 11; i <= 15; i++ ) {
+				optimizer.generate( sequence );
+			}
+			assertEquals( descriptor.getExternalName(), 2, sequence.getTimesPrefetched() );
+		}
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( OptimizerFactory.StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -332,4 +460,26 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	private static class PrefetchingSourceMock extends SourceMock implements PrefetchingAccessCallback {
+		private final double prefetchThreshold;
+		private int timesPrefetched = 0;
+
+		public PrefetchingSourceMock(long initialValue, int increment, double prefetchThreshold) {
+			super( initialValue, increment );
+			this.prefetchThreshold = prefetchThreshold;
+		}
+
+		public double getPrefetchThreshold() {
+			return prefetchThreshold;
+		}
+
+		public void prefetchNextValue() {
+			timesPrefetched++;
+		}
+
+		public int getTimesPrefetched() {
+			return timesPrefetched;
+		}
+	}
+
 }
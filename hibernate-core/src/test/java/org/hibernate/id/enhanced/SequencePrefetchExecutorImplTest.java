@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SequencePrefetchExecutorImplTest extends BaseUnitTestCase {
+	@Test
+	public void testExecute() throws Exception {
+		SequencePrefetchExecutorImpl executor = new SequencePrefetchExecutorImpl();
+		try {
+			FutureTask<String> task = new FutureTask<String>( new Runnable() {
+				@Override
+				public void run() {
+				}
+			}, "done" );
+			executor.execute( task );
+			assertEquals( "done", task.get( 10, TimeUnit.SECONDS ) );
+		}
+		finally {
+			executor.stop();
+		}
+	}
+
+	@Test
+	public void testStopRejectsAndCancelsPendingTasks() throws Exception {
+		SequencePrefetchExecutorImpl executor = new SequencePrefetchExecutorImpl();
+		final CountDownLatch running = new CountDownLatch( 1 );
+		final CountDownLatch release = new CountDownLatch( 1 );
+		executor.execute( new Runnable() {
+			@Override
+			public void run() {
+				running.countDown();
+				try {
+					release.await();
+				}
+				catch ( InterruptedException ignore ) {
+				}
+			}
+		} );
+		assertTrue( running.await( 10, TimeUnit.SECONDS ) );
+		FutureTask<String> pending = new FutureTask<String>( new Runnable() {
+			@Override
+			public void run() {
+			}
+		}, "never" );
+		executor.execute( pending );
+
+		executor.stop();
+		release.countDown();
+		try {
+			pending.get( 10, TimeUnit.SECONDS );
+			fail( "pending prefetch should have been cancelled" );
+		}
+		catch ( CancellationException expected ) {
+		}
+
+		try {
+			executor.execute( pending );
+			fail( "stopped executor should reject tasks" );
+		}
+		catch ( RejectedExecutionException expected ) {
+		}
+	}
+}
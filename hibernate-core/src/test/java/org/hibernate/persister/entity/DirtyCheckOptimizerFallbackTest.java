@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+
+import org.junit.Test;
+
+import org.hibernate.bytecode.buildtime.spi.ClassFilter;
+import org.hibernate.bytecode.buildtime.spi.FieldFilter;
+import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ClassTransformer;
+import org.hibernate.bytecode.spi.EntityInstrumentationMetadata;
+import org.hibernate.bytecode.spi.ProxyFactoryFactory;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.test.bytecode.Bean;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that dirty check optimization is only used with bytecode providers supporting it.
+ */
+public class DirtyCheckOptimizerFallbackTest extends BaseUnitTestCase {
+	private static final Class[] VALUE_CLASSES = new Class[] {
+			String.class, Long.class, Integer.class, null, Boolean.class, Double.class, Character.class
+	};
+
+	@Test
+	public void testSupportingProvider() {
+		assertNotNull(
+				AbstractEntityPersister.buildDirtyCheckOptimizer( new BytecodeProviderImpl(), Bean.class, VALUE_CLASSES )
+		);
+	}
+
+	@Test
+	public void testProviderWithoutSupport() {
+		assertNull(
+				AbstractEntityPersister.buildDirtyCheckOptimizer( new PlainBytecodeProvider(), Bean.class, VALUE_CLASSES )
+		);
+	}
+
+	/**
+	 * A third party provider written against the plain {@link BytecodeProvider} contract.
+	 */
+	private static class PlainBytecodeProvider implements BytecodeProvider {
+		@Override
+		public ProxyFactoryFactory getProxyFactoryFactory() {
+			return null;
+		}
+
+		@Override
+		public ReflectionOptimizer getReflectionOptimizer(
+				Class clazz,
+				String[] getterNames,
+				String[] setterNames,
+				Class[] types) {
+			return null;
+		}
+
+		@Override
+		public ClassTransformer getTransformer(ClassFilter classFilter, FieldFilter fieldFilter) {
+			return null;
+		}
+
+		@Override
+		public EntityInstrumentationMetadata getEntityInstrumentationMetadata(Class entityClass) {
+			return null;
+		}
+	}
+}
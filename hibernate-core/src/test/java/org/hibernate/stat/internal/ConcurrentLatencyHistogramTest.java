@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat.internal;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of the ConcurrentLatencyHistogram class
+ */
+public class ConcurrentLatencyHistogramTest extends BaseUnitTestCase {
+	@Test
+	public void testBucketBounds() {
+		for ( long value : new long[] { 0, 1, 7, 8, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE } ) {
+			final long upperBound = ConcurrentLatencyHistogram.bucketUpperBound( ConcurrentLatencyHistogram.bucketIndex( value ) );
+			assertTrue( upperBound >= value );
+			assertTrue( upperBound - value <= value / 8 );
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		final ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram();
+		assertEquals( 0, histogram.getP99() );
+		for ( long i = 1; i <= 1000; i++ ) {
+			histogram.record( i * 1000 );
+		}
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( 1000000, histogram.getMax() );
+		assertWithinAccuracy( 500000, histogram.getP50() );
+		assertWithinAccuracy( 990000, histogram.getP99() );
+		assertEquals( 1000000, histogram.getP999() );
+
+		histogram.clear();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getP50() );
+	}
+
+	private static void assertWithinAccuracy(long expected, long actual) {
+		assertTrue( actual >= expected );
+		assertTrue( actual - expected <= expected / 8 );
+	}
+}
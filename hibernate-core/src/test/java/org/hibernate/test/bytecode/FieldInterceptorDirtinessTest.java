@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.bytecode;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.hibernate.bytecode.instrumentation.spi.AbstractFieldInterceptor;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FieldInterceptorDirtinessTest extends BaseUnitTestCase {
+	@Test
+	public void testDirtyAttributesTracking() {
+		TrackingInterceptor interceptor = new TrackingInterceptor();
+		assertFalse( interceptor.isDirty() );
+		assertTrue( interceptor.getDirtyAttributes().isEmpty() );
+
+		interceptor.write( "name" );
+		interceptor.write( "name" );
+		interceptor.write( "count" );
+		assertTrue( interceptor.isDirty() );
+		assertEquals( 2, interceptor.getDirtyAttributes().size() );
+		assertTrue( interceptor.getDirtyAttributes().contains( "name" ) );
+		assertTrue( interceptor.getDirtyAttributes().contains( "count" ) );
+
+		interceptor.clearDirty();
+		assertFalse( interceptor.isDirty() );
+		assertEquals( Collections.<String>emptySet(), interceptor.getDirtyAttributes() );
+	}
+
+	@Test
+	public void testForcefullyDirtyAttributesAreUnknown() {
+		TrackingInterceptor interceptor = new TrackingInterceptor();
+		interceptor.write( "name" );
+		interceptor.dirty();
+		assertTrue( interceptor.isDirty() );
+		assertNull( interceptor.getDirtyAttributes() );
+
+		// still unknown until cleared
+		interceptor.write( "count" );
+		assertNull( interceptor.getDirtyAttributes() );
+
+		interceptor.clearDirty();
+		interceptor.write( "count" );
+		assertEquals( Collections.singleton( "count" ), interceptor.getDirtyAttributes() );
+	}
+
+	private static class TrackingInterceptor extends AbstractFieldInterceptor {
+		private TrackingInterceptor() {
+			super( null, null, "Bean" );
+		}
+
+		private void write(String fieldName) {
+			dirty( fieldName );
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.bytecode.javassist;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.test.bytecode.Bean;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class DirtyCheckOptimizerTest extends BaseUnitTestCase {
+	private static final Class[] VALUE_CLASSES = new Class[] {
+			String.class, Long.class, Integer.class, null, Boolean.class, Double.class, Character.class
+	};
+
+	@Test
+	public void testDirtyCheckOptimization() {
+		DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer( Bean.class, VALUE_CLASSES );
+		assertNotNull( optimizer );
+
+		Object[] previous = new Object[] { "a string", 1L, 1, new Date( 0 ), Boolean.TRUE, 1.5d, 'c' };
+		Object[] current = new Object[] { new String( "a string" ), new Long( 1 ), new Integer( 1 ), new Date( 1 ), true, new Double( 1.5 ), 'c' };
+		boolean[] dirty = new boolean[VALUE_CLASSES.length];
+		optimizer.findDirty( current, previous, dirty );
+		for ( int i = 0; i < dirty.length; i++ ) {
+			// the un-optimized date property is left to its type
+			assertFalse( "property [" + i + "] should not be dirty", dirty[i] );
+		}
+
+		current = new Object[] { "another string", 2L, null, new Date( 1 ), false, Double.NaN, 'd' };
+		dirty = new boolean[VALUE_CLASSES.length];
+		optimizer.findDirty( current, previous, dirty );
+		for ( int i = 0; i < dirty.length; i++ ) {
+			if ( VALUE_CLASSES[i] == null ) {
+				assertFalse( "property [" + i + "] should not be checked", dirty[i] );
+			}
+			else {
+				assertTrue( "property [" + i + "] should be dirty", dirty[i] );
+			}
+		}
+
+		previous[5] = Double.NaN;
+		dirty = new boolean[VALUE_CLASSES.length];
+		optimizer.findDirty( current, previous, dirty );
+		assertFalse( "NaN should be considered equal to itself", dirty[5] );
+	}
+}
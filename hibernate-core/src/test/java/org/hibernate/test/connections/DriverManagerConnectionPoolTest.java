@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.connections;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import org.hibernate.cfg.Environment;
+import org.hibernate.service.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the connection pool of {@link DriverManagerConnectionProviderImpl}.
+ */
+public class DriverManagerConnectionPoolTest extends BaseUnitTestCase {
+	private DriverManagerConnectionProviderImpl buildConnectionProvider(Properties settings) {
+		Properties props = ConnectionProviderBuilder.getConnectionProviderProperties();
+		props.putAll( settings );
+		DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( props );
+		return connectionProvider;
+	}
+
+	@Test
+	public void testMinimumSizeIsOpenedUpFront() throws SQLException {
+		Properties settings = new Properties();
+		settings.put( Environment.POOL_MIN_SIZE, "3" );
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( settings );
+		try {
+			assertEquals( 3, connectionProvider.getIdleCount() );
+			assertEquals( 0, connectionProvider.getActiveCount() );
+
+			Connection connection = connectionProvider.getConnection();
+			assertEquals( 2, connectionProvider.getIdleCount() );
+			assertEquals( 1, connectionProvider.getActiveCount() );
+
+			connectionProvider.closeConnection( connection );
+			assertEquals( 3, connectionProvider.getIdleCount() );
+			assertEquals( 0, connectionProvider.getActiveCount() );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testReleasedConnectionIsReused() throws SQLException {
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( new Properties() );
+		try {
+			Connection connection = connectionProvider.getConnection();
+			connectionProvider.closeConnection( connection );
+			assertFalse( connection.isClosed() );
+			Connection reused = connectionProvider.getConnection();
+			assertSame( connection, reused );
+			connectionProvider.closeConnection( reused );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+		assertEquals( 0, connectionProvider.getIdleCount() );
+	}
+
+	@Test
+	public void testMaximumSizeBoundsWait() throws SQLException {
+		Properties settings = new Properties();
+		settings.put( Environment.POOL_MAX_SIZE, "2" );
+		settings.put( Environment.POOL_MAX_WAIT, "100" );
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( settings );
+		try {
+			Connection first = connectionProvider.getConnection();
+			Connection second = connectionProvider.getConnection();
+			assertEquals( 2, connectionProvider.getActiveCount() );
+			try {
+				connectionProvider.getConnection();
+				fail( "expecting the wait for a third connection to time out" );
+			}
+			catch ( SQLException expected ) {
+				// expected
+			}
+			assertEquals( 0, connectionProvider.getWaitingCount() );
+
+			connectionProvider.closeConnection( first );
+			Connection third = connectionProvider.getConnection();
+			assertSame( first, third );
+
+			connectionProvider.closeConnection( second );
+			connectionProvider.closeConnection( third );
+			assertEquals( 0, connectionProvider.getActiveCount() );
+			assertEquals( 2, connectionProvider.getIdleCount() );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testIdleConnectionsAreEvicted() throws Exception {
+		Properties settings = new Properties();
+		settings.put( Environment.POOL_MIN_SIZE, "1" );
+		settings.put( Environment.POOL_IDLE_TIMEOUT, "100" );
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( settings );
+		try {
+			Connection first = connectionProvider.getConnection();
+			Connection second = connectionProvider.getConnection();
+			connectionProvider.closeConnection( first );
+			connectionProvider.closeConnection( second );
+			assertEquals( 2, connectionProvider.getIdleCount() );
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while ( connectionProvider.getIdleCount() > 1 && System.currentTimeMillis() < deadline ) {
+				Thread.sleep( 50 );
+			}
+			// the minimum size is kept
+			assertEquals( 1, connectionProvider.getIdleCount() );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testMostRecentlyReleasedConnectionIsReused() throws SQLException {
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( new Properties() );
+		try {
+			Connection first = connectionProvider.getConnection();
+			Connection second = connectionProvider.getConnection();
+			connectionProvider.closeConnection( first );
+			connectionProvider.closeConnection( second );
+
+			Connection reused = connectionProvider.getConnection();
+			assertSame( second, reused );
+			connectionProvider.closeConnection( reused );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testSurplusConnectionsAreEvictedUnderSteadyUse() throws Exception {
+		Properties settings = new Properties();
+		settings.put( Environment.POOL_IDLE_TIMEOUT, "100" );
+		DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( settings );
+		try {
+			Connection first = connectionProvider.getConnection();
+			Connection second = connectionProvider.getConnection();
+			connectionProvider.closeConnection( first );
+			connectionProvider.closeConnection( second );
+			assertEquals( 2, connectionProvider.getIdleCount() );
+
+			// one connection at a time keeps being used, the other one should time out
+			long deadline = System.currentTimeMillis() + 5000;
+			while ( connectionProvider.getIdleCount() > 1 && System.currentTimeMillis() < deadline ) {
+				Connection connection = connectionProvider.getConnection();
+				connectionProvider.closeConnection( connection );
+				Thread.sleep( 20 );
+			}
+			assertEquals( 1, connectionProvider.getIdleCount() );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testConcurrentReturnsDoNotExceedPoolSize() throws Exception {
+		Properties settings = new Properties();
+		settings.put( Environment.POOL_SIZE, "2" );
+		final DriverManagerConnectionProviderImpl connectionProvider = buildConnectionProvider( settings );
+		try {
+			final int threadCount = 8;
+			final Connection[] connections = new Connection[threadCount];
+			for ( int i = 0; i < threadCount; i++ ) {
+				connections[i] = connectionProvider.getConnection();
+			}
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+			Thread[] threads = new Thread[threadCount];
+			for ( int i = 0; i < threadCount; i++ ) {
+				final Connection connection = connections[i];
+				threads[i] = new Thread() {
+					@Override
+					public void run() {
+						try {
+							start.await();
+							connectionProvider.closeConnection( connection );
+						}
+						catch ( Throwable t ) {
+							failure.set( t );
+						}
+					}
+				};
+				threads[i].start();
+			}
+			start.countDown();
+			for ( Thread thread : threads ) {
+				thread.join();
+			}
+			assertNull( failure.get() );
+			assertEquals( 0, connectionProvider.getActiveCount() );
+			assertEquals( 2, connectionProvider.getIdleCount() );
+
+			int closed = 0;
+			for ( Connection connection : connections ) {
+				if ( connection.isClosed() ) {
+					closed++;
+				}
+			}
+			assertEquals( threadCount - 2, closed );
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+}
@@ -25,7 +25,9 @@ package org.hibernate.test.jdbc.proxies;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
@@ -34,6 +36,7 @@ import org.junit.Test;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
 import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.internal.InsertBatchKey;
 import org.hibernate.engine.jdbc.batch.internal.NonBatchingBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
@@ -217,4 +220,99 @@ public class BatchingTest extends BaseUnitTestCase implements BatchKey {
 		logicalConnection.close();
 	}
 
+	@Test
+	public void testGroupedBatchingUsage() throws Exception {
+		final TransactionContext transactionContext = new TransactionContextImpl( new TransactionEnvironmentImpl( serviceRegistry ) );
+
+		TransactionCoordinatorImpl transactionCoordinator = new TransactionCoordinatorImpl( null, transactionContext );
+		final JdbcCoordinator jdbcCoordinator = transactionCoordinator.getJdbcCoordinator();
+		LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		Connection connection = logicalConnection.getShareableConnectionProxy();
+
+		// set up some tables to use
+		Statement statement = connection.createStatement();
+		statement.execute( "drop table SANDBOX_JDBC_CHILD if exists" );
+		statement.execute( "drop table SANDBOX_JDBC_PARENT if exists" );
+		statement.execute( "create table SANDBOX_JDBC_PARENT ( ID integer primary key )" );
+		statement.execute(
+				"create table SANDBOX_JDBC_CHILD ( ID integer, PARENT_ID integer, " +
+						"foreign key (PARENT_ID) references SANDBOX_JDBC_PARENT(ID) )"
+		);
+		statement.close();
+
+		TransactionImplementor txn = transactionCoordinator.getTransaction();
+		txn.begin();
+
+		final BatchKey parentKey = new InsertBatchKey(
+				"parent",
+				Expectations.BASIC,
+				"SANDBOX_JDBC_PARENT",
+				Collections.<String>emptySet()
+		);
+		final BatchKey childKey = new InsertBatchKey(
+				"child",
+				Expectations.BASIC,
+				"SANDBOX_JDBC_CHILD",
+				Collections.singleton( "SANDBOX_JDBC_PARENT" )
+		);
+
+		final BatchBuilder batchBuilder = new BatchBuilderImpl( 10, true );
+		final Batch insertBatch = batchBuilder.buildBatch( parentKey, jdbcCoordinator );
+		final JournalingBatchObserver batchObserver = new JournalingBatchObserver();
+		insertBatch.addObserver( batchObserver );
+
+		final String parentSql = "insert into SANDBOX_JDBC_PARENT( ID ) values ( ? )";
+		final String childSql = "insert into SANDBOX_JDBC_CHILD( ID, PARENT_ID ) values ( ?, ? )";
+
+		for ( int i = 1; i <= 3; i++ ) {
+			assertTrue( insertBatch.join( parentKey ) );
+			PreparedStatement parentInsert = insertBatch.getBatchStatement( parentSql, false );
+			parentInsert.setLong( 1, i );
+			insertBatch.addToBatch();
+
+			assertTrue( insertBatch.join( childKey ) );
+			PreparedStatement childInsert = insertBatch.getBatchStatement( childSql, false );
+			childInsert.setLong( 1, i );
+			childInsert.setLong( 2, i );
+			insertBatch.addToBatch();
+		}
+		// the parent and child inserts were interleaved without ever executing the batch
+		assertEquals( 0, batchObserver.getImplicitExecutionCount() );
+		assertFalse( insertBatch.join( new BasicBatchKey( "other", Expectations.BASIC ) ) );
+
+		// a parent insert which (supposedly) depends on the child table must not be executed ahead of the children
+		final BatchKey dependentParentKey = new InsertBatchKey(
+				"dependent-parent",
+				Expectations.BASIC,
+				"SANDBOX_JDBC_PARENT",
+				Collections.singleton( "SANDBOX_JDBC_CHILD" )
+		);
+		assertTrue( insertBatch.join( dependentParentKey ) );
+		PreparedStatement parentInsert = insertBatch.getBatchStatement( parentSql, false );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		parentInsert.setLong( 1, 4 );
+		insertBatch.addToBatch();
+
+		insertBatch.execute();
+		assertEquals( 1, batchObserver.getExplicitExecutionCount() );
+		assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+		insertBatch.release();
+
+		statement = connection.createStatement();
+		ResultSet resultSet = statement.executeQuery( "select count(*) from SANDBOX_JDBC_CHILD" );
+		assertTrue( resultSet.next() );
+		assertEquals( 3, resultSet.getInt( 1 ) );
+		resultSet.close();
+		resultSet = statement.executeQuery( "select count(*) from SANDBOX_JDBC_PARENT" );
+		assertTrue( resultSet.next() );
+		assertEquals( 4, resultSet.getInt( 1 ) );
+		resultSet.close();
+		statement.execute( "drop table SANDBOX_JDBC_CHILD" );
+		statement.execute( "drop table SANDBOX_JDBC_PARENT" );
+		statement.close();
+
+		txn.commit();
+		logicalConnection.close();
+	}
+
 }
@@ -0,0 +1,477 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.jdbc.proxies;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.ConnectionReleaseMode;
+import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.engine.jdbc.internal.LogicalConnectionImpl;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingCallableStatement;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingConnection;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingDatabaseMetaData;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingPreparedStatement;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingResultSet;
+import org.hibernate.engine.jdbc.internal.proxy.DelegatingStatement;
+import org.hibernate.engine.jdbc.internal.proxy.ProxyBuilder;
+import org.hibernate.engine.jdbc.spi.JdbcWrapper;
+import org.hibernate.test.common.BasicTestingJdbcServiceImpl;
+import org.hibernate.test.common.JdbcConnectionAccessImpl;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the delegating JDBC wrappers handed out by a logical connection, both against the database and against
+ * a fake driver for the calls the database driver does not support.
+ */
+public class DelegatingWrapperTest extends BaseUnitTestCase {
+	private BasicTestingJdbcServiceImpl services = new BasicTestingJdbcServiceImpl();
+
+	@Before
+	public void setUp() {
+		services.prepare( false );
+	}
+
+	@After
+	public void tearDown() {
+		services.release();
+	}
+
+	private LogicalConnectionImpl buildLogicalConnection(Connection userSuppliedConnection) {
+		return new LogicalConnectionImpl(
+				userSuppliedConnection,
+				ConnectionReleaseMode.AFTER_TRANSACTION,
+				services,
+				new JdbcConnectionAccessImpl( services.getConnectionProvider() )
+		);
+	}
+
+	@Test
+	public void testStatementRegistrationAndRelease() throws SQLException {
+		LogicalConnectionImpl logicalConnection = buildLogicalConnection( null );
+		Connection connection = ProxyBuilder.buildConnection( logicalConnection );
+		try {
+			Statement statement = connection.createStatement();
+			assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			ResultSet rs = statement.executeQuery( "select 1" );
+			assertTrue( rs.next() );
+			rs.close();
+			// the statement stays registered until closed itself
+			assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			statement.close();
+			assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+
+			PreparedStatement ps = connection.prepareStatement( "select 1" );
+			rs = ps.executeQuery();
+			assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			ps.close();
+			assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			try {
+				rs.next();
+				fail( "closing the statement should have released its result set" );
+			}
+			catch ( HibernateException expected ) {
+			}
+
+			CallableStatement cs = connection.prepareCall( "call 1" );
+			assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			cs.close();
+			assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
+
+	@Test
+	public void testLogicalConnectionCloseReleasesWrappers() throws SQLException {
+		LogicalConnectionImpl logicalConnection = buildLogicalConnection( null );
+		Connection connection = ProxyBuilder.buildConnection( logicalConnection );
+		Statement statement = connection.createStatement();
+		ResultSet rs = statement.executeQuery( "select 1" );
+		ResultSet catalogs = connection.getMetaData().getCatalogs();
+		assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+
+		logicalConnection.close();
+		assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+		assertTrue( connection.isClosed() );
+		try {
+			statement.executeQuery( "select 1" );
+			fail( "statement should have been invalidated" );
+		}
+		catch ( HibernateException expected ) {
+		}
+		try {
+			rs.next();
+			fail( "result set should have been invalidated" );
+		}
+		catch ( HibernateException expected ) {
+		}
+		try {
+			catalogs.next();
+			fail( "metadata result set should have been invalidated" );
+		}
+		catch ( HibernateException expected ) {
+		}
+		try {
+			connection.createStatement();
+			fail( "connection should have been invalidated" );
+		}
+		catch ( HibernateException expected ) {
+		}
+	}
+
+	@Test
+	@SuppressWarnings( {"unchecked"})
+	public void testUnwrap() throws SQLException {
+		Connection physicalConnection = FakeJdbcHandler.connection();
+		LogicalConnectionImpl logicalConnection = buildLogicalConnection( physicalConnection );
+		Connection connection = ProxyBuilder.buildConnection( logicalConnection );
+		try {
+			assertTrue( connection.isWrapperFor( Connection.class ) );
+			assertSame( physicalConnection, connection.unwrap( Connection.class ) );
+			try {
+				connection.unwrap( CallableStatement.class );
+				fail( "driver refusal to unwrap should have been converted" );
+			}
+			catch ( JDBCException expected ) {
+			}
+
+			Statement statement = connection.createStatement();
+			assertTrue( statement.isWrapperFor( Statement.class ) );
+			assertFalse( statement.isWrapperFor( Connection.class ) );
+			assertSame( ( (JdbcWrapper<Statement>) statement ).getWrappedObject(), statement.unwrap( Statement.class ) );
+
+			ResultSet rs = statement.executeQuery( "select" );
+			assertTrue( rs.isWrapperFor( ResultSet.class ) );
+			assertSame( ( (JdbcWrapper<ResultSet>) rs ).getWrappedObject(), rs.unwrap( ResultSet.class ) );
+			assertSame( statement, rs.getStatement() );
+
+			statement.close();
+			try {
+				statement.unwrap( Statement.class );
+				fail( "a closed statement should not be unwrapped" );
+			}
+			catch ( HibernateException expected ) {
+			}
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
+
+	@Test
+	public void testJdbc41Methods() throws SQLException {
+		LogicalConnectionImpl logicalConnection = buildLogicalConnection( FakeJdbcHandler.connection() );
+		DelegatingConnection connection = (DelegatingConnection) ProxyBuilder.buildConnection( logicalConnection );
+		try {
+			DelegatingStatement statement = (DelegatingStatement) connection.createStatement();
+			DelegatingResultSet rs = (DelegatingResultSet) statement.executeQuery( "select" );
+			DelegatingDatabaseMetaData metaData = (DelegatingDatabaseMetaData) connection.getMetaData();
+			if ( isJdbc41() ) {
+				connection.setSchema( "SANDBOX" );
+				assertEquals( "SANDBOX", connection.getSchema() );
+				assertEquals( 42, connection.getNetworkTimeout() );
+				try {
+					connection.abort( null );
+					fail( "driver exception should have been converted" );
+				}
+				catch ( JDBCException expected ) {
+				}
+
+				assertFalse( statement.isCloseOnCompletion() );
+				statement.closeOnCompletion();
+				assertTrue( statement.isCloseOnCompletion() );
+
+				assertEquals( "value", rs.getObject( 1, String.class ) );
+				assertEquals( "value", rs.getObject( "label", String.class ) );
+
+				statement.close();
+				assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+				ResultSet pseudoColumns = metaData.getPseudoColumns( null, null, "SANDBOX", null );
+				assertTrue( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+				pseudoColumns.close();
+				assertFalse( logicalConnection.getResourceRegistry().hasRegisteredResources() );
+			}
+			else {
+				try {
+					connection.getSchema();
+					fail( "JDBC 4.1 methods should not be supported before JDBC 4.1" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+				try {
+					statement.closeOnCompletion();
+					fail( "JDBC 4.1 methods should not be supported before JDBC 4.1" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+				try {
+					rs.getObject( 1, String.class );
+					fail( "JDBC 4.1 methods should not be supported before JDBC 4.1" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+				try {
+					metaData.getPseudoColumns( null, null, "SANDBOX", null );
+					fail( "JDBC 4.1 methods should not be supported before JDBC 4.1" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+			}
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
+
+	@Test
+	public void testJdbc42Methods() throws SQLException {
+		LogicalConnectionImpl logicalConnection = buildLogicalConnection( FakeJdbcHandler.connection() );
+		DelegatingConnection connection = (DelegatingConnection) ProxyBuilder.buildConnection( logicalConnection );
+		try {
+			DelegatingStatement statement = (DelegatingStatement) connection.createStatement();
+			DelegatingPreparedStatement ps = (DelegatingPreparedStatement) connection.prepareStatement( "update" );
+			DelegatingCallableStatement cs = (DelegatingCallableStatement) connection.prepareCall( "call" );
+			DelegatingResultSet rs = (DelegatingResultSet) statement.executeQuery( "select" );
+			DelegatingDatabaseMetaData metaData = (DelegatingDatabaseMetaData) connection.getMetaData();
+			if ( isJdbc42() ) {
+				statement.setLargeMaxRows( 5000000000L );
+				assertEquals( 5000000000L, statement.getLargeMaxRows() );
+				assertEquals( 5000000000L, statement.executeLargeUpdate( "update" ) );
+				assertEquals( 5000000000L, statement.executeLargeUpdate( "update", Statement.RETURN_GENERATED_KEYS ) );
+				assertArrayEquals( new long[] { 1L, 5000000000L }, statement.executeLargeBatch() );
+
+				ps.setObject( 1, "value", JDBCType.VARCHAR );
+				ps.setObject( 2, "value", JDBCType.VARCHAR, 5 );
+				assertEquals( 5000000000L, ps.executeLargeUpdate() );
+
+				cs.setObject( "name", "value", JDBCType.VARCHAR );
+				cs.registerOutParameter( 1, JDBCType.VARCHAR );
+				try {
+					cs.registerOutParameter( "name", JDBCType.REF_CURSOR );
+					fail( "driver exception should have been converted" );
+				}
+				catch ( JDBCException expected ) {
+				}
+
+				rs.updateObject( 1, "value", JDBCType.VARCHAR );
+				try {
+					rs.updateObject( "label", "value", JDBCType.REF_CURSOR );
+					fail( "driver exception should have been converted" );
+				}
+				catch ( JDBCException expected ) {
+				}
+
+				assertEquals( 5000000000L, metaData.getMaxLogicalLobSize() );
+				assertFalse( metaData.supportsRefCursors() );
+			}
+			else {
+				try {
+					statement.executeLargeUpdate( "update" );
+					fail( "JDBC 4.2 methods should not be supported before JDBC 4.2" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+				try {
+					ps.executeLargeUpdate();
+					fail( "JDBC 4.2 methods should not be supported before JDBC 4.2" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+				try {
+					metaData.getMaxLogicalLobSize();
+					fail( "JDBC 4.2 methods should not be supported before JDBC 4.2" );
+				}
+				catch ( SQLFeatureNotSupportedException expected ) {
+				}
+			}
+		}
+		finally {
+			logicalConnection.close();
+		}
+	}
+
+	private static boolean isJdbc42() {
+		try {
+			Statement.class.getMethod( "executeLargeBatch" );
+			return true;
+		}
+		catch ( NoSuchMethodException e ) {
+			return false;
+		}
+	}
+
+	private static boolean isJdbc41() {
+		try {
+			Connection.class.getMethod( "getSchema" );
+			return true;
+		}
+		catch ( NoSuchMethodException e ) {
+			return false;
+		}
+	}
+
+	/**
+	 * Plays the part of a JDBC driver, answering whatever the wrappers are tested for and defaults otherwise.
+	 */
+	private static class FakeJdbcHandler implements InvocationHandler {
+		private final Object statement;
+		private String schema;
+		private boolean closeOnCompletion;
+		private long largeMaxRows;
+
+		private FakeJdbcHandler(Object statement) {
+			this.statement = statement;
+		}
+
+		static Connection connection() {
+			return (Connection) create( Connection.class, null );
+		}
+
+		private static Object create(Class jdbcInterface, Object statement) {
+			return Proxy.newProxyInstance(
+					DelegatingWrapperTest.class.getClassLoader(),
+					new Class[] { jdbcInterface },
+					new FakeJdbcHandler( statement )
+			);
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String name = method.getName();
+			if ( "hashCode".equals( name ) ) {
+				return System.identityHashCode( proxy );
+			}
+			if ( "equals".equals( name ) ) {
+				return proxy == args[0];
+			}
+			if ( "toString".equals( name ) ) {
+				return "fake " + method.getDeclaringClass().getSimpleName();
+			}
+			if ( "isWrapperFor".equals( name ) ) {
+				return ( (Class) args[0] ).isInstance( proxy );
+			}
+			if ( "unwrap".equals( name ) ) {
+				if ( ( (Class) args[0] ).isInstance( proxy ) ) {
+					return proxy;
+				}
+				throw new SQLException( "not a wrapper for " + args[0] );
+			}
+			if ( "createStatement".equals( name ) ) {
+				return create( Statement.class, null );
+			}
+			if ( "prepareStatement".equals( name ) ) {
+				return create( PreparedStatement.class, null );
+			}
+			if ( "prepareCall".equals( name ) ) {
+				return create( CallableStatement.class, null );
+			}
+			if ( "getMetaData".equals( name ) ) {
+				return create( DatabaseMetaData.class, null );
+			}
+			if ( "executeQuery".equals( name ) ) {
+				return create( ResultSet.class, proxy );
+			}
+			if ( "getPseudoColumns".equals( name ) ) {
+				return create( ResultSet.class, null );
+			}
+			if ( "getStatement".equals( name ) ) {
+				return statement;
+			}
+			if ( "setSchema".equals( name ) ) {
+				schema = (String) args[0];
+				return null;
+			}
+			if ( "getSchema".equals( name ) ) {
+				return schema;
+			}
+			if ( "getNetworkTimeout".equals( name ) ) {
+				return 42;
+			}
+			if ( "abort".equals( name ) ) {
+				throw new SQLException( "abort refused" );
+			}
+			if ( "closeOnCompletion".equals( name ) ) {
+				closeOnCompletion = true;
+				return null;
+			}
+			if ( "isCloseOnCompletion".equals( name ) ) {
+				return closeOnCompletion;
+			}
+			if ( "getObject".equals( name ) && args.length == 2 && args[1] instanceof Class ) {
+				return "value";
+			}
+			if ( args != null && Arrays.asList( args ).toString().contains( "REF_CURSOR" ) ) {
+				throw new SQLException( "ref cursors not supported" );
+			}
+			if ( "setLargeMaxRows".equals( name ) ) {
+				largeMaxRows = (Long) args[0];
+				return null;
+			}
+			if ( "getLargeMaxRows".equals( name ) ) {
+				return largeMaxRows;
+			}
+			if ( "executeLargeUpdate".equals( name ) || "getMaxLogicalLobSize".equals( name ) ) {
+				return 5000000000L;
+			}
+			if ( "executeLargeBatch".equals( name ) ) {
+				return new long[] { 1L, 5000000000L };
+			}
+			final Class returnType = method.getReturnType();
+			if ( returnType == boolean.class ) {
+				return false;
+			}
+			if ( returnType == int.class ) {
+				return 0;
+			}
+			if ( returnType == long.class ) {
+				return 0L;
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.util;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link IdentityMap}.
+ */
+public class IdentityMapTest extends BaseUnitTestCase {
+	@Test
+	public void testKeysAreComparedByIdentity() {
+		IdentityMap<String, Integer> map = IdentityMap.instantiateSequenced( 2 );
+		String key = new String( "key" );
+		String equalKey = new String( "key" );
+		map.put( key, 1 );
+		assertTrue( map.containsKey( key ) );
+		assertFalse( map.containsKey( equalKey ) );
+		assertNull( map.get( equalKey ) );
+		map.put( equalKey, 2 );
+		assertEquals( 2, map.size() );
+		assertEquals( 1, map.get( key ).intValue() );
+		assertEquals( 2, map.get( equalKey ).intValue() );
+	}
+
+	@Test
+	public void testInsertionOrderIsKeptAcrossRemovalAndGrowth() {
+		IdentityMap<Object, Integer> map = IdentityMap.instantiateSequenced( 2 );
+		Object[] keys = new Object[100];
+		for ( int i = 0; i < keys.length; i++ ) {
+			keys[i] = new Object();
+			map.put( keys[i], i );
+		}
+		for ( int i = 0; i < keys.length; i += 2 ) {
+			assertEquals( i, map.remove( keys[i] ).intValue() );
+		}
+		// replacing the value keeps the position
+		map.put( keys[1], -1 );
+		assertEquals( 50, map.size() );
+
+		Map.Entry[] entries = IdentityMap.concurrentEntries( map );
+		assertEquals( 50, entries.length );
+		Iterator<Object> keyIterator = map.keyIterator();
+		for ( int i = 0; i < entries.length; i++ ) {
+			assertSame( keys[i * 2 + 1], entries[i].getKey() );
+			assertEquals( i == 0 ? -1 : i * 2 + 1, entries[i].getValue() );
+			assertSame( keys[i * 2 + 1], keyIterator.next() );
+		}
+		assertFalse( keyIterator.hasNext() );
+	}
+
+	@Test
+	public void testConcurrentEntriesAreASnapshot() {
+		IdentityMap<Object, String> map = IdentityMap.instantiateSequenced( 8 );
+		Object first = new Object();
+		map.put( first, "first" );
+		Map.Entry[] entries = IdentityMap.concurrentEntries( map );
+		map.put( new Object(), "second" );
+		assertEquals( 1, entries.length );
+		assertEquals( 2, IdentityMap.concurrentEntries( map ).length );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertEquals( 0, IdentityMap.concurrentEntries( map ).length );
+		assertNull( map.get( first ) );
+	}
+}
@@ -22,9 +22,13 @@
  * Boston, MA  02110-1301  USA
  */
 package org.hibernate.type.descriptor.sql;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 import org.junit.Test;
@@ -38,7 +42,9 @@ import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.StringTypeDescriptor;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Steve Ebersole
@@ -65,6 +71,7 @@ public class StringValueMappingTest extends BaseUnitTestCase {
 
 	public static final String COLUMN_NAME = "n/a";
 	public static final int BIND_POSITION = -1;
+	public static final int COLUMN_POSITION = 1;
 
 	@Test
 	public void testNormalVarcharHandling() throws SQLException {
@@ -127,4 +134,73 @@ public class StringValueMappingTest extends BaseUnitTestCase {
 		PreparedStatement ps = PreparedStatementProxy.generateProxy( clob );
 		binder.bind( ps, fixture, BIND_POSITION, wrapperOptions );
 	}
+
+	@Test
+	public void testVarcharHandlingByPosition() throws SQLException {
+		final BasicExtractor<String> extractor =
+				(BasicExtractor<String>) varcharSqlDescriptor.getExtractor( stringJavaDescriptor );
+
+		final String fixture = "string value";
+		assertEquals( fixture, extractor.extract( ResultSetProxy.generateProxy( fixture ), COLUMN_POSITION, wrapperOptions ) );
+		assertNull( extractor.extract( ResultSetProxy.generateProxy( (String) null ), COLUMN_POSITION, wrapperOptions ) );
+	}
+
+	@Test
+	public void testClobHandlingByPosition() throws SQLException {
+		final BasicExtractor<String> extractor =
+				(BasicExtractor<String>) clobSqlDescriptor.getExtractor( stringJavaDescriptor );
+
+		final String fixture = "clob string";
+		final Clob clob = new StringClobImpl( fixture );
+		assertEquals( fixture, extractor.extract( ResultSetProxy.generateProxy( clob ), COLUMN_POSITION, wrapperOptions ) );
+		assertNull( extractor.extract( ResultSetProxy.generateProxy( (Clob) null ), COLUMN_POSITION, wrapperOptions ) );
+	}
+
+	@Test
+	public void testExtractorReadingOnlyByNameHandlesPosition() throws SQLException {
+		final BasicExtractor<String> extractor = new BasicExtractor<String>( stringJavaDescriptor, varcharSqlDescriptor ) {
+			@Override
+			protected String doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
+				return rs.getString( name );
+			}
+		};
+
+		final String fixture = "string value";
+		final ResultSet rs = (ResultSet) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { ResultSet.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ( "getMetaData".equals( method.getName() ) ) {
+							return Proxy.newProxyInstance(
+									getClass().getClassLoader(),
+									new Class[] { ResultSetMetaData.class },
+									new InvocationHandler() {
+										public Object invoke(Object proxy, Method method, Object[] args) {
+											assertEquals( "getColumnLabel", method.getName() );
+											assertEquals( COLUMN_POSITION, args[0] );
+											return COLUMN_NAME;
+										}
+									}
+							);
+						}
+						if ( "getString".equals( method.getName() ) && COLUMN_NAME.equals( args[0] ) ) {
+							return fixture;
+						}
+						if ( "wasNull".equals( method.getName() ) ) {
+							return false;
+						}
+						throw new UnsupportedOperationException( "Unexpected call ResultSet." + method.getName() );
+					}
+				}
+		);
+		assertEquals( fixture, extractor.extract( rs, COLUMN_POSITION, wrapperOptions ) );
+		assertFalse( extractor.canExtractByPosition() );
+	}
+
+	@Test
+	public void testStandardExtractorsExtractByPosition() {
+		assertTrue( ( (BasicExtractor) varcharSqlDescriptor.getExtractor( stringJavaDescriptor ) ).canExtractByPosition() );
+		assertTrue( ( (BasicExtractor) clobSqlDescriptor.getExtractor( stringJavaDescriptor ) ).canExtractByPosition() );
+	}
 }
@@ -55,6 +55,15 @@ abstract class AbstractEhcacheAccessStrategy<T extends EhcacheTransactionalDataR
 		this.settings = settings;
 	}
 
+	/**
+	 * This method is a placeholder for method signatures supplied by interfaces pulled in further down the class
+	 * hierarchy.
+	 *
+	 * @see org.hibernate.cache.spi.access.EntityRegionAccessStrategy#get(java.lang.Object, long)
+	 * @see org.hibernate.cache.spi.access.CollectionRegionAccessStrategy#get(java.lang.Object, long)
+	 */
+	public abstract Object get(Object key, long txTimestamp) throws CacheException;
+
 	/**
 	 * This method is a placeholder for method signatures supplied by interfaces pulled in further down the class
 	 * hierarchy.
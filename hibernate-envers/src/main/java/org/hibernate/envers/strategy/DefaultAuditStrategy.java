@@ -8,9 +8,9 @@ import org.hibernate.envers.configuration.GlobalConfiguration;
 import org.hibernate.envers.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.entities.mapper.relation.MiddleIdData;
-import org.hibernate.envers.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.tools.query.Parameters;
 import org.hibernate.envers.tools.query.QueryBuilder;
+import org.hibernate.event.spi.EventSource;
 
 import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS_DEF_AUD_STR;
 import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
@@ -22,22 +22,16 @@ import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants
  * @author Stephanie Pau
  */
 public class DefaultAuditStrategy implements AuditStrategy {
-    private final SessionCacheCleaner sessionCacheCleaner;
-
-    public DefaultAuditStrategy() {
-        sessionCacheCleaner = new SessionCacheCleaner();
-    }
-
     public void perform(Session session, String entityName, AuditConfiguration auditCfg, Serializable id, Object data,
                         Object revision) {
-        session.save(auditCfg.getAuditEntCfg().getAuditEntityName(entityName), data);
-        sessionCacheCleaner.scheduleAuditDataRemoval(session, data);
+        auditCfg.getSyncManager().get((EventSource) session).getAuditWriter()
+                .insert(auditCfg.getAuditEntCfg().getAuditEntityName(entityName), data);
     }
 
     public void performCollectionChange(Session session, AuditConfiguration auditCfg,
                                         PersistentCollectionChangeData persistentCollectionChangeData, Object revision) {
-        session.save(persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData());
-        sessionCacheCleaner.scheduleAuditDataRemoval(session, persistentCollectionChangeData.getData());
+        auditCfg.getSyncManager().get((EventSource) session).getAuditWriter()
+                .insert(persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData());
     }
 
     
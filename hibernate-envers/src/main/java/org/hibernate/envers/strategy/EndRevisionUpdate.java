@@ -0,0 +1,225 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.strategy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Query;
+import org.hibernate.Session;
+import org.hibernate.envers.configuration.AuditEntitiesConfiguration;
+
+/**
+ * Set-based update of the end revision of the previous audit rows of one audit entity, gathered while the work units
+ * of a revision are performed, and executed as a single <code>UPDATE ... WHERE ... IN (...)</code> statement (per
+ * {@link #MAX_PARAMETERS_PER_UPDATE} id parameters) once they have all been performed.
+ * <p/>
+ * The updated rows reference the current revision entity, so the update must only be executed once the revision
+ * entity has been flushed. The rows of the current revision are skipped, so the new audit rows may already have been
+ * inserted.
+ *
+ * @see ValidityAuditStrategy
+ */
+public class EndRevisionUpdate {
+    /**
+     * Keeps the number of bind parameters of each statement below the limit of databases such as SQL Server, whatever
+     * the number of id properties, and the <code>IN</code> lists below the limit of databases such as Oracle.
+     */
+    private static final int MAX_PARAMETERS_PER_UPDATE = 500;
+
+    private final String auditEntityName;
+    private final AuditEntitiesConfiguration audEntCfg;
+    private final Object revision;
+    private final Date revisionEndTimestamp;
+    private final boolean previousRowRequired;
+
+    /**
+     * Ids of the audited rows to update, each as a map of property paths (relative to the audit entity) to values.
+     */
+    private final Set<Map<String, Object>> ids = new LinkedHashSet<Map<String, Object>>();
+
+    /**
+     * @param auditEntityName Name of the audit entity, or of the middle entity of an audited collection.
+     * @param audEntCfg Audit entities configuration.
+     * @param revision The current revision entity.
+     * @param revisionEndTimestamp The end revision timestamp to store, or <code>null</code> if it is not stored.
+     * @param previousRowRequired Whether each id must have a previous row, as it is the case for modified and deleted
+     * entities, but not for collection elements.
+     */
+    public EndRevisionUpdate(String auditEntityName, AuditEntitiesConfiguration audEntCfg, Object revision,
+                             Date revisionEndTimestamp, boolean previousRowRequired) {
+        this.auditEntityName = auditEntityName;
+        this.audEntCfg = audEntCfg;
+        this.revision = revision;
+        this.revisionEndTimestamp = revisionEndTimestamp;
+        this.previousRowRequired = previousRowRequired;
+    }
+
+    public String getAuditEntityName() {
+        return auditEntityName;
+    }
+
+    /**
+     * @param id Values of the id properties of the previous row, except the revision, keyed by their path relative to
+     * the audit entity (e.g. <code>originalId.id</code>).
+     */
+    public void addId(Map<String, Object> id) {
+        ids.add(id);
+    }
+
+    public void execute(Session session) {
+        List<Map<String, Object>> chunk = new ArrayList<Map<String, Object>>();
+        int chunkParameters = 0;
+        for (Map<String, Object> id : ids) {
+            if (!chunk.isEmpty() && chunkParameters + id.size() > MAX_PARAMETERS_PER_UPDATE) {
+                executeChunk(session, chunk);
+                chunk.clear();
+                chunkParameters = 0;
+            }
+            chunk.add(id);
+            chunkParameters += id.size();
+        }
+        if (!chunk.isEmpty()) {
+            executeChunk(session, chunk);
+        }
+        ids.clear();
+    }
+
+    private void executeChunk(Session session, List<Map<String, Object>> chunk) {
+        int updated = buildQuery(session, pad(chunk)).executeUpdate();
+        if (previousRowRequired && updated != chunk.size()) {
+            throw new RuntimeException("Cannot find previous revision for some of the " + chunk.size() +
+                    " entities " + auditEntityName + " with ids " + chunk + ": " + updated + " found");
+        }
+    }
+
+    /**
+     * Repeats the last id of the chunk up to the next power of two, within the parameter limit, so that chunks of ids
+     * of the same kind only produce a handful of distinct queries. The repeated ids do not change the updated rows.
+     */
+    private static List<Map<String, Object>> pad(List<Map<String, Object>> chunk) {
+        int maxIdSize = 1;
+        for (Map<String, Object> id : chunk) {
+            maxIdSize = Math.max(maxIdSize, id.size());
+        }
+        int size = Math.min(Integer.highestOneBit(chunk.size() * 2 - 1), MAX_PARAMETERS_PER_UPDATE / maxIdSize);
+        if (size <= chunk.size()) {
+            return chunk;
+        }
+        List<Map<String, Object>> padded = new ArrayList<Map<String, Object>>(size);
+        padded.addAll(chunk);
+        Map<String, Object> last = chunk.get(chunk.size() - 1);
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    private Query buildQuery(Session session, List<Map<String, Object>> chunk) {
+        /*
+         Constructing a query:
+         update audited_ent e set e.end_rev = :revision
+         where e.end_rev is null and e.originalId.rev <> :revision and e.originalId.id in (:ids)
+         */
+        StringBuilder sb = new StringBuilder();
+        sb.append("update ").append(auditEntityName).append(" e set e.")
+                .append(audEntCfg.getRevisionEndFieldName()).append(" = :revision");
+        if (revisionEndTimestamp != null) {
+            sb.append(", e.").append(audEntCfg.getRevisionEndTimestampFieldName()).append(" = :revisionEndTimestamp");
+        }
+        sb.append(" where e.").append(audEntCfg.getRevisionEndFieldName()).append(" is null and e.")
+                .append(audEntCfg.getOriginalIdPropName()).append(".").append(audEntCfg.getRevisionFieldName())
+                .append(" <> :revision and ");
+
+        List<Object> paramValues = new ArrayList<Object>();
+        String singleIdProperty = getSingleIdProperty(chunk);
+        if (singleIdProperty != null) {
+            sb.append("e.").append(singleIdProperty).append(" in (:ids)");
+            for (Map<String, Object> id : chunk) {
+                paramValues.add(id.values().iterator().next());
+            }
+        } else {
+            // (e.id1 = :_p0 and e.id2 = :_p1) or (...)
+            sb.append("(");
+            boolean firstId = true;
+            for (Map<String, Object> id : chunk) {
+                sb.append(firstId ? "(" : " or (");
+                boolean firstProperty = true;
+                for (Map.Entry<String, Object> idProperty : id.entrySet()) {
+                    if (!firstProperty) {
+                        sb.append(" and ");
+                    }
+                    sb.append("e.").append(idProperty.getKey());
+                    if (idProperty.getValue() == null) {
+                        sb.append(" is null");
+                    } else {
+                        sb.append(" = :_p").append(paramValues.size());
+                        paramValues.add(idProperty.getValue());
+                    }
+                    firstProperty = false;
+                }
+                sb.append(")");
+                firstId = false;
+            }
+            sb.append(")");
+        }
+
+        Query query = session.createQuery(sb.toString());
+        query.setParameter("revision", revision);
+        if (revisionEndTimestamp != null) {
+            query.setParameter("revisionEndTimestamp", revisionEndTimestamp);
+        }
+        if (singleIdProperty != null) {
+            query.setParameterList("ids", paramValues);
+        } else {
+            for (int i = 0; i < paramValues.size(); i++) {
+                query.setParameter("_p" + i, paramValues.get(i));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * @return The path of the only id property if all ids have the same single, non-null property; <code>null</code>
+     * otherwise.
+     */
+    private String getSingleIdProperty(List<Map<String, Object>> chunk) {
+        String property = null;
+        for (Map<String, Object> id : chunk) {
+            if (id.size() != 1) {
+                return null;
+            }
+            Map.Entry<String, Object> idProperty = id.entrySet().iterator().next();
+            if (idProperty.getValue() == null || (property != null && !property.equals(idProperty.getKey()))) {
+                return null;
+            }
+            property = idProperty.getKey();
+        }
+        return property;
+    }
+}
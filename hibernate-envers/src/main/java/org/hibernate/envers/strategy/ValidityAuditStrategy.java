@@ -2,10 +2,9 @@ package org.hibernate.envers.strategy;
 
 import java.io.Serializable;
 import java.util.Date;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import org.hibernate.LockOptions;
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.configuration.AuditConfiguration;
@@ -13,14 +12,15 @@ import org.hibernate.envers.configuration.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.GlobalConfiguration;
 import org.hibernate.envers.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.entities.mapper.id.IdMapper;
+import org.hibernate.envers.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.entities.mapper.relation.MiddleIdData;
-import org.hibernate.envers.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.synchronization.AuditProcess;
 import org.hibernate.envers.tools.query.Parameters;
 import org.hibernate.envers.tools.query.QueryBuilder;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.property.Getter;
 
-import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 /**
@@ -37,7 +37,8 @@ import static org.hibernate.envers.entities.mapper.relation.query.QueryConstants
  *  <p>
  *  This has a few important consequences that need to be judged against against each other:
  *  <ul>
- *  <li>Persisting audit information is a bit slower, because an extra row is updated</li>
+ *  <li>Persisting audit information is a bit slower, because the previous rows are updated, although with one
+ *  statement per audit table and revision</li>
  *  <li>Retrieving audit information is a lot faster</li>
  *  </ul>
  *  </p>
@@ -50,12 +51,6 @@ public class ValidityAuditStrategy implements AuditStrategy {
     /** getter for the revision entity field annotated with @RevisionTimestamp */
     private Getter revisionTimestampGetter = null;
 
-    private final SessionCacheCleaner sessionCacheCleaner;
-
-    public ValidityAuditStrategy() {
-        sessionCacheCleaner = new SessionCacheCleaner();
-    }
-
     public void perform(Session session, String entityName, AuditConfiguration auditCfg, Serializable id, Object data,
                         Object revision) {
         AuditEntitiesConfiguration audEntCfg = auditCfg.getAuditEntCfg();
@@ -63,66 +58,62 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
         // Update the end date of the previous row if this operation is expected to have a previous row
         if (getRevisionType(auditCfg, data) != RevisionType.ADD) {
-            /*
-             Constructing a query:
-             select e from audited_ent e where e.end_rev is null and e.id = :id
-             */
-
-            QueryBuilder qb = new QueryBuilder(auditedEntityName, MIDDLE_ENTITY_ALIAS);
-
-            // e.id = :id
+            // e.originalId.id = :id, gathered with the other entities of this revision into one bulk update
+            Map<String, Object> previousId = new LinkedHashMap<String, Object>();
             IdMapper idMapper = auditCfg.getEntCfg().get(entityName).getIdMapper();
-            idMapper.addIdEqualsToQuery(qb.getRootParameters(), id, auditCfg.getAuditEntCfg().getOriginalIdPropName(), true);
-
-            addEndRevisionNullRestriction(auditCfg, qb);
-
-            @SuppressWarnings({"unchecked"})
-            List<Object> l = qb.toQuery(session).setLockOptions(LockOptions.UPGRADE).list();
+            for (QueryParameterData paramData : idMapper.mapToQueryParametersFromId(id)) {
+                previousId.put(paramData.getProperty(audEntCfg.getOriginalIdPropName()), paramData.getValue());
+            }
 
-            updateLastRevision(session, auditCfg, l, id, auditedEntityName, revision);
+            getEndRevisionUpdate(session, auditCfg, auditedEntityName, revision, true).addId(previousId);
         }
 
         // Save the audit data
-        session.save(auditedEntityName, data);
-        sessionCacheCleaner.scheduleAuditDataRemoval(session, data);
+        auditCfg.getSyncManager().get((EventSource) session).getAuditWriter().insert(auditedEntityName, data);
     }
 
     @SuppressWarnings({"unchecked"})
     public void performCollectionChange(Session session, AuditConfiguration auditCfg,
                                         PersistentCollectionChangeData persistentCollectionChangeData, Object revision) {
-
-        final QueryBuilder qb = new QueryBuilder(persistentCollectionChangeData.getEntityName(), MIDDLE_ENTITY_ALIAS);
-
-        // Adding a parameter for each id component, except the rev number
+        // Adding each id component, except the rev number
         final String originalIdPropName = auditCfg.getAuditEntCfg().getOriginalIdPropName();
         final Map<String, Object> originalId = (Map<String, Object>) persistentCollectionChangeData.getData().get(
                 originalIdPropName);
+        final Map<String, Object> previousId = new LinkedHashMap<String, Object>();
         for (Map.Entry<String, Object> originalIdEntry : originalId.entrySet()) {
             if (!auditCfg.getAuditEntCfg().getRevisionFieldName().equals(originalIdEntry.getKey())) {
-                qb.getRootParameters().addWhereWithParam(originalIdPropName + "." + originalIdEntry.getKey(),
-                        true, "=", originalIdEntry.getValue());
+                previousId.put(originalIdPropName + "." + originalIdEntry.getKey(), originalIdEntry.getValue());
             }
         }
 
-        addEndRevisionNullRestriction(auditCfg, qb);
-
-        final List<Object> l = qb.toQuery(session).setLockOptions(LockOptions.UPGRADE).list();
-
         // Update the last revision if one exists.
         // HHH-5967: with collections, the same element can be added and removed multiple times. So even if it's an
         // ADD, we may need to update the last revision.
-        if (l.size() > 0) {
-            updateLastRevision(session, auditCfg, l, originalId, persistentCollectionChangeData.getEntityName(), revision);
-        }
+        getEndRevisionUpdate(session, auditCfg, persistentCollectionChangeData.getEntityName(), revision, false)
+                .addId(previousId);
 
         // Save the audit data
-        session.save(persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData());
-        sessionCacheCleaner.scheduleAuditDataRemoval(session, persistentCollectionChangeData.getData());
+        auditCfg.getSyncManager().get((EventSource) session).getAuditWriter()
+                .insert(persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData());
     }
 
-    private void addEndRevisionNullRestriction(AuditConfiguration auditCfg, QueryBuilder qb) {
-        // e.end_rev is null
-        qb.getRootParameters().addWhere(auditCfg.getAuditEntCfg().getRevisionEndFieldName(), true, "is", "null", false);
+    /**
+     * The end revision of previous rows is set with one update per audit entity and revision, executed by the
+     * {@link AuditProcess} once all work units have been performed, instead of loading and saving each previous row.
+     */
+    private EndRevisionUpdate getEndRevisionUpdate(Session session, AuditConfiguration auditCfg,
+                                                   String auditedEntityName, Object revision,
+                                                   boolean previousRowRequired) {
+        AuditProcess auditProcess = auditCfg.getSyncManager().get((EventSource) session);
+        EndRevisionUpdate endRevisionUpdate = auditProcess.getEndRevisionUpdate(auditedEntityName);
+        if (endRevisionUpdate == null) {
+            Date revisionEndTimestamp = auditCfg.getAuditEntCfg().isRevisionEndTimestampEnabled()
+                    ? getRevisionEndTimestamp(revision) : null;
+            endRevisionUpdate = new EndRevisionUpdate(auditedEntityName, auditCfg.getAuditEntCfg(), revision,
+                    revisionEndTimestamp, previousRowRequired);
+            auditProcess.addEndRevisionUpdate(endRevisionUpdate);
+        }
+        return endRevisionUpdate;
     }
 
     public void addEntityAtRevisionRestriction(GlobalConfiguration globalCfg, QueryBuilder rootQueryBuilder,
@@ -160,40 +151,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
         return (RevisionType) ((Map<String, Object>) data).get(auditCfg.getAuditEntCfg().getRevisionTypePropName());
     }
 
-    @SuppressWarnings({"unchecked"})
-    private void updateLastRevision(Session session, AuditConfiguration auditCfg, List<Object> l,
-                                    Object id, String auditedEntityName, Object revision) {
-
-        // There should be one entry
-        if (l.size() == 1) {
-            // Setting the end revision to be the current rev
-            Object previousData = l.get(0);
-            String revisionEndFieldName = auditCfg.getAuditEntCfg().getRevisionEndFieldName();
-            ((Map<String, Object>) previousData).put(revisionEndFieldName, revision);
-
-            if (auditCfg.getAuditEntCfg().isRevisionEndTimestampEnabled()) {
-                // Determine the value of the revision property annotated with @RevisionTimestamp
-            	Date revisionEndTimestamp;
-            	String revEndTimestampFieldName = auditCfg.getAuditEntCfg().getRevisionEndTimestampFieldName();
-            	Object revEndTimestampObj = this.revisionTimestampGetter.get(revision);
-
-            	// convert to a java.util.Date
-            	if (revEndTimestampObj instanceof Date) {
-            		revisionEndTimestamp = (Date) revEndTimestampObj;
-            	} else {
-            		revisionEndTimestamp = new Date((Long) revEndTimestampObj);
-            	}
-
-            	// Setting the end revision timestamp
-            	((Map<String, Object>) previousData).put(revEndTimestampFieldName, revisionEndTimestamp);
-            }
-            
-            // Saving the previous version
-            session.save(auditedEntityName, previousData);
-            sessionCacheCleaner.scheduleAuditDataRemoval(session, previousData);
+    /**
+     * @return The value of the revision property annotated with @RevisionTimestamp, as a date.
+     */
+    private Date getRevisionEndTimestamp(Object revision) {
+        Object revEndTimestampObj = this.revisionTimestampGetter.get(revision);
+
+        // convert to a java.util.Date
+        if (revEndTimestampObj instanceof Date) {
+            return (Date) revEndTimestampObj;
         } else {
-            throw new RuntimeException("Cannot find previous revision for entity " + auditedEntityName + " and id " + id);
+            return new Date((Long) revEndTimestampObj);
         }
     }
 }
-
@@ -24,6 +24,7 @@
 package org.hibernate.envers.synchronization;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
@@ -34,6 +35,7 @@ import org.hibernate.Session;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.revisioninfo.RevisionInfoGenerator;
+import org.hibernate.envers.strategy.EndRevisionUpdate;
 import org.hibernate.envers.synchronization.work.AuditWorkUnit;
 import org.hibernate.envers.tools.Pair;
 
@@ -48,6 +50,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
     private final Queue<AuditWorkUnit> undoQueue;
     private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
     private final EntityChangeNotifier entityChangeNotifier;
+    private final Map<String, EndRevisionUpdate> endRevisionUpdates;
+    private final AuditWriter auditWriter;
 
     private Object revisionData;
 
@@ -59,6 +63,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
         undoQueue = new LinkedList<AuditWorkUnit>();
         usedIds = new HashMap<Pair<String, Object>, AuditWorkUnit>();
         entityChangeNotifier = new EntityChangeNotifier(revisionInfoGenerator, session);
+        endRevisionUpdates = new LinkedHashMap<String, EndRevisionUpdate>();
+        auditWriter = new AuditWriter();
     }
 
     private void removeWorkUnit(AuditWorkUnit vwu) {
@@ -118,6 +124,39 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
         }
     }
 
+    private void executeEndRevisionUpdates(Session session) {
+        // The updated rows reference the revision entity, so they are only updated once it has been flushed.
+        for (EndRevisionUpdate endRevisionUpdate : endRevisionUpdates.values()) {
+            endRevisionUpdate.execute(session);
+        }
+        endRevisionUpdates.clear();
+    }
+
+    /**
+     * @param auditEntityName Name of an audit entity.
+     * @return The update of the end revision of previous rows of the given audit entity gathered so far while
+     * performing the work units, or <code>null</code> if none.
+     */
+    public EndRevisionUpdate getEndRevisionUpdate(String auditEntityName) {
+        return endRevisionUpdates.get(auditEntityName);
+    }
+
+    /**
+     * Registers an update of the end revision of previous audit rows, to be executed once all work units have been
+     * performed and the revision entity has been flushed.
+     * @param endRevisionUpdate The update.
+     */
+    public void addEndRevisionUpdate(EndRevisionUpdate endRevisionUpdate) {
+        endRevisionUpdates.put(endRevisionUpdate.getAuditEntityName(), endRevisionUpdate);
+    }
+
+    /**
+     * @return The writer of the audit rows of this process, which inserts them once the session has been flushed.
+     */
+    public AuditWriter getAuditWriter() {
+        return auditWriter;
+    }
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if (revisionData == null) {
@@ -146,6 +185,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
                                                                            .openSession();
                 executeInSession(temporarySession);
                 temporarySession.flush();
+                auditWriter.write((SessionImplementor) temporarySession);
+                executeEndRevisionUpdates(temporarySession);
             } finally {
                 if (temporarySession != null) {
                     temporarySession.close();
@@ -156,6 +197,10 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
             // Explicitly flushing the session, as the auto-flush may have already happened.
             session.flush();
+
+            // The audit rows reference the revision entity, so they are only written once it has been flushed.
+            auditWriter.write(session);
+            executeEndRevisionUpdates((Session) session);
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.synchronization;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Gathers the audit rows of a revision and inserts them through a stateless session sharing the connection of the
+ * audited session, so that they neither go through the event pipeline nor fill the persistence context. Rows are
+ * grouped by audit entity, so that the inserts into each audit table are sent as JDBC batches (when
+ * <code>hibernate.jdbc.batch_size</code> is set) instead of being interleaved across tables.
+ */
+public class AuditWriter {
+    private final Map<String, List<Object>> auditData = new LinkedHashMap<String, List<Object>>();
+
+    /**
+     * @param auditEntityName Name of the audit entity (or of the middle entity of an audited collection).
+     * @param data The audit row, as a map.
+     */
+    public void insert(String auditEntityName, Object data) {
+        List<Object> rows = auditData.get(auditEntityName);
+        if (rows == null) {
+            rows = new ArrayList<Object>();
+            auditData.put(auditEntityName, rows);
+        }
+        rows.add(data);
+    }
+
+    /**
+     * Inserts the gathered audit rows. The revision entity they reference must already have been flushed.
+     * @param session The session in which the audit process is executed.
+     */
+    public void write(SessionImplementor session) {
+        if (auditData.isEmpty()) {
+            return;
+        }
+
+        StatelessSession statelessSession = session.getFactory().withStatelessOptions()
+                .connection(session.connection())
+                .tenantIdentifier(session.getTenantIdentifier())
+                .openStatelessSession();
+        try {
+            for (Map.Entry<String, List<Object>> rows : auditData.entrySet()) {
+                for (Object data : rows.getValue()) {
+                    statelessSession.insert(rows.getKey(), data);
+                }
+            }
+
+            // Executing the last pending batch
+            ((SessionImplementor) statelessSession).getTransactionCoordinator().getJdbcCoordinator().executeBatch();
+        } finally {
+            statelessSession.close();
+            auditData.clear();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.test.integration.flush;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+
+import org.junit.Test;
+
+import org.hibernate.FlushMode;
+import org.hibernate.ejb.Ejb3Configuration;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.manytomany.SetOwnedEntity;
+import org.hibernate.envers.test.entities.manytomany.SetOwningEntity;
+import org.hibernate.envers.test.tools.TestTools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Audit rows of several audit tables and of a collection middle table, written in JDBC batches.
+ */
+public class BatchedAuditRows extends AbstractFlushTest {
+    private Integer str1Id;
+    private Integer str2Id;
+    private Integer str3Id;
+    private Integer ed1Id;
+    private Integer ed2Id;
+    private Integer ing1Id;
+
+    public FlushMode getFlushMode() {
+        return FlushMode.AUTO;
+    }
+
+    public void configure(Ejb3Configuration cfg) {
+        super.configure(cfg);
+        cfg.addAnnotatedClass(SetOwningEntity.class);
+        cfg.addAnnotatedClass(SetOwnedEntity.class);
+    }
+
+    @Override
+    public void addConfigurationProperties(Properties configuration) {
+        super.addConfigurationProperties(configuration);
+        configuration.setProperty("hibernate.jdbc.batch_size", "2");
+    }
+
+    @Test
+    @Priority(10)
+    public void initData() {
+        EntityManager em = getEntityManager();
+
+        SetOwnedEntity ed1 = new SetOwnedEntity(1, "ed1");
+        SetOwnedEntity ed2 = new SetOwnedEntity(2, "ed2");
+        SetOwningEntity ing1 = new SetOwningEntity(3, "ing1");
+
+        // Revision 1 - rows of three audit tables and of the middle table, interleaved
+        em.getTransaction().begin();
+
+        StrTestEntity str1 = new StrTestEntity("a");
+        em.persist(str1);
+        em.persist(ed1);
+        StrTestEntity str2 = new StrTestEntity("b");
+        em.persist(str2);
+        em.persist(ed2);
+        StrTestEntity str3 = new StrTestEntity("c");
+        em.persist(str3);
+        ing1.setReferences(new HashSet<SetOwnedEntity>());
+        ing1.getReferences().add(ed1);
+        em.persist(ing1);
+
+        em.flush();
+        em.getTransaction().commit();
+
+        str1Id = str1.getId();
+        str2Id = str2.getId();
+        str3Id = str3.getId();
+        ed1Id = ed1.getId();
+        ed2Id = ed2.getId();
+        ing1Id = ing1.getId();
+
+        // Revision 2
+        em.getTransaction().begin();
+
+        em.find(StrTestEntity.class, str1Id).setStr("a2");
+        ing1 = em.find(SetOwningEntity.class, ing1Id);
+        ing1.setData("ing1b");
+        ing1.getReferences().add(em.find(SetOwnedEntity.class, ed2Id));
+        em.find(StrTestEntity.class, str2Id).setStr("b2");
+        em.find(StrTestEntity.class, str3Id).setStr("c2");
+
+        em.flush();
+        em.getTransaction().commit();
+
+        // Revision 3
+        em.getTransaction().begin();
+
+        ing1 = em.find(SetOwningEntity.class, ing1Id);
+        ed2 = em.find(SetOwnedEntity.class, ed2Id);
+        ing1.getReferences().remove(ed2);
+        em.remove(ed2);
+        em.remove(em.find(StrTestEntity.class, str3Id));
+
+        em.flush();
+        em.getTransaction().commit();
+    }
+
+    @Test
+    public void testRevisionsCounts() {
+        assertEquals(Arrays.asList(1, 2), getAuditReader().getRevisions(StrTestEntity.class, str1Id));
+        assertEquals(Arrays.asList(1, 2), getAuditReader().getRevisions(StrTestEntity.class, str2Id));
+        assertEquals(Arrays.asList(1, 2, 3), getAuditReader().getRevisions(StrTestEntity.class, str3Id));
+        assertEquals(Arrays.asList(1, 2, 3), getAuditReader().getRevisions(SetOwningEntity.class, ing1Id));
+    }
+
+    @Test
+    public void testHistoryOfStrs() {
+        assertEquals(new StrTestEntity("a", str1Id), getAuditReader().find(StrTestEntity.class, str1Id, 1));
+        assertEquals(new StrTestEntity("a2", str1Id), getAuditReader().find(StrTestEntity.class, str1Id, 3));
+        assertEquals(new StrTestEntity("b2", str2Id), getAuditReader().find(StrTestEntity.class, str2Id, 2));
+        assertEquals(new StrTestEntity("c2", str3Id), getAuditReader().find(StrTestEntity.class, str3Id, 2));
+        assertNull(getAuditReader().find(StrTestEntity.class, str3Id, 3));
+    }
+
+    @Test
+    public void testHistoryOfIng1() {
+        SetOwnedEntity ed1 = new SetOwnedEntity(ed1Id, "ed1");
+        SetOwnedEntity ed2 = new SetOwnedEntity(ed2Id, "ed2");
+
+        SetOwningEntity rev1 = getAuditReader().find(SetOwningEntity.class, ing1Id, 1);
+        SetOwningEntity rev2 = getAuditReader().find(SetOwningEntity.class, ing1Id, 2);
+        SetOwningEntity rev3 = getAuditReader().find(SetOwningEntity.class, ing1Id, 3);
+
+        assertEquals("ing1", rev1.getData());
+        assertEquals(TestTools.makeSet(ed1), rev1.getReferences());
+        assertEquals("ing1b", rev2.getData());
+        assertEquals(TestTools.makeSet(ed1, ed2), rev2.getReferences());
+        assertEquals(TestTools.makeSet(ed1), rev3.getReferences());
+    }
+
+    @Test
+    public void testHistoryOfEd2() {
+        assertEquals(new SetOwnedEntity(ed2Id, "ed2"), getAuditReader().find(SetOwnedEntity.class, ed2Id, 2));
+        assertNull(getAuditReader().find(SetOwnedEntity.class, ed2Id, 3));
+    }
+}
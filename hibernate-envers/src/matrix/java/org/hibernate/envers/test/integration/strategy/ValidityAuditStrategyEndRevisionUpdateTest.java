@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.ejb.Ejb3Configuration;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.configuration.AuditEntitiesConfiguration;
+import org.hibernate.envers.strategy.EndRevisionUpdate;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.envers.test.AbstractEntityTest;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+import org.hibernate.envers.test.entities.ids.EmbId;
+import org.hibernate.envers.test.entities.ids.EmbIdTestEntity;
+import org.hibernate.envers.test.entities.ids.MulId;
+import org.hibernate.envers.test.entities.ids.MulIdTestEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the bulk update of the end revision of previous audit rows done by {@link ValidityAuditStrategy}, through
+ * {@link EndRevisionUpdate}: ids split over several statements, composite ids and the check of the updated row count.
+ */
+public class ValidityAuditStrategyEndRevisionUpdateTest extends AbstractEntityTest {
+    private static final int ENTITY_COUNT = 1201;
+
+    private static final String STR_AUD = StrTestEntity.class.getName() + "_AUD";
+    private static final String EMB_ID_AUD = EmbIdTestEntity.class.getName() + "_AUD";
+    private static final String MUL_ID_AUD = MulIdTestEntity.class.getName() + "_AUD";
+
+    private List<Integer> strIds = new ArrayList<Integer>();
+    private EmbId embId1;
+    private EmbId embId2;
+    private MulId mulId1;
+    private MulId mulId2;
+
+    public void configure(Ejb3Configuration cfg) {
+        cfg.addAnnotatedClass(StrTestEntity.class);
+        cfg.addAnnotatedClass(EmbIdTestEntity.class);
+        cfg.addAnnotatedClass(MulIdTestEntity.class);
+    }
+
+    @Override
+    public void addConfigurationProperties(Properties configuration) {
+        super.addConfigurationProperties(configuration);
+        configuration.setProperty("org.hibernate.envers.audit_strategy", ValidityAuditStrategy.class.getName());
+    }
+
+    @Test
+    @Priority(10)
+    public void initData() {
+        EntityManager em = getEntityManager();
+
+        embId1 = new EmbId(1, 2);
+        embId2 = new EmbId(10, 20);
+        mulId1 = new MulId(1, 2);
+        mulId2 = new MulId(10, 20);
+
+        // Revision 1
+        em.getTransaction().begin();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            StrTestEntity ste = new StrTestEntity("x" + i);
+            em.persist(ste);
+            strIds.add(ste.getId());
+        }
+        em.persist(new EmbIdTestEntity(embId1, "a"));
+        em.persist(new EmbIdTestEntity(embId2, "b"));
+        em.persist(new MulIdTestEntity(mulId1.getId1(), mulId1.getId2(), "a"));
+        em.persist(new MulIdTestEntity(mulId2.getId1(), mulId2.getId2(), "b"));
+        em.getTransaction().commit();
+        em.clear();
+
+        // Revision 2 - more than two statements' worth of modified entities
+        em.getTransaction().begin();
+        for (Integer id : strIds) {
+            em.find(StrTestEntity.class, id).setStr("y");
+        }
+        em.find(EmbIdTestEntity.class, embId1).setStr1("c");
+        em.find(EmbIdTestEntity.class, embId2).setStr1("d");
+        em.find(MulIdTestEntity.class, mulId1).setStr1("c");
+        em.find(MulIdTestEntity.class, mulId2).setStr1("d");
+        em.getTransaction().commit();
+        em.clear();
+
+        // Revision 3
+        em.getTransaction().begin();
+        em.remove(em.find(EmbIdTestEntity.class, embId2));
+        em.remove(em.find(MulIdTestEntity.class, mulId2));
+        em.getTransaction().commit();
+        em.clear();
+    }
+
+    @Test
+    public void testRevisionsCounts() {
+        assertEquals(Arrays.asList(1, 2), getAuditReader().getRevisions(StrTestEntity.class, strIds.get(0)));
+        assertEquals(Arrays.asList(1, 2), getAuditReader().getRevisions(EmbIdTestEntity.class, embId1));
+        assertEquals(Arrays.asList(1, 2, 3), getAuditReader().getRevisions(EmbIdTestEntity.class, embId2));
+        assertEquals(Arrays.asList(1, 2), getAuditReader().getRevisions(MulIdTestEntity.class, mulId1));
+        assertEquals(Arrays.asList(1, 2, 3), getAuditReader().getRevisions(MulIdTestEntity.class, mulId2));
+    }
+
+    @Test
+    public void testEndRevisionsOfChunkedIds() {
+        assertEquals(ENTITY_COUNT, countAuditRows(STR_AUD, 1, 2));
+        assertEquals(ENTITY_COUNT, countAuditRows(STR_AUD, 2, null));
+        assertEquals(0, countAuditRows(STR_AUD, 1, null));
+    }
+
+    @Test
+    public void testEndRevisionsOfEmbeddedIds() {
+        assertEquals(2, countAuditRows(EMB_ID_AUD, 1, 2));
+        assertEquals(1, countAuditRows(EMB_ID_AUD, 2, 3));
+        assertEquals(1, countAuditRows(EMB_ID_AUD, 2, null));
+        assertEquals(1, countAuditRows(EMB_ID_AUD, 3, null));
+    }
+
+    @Test
+    public void testEndRevisionsOfMultipleIds() {
+        assertEquals(2, countAuditRows(MUL_ID_AUD, 1, 2));
+        assertEquals(1, countAuditRows(MUL_ID_AUD, 2, 3));
+        assertEquals(1, countAuditRows(MUL_ID_AUD, 2, null));
+        assertEquals(1, countAuditRows(MUL_ID_AUD, 3, null));
+    }
+
+    @Test
+    public void testNullIdComponentsOnlyMatchNullColumns() {
+        EntityManager em = getEntityManager();
+        em.getTransaction().begin();
+        try {
+            Session session = (Session) em.getDelegate();
+            EndRevisionUpdate update = new EndRevisionUpdate(EMB_ID_AUD, getAuditEntitiesConfiguration(),
+                    session.get(DefaultRevisionEntity.class, 3), null, false);
+            update.addId(embeddedId(embId1.getX(), embId1.getY()));
+            // no row has a null component, so this id must not match anything
+            update.addId(embeddedId(embId1.getX(), null));
+            update.execute(session);
+            session.flush();
+
+            assertEquals(0, countAuditRows(EMB_ID_AUD, 2, null));
+            assertEquals(2, countAuditRows(EMB_ID_AUD, 2, 3));
+        } finally {
+            em.getTransaction().rollback();
+        }
+    }
+
+    @Test
+    public void testCompositeIdsSplitByParameterCount() {
+        EntityManager em = getEntityManager();
+        em.getTransaction().begin();
+        try {
+            Session session = (Session) em.getDelegate();
+            EndRevisionUpdate update = new EndRevisionUpdate(EMB_ID_AUD, getAuditEntitiesConfiguration(),
+                    session.get(DefaultRevisionEntity.class, 3), null, false);
+            // two parameters per id, so more than two statements' worth of ids, the existing one in the last
+            for (int i = 0; i < 600; i++) {
+                update.addId(embeddedId(1000 + i, 1000 + i));
+            }
+            update.addId(embeddedId(embId1.getX(), embId1.getY()));
+            update.execute(session);
+            session.flush();
+
+            assertEquals(0, countAuditRows(EMB_ID_AUD, 2, null));
+            assertEquals(2, countAuditRows(EMB_ID_AUD, 2, 3));
+        } finally {
+            em.getTransaction().rollback();
+        }
+    }
+
+    @Test
+    public void testMissingPreviousRowIsReported() {
+        EntityManager em = getEntityManager();
+        em.getTransaction().begin();
+        try {
+            Session session = (Session) em.getDelegate();
+            EndRevisionUpdate update = new EndRevisionUpdate(STR_AUD, getAuditEntitiesConfiguration(),
+                    session.get(DefaultRevisionEntity.class, 3), null, true);
+            update.addId(Collections.<String, Object>singletonMap("originalId.id", strIds.get(0)));
+            update.addId(Collections.<String, Object>singletonMap("originalId.id", -1));
+            try {
+                update.execute(session);
+                fail("a missing previous row should have been reported");
+            } catch (RuntimeException expected) {
+                assertTrue(expected.getMessage().startsWith("Cannot find previous revision"));
+            }
+        } finally {
+            em.getTransaction().rollback();
+        }
+    }
+
+    private AuditEntitiesConfiguration getAuditEntitiesConfiguration() {
+        return new AuditEntitiesConfiguration(new Properties(), DefaultRevisionEntity.class.getName());
+    }
+
+    private Map<String, Object> embeddedId(Integer x, Integer y) {
+        Map<String, Object> id = new LinkedHashMap<String, Object>();
+        id.put("originalId.x", x);
+        id.put("originalId.y", y);
+        return id;
+    }
+
+    private long countAuditRows(String auditEntityName, int revision, Integer revisionEnd) {
+        Query query = getEntityManager().createQuery("select count(e) from " + auditEntityName +
+                " e where e.originalId.REV.id = :revision and " +
+                (revisionEnd == null ? "e.REVEND is null" : "e.REVEND.id = :revisionEnd"));
+        query.setParameter("revision", revision);
+        if (revisionEnd != null) {
+            query.setParameter("revisionEnd", revisionEnd);
+        }
+        return (Long) query.getSingleResult();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2012, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.junit.Test;
+
+import org.hibernate.ejb.Ejb3Configuration;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.envers.test.AbstractEntityTest;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the end revisions stored by {@link ValidityAuditStrategy} for an entity modified and then deleted in later
+ * revisions.
+ */
+public class ValidityAuditStrategyModDelTest extends AbstractEntityTest {
+    private static final String STR_AUD = StrTestEntity.class.getName() + "_AUD";
+
+    private Integer id;
+
+    public void configure(Ejb3Configuration cfg) {
+        cfg.addAnnotatedClass(StrTestEntity.class);
+    }
+
+    @Override
+    public void addConfigurationProperties(Properties configuration) {
+        super.addConfigurationProperties(configuration);
+        configuration.setProperty("org.hibernate.envers.audit_strategy", ValidityAuditStrategy.class.getName());
+    }
+
+    @Test
+    @Priority(10)
+    public void initData() {
+        EntityManager em = getEntityManager();
+
+        // Revision 1
+        em.getTransaction().begin();
+        StrTestEntity ste = new StrTestEntity("x");
+        em.persist(ste);
+        em.getTransaction().commit();
+
+        id = ste.getId();
+
+        // Revision 2
+        em.getTransaction().begin();
+        em.find(StrTestEntity.class, id).setStr("y");
+        em.getTransaction().commit();
+
+        // Revision 3
+        em.getTransaction().begin();
+        em.remove(em.find(StrTestEntity.class, id));
+        em.getTransaction().commit();
+    }
+
+    @Test
+    public void testRevisionsCounts() {
+        assertEquals(Arrays.asList(1, 2, 3), getAuditReader().getRevisions(StrTestEntity.class, id));
+    }
+
+    @Test
+    public void testHistoryOfId() {
+        assertEquals(new StrTestEntity("x", id), getAuditReader().find(StrTestEntity.class, id, 1));
+        assertEquals(new StrTestEntity("y", id), getAuditReader().find(StrTestEntity.class, id, 2));
+        assertNull(getAuditReader().find(StrTestEntity.class, id, 3));
+    }
+
+    @Test
+    public void testEndRevisions() {
+        assertEquals(Integer.valueOf(2), getRevisionEnd(1));
+        assertEquals(Integer.valueOf(3), getRevisionEnd(2));
+        assertNull(getRevisionEnd(3));
+    }
+
+    private Integer getRevisionEnd(int revision) {
+        Query query = getEntityManager().createQuery("select e.REVEND.id from " + STR_AUD +
+                " e where e.originalId.REV.id = :revision and e.originalId.id = :id");
+        query.setParameter("revision", revision);
+        query.setParameter("id", id);
+        return (Integer) query.getSingleResult();
+    }
+}
@@ -23,6 +23,9 @@
  */
 package org.hibernate.cache.infinispan.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import javax.transaction.Transaction;
 
 import org.infinispan.util.logging.Log;
@@ -68,6 +71,28 @@ public class TransactionalAccessDelegate {
       return val;
    }
 
+   /**
+    * Unlike {@link #get(Object, long)}, no pending put is registered for the keys which are not
+    * cached: they are only candidates for a batch, most of which may never be loaded, and their
+    * pending puts would linger until {@link PutFromLoadValidator} discards them as outdated.
+    * Loading one of them afterwards is a "naked put", which the validator rejects if the key (or
+    * the region) was invalidated recently.
+    */
+   public Map<Object, Object> getAll(Collection<?> keys, long txTimestamp) throws CacheException {
+      Map<Object, Object> result = new HashMap<Object, Object>(keys.size());
+      if (!region.checkValid())
+         return result;
+      // Entity and collection caches are meant to run in invalidation or
+      // replication mode, where reads are served by the local node, so
+      // there is no remote round trip to save with a bulk call
+      for (Object key : keys) {
+         Object val = cacheAdapter.get(key);
+         if (val != null)
+            result.put(key, val);
+      }
+      return result;
+   }
+
    public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
       if (!region.checkValid()) {
          if (isTrace) log.tracef("Region %s not valid", region.getName());
@@ -1,9 +1,13 @@
 package org.hibernate.cache.infinispan.collection;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.cache.spi.access.MultiGetRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 
 /**
@@ -13,7 +17,7 @@ import org.hibernate.cache.spi.access.SoftLock;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class TransactionalAccess implements CollectionRegionAccessStrategy {
+class TransactionalAccess implements CollectionRegionAccessStrategy, MultiGetRegionAccessStrategy {
 
    private final CollectionRegionImpl region;
    
@@ -36,6 +40,10 @@ class TransactionalAccess implements CollectionRegionAccessStrategy {
       return delegate.get(key, txTimestamp);
    }
 
+   public Map<Object, Object> getAll(Collection<?> keys, long txTimestamp) throws CacheException {
+      return delegate.getAll(keys, txTimestamp);
+   }
+
    public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
       return delegate.putFromLoad(key, value, txTimestamp, version);
    }
@@ -1,9 +1,13 @@
 package org.hibernate.cache.infinispan.entity;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
 import org.hibernate.cache.spi.EntityRegion;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.MultiGetRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 
 /**
@@ -13,7 +17,7 @@ import org.hibernate.cache.spi.access.SoftLock;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class TransactionalAccess implements EntityRegionAccessStrategy {
+class TransactionalAccess implements EntityRegionAccessStrategy, MultiGetRegionAccessStrategy {
  
    private final EntityRegionImpl region;
    
@@ -36,6 +40,10 @@ class TransactionalAccess implements EntityRegionAccessStrategy {
       return delegate.get(key, txTimestamp);
    }
 
+   public Map<Object, Object> getAll(Collection<?> keys, long txTimestamp) throws CacheException {
+      return delegate.getAll(keys, txTimestamp);
+   }
+
    public EntityRegion getRegion() {
       return this.region;
    }
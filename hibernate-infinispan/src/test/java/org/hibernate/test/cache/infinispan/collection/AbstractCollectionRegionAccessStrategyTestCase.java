@@ -23,12 +23,15 @@
  */
 package org.hibernate.test.cache.infinispan.collection;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.transaction.TransactionManager;
 
 import junit.framework.AssertionFailedError;
@@ -217,6 +220,39 @@ public abstract class AbstractCollectionRegionAccessStrategyTestCase extends Abs
 		assertFalse( localCollectionRegion.getCacheAdapter().containsKey( "k1" ) );
 	}
 
+	@Test
+	public void testGetAllRegistersNoPendingPuts() throws Exception {
+		final AtomicInteger pendingPuts = new AtomicInteger();
+		PutFromLoadValidator validator = new PutFromLoadValidator( localCollectionRegion.getTransactionManager() ) {
+			@Override
+			public void registerPendingPut(Object key) {
+				pendingPuts.incrementAndGet();
+				super.registerPendingPut( key );
+			}
+		};
+		final TransactionalAccessDelegate delegate =
+				new TransactionalAccessDelegate( localCollectionRegion, validator );
+
+		// keys probed for a batch, which are not necessarily loaded afterwards
+		Map<Object, Object> cached = delegate.getAll( Arrays.asList( "k1", "k2" ), System.currentTimeMillis() );
+		assertTrue( cached.isEmpty() );
+		assertEquals( 0, pendingPuts.get() );
+
+		// loading one of them is a naked put, accepted unless the key was invalidated recently
+		assertTrue( delegate.putFromLoad( "k1", "v1", System.currentTimeMillis(), null ) );
+		assertEquals( "v1", localCollectionRegion.getCacheAdapter().get( "k1" ) );
+
+		CacheHelper.withinTx( localCollectionRegion.getTransactionManager(), new Callable<Void>() {
+			@Override
+			public Void call() throws Exception {
+				delegate.remove( "k2" );
+				return null;
+			}
+		});
+		assertFalse( delegate.putFromLoad( "k2", "v2", System.currentTimeMillis(), null ) );
+		assertFalse( localCollectionRegion.getCacheAdapter().containsKey( "k2" ) );
+	}
+
 	@Test
 	public void testPutFromLoad() throws Exception {
 		putFromLoadTest( false );